@@ -0,0 +1,68 @@
+# Measures the startup time of a jlink image of JabRef with and without its AppCDS archive.
+
+# Build the image including the archive first: ./gradlew -PappCds jlinkZip
+# Then run: python3 scripts/startup-benchmark.py build/image [runs] [library.bib]
+# On a headless Linux machine, prefix the command by "xvfb-run".
+
+# Each run starts JabRef with "--startup-timeline --exit-after-startup" and reads the printed timeline.
+# Reported are the times since the process start until the main window is shown ("time to first window")
+# and until the libraries passed at the command line are opened ("time to library loaded").
+# The runs without the archive use the default CDS archive of the runtime only.
+
+import os
+import platform
+import statistics
+import subprocess
+import sys
+
+image = sys.argv[1] if len(sys.argv) > 1 else os.path.join("build", "image")
+runs = int(sys.argv[2]) if len(sys.argv) > 2 else 10
+library = sys.argv[3] if len(sys.argv) > 3 else os.path.join("src", "test", "resources", "testbib", "complex.bib")
+
+is_windows = platform.system() == "Windows"
+launcher = os.path.join(image, "bin", "JabRef.bat" if is_windows else "JabRef")
+app_cds_archive = os.path.join(image, "lib", "jabref.jsa")
+default_cds_archive = os.path.join(image, "bin" if is_windows else "lib", "server", "classes.jsa")
+
+milestones = {
+    "Main window shown": "time to first window",
+    "Libraries opened": "time to library loaded",
+}
+
+
+def run_once(environment):
+    output = subprocess.run([launcher, "--startup-timeline", "--exit-after-startup", library],
+                            env=environment, capture_output=True, text=True, check=True).stdout
+    times = {}
+    for line in output.splitlines():
+        # Format of a line: <start ms> <duration ms> [||] <phase>
+        parts = line.split(None, 2)
+        if len(parts) == 3 and parts[0].isdigit():
+            phase = parts[2].removeprefix("|| ")
+            if phase in milestones:
+                times[milestones[phase]] = int(parts[0])
+    return times
+
+
+def benchmark(name, environment):
+    results = {label: [] for label in milestones.values()}
+    for _ in range(runs):
+        for label, time in run_once(environment).items():
+            results[label].append(time)
+    print(name)
+    for label, times in results.items():
+        if times:
+            print(f"  {label:25} median {statistics.median(times):6.0f} ms, min {min(times):6d} ms, max {max(times):6d} ms")
+        else:
+            print(f"  {label:25} not found in the startup timeline")
+
+
+if not os.path.exists(app_cds_archive):
+    sys.exit(f"No AppCDS archive found at {app_cds_archive}. Build the image using ./gradlew -PappCds jlinkZip")
+
+benchmark("With AppCDS archive", dict(os.environ))
+
+# _JAVA_OPTIONS is applied after the options of the launcher and thus replaces the archive configured there
+without_archive = dict(os.environ)
+without_archive["_JAVA_OPTIONS"] = f"-XX:SharedArchiveFile={default_cds_archive}"
+benchmark("Without AppCDS archive", without_archive)
@@ -1,12 +1,15 @@
 package org.jabref.benchmarks;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Random;
 
 import org.jabref.logic.bibtex.FieldPreferences;
+import org.jabref.logic.bst.BstVM;
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
 import org.jabref.logic.exporter.BibWriter;
 import org.jabref.logic.exporter.BibtexDatabaseWriter;
@@ -49,6 +52,7 @@ public class Benchmarks {
     private final BibDatabase database = new BibDatabase();
     private String latexConversionString;
     private String htmlConversionString;
+    private BstVM bstVM;
 
     @Setup
     public void init() throws Exception {
@@ -72,6 +76,10 @@ public class Benchmarks {
         latexConversionString = "{A} \\textbf{bold} approach {\\it to} ${{\\Sigma}}{\\Delta}$ modulator \\textsuperscript{2} \\$";
 
         htmlConversionString = "<b>&Ouml;sterreich</b> &#8211; &amp; characters &#x2aa2; <i>italic</i>";
+
+        try (InputStream bstStream = Benchmarks.class.getResourceAsStream("/bst/IEEEtran.bst")) {
+            bstVM = new BstVM(new String(bstStream.readAllBytes(), StandardCharsets.UTF_8));
+        }
     }
 
     private StringWriter getOutputWriter() throws IOException {
@@ -134,6 +142,11 @@ public class Benchmarks {
         return f.format(htmlConversionString);
     }
 
+    @Benchmark
+    public String bstRender() {
+        return bstVM.render(database.getEntries(), database);
+    }
+
     @Benchmark
     public boolean keywordGroupContains() {
         KeywordGroup group = new WordKeywordGroup("testGroup", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, "testkeyword", false, ',', false);
@@ -0,0 +1,58 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.field.UnknownField;
+import org.jabref.model.entry.types.EntryTypeFactory;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Creates a library with 100,000 entries, which share journal names, years and entry types as real libraries do.
+ * <p>
+ * Run with the GC profiler (<code>-prof gc</code>) to measure the heap needed: <code>gc.alloc.rate.norm</code> is the
+ * number of bytes allocated per library, which is dominated by the entries themselves.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+public class BibEntryFootprintBenchmark {
+
+    private static final int NUMBER_OF_ENTRIES = 100_000;
+    private static final List<String> JOURNALS = List.of("Physical Review B", "Nature", "Journal of Applied Physics", "Phys. Rev. Lett.", "Some Unknown Journal");
+    private static final List<String> TYPES = List.of("article", "inproceedings", "book", "misc", "thesis");
+
+    @Benchmark
+    public BibDatabase createLibrary() {
+        List<BibEntry> entries = new ArrayList<>(NUMBER_OF_ENTRIES);
+        for (int i = 0; i < NUMBER_OF_ENTRIES; i++) {
+            BibEntry entry = new BibEntry(EntryTypeFactory.parse(TYPES.get(i % TYPES.size())))
+                    .withCitationKey("Lastname" + (1990 + (i % 30)) + i)
+                    .withField(StandardField.AUTHOR, "Firstname Lastname and Firstname" + (i % 100) + " Lastname" + (i % 100))
+                    .withField(StandardField.TITLE, "A title with number " + i)
+                    .withField(StandardField.JOURNAL, JOURNALS.get(i % JOURNALS.size()))
+                    .withField(StandardField.YEAR, String.valueOf(1990 + (i % 30)))
+                    .withField(StandardField.PAGES, (i % 500) + "--" + ((i % 500) + 10))
+                    .withField(StandardField.DOI, "10.1000/" + i)
+                    .withField(new UnknownField("custom"), "value " + (i % 10));
+            entries.add(entry);
+        }
+        BibDatabase database = new BibDatabase();
+        database.insertEntries(entries);
+        return database;
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
@@ -0,0 +1,100 @@
+package org.jabref.benchmarks;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.MedlinePlainImporter;
+import org.jabref.logic.importer.fileformat.RisImporter;
+
+import org.mockito.Answers;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.RunnerException;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Imports generated RIS and MEDLINE (plain) files. With 10,000 records, the files are about 5 MB large.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+public class ImportBenchmark {
+
+    @Param({"1000", "10000"})
+    private int numberOfRecords;
+
+    private String risFile;
+    private String medlinePlainFile;
+    private RisImporter risImporter;
+    private MedlinePlainImporter medlinePlainImporter;
+
+    @Setup
+    public void init() {
+        StringBuilder ris = new StringBuilder();
+        StringBuilder medlinePlain = new StringBuilder();
+        for (int i = 0; i < numberOfRecords; i++) {
+            ris.append("TY  - JOUR\n")
+               .append("AU  - Lastname, Firstname\n")
+               .append("AU  - Other").append(i % 100).append(", Firstname\n")
+               .append("TI  - A title with number ").append(i).append('\n')
+               .append("  which continues on the next line\n")
+               .append("JO  - Journal of Applied Physics\n")
+               .append("PY  - ").append(1990 + (i % 30)).append("/05/01\n")
+               .append("VL  - ").append(i % 100).append('\n')
+               .append("SP  - ").append(i % 500).append('\n')
+               .append("EP  - ").append((i % 500) + 10).append('\n')
+               .append("DO  - 10.1000/").append(i).append('\n')
+               .append("KW  - physics\n")
+               .append("KW  - benchmark\n")
+               .append("AB  - ").append("An abstract which is a bit longer than the title. ".repeat(5)).append('\n')
+               .append("ER  - \n\n");
+
+            medlinePlain.append("PMID- ").append(10_000_000 + i).append('\n')
+                        .append("OWN - NLM\n")
+                        .append("STAT- MEDLINE\n")
+                        .append("DP  - ").append(1990 + (i % 30)).append(" May\n")
+                        .append("TI  - A title with number ").append(i).append('\n')
+                        .append("      which continues on the next line\n")
+                        .append("PG  - ").append(i % 500).append('-').append((i % 500) + 10).append('\n')
+                        .append("AB  - ").append("An abstract which is a bit longer than the title. ".repeat(5)).append('\n')
+                        .append("FAU - Lastname, Firstname\n")
+                        .append("FAU - Other").append(i % 100).append(", Firstname\n")
+                        .append("LA  - eng\n")
+                        .append("PT  - Journal Article\n")
+                        .append("MH  - Physics\n")
+                        .append("MH  - Benchmarking\n")
+                        .append("TA  - J Appl Phys\n")
+                        .append("JT  - Journal of Applied Physics\n")
+                        .append("AID - 10.1000/").append(i).append(" [doi]\n")
+                        .append('\n');
+        }
+        risFile = ris.toString();
+        medlinePlainFile = medlinePlain.toString();
+
+        risImporter = new RisImporter();
+        medlinePlainImporter = new MedlinePlainImporter(mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS));
+    }
+
+    @Benchmark
+    public ParserResult importRis() throws IOException {
+        return risImporter.importDatabase(new BufferedReader(new StringReader(risFile)));
+    }
+
+    @Benchmark
+    public ParserResult importMedlinePlain() throws IOException {
+        return medlinePlainImporter.importDatabase(new BufferedReader(new StringReader(medlinePlainFile)));
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
@@ -0,0 +1,117 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jabref.logic.FilePreferences;
+import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
+import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
+import org.jabref.logic.citationkeypattern.GlobalCitationKeyPatterns;
+import org.jabref.logic.integrity.IncrementalIntegrityCheck;
+import org.jabref.logic.integrity.IntegrityCheck;
+import org.jabref.logic.integrity.IntegrityMessage;
+import org.jabref.logic.journals.JournalAbbreviationLoader;
+import org.jabref.logic.journals.JournalAbbreviationRepository;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.RunnerException;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Checks the integrity of a library with 50,000 entries: sequentially entry by entry, in parallel, and incrementally
+ * after changing a single entry.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+public class IntegrityCheckBenchmark {
+
+    private static final int NUMBER_OF_ENTRIES = 50_000;
+    private static final List<String> JOURNALS = List.of("Physical Review B", "Nature", "Journal of Applied Physics", "Phys. Rev. Lett.", "Some Unknown Journal");
+
+    private IntegrityCheck integrityCheck;
+    private IncrementalIntegrityCheck incrementalIntegrityCheck;
+    private BibDatabase database;
+    private int changes;
+
+    @Setup
+    public void init() {
+        database = new BibDatabase();
+        List<BibEntry> entries = new ArrayList<>(NUMBER_OF_ENTRIES);
+        for (int i = 0; i < NUMBER_OF_ENTRIES; i++) {
+            entries.add(new BibEntry(StandardEntryType.Article)
+                    .withCitationKey("Lastname" + (1990 + (i % 30)) + i)
+                    .withField(StandardField.AUTHOR, "Firstname Lastname and Firstname" + (i % 100) + " Lastname" + (i % 100))
+                    .withField(StandardField.TITLE, "A {Title} with \\textbf{LaTeX} number " + i)
+                    .withField(StandardField.JOURNAL, JOURNALS.get(i % JOURNALS.size()))
+                    .withField(StandardField.YEAR, String.valueOf(1990 + (i % 30)))
+                    .withField(StandardField.PAGES, (i % 500) + "--" + ((i % 500) + 10))
+                    .withField(StandardField.DOI, "10.1000/" + i));
+        }
+        database.insertEntries(entries);
+
+        BibDatabaseContext context = new BibDatabaseContext(database);
+        context.setMode(BibDatabaseMode.BIBTEX);
+        JournalAbbreviationRepository abbreviationRepository = JournalAbbreviationLoader.loadBuiltInRepository();
+        integrityCheck = new IntegrityCheck(context,
+                mock(FilePreferences.class),
+                new CitationKeyPatternPreferences(
+                        false,
+                        false,
+                        false,
+                        CitationKeyPatternPreferences.KeySuffix.SECOND_WITH_B,
+                        "",
+                        "",
+                        CitationKeyGenerator.DEFAULT_UNWANTED_CHARACTERS,
+                        GlobalCitationKeyPatterns.fromPattern("[auth][year]"),
+                        "",
+                        ','),
+                abbreviationRepository,
+                false);
+        incrementalIntegrityCheck = new IncrementalIntegrityCheck(integrityCheck, database);
+        incrementalIntegrityCheck.check();
+    }
+
+    @TearDown
+    public void close() {
+        incrementalIntegrityCheck.close();
+    }
+
+    @Benchmark
+    public List<IntegrityMessage> checkEntryByEntry() {
+        List<IntegrityMessage> result = new ArrayList<>();
+        for (BibEntry entry : database.getEntries()) {
+            result.addAll(integrityCheck.checkEntry(entry));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<IntegrityMessage> checkInParallel() {
+        return integrityCheck.check();
+    }
+
+    @Benchmark
+    public List<IntegrityMessage> checkIncrementally() {
+        database.getEntries().get(changes++ % NUMBER_OF_ENTRIES).setField(StandardField.NOTE, "Changed " + changes);
+        return incrementalIntegrityCheck.check();
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
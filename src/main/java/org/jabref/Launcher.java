@@ -10,6 +10,8 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
 
 import org.jabref.cli.ArgumentProcessor;
 import org.jabref.cli.JabRefCLI;
@@ -20,19 +22,23 @@ import org.jabref.gui.util.DefaultDirectoryMonitor;
 import org.jabref.gui.util.DefaultFileUpdateMonitor;
 import org.jabref.logic.UiCommand;
 import org.jabref.logic.journals.JournalAbbreviationLoader;
+import org.jabref.logic.journals.JournalAbbreviationPreferences;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.net.ProxyAuthenticator;
 import org.jabref.logic.net.ProxyPreferences;
 import org.jabref.logic.net.ProxyRegisterer;
+import org.jabref.logic.net.URLDownload;
 import org.jabref.logic.net.ssl.SSLPreferences;
 import org.jabref.logic.net.ssl.TrustStoreManager;
 import org.jabref.logic.preferences.CliPreferences;
 import org.jabref.logic.protectedterms.ProtectedTermsLoader;
+import org.jabref.logic.protectedterms.ProtectedTermsPreferences;
 import org.jabref.logic.remote.RemotePreferences;
 import org.jabref.logic.remote.client.RemoteClient;
 import org.jabref.logic.util.BuildInfo;
 import org.jabref.logic.util.Directories;
 import org.jabref.logic.util.HeadlessExecutorService;
+import org.jabref.logic.util.StartupOrchestrator;
 import org.jabref.migrations.PreferencesMigrations;
 import org.jabref.model.entry.BibEntryTypesManager;
 import org.jabref.model.util.DirectoryMonitor;
@@ -57,32 +63,44 @@ public class Launcher {
 
     public static void main(String[] args) {
         initLogging(args);
+        StartupOrchestrator startup = new StartupOrchestrator();
 
         try {
             Injector.setModelOrService(BuildInfo.class, new BuildInfo());
 
             // Initialize preferences
-            final JabRefGuiPreferences preferences = JabRefGuiPreferences.getInstance();
+            final JabRefGuiPreferences preferences = startup.run("Preferences", JabRefGuiPreferences::getInstance);
             Injector.setModelOrService(CliPreferences.class, preferences);
             Injector.setModelOrService(GuiPreferences.class, preferences);
 
-            // Early exit in case another instance is already running
-            if (!handleMultipleAppInstances(args, preferences.getRemotePreferences())) {
+            // Early exit in case another instance is already running. A run quitting after startup (e.g., the training run
+            // of the AppCDS archive) never hands its arguments over to another instance.
+            boolean exitAfterStartup = hasStartupOption(args, JabRefCLI::isExitAfterStartup);
+            if (!exitAfterStartup && !startup.run("Remote instance check", () -> handleMultipleAppInstances(args, preferences.getRemotePreferences()))) {
                 return;
             }
 
             BibEntryTypesManager entryTypesManager = preferences.getCustomEntryTypesRepository();
             Injector.setModelOrService(BibEntryTypesManager.class, entryTypesManager);
 
-            PreferencesMigrations.runMigrations(preferences, entryTypesManager);
+            startup.run("Preferences migrations", () -> PreferencesMigrations.runMigrations(preferences, entryTypesManager));
 
-            Injector.setModelOrService(JournalAbbreviationRepository.class, JournalAbbreviationLoader.loadRepository(preferences.getJournalAbbreviationPreferences()));
-            Injector.setModelOrService(ProtectedTermsLoader.class, new ProtectedTermsLoader(preferences.getProtectedTermsPreferences()));
-
-            configureProxy(preferences.getProxyPreferences());
-            configureSSL(preferences.getSSLPreferences());
-
-            clearOldSearchIndices();
+            // The following steps are independent of each other. The preferences are read beforehand, because reading
+            // them is not thread-safe.
+            JournalAbbreviationPreferences journalAbbreviationPreferences = preferences.getJournalAbbreviationPreferences();
+            ProtectedTermsPreferences protectedTermsPreferences = preferences.getProtectedTermsPreferences();
+            ProxyPreferences proxyPreferences = preferences.getProxyPreferences();
+            SSLPreferences sslPreferences = preferences.getSSLPreferences();
+            boolean httpCacheEnabled = preferences.getInternalPreferences().isHttpCacheEnabled();
+            Future<JournalAbbreviationRepository> journalAbbreviationRepository = startup.start("Journal abbreviations", () -> JournalAbbreviationLoader.loadRepository(journalAbbreviationPreferences));
+            Future<ProtectedTermsLoader> protectedTermsLoader = startup.start("Protected terms", () -> new ProtectedTermsLoader(protectedTermsPreferences));
+            startup.start("Network configuration", () -> {
+                configureProxy(proxyPreferences);
+                configureSSL(sslPreferences);
+                URLDownload.setCacheEnabled(httpCacheEnabled);
+            });
+            // Nothing depends on removing old indices
+            startup.startInBackground("Clearing old search indices", Launcher::clearOldSearchIndices);
 
             try {
                 DefaultFileUpdateMonitor fileUpdateMonitor = new DefaultFileUpdateMonitor();
@@ -92,6 +110,11 @@ public class Launcher {
                 DirectoryMonitor directoryMonitor = new DefaultDirectoryMonitor();
                 Injector.setModelOrService(DirectoryMonitor.class, directoryMonitor);
 
+                startup.await();
+                // The injector is not thread-safe, thus the results of the concurrent steps are registered here
+                Injector.setModelOrService(JournalAbbreviationRepository.class, journalAbbreviationRepository.get());
+                Injector.setModelOrService(ProtectedTermsLoader.class, protectedTermsLoader.get());
+
                 // Process arguments
                 ArgumentProcessor argumentProcessor = new ArgumentProcessor(
                         args,
@@ -100,16 +123,25 @@ public class Launcher {
                         preferences,
                         fileUpdateMonitor,
                         entryTypesManager);
-                argumentProcessor.processArguments();
+                startup.run("Command line arguments", argumentProcessor::processArguments);
                 if (argumentProcessor.shouldShutDown()) {
                     LOGGER.debug("JabRef shut down after processing command line arguments");
+                    if (hasStartupOption(args, JabRefCLI::isStartupTimeline)) {
+                        System.out.print(startup.formatTimeline());
+                    }
                     // A clean shutdown takes 60s time
                     // We don't need the clean shutdown here
                     System.exit(0);
                 }
 
                 List<UiCommand> uiCommands = new ArrayList<>(argumentProcessor.getUiCommands());
-                JabRefGUI.setup(uiCommands, preferences, fileUpdateMonitor);
+                JabRefGUI.setup(
+                        uiCommands,
+                        preferences,
+                        fileUpdateMonitor,
+                        startup,
+                        hasStartupOption(args, JabRefCLI::isStartupTimeline),
+                        exitAfterStartup);
                 JabRefGUI.launch(JabRefGUI.class, args);
             } catch (ParseException e) {
                 LOGGER.error("Problem parsing arguments", e);
@@ -165,6 +197,14 @@ public class Launcher {
         LOGGER = LoggerFactory.getLogger(Launcher.class);
     }
 
+    private static boolean hasStartupOption(String[] args, Predicate<JabRefCLI> option) {
+        try {
+            return option.test(new JabRefCLI(args));
+        } catch (ParseException e) {
+            return false;
+        }
+    }
+
     /**
      * @return true if JabRef should continue starting up, false if it should quit.
      */
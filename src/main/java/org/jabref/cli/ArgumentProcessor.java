@@ -53,6 +53,7 @@ import org.jabref.logic.xmp.XmpPreferences;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.database.BibDatabaseModeDetection;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
 import org.jabref.model.search.SearchQuery;
@@ -180,8 +181,10 @@ public class ArgumentProcessor {
 
             if (!"*".equals(importFormat)) {
                 System.out.println(Localization.lang("Importing %0", file));
-                ParserResult result = importFormatReader.importFromFile(importFormat, file);
-                return Optional.of(result);
+                // The entries are inserted while importing, thus the importer does not need to keep them
+                BibDatabase database = new BibDatabase();
+                ParserResult result = importFormatReader.importFromFile(importFormat, file, database::insertEntries);
+                return Optional.of(withImportedEntries(result, database));
             } else {
                 // * means "guess the format":
                 System.out.println(Localization.lang("Importing file %0 as unknown format", file));
@@ -198,6 +201,23 @@ public class ArgumentProcessor {
         }
     }
 
+    /**
+     * Moves the content of the given result, which was imported without the entries, to the database holding them.
+     */
+    static ParserResult withImportedEntries(ParserResult result, BibDatabase database) {
+        BibDatabase imported = result.getDatabase();
+        database.setStrings(List.copyOf(imported.getStringValues()));
+        imported.getPreamble().ifPresent(database::setPreamble);
+        database.setEpilog(imported.getEpilog());
+        database.setNewLineSeparator(imported.getNewLineSeparator());
+        result.setDatabaseContext(new BibDatabaseContext(database, result.getMetaData(), result.getPath().orElse(null)));
+
+        if (result.getMetaData().getMode().isEmpty()) {
+            result.getMetaData().setMode(BibDatabaseModeDetection.inferMode(database));
+        }
+        return result;
+    }
+
     public void processArguments() {
         uiCommands.clear();
 
@@ -223,6 +243,12 @@ public class ArgumentProcessor {
             importPreferences();
         }
 
+        if (cli.isBatch()) {
+            processBatch(cli.getBatch().split(","));
+            guiNeeded = false;
+            return;
+        }
+
         List<ParserResult> loaded = importAndOpenFiles();
 
         if (!cli.isBlank() && cli.isFetcherEngine()) {
@@ -701,6 +727,49 @@ public class ArgumentProcessor {
         }
     }
 
+    /**
+     * Processes the left-over files using the {@link BatchProcessor} instead of loading them.
+     *
+     * @param data the output directory and, optionally, the export format
+     */
+    private void processBatch(String[] data) {
+        if (cli.getLeftOver().isEmpty()) {
+            System.err.println(Localization.lang("The batch option depends on at least one library to process."));
+            return;
+        }
+
+        Optional<Exporter> exporter = Optional.empty();
+        if ((data.length > 1) && !"bib".equals(data[1])) {
+            ExporterFactory exporterFactory = ExporterFactory.create(cliPreferences, entryTypesManager);
+            exporter = exporterFactory.getExporterByName(data[1]);
+            if (exporter.isEmpty()) {
+                System.err.println(Localization.lang("Unknown export format %0", data[1]));
+                return;
+            }
+        }
+
+        BatchProcessor batchProcessor = new BatchProcessor(
+                cliPreferences,
+                entryTypesManager,
+                Injector.instantiateModelOrService(JournalAbbreviationRepository.class),
+                exporter,
+                Runtime.getRuntime().availableProcessors());
+        Path outputDirectory = Path.of(data[0]);
+        try {
+            BatchProcessor.Summary summary = batchProcessor.process(cli.getLeftOver().stream().map(Path::of).toList(), outputDirectory);
+            System.out.println(Localization.lang("Processed %0 libraries with %1 entries in %2 ms, %3 failed. See %4 for details.",
+                    String.valueOf(summary.libraries()),
+                    String.valueOf(summary.entries()),
+                    String.valueOf(summary.totalMillis()),
+                    String.valueOf(summary.failedLibraries()),
+                    outputDirectory.resolve(BatchProcessor.SUMMARY_FILE_NAME).toString()));
+        } catch (IOException e) {
+            System.err.println(Localization.lang("Could not save file.") + "\n" + e.getLocalizedMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     private void importPreferences() {
         try {
             cliPreferences.importPreferences(Path.of(cli.getPreferencesImport()));
@@ -760,9 +829,7 @@ public class ArgumentProcessor {
             CitationKeyGenerator keyGenerator = new CitationKeyGenerator(
                     parserResult.getDatabaseContext(),
                     cliPreferences.getCitationKeyPatternPreferences());
-            for (BibEntry entry : database.getEntries()) {
-                keyGenerator.generateAndSetKey(entry);
-            }
+            keyGenerator.generateAndSetKeys(database.getEntries());
         }
     }
 
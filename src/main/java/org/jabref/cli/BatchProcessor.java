@@ -0,0 +1,293 @@
+package org.jabref.cli;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
+import org.jabref.logic.cleanup.CleanupPreferences;
+import org.jabref.logic.cleanup.CleanupWorker;
+import org.jabref.logic.exporter.AtomicFileWriter;
+import org.jabref.logic.exporter.BibWriter;
+import org.jabref.logic.exporter.BibtexDatabaseWriter;
+import org.jabref.logic.exporter.Exporter;
+import org.jabref.logic.exporter.SelfContainedSaveConfiguration;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.BibtexImporter;
+import org.jabref.logic.journals.JournalAbbreviationRepository;
+import org.jabref.logic.os.OS;
+import org.jabref.logic.preferences.CliPreferences;
+import org.jabref.logic.util.io.FileUtil;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+
+import com.google.gson.GsonBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Processes many libraries without GUI. Each library is parsed, cleaned up, gets its citation keys regenerated, and is
+ * exported to the output directory.
+ * <p>
+ * The libraries are processed in parallel, one library per thread. Thus, at most one library per thread is held in
+ * memory. The entries are cleaned up batch by batch while the library is parsed. The citation key generation and then
+ * the cleanup steps working on linked files run after parsing, because the key patterns and the file directories are
+ * part of the metadata stored at the end of the library.
+ * <p>
+ * The time spent in each step and the throughput are written as JSON to {@link #SUMMARY_FILE_NAME} in the output
+ * directory. Libraries whose exported files would have the same name, e.g., {@code a/refs.bib} and {@code b/refs.bib},
+ * are not processed and reported as failed.
+ */
+public class BatchProcessor {
+
+    public static final String SUMMARY_FILE_NAME = "batch-summary.json";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchProcessor.class);
+
+    /**
+     * The cleanup steps resolving linked files against the file directories of the library
+     */
+    private static final EnumSet<CleanupPreferences.CleanupStep> FILE_CLEANUP_STEPS = EnumSet.of(
+            CleanupPreferences.CleanupStep.MAKE_PATHS_RELATIVE,
+            CleanupPreferences.CleanupStep.RENAME_PDF,
+            CleanupPreferences.CleanupStep.RENAME_PDF_ONLY_RELATIVE_PATHS,
+            CleanupPreferences.CleanupStep.CLEAN_UP_DELETED_LINKED_FILES,
+            CleanupPreferences.CleanupStep.MOVE_PDF);
+
+    private final CliPreferences preferences;
+    private final BibEntryTypesManager entryTypesManager;
+    private final JournalAbbreviationRepository abbreviationRepository;
+    private final Optional<Exporter> exporter;
+    private final int threads;
+
+    /**
+     * @param input         the processed library
+     * @param output        the exported file, empty if the library failed
+     * @param changedFields the number of fields changed by the cleanup and the key generation
+     * @param error         the reason why the library failed, empty if it succeeded
+     */
+    public record LibrarySummary(String input,
+                                 String output,
+                                 int entries,
+                                 int changedFields,
+                                 long parseMillis,
+                                 long cleanupMillis,
+                                 long keyGenerationMillis,
+                                 long exportMillis,
+                                 String error) {
+    }
+
+    public record Summary(int libraries,
+                          int failedLibraries,
+                          long entries,
+                          int threads,
+                          long totalMillis,
+                          double entriesPerSecond,
+                          List<LibrarySummary> results) {
+    }
+
+    /**
+     * @param exporter the exporter to use, empty to save the libraries as BibTeX including their metadata
+     * @param threads  the number of libraries processed at the same time
+     */
+    public BatchProcessor(CliPreferences preferences,
+                          BibEntryTypesManager entryTypesManager,
+                          JournalAbbreviationRepository abbreviationRepository,
+                          Optional<Exporter> exporter,
+                          int threads) {
+        this.preferences = preferences;
+        this.entryTypesManager = entryTypesManager;
+        this.abbreviationRepository = abbreviationRepository;
+        this.exporter = exporter;
+        this.threads = threads;
+    }
+
+    /**
+     * Processes the given libraries and writes the summary to the output directory.
+     *
+     * @return the summary, which lists the libraries in the given order
+     */
+    public Summary process(List<Path> libraries, Path outputDirectory) throws IOException, InterruptedException {
+        Files.createDirectories(outputDirectory);
+        long start = System.nanoTime();
+
+        List<LibrarySummary> results = new ArrayList<>(libraries.size());
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            // Libraries with the same file name in different directories would overwrite each other's output
+            Map<String, Long> librariesByOutputName = libraries.stream()
+                                                               .collect(Collectors.groupingBy(this::getOutputKey, Collectors.counting()));
+            List<Future<LibrarySummary>> futures = new ArrayList<>(libraries.size());
+            for (Path library : libraries) {
+                if (librariesByOutputName.get(getOutputKey(library)) > 1) {
+                    futures.add(CompletableFuture.completedFuture(failed(library, 0, "Another library is exported to " + getOutputFileName(library))));
+                } else {
+                    futures.add(executor.submit(() -> process(library, outputDirectory)));
+                }
+            }
+            for (Future<LibrarySummary> future : futures) {
+                try {
+                    results.add(future.get());
+                } catch (ExecutionException e) {
+                    // process(Path, Path) reports all failures in the summary, thus this is a bug
+                    throw new IllegalStateException(e.getCause());
+                }
+            }
+        }
+
+        long totalMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+        long entries = results.stream().mapToLong(LibrarySummary::entries).sum();
+        Summary summary = new Summary(
+                results.size(),
+                (int) results.stream().filter(result -> !result.error().isEmpty()).count(),
+                entries,
+                threads,
+                totalMillis,
+                totalMillis == 0 ? 0 : entries * 1000.0 / totalMillis,
+                results);
+        writeSummary(summary, outputDirectory.resolve(SUMMARY_FILE_NAME));
+        return summary;
+    }
+
+    private LibrarySummary process(Path library, Path outputDirectory) {
+        AtomicInteger entries = new AtomicInteger();
+        AtomicInteger changedFields = new AtomicInteger();
+        AtomicLong cleanupNanos = new AtomicLong();
+        try {
+            // The entries are cleaned up while parsing, thus they are complete in the database once parsing finished.
+            // The steps using the file directories of the library need its metadata and run after the key generation.
+            BibDatabase database = new BibDatabase();
+            CleanupPreferences cleanupPreset = preferences.getCleanupPreferences();
+            EnumSet<CleanupPreferences.CleanupStep> entrySteps = cleanupPreset.getActiveJobs();
+            entrySteps.removeAll(FILE_CLEANUP_STEPS);
+            EnumSet<CleanupPreferences.CleanupStep> fileSteps = cleanupPreset.getActiveJobs();
+            fileSteps.retainAll(FILE_CLEANUP_STEPS);
+            CleanupPreferences entryCleanup = new CleanupPreferences(entrySteps, cleanupPreset.getFieldFormatterCleanups());
+            // None of the entry steps uses the database context
+            CleanupWorker cleanupWorker = new CleanupWorker(new BibDatabaseContext(database), preferences.getFilePreferences(), preferences.getTimestampPreferences());
+
+            long start = System.nanoTime();
+            ParserResult result = new BibtexImporter(preferences.getImportFormatPreferences(), new DummyFileUpdateMonitor())
+                    .importDatabase(library, batch -> {
+                        long cleanupStart = System.nanoTime();
+                        changedFields.addAndGet(cleanupWorker.cleanupEntries(entryCleanup, batch).changes().size());
+                        cleanupNanos.addAndGet(System.nanoTime() - cleanupStart);
+                        database.insertEntries(batch);
+                        entries.addAndGet(batch.size());
+                    });
+            long parseNanos = System.nanoTime() - start - cleanupNanos.get();
+            if (result.isInvalid()) {
+                return failed(library, entries.get(), result.getErrorMessage());
+            }
+            BibDatabaseContext databaseContext = ArgumentProcessor.withImportedEntries(result, database).getDatabaseContext();
+
+            start = System.nanoTime();
+            CitationKeyGenerator keyGenerator = new CitationKeyGenerator(databaseContext, preferences.getCitationKeyPatternPreferences());
+            changedFields.addAndGet(keyGenerator.generateAndSetKeys(database.getEntries()).size());
+            long keyGenerationNanos = System.nanoTime() - start;
+
+            // Renaming the linked files uses the new citation keys
+            if (!fileSteps.isEmpty()) {
+                long cleanupStart = System.nanoTime();
+                CleanupWorker fileCleanupWorker = new CleanupWorker(databaseContext, preferences.getFilePreferences(), preferences.getTimestampPreferences());
+                changedFields.addAndGet(fileCleanupWorker.cleanupEntries(new CleanupPreferences(fileSteps), database.getEntries()).changes().size());
+                cleanupNanos.addAndGet(System.nanoTime() - cleanupStart);
+            }
+
+            start = System.nanoTime();
+            Path output = export(databaseContext, library, outputDirectory);
+            long exportNanos = System.nanoTime() - start;
+
+            return new LibrarySummary(
+                    library.toString(),
+                    output.toString(),
+                    entries.get(),
+                    changedFields.get(),
+                    Duration.ofNanos(parseNanos).toMillis(),
+                    Duration.ofNanos(cleanupNanos.get()).toMillis(),
+                    Duration.ofNanos(keyGenerationNanos).toMillis(),
+                    Duration.ofNanos(exportNanos).toMillis(),
+                    "");
+        } catch (Exception e) {
+            LOGGER.error("Could not process library {}", library, e);
+            return failed(library, entries.get(), e.getMessage());
+        }
+    }
+
+    private static LibrarySummary failed(Path library, int entries, String error) {
+        return new LibrarySummary(library.toString(), "", entries, 0, 0, 0, 0, 0, error == null ? "" : error);
+    }
+
+    /**
+     * Returns the name of the exported file, which is named like the library
+     */
+    private String getOutputFileName(Path library) {
+        return exporter.map(libraryExporter -> FileUtil.getBaseName(library) + "." + libraryExporter.getFileType().getExtensions().getFirst())
+                       .orElseGet(() -> library.getFileName().toString());
+    }
+
+    /**
+     * File names differing in case only denote the same file on Windows and macOS
+     */
+    private String getOutputKey(Path library) {
+        return getOutputFileName(library).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Writes the library to a file in the output directory named like the library.
+     *
+     * @return the written file
+     */
+    private Path export(BibDatabaseContext databaseContext, Path library, Path outputDirectory) throws Exception {
+        Path output = outputDirectory.resolve(getOutputFileName(library));
+        if (exporter.isEmpty()) {
+            try (AtomicFileWriter fileWriter = new AtomicFileWriter(output, StandardCharsets.UTF_8)) {
+                SelfContainedSaveConfiguration saveConfiguration = (SelfContainedSaveConfiguration) new SelfContainedSaveConfiguration()
+                        .withReformatOnSave(preferences.getLibraryPreferences().shouldAlwaysReformatOnSave());
+                new BibtexDatabaseWriter(
+                        new BibWriter(fileWriter, OS.NEWLINE),
+                        saveConfiguration,
+                        preferences.getFieldPreferences(),
+                        preferences.getCitationKeyPatternPreferences(),
+                        entryTypesManager)
+                        .saveDatabase(databaseContext);
+                if (fileWriter.hasEncodingProblems()) {
+                    LOGGER.warn("UTF-8 could not be used to encode the following characters in {}: {}", output, fileWriter.getEncodingProblems());
+                }
+            }
+            return output;
+        }
+
+        exporter.get().export(
+                databaseContext,
+                output,
+                databaseContext.getDatabase().getEntries(),
+                databaseContext.getFileDirectories(preferences.getFilePreferences()),
+                abbreviationRepository);
+        return output;
+    }
+
+    private static void writeSummary(Summary summary, Path file) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            new GsonBuilder().setPrettyPrinting().create().toJson(summary, writer);
+        }
+    }
+}
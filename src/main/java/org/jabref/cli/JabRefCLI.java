@@ -128,6 +128,14 @@ public class JabRefCLI {
         return cl.hasOption("debug");
     }
 
+    public boolean isStartupTimeline() {
+        return cl.hasOption("startup-timeline");
+    }
+
+    public boolean isExitAfterStartup() {
+        return cl.hasOption("exit-after-startup");
+    }
+
     public boolean isFetcherEngine() {
         return cl.hasOption("fetch");
     }
@@ -178,6 +186,14 @@ public class JabRefCLI {
         return cl.hasOption("jumpToKey");
     }
 
+    public boolean isBatch() {
+        return cl.hasOption("batch");
+    }
+
+    public String getBatch() {
+        return cl.getOptionValue("batch");
+    }
+
     private static Options getOptions() {
         Options options = new Options();
 
@@ -189,6 +205,8 @@ public class JabRefCLI {
         options.addOption("b", "blank", false, Localization.lang("Do not open any files at startup"));
         options.addOption("v", "version", false, Localization.lang("Display version"));
         options.addOption(null, "debug", false, Localization.lang("Show debug level messages"));
+        options.addOption(null, "startup-timeline", false, Localization.lang("Print how long each phase of the startup took"));
+        options.addOption(null, "exit-after-startup", false, Localization.lang("Quit as soon as the main window is shown and the given libraries are opened"));
 
         options.addOption(Option
                 .builder("i")
@@ -302,6 +320,14 @@ public class JabRefCLI {
                 .argName("CITATIONKEY")
                 .build());
 
+        options.addOption(Option
+                .builder()
+                .longOpt("batch")
+                .desc("%s: '%s'".formatted(Localization.lang("Clean up, generate citation keys for, and export many libraries in parallel"), "-n --batch normalized,bib a.bib b.bib"))
+                .hasArg()
+                .argName("DIRECTORY[,FORMAT]")
+                .build());
+
         return options;
     }
 
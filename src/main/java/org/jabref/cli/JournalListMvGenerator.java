@@ -11,6 +11,7 @@ import java.util.stream.Collectors;
 
 import org.jabref.logic.journals.Abbreviation;
 import org.jabref.logic.journals.JournalAbbreviationLoader;
+import org.jabref.logic.journals.JournalAbbreviationRepository;
 
 import org.h2.mvstore.MVMap;
 import org.h2.mvstore.MVStore;
@@ -46,7 +47,7 @@ public class JournalListMvGenerator {
                      fileName(journalListMvFile.toString()).
                      compressHigh().
                      open()) {
-            MVMap<String, Abbreviation> fullToAbbreviation = store.openMap("FullToAbbreviation");
+            MVMap<String, Abbreviation> fullToAbbreviation = store.openMap(JournalAbbreviationRepository.FULL_TO_ABBREVIATION);
             stream.forEach(Unchecked.consumer(path -> {
                 String fileName = path.getFileName().toString();
                 System.out.print("Checking ");
@@ -70,6 +71,17 @@ public class JournalListMvGenerator {
                     fullToAbbreviation.putAll(abbreviationMap);
                 }
             }));
+
+            // Reverse maps to look up abbreviated names without loading all abbreviations into memory
+            MVMap<String, String> abbreviationToFull = store.openMap(JournalAbbreviationRepository.ABBREVIATION_TO_FULL);
+            MVMap<String, String> dotlessToFull = store.openMap(JournalAbbreviationRepository.DOTLESS_TO_FULL);
+            MVMap<String, String> shortestUniqueToFull = store.openMap(JournalAbbreviationRepository.SHORTEST_UNIQUE_TO_FULL);
+            fullToAbbreviation.forEach((name, storedAbbreviation) -> {
+                Abbreviation abbreviation = new Abbreviation(name, storedAbbreviation.getAbbreviation(), storedAbbreviation.getShortestUniqueAbbreviation());
+                abbreviationToFull.put(abbreviation.getAbbreviation(), name);
+                dotlessToFull.put(abbreviation.getDotlessAbbreviation(), name);
+                shortestUniqueToFull.put(abbreviation.getShortestUniqueAbbreviation(), name);
+            });
         }
     }
 }
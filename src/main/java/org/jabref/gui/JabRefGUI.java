@@ -34,6 +34,7 @@ import org.jabref.logic.remote.server.RemoteListenerServerManager;
 import org.jabref.logic.util.BuildInfo;
 import org.jabref.logic.util.FallbackExceptionHandler;
 import org.jabref.logic.util.HeadlessExecutorService;
+import org.jabref.logic.util.StartupOrchestrator;
 import org.jabref.logic.util.TaskExecutor;
 import org.jabref.logic.util.WebViewStore;
 import org.jabref.model.entry.BibEntryTypesManager;
@@ -57,6 +58,9 @@ public class JabRefGUI extends Application {
     private static List<UiCommand> uiCommands;
     private static GuiPreferences preferences;
     private static FileUpdateMonitor fileUpdateMonitor;
+    private static StartupOrchestrator startup;
+    private static boolean printStartupTimeline;
+    private static boolean exitAfterStartup;
 
     // AI Service handles chat messages etc. Therefore, it is tightly coupled to the GUI.
     private static AiService aiService;
@@ -75,10 +79,16 @@ public class JabRefGUI extends Application {
 
     public static void setup(List<UiCommand> uiCommands,
                              GuiPreferences preferences,
-                             FileUpdateMonitor fileUpdateMonitor) {
+                             FileUpdateMonitor fileUpdateMonitor,
+                             StartupOrchestrator startup,
+                             boolean printStartupTimeline,
+                             boolean exitAfterStartup) {
         JabRefGUI.uiCommands = uiCommands;
         JabRefGUI.preferences = preferences;
         JabRefGUI.fileUpdateMonitor = fileUpdateMonitor;
+        JabRefGUI.startup = startup;
+        JabRefGUI.printStartupTimeline = printStartupTimeline;
+        JabRefGUI.exitAfterStartup = exitAfterStartup;
     }
 
     @Override
@@ -92,7 +102,7 @@ public class JabRefGUI extends Application {
             });
         });
 
-        initialize();
+        startup.run("GUI services", this::initialize);
 
         JabRefGUI.mainFrame = new JabRefFrame(
                 mainStage,
@@ -252,10 +262,22 @@ public class JabRefGUI extends Application {
 
         LOGGER.debug("Showing mainStage");
         mainStage.show();
+        startup.mark("Main window shown");
 
         LOGGER.debug("frame initialized");
 
-        Platform.runLater(() -> mainFrame.handleUiCommands(uiCommands));
+        Platform.runLater(() -> {
+            mainFrame.handleUiCommands(uiCommands);
+            startup.mark("Libraries opened");
+            if (printStartupTimeline) {
+                System.out.print(startup.formatTimeline());
+            }
+            if (exitAfterStartup) {
+                // Used for training the class data sharing archive and for benchmarking the startup
+                LOGGER.info("Exiting after startup as requested");
+                Platform.exit();
+            }
+        });
     }
 
     public void onShowing(WindowEvent event) {
@@ -349,7 +371,8 @@ public class JabRefGUI extends Application {
     public void startBackgroundTasks() {
         RemotePreferences remotePreferences = preferences.getRemotePreferences();
         BibEntryTypesManager bibEntryTypesManager = Injector.instantiateModelOrService(BibEntryTypesManager.class);
-        if (remotePreferences.useRemoteServer()) {
+        // A run quitting after startup does not take over the port of the remote server
+        if (remotePreferences.useRemoteServer() && !exitAfterStartup) {
             remoteListenerServerManager.openAndStart(
                     new CLIMessageHandler(
                             mainFrame,
@@ -77,12 +77,14 @@ import org.jabref.logic.search.LuceneManager;
 import org.jabref.logic.shared.DatabaseLocation;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.TaskExecutor;
+import org.jabref.logic.util.io.FileDirectoryIndex;
 import org.jabref.logic.util.io.FileUtil;
 import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.event.BibDatabaseContextChangedEvent;
 import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesChangedEvent;
 import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.Author;
 import org.jabref.model.entry.BibEntry;
@@ -169,6 +171,7 @@ public class LibraryTab extends Tab {
 
     private ImportHandler importHandler;
     private LuceneManager luceneManager;
+    private FileDirectoryIndex fileDirectoryIndex;
 
     private final AiService aiService;
 
@@ -216,6 +219,7 @@ public class LibraryTab extends Tab {
     private void initializeComponentsAndListeners(boolean isDummyContext) {
         if (!isDummyContext) {
             createLuceneManager();
+            createFileDirectoryIndex();
         }
 
         if (tableModel != null) {
@@ -327,6 +331,56 @@ public class LibraryTab extends Tab {
         stateManager.setLuceneManager(bibDatabaseContext, luceneManager);
     }
 
+    /**
+     * Creates the index of the file directories of the library. The stored index is loaded and refreshed in the background.
+     * A watch service keeps it current. If the file directories cannot be watched, the index looks up all files in the
+     * file system.
+     */
+    private void createFileDirectoryIndex() {
+        closeFileDirectoryIndex();
+        List<Path> fileDirectories = bibDatabaseContext.getFileDirectories(preferences.getFilePreferences());
+        if (fileDirectories.isEmpty()) {
+            return;
+        }
+        FileDirectoryIndex index = FileDirectoryIndex.forDirectories(fileDirectories);
+        fileDirectoryIndex = index;
+        bibDatabaseContext.setFileDirectoryIndex(index);
+        BackgroundTask.wrap(() -> {
+                          try {
+                              index.load();
+                          } catch (IOException e) {
+                              LOGGER.warn("Could not read the index of the file directories", e);
+                          }
+                          index.startWatching();
+                          index.save();
+                          return index;
+                      })
+                      .onSuccess(refreshedIndex -> {
+                          if (fileDirectoryIndex != refreshedIndex) {
+                              // The library was closed or its file directories changed while refreshing
+                              refreshedIndex.stopWatching();
+                          }
+                      })
+                      .onFailure(e -> LOGGER.warn("Could not index the file directories", e))
+                      .executeWith(taskExecutor);
+    }
+
+    private void closeFileDirectoryIndex() {
+        FileDirectoryIndex index = fileDirectoryIndex;
+        if (index == null) {
+            return;
+        }
+        fileDirectoryIndex = null;
+        index.stopWatching();
+        bibDatabaseContext.clearFileDirectoryIndex();
+        BackgroundTask.wrap(() -> {
+                          index.save();
+                          return null;
+                      })
+                      .onFailure(e -> LOGGER.warn("Could not store the index of the file directories", e))
+                      .executeWith(taskExecutor);
+    }
+
     public LuceneManager getLuceneManager() {
         return luceneManager;
     }
@@ -546,6 +600,7 @@ public class LibraryTab extends Tab {
      * Set up autocompletion for this database
      */
     private void setupAutoCompletion() {
+        closeAutoCompletion();
         AutoCompletePreferences autoCompletePreferences = preferences.getAutoCompletePreferences();
         if (autoCompletePreferences.shouldAutoComplete()) {
             suggestionProviders = new SuggestionProviders(
@@ -559,6 +614,15 @@ public class LibraryTab extends Tab {
         searchAutoCompleter = new PersonNameSuggestionProvider(FieldFactory.getPersonNameFields(), getDatabase());
     }
 
+    private void closeAutoCompletion() {
+        if (suggestionProviders != null) {
+            suggestionProviders.close();
+        }
+        if (searchAutoCompleter != null) {
+            searchAutoCompleter.close();
+        }
+    }
+
     public SuggestionProvider<Author> getAutoCompleter() {
         return searchAutoCompleter;
     }
@@ -789,6 +853,7 @@ public class LibraryTab extends Tab {
             LOGGER.error("Problem when closing change monitor", e);
         }
         try {
+            closeFileDirectoryIndex();
             directoryMonitorManager.unregister();
         } catch (RuntimeException e) {
             LOGGER.error("Problem when closing directory monitor", e);
@@ -800,6 +865,11 @@ public class LibraryTab extends Tab {
         } catch (RuntimeException e) {
             LOGGER.error("Problem when closing lucene indexer", e);
         }
+        try {
+            closeAutoCompletion();
+        } catch (RuntimeException e) {
+            LOGGER.error("Problem when closing auto completion", e);
+        }
         try {
             AutosaveManager.shutdown(bibDatabaseContext);
         } catch (RuntimeException e) {
@@ -1159,8 +1229,17 @@ public class LibraryTab extends Tab {
             luceneManager.removeFromIndex(removedEntriesEvent.getBibEntries());
         }
 
+        @Subscribe
+        public void listen(EntriesChangedEvent entriesChangedEvent) {
+            luceneManager.updateEntries(entriesChangedEvent.getFieldChanges());
+        }
+
         @Subscribe
         public void listen(FieldChangedEvent fieldChangedEvent) {
+            if (fieldChangedEvent.isPartOfChangeSet()) {
+                // Indexed at once when the transaction is committed
+                return;
+            }
             luceneManager.updateEntry(fieldChangedEvent.getBibEntry(), fieldChangedEvent.getOldValue(), fieldChangedEvent.getNewValue(), fieldChangedEvent.getField().equals(StandardField.FILE));
         }
     }
@@ -1,9 +1,13 @@
 package org.jabref.gui.autocompleter;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Stream;
 
+import org.controlsfx.control.textfield.AutoCompletionBinding;
+
 /**
  * Enriches a suggestion provider by a given set of content selector values.
  */
@@ -19,6 +23,24 @@ public class ContentSelectorSuggestionProvider extends StringSuggestionProvider
         this.contentSelectorValues = contentSelectorValues;
     }
 
+    @Override
+    protected List<String> findMatches(AutoCompletionBinding.ISuggestionRequest request) {
+        Set<String> result = new LinkedHashSet<>();
+        contentSelectorValues.stream()
+                             .filter(value -> isMatch(value, request))
+                             .limit(MAX_SUGGESTIONS)
+                             .forEach(result::add);
+        if (suggestionProvider != null) {
+            for (String suggestion : suggestionProvider.findMatches(request)) {
+                if (result.size() >= MAX_SUGGESTIONS) {
+                    break;
+                }
+                result.add(suggestion);
+            }
+        }
+        return new ArrayList<>(result);
+    }
+
     @Override
     public Stream<String> getSource() {
         return Stream.concat(contentSelectorValues.stream(), suggestionProvider.getSource());
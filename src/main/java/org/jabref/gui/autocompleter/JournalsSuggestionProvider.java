@@ -1,21 +1,54 @@
 package org.jabref.gui.autocompleter;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.field.Field;
 
+import com.google.common.base.Suppliers;
 import com.google.common.collect.Streams;
+import org.controlsfx.control.textfield.AutoCompletionBinding;
 
 public class JournalsSuggestionProvider extends FieldValueSuggestionProvider {
 
     private final JournalAbbreviationRepository repository;
+    private final Supplier<SuggestionIndex<String>> journalNameIndex;
 
     JournalsSuggestionProvider(Field field, BibDatabase database, JournalAbbreviationRepository repository) {
+        this(field, database, repository, Suppliers.memoize(() -> SuggestionIndex.of(repository.getFullNames())));
+    }
+
+    /**
+     * @param journalNameIndex the index of the journal names of the repository, which can be shared by several providers
+     */
+    JournalsSuggestionProvider(Field field, BibDatabase database, JournalAbbreviationRepository repository, Supplier<SuggestionIndex<String>> journalNameIndex) {
         super(field, database);
 
         this.repository = repository;
+        this.journalNameIndex = journalNameIndex;
+    }
+
+    /**
+     * The values used in the library come first, the journal names of the abbreviation lists fill the remaining suggestions.
+     */
+    @Override
+    protected List<String> findMatches(AutoCompletionBinding.ISuggestionRequest request) {
+        Set<String> result = new LinkedHashSet<>(super.findMatches(request));
+        if (result.size() < MAX_SUGGESTIONS) {
+            for (String journalName : journalNameIndex.get().find(request.getUserText(), MAX_SUGGESTIONS, getEquivalence())) {
+                if (result.size() >= MAX_SUGGESTIONS) {
+                    break;
+                }
+                result.add(journalName);
+            }
+        }
+        return new ArrayList<>(result);
     }
 
     @Override
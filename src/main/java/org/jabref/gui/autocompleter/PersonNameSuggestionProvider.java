@@ -3,6 +3,7 @@ package org.jabref.gui.autocompleter;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Stream;
@@ -24,6 +25,7 @@ public class PersonNameSuggestionProvider extends SuggestionProvider<Author> {
 
     private final Collection<Field> fields;
     private final BibDatabase database;
+    private final SuggestionIndex<Author> index;
 
     PersonNameSuggestionProvider(Field field, BibDatabase database) {
         this(Collections.singletonList(Objects.requireNonNull(field)), database);
@@ -34,6 +36,7 @@ public class PersonNameSuggestionProvider extends SuggestionProvider<Author> {
 
         this.fields = Objects.requireNonNull(fields);
         this.database = database;
+        this.index = SuggestionIndex.forFields(fields, database, value -> AuthorList.parse(value).getAuthors(), author -> author.getFamilyGiven(false));
     }
 
     public Stream<Author> getAuthors(BibEntry entry) {
@@ -61,6 +64,16 @@ public class PersonNameSuggestionProvider extends SuggestionProvider<Author> {
         return StringUtil.containsIgnoreCase(candidate.getFamilyGiven(false), request.getUserText());
     }
 
+    @Override
+    protected List<Author> findMatches(AutoCompletionBinding.ISuggestionRequest request) {
+        return index.find(request.getUserText(), MAX_SUGGESTIONS, getEquivalence());
+    }
+
+    @Override
+    public void close() {
+        index.close();
+    }
+
     @Override
     public Stream<Author> getSource() {
         return database.getEntries()
@@ -0,0 +1,233 @@
+package org.jabref.gui.autocompleter;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.strings.StringUtil;
+
+import com.google.common.base.Equivalence;
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Index of the candidates for auto completion, ranked by the number of their occurrences.
+ * <p>
+ * Streaming over all entries of the database on each keystroke is too slow for large libraries. The index is built
+ * on the first query and afterwards kept up to date using the events of the database. Queries look up the candidates
+ * starting with the user text in a sorted map. Only if there are not enough of them, the remaining candidates
+ * containing the user text are searched, starting with the most frequent ones and stopping as soon as enough
+ * candidates are found. In both cases, only distinct candidates are considered and not every occurrence in the
+ * database.
+ * <p>
+ * The index listens to its database until it is {@link #close() closed}.
+ *
+ * @param <T> Type of the candidates
+ */
+class SuggestionIndex<T> {
+
+    private final Collection<Field> fields;
+    private final BibDatabase database;
+    private final Function<String, Collection<T>> candidatesOfValue;
+    private final Function<T, String> textOf;
+
+    private final Map<T, Integer> occurrences = new HashMap<>();
+    private final NavigableMap<String, Set<T>> candidatesByText = new TreeMap<>();
+    private final NavigableMap<Integer, Set<T>> candidatesByOccurrences = new TreeMap<>(Comparator.reverseOrder());
+    private final Set<String> indexedEntryIds = new HashSet<>();
+    private boolean built;
+
+    private SuggestionIndex(Collection<Field> fields, BibDatabase database, Function<String, Collection<T>> candidatesOfValue, Function<T, String> textOf) {
+        this.fields = Objects.requireNonNull(fields);
+        this.database = database;
+        this.candidatesOfValue = candidatesOfValue;
+        this.textOf = textOf;
+    }
+
+    /**
+     * Creates an index of the candidates contained in the given fields of the entries of the database.
+     *
+     * @param candidatesOfValue extracts the candidates from a field value
+     * @param textOf            the text of a candidate the user text is matched against
+     */
+    static <T> SuggestionIndex<T> forFields(Collection<Field> fields, BibDatabase database, Function<String, Collection<T>> candidatesOfValue, Function<T, String> textOf) {
+        SuggestionIndex<T> index = new SuggestionIndex<>(fields, Objects.requireNonNull(database), candidatesOfValue, textOf);
+        database.registerListener(index);
+        return index;
+    }
+
+    /**
+     * Creates an index of a fixed set of strings (e.g., the journal names of the abbreviation lists).
+     */
+    static SuggestionIndex<String> of(Collection<String> values) {
+        SuggestionIndex<String> index = new SuggestionIndex<>(Set.of(), null, Set::of, Function.identity());
+        values.forEach(value -> index.add(value, 1));
+        index.built = true;
+        return index;
+    }
+
+    /**
+     * Returns the distinct candidates matching the user text, the candidates starting with the text first. Both groups
+     * are ordered by the number of occurrences of the candidates.
+     */
+    synchronized List<T> find(String userText, int limit, Equivalence<T> equivalence) {
+        Objects.requireNonNull(userText);
+        build();
+
+        Set<Equivalence.Wrapper<T>> result = new LinkedHashSet<>();
+        Comparator<T> byOccurrences = Comparator.comparing(occurrences::get, Comparator.reverseOrder());
+        String prefix = userText.toLowerCase(Locale.ROOT);
+        List<T> startingWithText = candidatesByText.subMap(prefix, true, prefix + Character.MAX_VALUE, false)
+                                                   .values().stream()
+                                                   .flatMap(Collection::stream)
+                                                   .sorted(byOccurrences)
+                                                   .toList();
+        addDistinct(startingWithText, result, limit, equivalence);
+
+        // The candidates containing the text are searched only until the result is complete
+        for (Set<T> candidates : candidatesByOccurrences.values()) {
+            for (T candidate : candidates) {
+                if (result.size() >= limit) {
+                    return unwrap(result);
+                }
+                if (StringUtil.containsIgnoreCase(textOf.apply(candidate), userText)) {
+                    result.add(equivalence.wrap(candidate));
+                }
+            }
+        }
+
+        return unwrap(result);
+    }
+
+    private static <T> List<T> unwrap(Set<Equivalence.Wrapper<T>> result) {
+        return result.stream().map(Equivalence.Wrapper::get).toList();
+    }
+
+    /**
+     * Stops listening to the changes of the database
+     */
+    synchronized void close() {
+        if (database != null) {
+            database.unregisterListener(this);
+        }
+        occurrences.clear();
+        candidatesByText.clear();
+        candidatesByOccurrences.clear();
+        indexedEntryIds.clear();
+        built = false;
+    }
+
+    private static <T> void addDistinct(List<T> candidates, Set<Equivalence.Wrapper<T>> result, int limit, Equivalence<T> equivalence) {
+        for (T candidate : candidates) {
+            if (result.size() >= limit) {
+                return;
+            }
+            result.add(equivalence.wrap(candidate));
+        }
+    }
+
+    private void build() {
+        if (built) {
+            return;
+        }
+        for (BibEntry entry : database.getEntries()) {
+            indexedEntryIds.add(entry.getId());
+            updateEntry(entry, 1);
+        }
+        built = true;
+    }
+
+    private void updateEntry(BibEntry entry, int delta) {
+        for (Field field : fields) {
+            entry.getField(field).ifPresent(value -> updateValue(value, delta));
+        }
+    }
+
+    private void updateValue(String value, int delta) {
+        for (T candidate : candidatesOfValue.apply(value)) {
+            add(candidate, delta);
+        }
+    }
+
+    private void add(T candidate, int delta) {
+        int oldCount = occurrences.getOrDefault(candidate, 0);
+        int count = oldCount + delta;
+        String text = textOf.apply(candidate).toLowerCase(Locale.ROOT);
+        removeFrom(candidatesByOccurrences, oldCount, candidate);
+        if (count > 0) {
+            occurrences.put(candidate, count);
+            candidatesByText.computeIfAbsent(text, key -> new LinkedHashSet<>()).add(candidate);
+            candidatesByOccurrences.computeIfAbsent(count, key -> new LinkedHashSet<>()).add(candidate);
+            return;
+        }
+
+        occurrences.remove(candidate);
+        removeFrom(candidatesByText, text, candidate);
+    }
+
+    private static <K, T> void removeFrom(Map<K, Set<T>> candidatesByKey, K key, T candidate) {
+        Set<T> candidates = candidatesByKey.get(key);
+        if (candidates != null) {
+            candidates.remove(candidate);
+            if (candidates.isEmpty()) {
+                candidatesByKey.remove(key);
+            }
+        }
+    }
+
+    @Subscribe
+    public synchronized void listen(FieldChangedEvent event) {
+        // Removed entries still report their changes to the database
+        if (!built || !fields.contains(event.getField()) || !indexedEntryIds.contains(event.getBibEntry().getId())) {
+            return;
+        }
+        if (event.getOldValue() != null) {
+            updateValue(event.getOldValue(), -1);
+        }
+        if (event.getNewValue() != null) {
+            updateValue(event.getNewValue(), 1);
+        }
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesAddedEvent event) {
+        if (built) {
+            event.getBibEntries().forEach(entry -> {
+                indexedEntryIds.add(entry.getId());
+                updateEntry(entry, 1);
+            });
+        }
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesRemovedEvent event) {
+        if (built) {
+            event.getBibEntries().forEach(entry -> {
+                indexedEntryIds.remove(entry.getId());
+                updateEntry(entry, -1);
+            });
+        }
+    }
+
+    /**
+     * Splits a field value into distinct words in the same way as {@link BibEntry#getFieldAsWords(Field)}.
+     */
+    static Collection<String> getWords(String value) {
+        return new LinkedHashSet<>(StringUtil.getStringAsWords(value));
+    }
+}
@@ -43,22 +43,32 @@ import org.controlsfx.control.textfield.AutoCompletionBinding.ISuggestionRequest
  */
 public abstract class SuggestionProvider<T> {
 
+    static final int MAX_SUGGESTIONS = 10;
+
     public final Collection<T> provideSuggestions(ISuggestionRequest request) {
         if (!request.getUserText().isEmpty()) {
-            Comparator<T> comparator = getComparator();
-            Equivalence<T> equivalence = getEquivalence();
-            return getSource().filter(candidate -> isMatch(candidate, request))
-                              .map(equivalence::wrap) // Need to do a bit of acrobatic as there is no distinctBy method
-                              .distinct()
-                              .limit(10)
-                              .map(Equivalence.Wrapper::get)
-                              .sorted(comparator)
-                              .collect(Collectors.toList());
+            return findMatches(request).stream()
+                                       .sorted(getComparator())
+                                       .collect(Collectors.toList());
         } else {
             return Collections.emptyList();
         }
     }
 
+    /**
+     * Returns at most {@link #MAX_SUGGESTIONS} distinct candidates matching the request.
+     * Providers backed by a {@link SuggestionIndex} override this to avoid streaming over the whole source.
+     */
+    protected List<T> findMatches(ISuggestionRequest request) {
+        Equivalence<T> equivalence = getEquivalence();
+        return getSource().filter(candidate -> isMatch(candidate, request))
+                          .map(equivalence::wrap) // Need to do a bit of acrobatic as there is no distinctBy method
+                          .distinct()
+                          .limit(MAX_SUGGESTIONS)
+                          .map(Equivalence.Wrapper::get)
+                          .collect(Collectors.toList());
+    }
+
     protected abstract Equivalence<T> getEquivalence();
 
     public List<T> getPossibleSuggestions() {
@@ -82,4 +92,10 @@ public abstract class SuggestionProvider<T> {
     protected abstract boolean isMatch(T candidate, ISuggestionRequest request);
 
     public abstract Stream<T> getSource();
+
+    /**
+     * Releases the resources of the provider, e.g., stops listening to the changes of the database
+     */
+    public void close() {
+    }
 }
@@ -1,6 +1,9 @@
 package org.jabref.gui.autocompleter;
 
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.model.database.BibDatabase;
@@ -8,17 +11,27 @@ import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldProperty;
 import org.jabref.model.entry.field.StandardField;
 
+import com.google.common.base.Suppliers;
+
+/**
+ * Creates the suggestion providers of the fields of a library.
+ * <p>
+ * The providers are kept per field, because each of them maintains a {@link SuggestionIndex} of its field.
+ */
 public class SuggestionProviders {
 
     private final boolean isEmpty;
     private BibDatabase database;
     private JournalAbbreviationRepository abbreviationRepository;
     private AutoCompletePreferences autoCompletePreferences;
+    private Supplier<SuggestionIndex<String>> journalNameIndex;
+    private final Map<Field, SuggestionProvider<?>> providers = new ConcurrentHashMap<>();
 
     public SuggestionProviders(BibDatabase database, JournalAbbreviationRepository abbreviationRepository, AutoCompletePreferences autoCompletePreferences) {
         this.database = database;
         this.abbreviationRepository = abbreviationRepository;
         this.autoCompletePreferences = autoCompletePreferences;
+        this.journalNameIndex = Suppliers.memoize(() -> SuggestionIndex.of(abbreviationRepository.getFullNames()));
         this.isEmpty = false;
     }
 
@@ -30,14 +43,25 @@ public class SuggestionProviders {
         if (isEmpty || !autoCompletePreferences.getCompleteFields().contains(field)) {
             return new EmptySuggestionProvider();
         }
+        return providers.computeIfAbsent(field, this::createForField);
+    }
+
+    /**
+     * Closes the providers created so far. They stop listening to the changes of the database.
+     */
+    public void close() {
+        providers.values().forEach(SuggestionProvider::close);
+        providers.clear();
+    }
 
+    private SuggestionProvider<?> createForField(Field field) {
         Set<FieldProperty> fieldProperties = field.getProperties();
         if (fieldProperties.contains(FieldProperty.PERSON_NAMES)) {
             return new PersonNameSuggestionProvider(field, database);
         } else if (fieldProperties.contains(FieldProperty.SINGLE_ENTRY_LINK) || fieldProperties.contains(FieldProperty.MULTIPLE_ENTRY_LINK)) {
             return new BibEntrySuggestionProvider(database);
         } else if (fieldProperties.contains(FieldProperty.JOURNAL_NAME) || StandardField.PUBLISHER == field) {
-            return new JournalsSuggestionProvider(field, database, abbreviationRepository);
+            return new JournalsSuggestionProvider(field, database, abbreviationRepository, journalNameIndex);
         } else {
             return new WordSuggestionProvider(field, database);
         }
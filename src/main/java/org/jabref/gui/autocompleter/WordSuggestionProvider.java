@@ -1,11 +1,15 @@
 package org.jabref.gui.autocompleter;
 
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.field.Field;
 
+import org.controlsfx.control.textfield.AutoCompletionBinding;
+
 /**
  * Stores all words in the given field.
  */
@@ -13,10 +17,22 @@ public class WordSuggestionProvider extends StringSuggestionProvider {
 
     private final Field field;
     private final BibDatabase database;
+    private final SuggestionIndex<String> index;
 
     public WordSuggestionProvider(Field field, BibDatabase database) {
         this.field = Objects.requireNonNull(field);
         this.database = database;
+        this.index = SuggestionIndex.forFields(Set.of(field), database, SuggestionIndex::getWords, word -> word);
+    }
+
+    @Override
+    protected List<String> findMatches(AutoCompletionBinding.ISuggestionRequest request) {
+        return index.find(request.getUserText(), MAX_SUGGESTIONS, getEquivalence());
+    }
+
+    @Override
+    public void close() {
+        index.close();
     }
 
     @Override
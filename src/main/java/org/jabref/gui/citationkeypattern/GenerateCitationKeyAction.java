@@ -2,6 +2,7 @@ package org.jabref.gui.citationkeypattern;
 
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 import java.util.function.Supplier;
 
 import javax.swing.undo.UndoManager;
@@ -19,6 +20,7 @@ import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.preferences.CliPreferences;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.TaskExecutor;
+import org.jabref.model.database.BibDatabaseTransaction;
 import org.jabref.model.entry.BibEntry;
 
 public class GenerateCitationKeyAction extends SimpleCommand {
@@ -121,16 +123,13 @@ public class GenerateCitationKeyAction extends SimpleCommand {
                         compound = new NamedCompound(Localization.lang("Autogenerate citation keys"));
                         CitationKeyGenerator keyGenerator =
                                 new CitationKeyGenerator(databaseContext, preferences.getCitationKeyPatternPreferences());
-                        int entriesDone = 0;
-                        for (BibEntry entry : entries) {
-                            keyGenerator.generateAndSetKey(entry)
-                                        .ifPresent(fieldChange -> compound.addEdit(new UndoableKeyChange(fieldChange)));
-                            entriesDone++;
-                            int finalEntriesDone = entriesDone;
-                            UiTaskExecutor.runInJavaFXThread(() -> {
-                                updateProgress(finalEntriesDone, entries.size());
-                                messageProperty().set(Localization.lang("%0/%1 entries", finalEntriesDone, entries.size()));
-                            });
+                        IntConsumer progress = entriesDone -> UiTaskExecutor.runInJavaFXThread(() -> {
+                            updateProgress(entriesDone, entries.size());
+                            messageProperty().set(Localization.lang("%0/%1 entries", entriesDone, entries.size()));
+                        });
+                        try (BibDatabaseTransaction transaction = databaseContext.getDatabase().beginTransaction()) {
+                            keyGenerator.generateAndSetKeys(entries, progress)
+                                        .forEach(fieldChange -> compound.addEdit(new UndoableKeyChange(fieldChange)));
                         }
                         compound.end();
                     });
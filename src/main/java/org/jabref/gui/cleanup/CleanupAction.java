@@ -1,6 +1,5 @@
 package org.jabref.gui.cleanup;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.function.Supplier;
 
@@ -21,10 +20,16 @@ import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.TaskExecutor;
 import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseTransaction;
 import org.jabref.model.entry.BibEntry;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 public class CleanupAction extends SimpleCommand {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(CleanupAction.class);
+
     private final Supplier<LibraryTab> tabSupplier;
     private final CliPreferences preferences;
     private final DialogService dialogService;
@@ -97,24 +102,6 @@ public class CleanupAction extends SimpleCommand {
         });
     }
 
-    /**
-     * Runs the cleanup on the entry and records the change.
-     */
-    private void doCleanup(BibDatabaseContext databaseContext, CleanupPreferences preset, BibEntry entry, NamedCompound ce) {
-        // Create and run cleaner
-        CleanupWorker cleaner = new CleanupWorker(
-                databaseContext,
-                preferences.getFilePreferences(),
-                preferences.getTimestampPreferences());
-
-        List<FieldChange> changes = cleaner.cleanup(preset, entry);
-
-        // Register undo action
-        for (FieldChange change : changes) {
-            ce.addEdit(new UndoableFieldChange(change));
-        }
-    }
-
     private void showResults() {
         if (isCanceled) {
             return;
@@ -135,17 +122,30 @@ public class CleanupAction extends SimpleCommand {
     }
 
     private void cleanup(BibDatabaseContext databaseContext, CleanupPreferences cleanupPreferences) {
-        for (BibEntry entry : stateManager.getSelectedEntries()) {
-            // undo granularity is on entry level
-            NamedCompound ce = new NamedCompound(Localization.lang("Cleanup entry"));
+        CleanupWorker cleaner = new CleanupWorker(
+                databaseContext,
+                preferences.getFilePreferences(),
+                preferences.getTimestampPreferences());
 
-            doCleanup(databaseContext, cleanupPreferences, entry, ce);
+        CleanupWorker.Result result;
+        try (BibDatabaseTransaction transaction = databaseContext.getDatabase().beginTransaction()) {
+            result = cleaner.cleanupEntries(cleanupPreferences, stateManager.getSelectedEntries());
+        }
+        LOGGER.debug("Time spent per cleanup job: {}", result.durationPerJob());
 
-            ce.end();
-            if (ce.hasEdits()) {
-                modifiedEntriesCount++;
-                undoManager.addEdit(ce);
-            }
+        // All entries are undone at once
+        NamedCompound ce = new NamedCompound(Localization.lang("Cleanup entries"));
+        for (FieldChange change : result.changes()) {
+            ce.addEdit(new UndoableFieldChange(change));
+        }
+        ce.end();
+        if (ce.hasEdits()) {
+            modifiedEntriesCount = (int) result.changes().stream()
+                                               .map(FieldChange::getEntry)
+                                               .map(BibEntry::getId)
+                                               .distinct()
+                                               .count();
+            undoManager.addEdit(ce);
         }
     }
 }
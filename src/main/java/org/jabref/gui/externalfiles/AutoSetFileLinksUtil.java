@@ -14,6 +14,8 @@ import org.jabref.gui.externalfiletype.UnknownExternalFileType;
 import org.jabref.gui.frame.ExternalApplicationsPreferences;
 import org.jabref.logic.FilePreferences;
 import org.jabref.logic.util.io.AutoLinkPreferences;
+import org.jabref.logic.util.io.DirectorySnapshot;
+import org.jabref.logic.util.io.FileDirectoryIndex;
 import org.jabref.logic.util.io.FileFinder;
 import org.jabref.logic.util.io.FileFinders;
 import org.jabref.logic.util.io.FileUtil;
@@ -53,16 +55,18 @@ public class AutoSetFileLinksUtil {
     private final AutoLinkPreferences autoLinkPreferences;
     private final ExternalApplicationsPreferences externalApplicationsPreferences;
     private final FilePreferences filePreferences;
+    private final Optional<FileDirectoryIndex> fileDirectoryIndex;
 
     public AutoSetFileLinksUtil(BibDatabaseContext databaseContext,
                                 ExternalApplicationsPreferences externalApplicationsPreferences,
                                 FilePreferences filePreferences,
                                 AutoLinkPreferences autoLinkPreferences) {
-        this(databaseContext.getFileDirectories(filePreferences), externalApplicationsPreferences, filePreferences, autoLinkPreferences);
+        this(databaseContext.getFileDirectories(filePreferences), databaseContext, externalApplicationsPreferences, filePreferences, autoLinkPreferences);
     }
 
-    private AutoSetFileLinksUtil(List<Path> directories, ExternalApplicationsPreferences externalApplicationsPreferences, FilePreferences filePreferences, AutoLinkPreferences autoLinkPreferences) {
+    private AutoSetFileLinksUtil(List<Path> directories, BibDatabaseContext databaseContext, ExternalApplicationsPreferences externalApplicationsPreferences, FilePreferences filePreferences, AutoLinkPreferences autoLinkPreferences) {
         this.directories = directories;
+        this.fileDirectoryIndex = databaseContext.getFileDirectoryIndex(directories);
         this.autoLinkPreferences = autoLinkPreferences;
         this.externalApplicationsPreferences = externalApplicationsPreferences;
         this.filePreferences = filePreferences;
@@ -71,11 +75,23 @@ public class AutoSetFileLinksUtil {
     public LinkFilesResult linkAssociatedFiles(List<BibEntry> entries, BiConsumer<LinkedFile, BibEntry> onAddLinkedFile) {
         LinkFilesResult result = new LinkFilesResult();
 
+        // Read the directories only once for all entries
+        DirectorySnapshot snapshot;
+        try {
+            snapshot = getUpToDateIndex().isPresent() ? getUpToDateIndex().get().getSnapshot() : DirectorySnapshot.create(directories);
+        } catch (IOException e) {
+            result.addFileException(e);
+            LOGGER.error("Problem reading the file directories", e);
+            snapshot = DirectorySnapshot.empty();
+        }
+        FileFinder fileFinder = FileFinders.constructFromConfiguration(autoLinkPreferences);
+        List<String> extensions = getExtensions();
+
         for (BibEntry entry : entries) {
             List<LinkedFile> linkedFiles = new ArrayList<>();
 
             try {
-                linkedFiles = findAssociatedNotLinkedFiles(entry);
+                linkedFiles = getNotLinkedFiles(entry, fileFinder.findAssociatedFiles(entry, snapshot, extensions));
             } catch (IOException e) {
                 result.addFileException(e);
                 LOGGER.error("Problem finding files", e);
@@ -92,20 +108,37 @@ public class AutoSetFileLinksUtil {
     }
 
     public List<LinkedFile> findAssociatedNotLinkedFiles(BibEntry entry) throws IOException {
-        List<LinkedFile> linkedFiles = new ArrayList<>();
-
-        List<String> extensions = externalApplicationsPreferences.getExternalFileTypes().stream().map(ExternalFileType::getExtension).toList();
+        List<String> extensions = getExtensions();
 
         LOGGER.debug("Searching for extensions {} in directories {}", extensions, directories);
 
         // Run the search operation
         FileFinder fileFinder = FileFinders.constructFromConfiguration(autoLinkPreferences);
-        List<Path> result = fileFinder.findAssociatedFiles(entry, directories, extensions);
+        Optional<FileDirectoryIndex> index = getUpToDateIndex();
+        List<Path> result = index.isPresent()
+                ? fileFinder.findAssociatedFiles(entry, index.get().getSnapshot(), extensions)
+                : fileFinder.findAssociatedFiles(entry, directories, extensions);
+
+        return getNotLinkedFiles(entry, result);
+    }
+
+    private Optional<FileDirectoryIndex> getUpToDateIndex() {
+        return fileDirectoryIndex.filter(FileDirectoryIndex::isUpToDate);
+    }
 
-        // Collect the found files that are not yet linked
+    private List<String> getExtensions() {
+        return externalApplicationsPreferences.getExternalFileTypes().stream().map(ExternalFileType::getExtension).toList();
+    }
+
+    /**
+     * Collects the found files that are not yet linked
+     */
+    private List<LinkedFile> getNotLinkedFiles(BibEntry entry, List<Path> result) {
+        List<LinkedFile> linkedFiles = new ArrayList<>();
         for (Path foundFile : result) {
             boolean fileAlreadyLinked = entry.getFiles().stream()
-                                             .map(file -> file.findIn(directories))
+                                             .map(file -> fileDirectoryIndex.map(index -> file.findIn(directories, index::exists))
+                                                                            .orElseGet(() -> file.findIn(directories)))
                                              .anyMatch(file -> {
                                                  try {
                                                      return file.isPresent() && Files.isSameFile(file.get(), foundFile);
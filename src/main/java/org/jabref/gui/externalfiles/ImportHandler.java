@@ -8,6 +8,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 import javax.swing.undo.CompoundEdit;
@@ -25,6 +27,7 @@ import org.jabref.logic.FilePreferences;
 import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
 import org.jabref.logic.database.DuplicateCheck;
 import org.jabref.logic.externalfiles.ExternalFilesContentImporter;
+import org.jabref.logic.importer.CompositeIdFetcher;
 import org.jabref.logic.importer.FetcherException;
 import org.jabref.logic.importer.ImportCleanup;
 import org.jabref.logic.importer.ImportException;
@@ -358,6 +361,12 @@ public class ImportHandler {
             return Collections.emptyList();
         }
 
+        // Several identifiers, one per line, are looked up at once
+        List<String> lines = data.lines().map(String::trim).filter(line -> !line.isEmpty()).toList();
+        if ((lines.size() > 1) && lines.stream().allMatch(CompositeIdFetcher::containsValidId)) {
+            return fetchByIdentifiers(lines);
+        }
+
         Optional<DOI> doi = DOI.findInText(data);
         if (doi.isPresent()) {
             return fetchByDOI(doi.get());
@@ -392,6 +401,17 @@ public class ImportHandler {
         }
     }
 
+    private List<BibEntry> fetchByIdentifiers(List<String> identifiers) {
+        LOGGER.info("Found {} identifiers in clipboard", identifiers.size());
+        Map<String, BibEntry> entries = new CompositeIdFetcher(preferences.getImportFormatPreferences()).performSearchByIds(identifiers);
+        List<String> notFound = identifiers.stream().filter(identifier -> !entries.containsKey(identifier)).toList();
+        if (!notFound.isEmpty()) {
+            dialogService.notify(Localization.lang("No data was found for the identifiers %0", String.join(", ", notFound)));
+        }
+        // Identifiers of the same work map to the same entry
+        return identifiers.stream().map(entries::get).filter(Objects::nonNull).distinct().toList();
+    }
+
     private List<BibEntry> fetchByDOI(DOI doi) throws FetcherException {
         LOGGER.info("Found DOI identifier in clipboard");
         Optional<BibEntry> entry = new DoiFetcher(preferences.getImportFormatPreferences()).performSearchById(doi.getDOI());
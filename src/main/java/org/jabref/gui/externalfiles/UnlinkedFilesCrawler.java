@@ -8,6 +8,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -19,6 +20,8 @@ import org.jabref.logic.FilePreferences;
 import org.jabref.logic.externalfiles.DateRange;
 import org.jabref.logic.externalfiles.ExternalFileSorter;
 import org.jabref.logic.util.BackgroundTask;
+import org.jabref.logic.util.io.DirectorySnapshot;
+import org.jabref.logic.util.io.FileDirectoryIndex;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 
@@ -51,7 +54,15 @@ public class UnlinkedFilesCrawler extends BackgroundTask<FileNodeViewModel> {
     @Override
     public FileNodeViewModel call() throws IOException {
         UnlinkedPDFFileFilter unlinkedPDFFileFilter = new UnlinkedPDFFileFilter(fileFilter, databaseContext, filePreferences);
-        return searchDirectory(directory, unlinkedPDFFileFilter);
+        DirectorySnapshot snapshot = databaseContext.getFileDirectoryIndex(databaseContext.getFileDirectories(filePreferences))
+                                                    .filter(FileDirectoryIndex::isUpToDate)
+                                                    .map(FileDirectoryIndex::getSnapshot)
+                                                    .orElse(DirectorySnapshot.empty());
+        return searchDirectory(directory, unlinkedPDFFileFilter, snapshot);
+    }
+
+    FileNodeViewModel searchDirectory(Path directory, UnlinkedPDFFileFilter unlinkedPDFFileFilter) throws IOException {
+        return searchDirectory(directory, unlinkedPDFFileFilter, DirectorySnapshot.empty());
     }
 
     /**
@@ -72,13 +83,14 @@ public class UnlinkedFilesCrawler extends BackgroundTask<FileNodeViewModel> {
      * and then sorted according to the {@link ExternalFileSorter} value.
      *
      * @param unlinkedPDFFileFilter contains a BibDatabaseContext which is used to determine whether the file is linked
+     * @param snapshot              the content of the file directories; directories not contained in the snapshot are read from the file system
      *
      * @return FileNodeViewModel containing the data of the current directory and all subdirectories
      * @throws IOException if directory is not a directory or empty
      */
-    FileNodeViewModel searchDirectory(Path directory, UnlinkedPDFFileFilter unlinkedPDFFileFilter) throws IOException {
+    FileNodeViewModel searchDirectory(Path directory, UnlinkedPDFFileFilter unlinkedPDFFileFilter, DirectorySnapshot snapshot) throws IOException {
         // Return null if the directory is not valid.
-        if ((directory == null) || !Files.isDirectory(directory)) {
+        if ((directory == null) || (snapshot.getChildren(directory).isEmpty() && !Files.isDirectory(directory))) {
             throw new IOException("Invalid directory for searching: %s".formatted(directory));
         }
 
@@ -91,8 +103,8 @@ public class UnlinkedFilesCrawler extends BackgroundTask<FileNodeViewModel> {
         //   2. GitIgnoreFilter
         ChainedFilters filters = new ChainedFilters(unlinkedPDFFileFilter, new GitIgnoreFileFilter(directory));
         Map<Boolean, List<Path>> directoryAndFilePartition;
-        try (Stream<Path> filesStream = StreamSupport.stream(Files.newDirectoryStream(directory, filters).spliterator(), false)) {
-            directoryAndFilePartition = filesStream.collect(Collectors.partitioningBy(Files::isDirectory));
+        try {
+            directoryAndFilePartition = partitionDirectoryContent(directory, filters, snapshot);
         } catch (IOException e) {
             LOGGER.error("Error while searching files", e);
             return fileNodeViewModelForCurrentDirectory;
@@ -107,7 +119,7 @@ public class UnlinkedFilesCrawler extends BackgroundTask<FileNodeViewModel> {
 
         // now we crawl into the found subdirectories first (!)
         for (Path subDirectory : subDirectories) {
-            FileNodeViewModel subRoot = searchDirectory(subDirectory, unlinkedPDFFileFilter);
+            FileNodeViewModel subRoot = searchDirectory(subDirectory, unlinkedPDFFileFilter, snapshot);
             if (!subRoot.getChildren().isEmpty()) {
                 fileCountOfSubdirectories += subRoot.getFileCount();
                 fileNodeViewModelForCurrentDirectory.getChildren().add(subRoot);
@@ -140,4 +152,23 @@ public class UnlinkedFilesCrawler extends BackgroundTask<FileNodeViewModel> {
 
         return fileNodeViewModelForCurrentDirectory;
     }
+
+    /**
+     * Returns the content of the directory accepted by the filters, partitioned into directories (true) and files (false)
+     */
+    private static Map<Boolean, List<Path>> partitionDirectoryContent(Path directory, ChainedFilters filters, DirectorySnapshot snapshot) throws IOException {
+        Optional<List<Path>> indexedChildren = snapshot.getChildren(directory);
+        if (indexedChildren.isPresent()) {
+            List<Path> acceptedChildren = new ArrayList<>();
+            for (Path child : indexedChildren.get()) {
+                if (filters.accept(child)) {
+                    acceptedChildren.add(child);
+                }
+            }
+            return acceptedChildren.stream().collect(Collectors.partitioningBy(child -> snapshot.getChildren(child).isPresent()));
+        }
+        try (Stream<Path> filesStream = StreamSupport.stream(Files.newDirectoryStream(directory, filters).spliterator(), false)) {
+            return filesStream.collect(Collectors.partitioningBy(Files::isDirectory));
+        }
+    }
 }
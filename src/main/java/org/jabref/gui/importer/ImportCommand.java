@@ -133,6 +133,7 @@ public class ImportCommand extends SimpleCommand {
         Optional<Importer> importer = Optional.ofNullable(importFormat);
         // We import all files and collect their results
         List<ImportFormatReader.UnknownFormatImport> imports = new ArrayList<>();
+        BibDatabase resultDatabase = new BibDatabase();
         ImportFormatReader importFormatReader = new ImportFormatReader(
                 preferences.getImporterPreferences(),
                 preferences.getImportFormatPreferences(),
@@ -161,7 +162,14 @@ public class ImportCommand extends SimpleCommand {
                         dialogService.notify(Localization.lang("Importing in %0 format", importer.get().getName()) + "...");
                     });
                     // Specific importer
-                    ParserResult pr = importer.get().importDatabase(filename);
+                    ParserResult pr;
+                    if (ImportFormatReader.BIBTEX_FORMAT.equals(importer.get().getName())) {
+                        // Merging the metadata requires all entries of the file
+                        pr = importer.get().importDatabase(filename);
+                    } else {
+                        // The entries are inserted into the result while importing
+                        pr = importer.get().importDatabase(filename, resultDatabase::insertEntries);
+                    }
                     imports.add(new ImportFormatReader.UnknownFormatImport(importer.get().getName(), pr));
                 }
             } catch (ImportException ex) {
@@ -183,14 +191,20 @@ public class ImportCommand extends SimpleCommand {
             return new ParserResult();
         }
 
-        return mergeImportResults(imports);
+        return mergeImportResults(imports, resultDatabase);
     }
 
     /**
      * TODO: Move this to logic package. Blocked by undo functionality.
      */
     public ParserResult mergeImportResults(List<ImportFormatReader.UnknownFormatImport> imports) {
-        BibDatabase resultDatabase = new BibDatabase();
+        return mergeImportResults(imports, new BibDatabase());
+    }
+
+    /**
+     * @param resultDatabase the database to merge into, which may already contain entries inserted while importing
+     */
+    private ParserResult mergeImportResults(List<ImportFormatReader.UnknownFormatImport> imports, BibDatabase resultDatabase) {
         ParserResult result = new ParserResult(resultDatabase);
 
         for (ImportFormatReader.UnknownFormatImport importResult : imports) {
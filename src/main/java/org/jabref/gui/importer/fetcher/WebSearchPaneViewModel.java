@@ -20,6 +20,7 @@ import org.jabref.logic.importer.CompositeIdFetcher;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.importer.SearchBasedFetcher;
 import org.jabref.logic.importer.WebFetchers;
+import org.jabref.logic.importer.fetcher.CompositeSearchBasedFetcher;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.model.strings.StringUtil;
@@ -153,13 +154,23 @@ public class WebSearchPaneViewModel {
             CompositeIdFetcher compositeIdFetcher = new CompositeIdFetcher(preferences.getImportFormatPreferences());
             parserResultCallable = () -> new ParserResult(OptionalUtil.toList(compositeIdFetcher.performSearchById(query)));
             fetcherName = Localization.lang("Identifier-based Web Search");
+        } else if (activeFetcher instanceof CompositeSearchBasedFetcher compositeFetcher) {
+            parserResultCallable = () -> {
+                CompositeSearchBasedFetcher.SearchResult result = compositeFetcher.performSearchWithReport(query);
+                if (!result.report().isComplete()) {
+                    dialogService.notify(Localization.lang("Results may be incomplete. These catalogs did not answer: %0",
+                            String.join(", ", result.report().unanswered())));
+                }
+                return new ParserResult(result.entries());
+            };
         } else {
             // Exceptions are handled below at "task.onFailure(dialogService::showErrorDialogAndWait)"
             parserResultCallable = () -> new ParserResult(activeFetcher.performSearch(query));
         }
 
         BackgroundTask<ParserResult> task = BackgroundTask.wrap(parserResultCallable)
-                                                          .withInitialMessage(Localization.lang("Processing \"%0\"...", query));
+                                                          .withInitialMessage(Localization.lang("Processing \"%0\"...", query))
+                                                          .ioBound(true);
         task.onFailure(dialogService::showErrorDialogAndWait);
 
         ImportEntriesDialog dialog = new ImportEntriesDialog(stateManager.getActiveDatabase().get(), task);
@@ -1,10 +1,15 @@
 package org.jabref.gui.integrity;
 
-import java.util.ArrayList;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
-import javafx.collections.ObservableList;
+import javafx.collections.ListChangeListener;
 import javafx.concurrent.Task;
 
 import org.jabref.gui.DialogService;
@@ -13,12 +18,15 @@ import org.jabref.gui.StateManager;
 import org.jabref.gui.actions.SimpleCommand;
 import org.jabref.gui.preferences.GuiPreferences;
 import org.jabref.gui.util.UiTaskExecutor;
+import org.jabref.logic.integrity.IncrementalIntegrityCheck;
 import org.jabref.logic.integrity.IntegrityCheck;
 import org.jabref.logic.integrity.IntegrityMessage;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabaseContext;
-import org.jabref.model.entry.BibEntry;
+import org.jabref.model.database.BibDatabaseMode;
+
+import com.airhacks.afterburner.injection.Injector;
 
 import static org.jabref.gui.actions.ActionHelper.needsDatabase;
 
@@ -29,48 +37,42 @@ public class IntegrityCheckAction extends SimpleCommand {
     private final Supplier<LibraryTab> tabSupplier;
     private final GuiPreferences preferences;
     private final StateManager stateManager;
-    private final JournalAbbreviationRepository abbreviationRepository;
+
+    // Repeated checks of a library re-check only the entries changed since the last check. The libraries are identified
+    // by their uid, because their hash code changes with their content.
+    private final Map<String, LibraryCheck> libraryChecks = new HashMap<>();
 
     public IntegrityCheckAction(Supplier<LibraryTab> tabSupplier,
                                 GuiPreferences preferences,
                                 DialogService dialogService,
                                 StateManager stateManager,
-                                UiTaskExecutor taskExecutor,
-                                JournalAbbreviationRepository abbreviationRepository) {
+                                UiTaskExecutor taskExecutor) {
         this.tabSupplier = tabSupplier;
         this.stateManager = stateManager;
         this.taskExecutor = taskExecutor;
         this.preferences = preferences;
         this.dialogService = dialogService;
-        this.abbreviationRepository = abbreviationRepository;
         this.executable.bind(needsDatabase(this.stateManager));
+
+        stateManager.getOpenDatabases().addListener((ListChangeListener<BibDatabaseContext>) change -> {
+            while (change.next()) {
+                change.getRemoved().forEach(this::closeLibraryCheck);
+            }
+        });
     }
 
     @Override
     public void execute() {
         BibDatabaseContext database = stateManager.getActiveDatabase().orElseThrow(() -> new NullPointerException("Database null"));
-        IntegrityCheck check = new IntegrityCheck(database,
-                preferences.getFilePreferences(),
-                preferences.getCitationKeyPatternPreferences(),
-                abbreviationRepository,
-                preferences.getEntryEditorPreferences().shouldAllowIntegerEditionBibtex());
+        IncrementalIntegrityCheck check = getLibraryCheck(database);
 
         Task<List<IntegrityMessage>> task = new Task<>() {
             @Override
             protected List<IntegrityMessage> call() {
-                ObservableList<BibEntry> entries = database.getDatabase().getEntries();
-                List<IntegrityMessage> result = new ArrayList<>(check.checkDatabase(database.getDatabase()));
-                for (int i = 0; i < entries.size(); i++) {
-                    if (isCancelled()) {
-                        break;
-                    }
-
-                    BibEntry entry = entries.get(i);
-                    result.addAll(check.checkEntry(entry));
-                    updateProgress(i, entries.size());
-                }
-
-                return result;
+                int numberOfEntries = database.getDatabase().getEntryCount();
+                AtomicInteger checkedEntries = new AtomicInteger();
+                return check.check(this::isCancelled,
+                        entry -> updateProgress(checkedEntries.incrementAndGet(), numberOfEntries));
             }
         };
         task.setOnSucceeded(value -> {
@@ -89,4 +91,51 @@ public class IntegrityCheckAction extends SimpleCommand {
                 task);
         taskExecutor.execute(task);
     }
+
+    /**
+     * Returns the incremental check of the given library. It is created anew if the settings changed which the results of
+     * unchanged entries depend on.
+     */
+    private IncrementalIntegrityCheck getLibraryCheck(BibDatabaseContext database) {
+        // The repository is replaced when the journal lists are changed in the preferences
+        Settings settings = new Settings(
+                database.getMode(),
+                database.getMetaData().getEncoding(),
+                preferences.getEntryEditorPreferences().shouldAllowIntegerEditionBibtex(),
+                Injector.instantiateModelOrService(JournalAbbreviationRepository.class),
+                database.getFileDirectories(preferences.getFilePreferences()));
+        LibraryCheck libraryCheck = libraryChecks.get(database.getUid());
+        if ((libraryCheck == null) || !libraryCheck.settings().equals(settings)) {
+            closeLibraryCheck(database);
+            IntegrityCheck check = new IntegrityCheck(database,
+                    preferences.getFilePreferences(),
+                    preferences.getCitationKeyPatternPreferences(),
+                    settings.abbreviationRepository(),
+                    settings.allowIntegerEdition());
+            libraryCheck = new LibraryCheck(settings, new IncrementalIntegrityCheck(check, database.getDatabase()));
+            libraryChecks.put(database.getUid(), libraryCheck);
+        }
+        return libraryCheck.check();
+    }
+
+    private void closeLibraryCheck(BibDatabaseContext database) {
+        LibraryCheck libraryCheck = libraryChecks.remove(database.getUid());
+        if (libraryCheck != null) {
+            libraryCheck.check().close();
+        }
+    }
+
+    /**
+     * The abbreviation repository is compared by identity, the file directories cover the file preferences and the
+     * location of the library.
+     */
+    private record Settings(BibDatabaseMode mode,
+                            Optional<Charset> encoding,
+                            boolean allowIntegerEdition,
+                            JournalAbbreviationRepository abbreviationRepository,
+                            List<Path> fileDirectories) {
+    }
+
+    private record LibraryCheck(Settings settings, IncrementalIntegrityCheck check) {
+    }
 }
@@ -196,6 +196,7 @@ public class DeleteFileAction extends SimpleCommand {
                 LOGGER.debug("Deleting: {}", theFile);
                 Files.delete(theFile);
             }
+            databaseContext.getFileDirectoryIndex().ifPresent(index -> index.fileRemoved(theFile));
             success = true;
         } catch (IOException ex) {
             success = false;
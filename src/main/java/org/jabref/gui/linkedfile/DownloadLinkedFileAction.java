@@ -172,6 +172,8 @@ public class DownloadLinkedFileAction extends SimpleCommand {
             return;
         }
 
+        databaseContext.getFileDirectoryIndex().ifPresent(index -> index.fileAdded(downloadedFile));
+
         // we need to call LinkedFileViewModel#fromFile, because we need to make the path relative to the configured directories
         LinkedFile newLinkedFile = LinkedFilesEditorViewModel.fromFile(
                 downloadedFile,
@@ -197,6 +199,7 @@ public class DownloadLinkedFileAction extends SimpleCommand {
                 entry.setFiles(newFiles);
                 try {
                     Files.delete(downloadedFile);
+                    databaseContext.getFileDirectoryIndex().ifPresent(index -> index.fileRemoved(downloadedFile));
                 } catch (IOException e) {
                     LOGGER.error("Could not delete downloaded file {}.", downloadedFile, e);
                 }
@@ -76,6 +76,7 @@ public class FetchAndMergeEntry {
                 Optional<IdBasedFetcher> fetcher = WebFetchers.getIdBasedFetcherForField(field, preferences.getImportFormatPreferences());
                 if (fetcher.isPresent()) {
                     BackgroundTask.wrap(() -> fetcher.get().performSearchById(fieldContent.get()))
+                                  .ioBound(true)
                                   .onSuccess(fetchedEntry -> {
                                       ImportCleanup cleanup = ImportCleanup.targeting(bibDatabaseContext.getMode(), preferences.getFieldPreferences());
                                       String type = field.getDisplayName();
@@ -167,6 +168,7 @@ public class FetchAndMergeEntry {
 
     public void fetchAndMerge(BibEntry entry, EntryBasedFetcher fetcher) {
         BackgroundTask.wrap(() -> fetcher.performSearch(entry).stream().findFirst())
+                      .ioBound(true)
                       .onSuccess(fetchedEntry -> {
                           if (fetchedEntry.isPresent()) {
                               ImportCleanup cleanup = ImportCleanup.targeting(bibDatabaseContext.getMode(), preferences.getFieldPreferences());
@@ -42,6 +42,7 @@ import kong.unirest.core.UnirestException;
 
 public class NetworkTabViewModel implements PreferenceTabViewModel {
     private final BooleanProperty versionCheckProperty = new SimpleBooleanProperty();
+    private final BooleanProperty httpCacheProperty = new SimpleBooleanProperty();
     private final BooleanProperty proxyUseProperty = new SimpleBooleanProperty();
     private final StringProperty proxyHostnameProperty = new SimpleStringProperty("");
     private final StringProperty proxyPortProperty = new SimpleStringProperty("");
@@ -123,6 +124,7 @@ public class NetworkTabViewModel implements PreferenceTabViewModel {
     @Override
     public void setValues() {
         versionCheckProperty.setValue(internalPreferences.isVersionCheckEnabled());
+        httpCacheProperty.setValue(internalPreferences.isHttpCacheEnabled());
 
         setProxyValues();
         setSSLValues();
@@ -160,6 +162,8 @@ public class NetworkTabViewModel implements PreferenceTabViewModel {
     @Override
     public void storeSettings() {
         internalPreferences.setVersionCheckEnabled(versionCheckProperty.getValue());
+        internalPreferences.setHttpCacheEnabled(httpCacheProperty.getValue());
+        URLDownload.setCacheEnabled(httpCacheProperty.getValue());
         proxyPreferences.setUseProxy(proxyUseProperty.getValue());
         proxyPreferences.setHostname(proxyHostnameProperty.getValue().trim());
         proxyPreferences.setPort(proxyPortProperty.getValue().trim());
@@ -269,6 +273,10 @@ public class NetworkTabViewModel implements PreferenceTabViewModel {
         return versionCheckProperty;
     }
 
+    public BooleanProperty httpCacheProperty() {
+        return httpCacheProperty;
+    }
+
     public BooleanProperty proxyUseProperty() {
         return proxyUseProperty;
     }
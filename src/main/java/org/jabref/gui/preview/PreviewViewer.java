@@ -24,7 +24,6 @@ import org.jabref.gui.preferences.GuiPreferences;
 import org.jabref.gui.theme.ThemeManager;
 import org.jabref.gui.util.OptionalObjectProperty;
 import org.jabref.logic.l10n.Localization;
-import org.jabref.logic.layout.format.Number;
 import org.jabref.logic.preview.PreviewLayout;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.TaskExecutor;
@@ -262,8 +261,6 @@ public class PreviewViewer extends ScrollPane implements InvalidationListener {
             return;
         }
 
-        Number.serialExportNumber = 1; // Set entry number in case that is included in the preview layout.
-
         final BibEntry theEntry = entry.get();
         BackgroundTask
                 .wrap(() -> layout.generatePreview(theEntry, database))
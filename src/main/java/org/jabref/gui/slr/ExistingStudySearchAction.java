@@ -123,19 +123,25 @@ public class ExistingStudySearchAction extends SimpleCommand {
         }
 
         dialogService.notify(Localization.lang("Searching..."));
-        BackgroundTask.wrap(() -> {
-                          crawler.performCrawl();
-                          return 0; // Return any value to make this a callable instead of a runnable. This allows throwing exceptions.
-                      })
-                      .onFailure(e -> {
-                          LOGGER.error("Error during persistence of crawling results.");
-                          dialogService.showErrorDialogAndWait(Localization.lang("Error during persistence of crawling results."), e);
-                      })
-                      .onSuccess(unused -> {
-                          dialogService.notify(Localization.lang("Finished Searching"));
-                          openDatabaseActionSupplier.get().openFile(Path.of(this.studyDirectory.toString(), Crawler.FILENAME_STUDY_RESULT_BIB));
-                      })
-                      .executeWith(taskExecutor);
+        BackgroundTask<Void> crawlTask = new BackgroundTask<>() {
+            @Override
+            public Void call() throws Exception {
+                crawler.performCrawl((fetcherName, finishedRequests, totalRequests) ->
+                        updateMessage(Localization.lang("%0: %1 of %2 requests finished", fetcherName, String.valueOf(finishedRequests), String.valueOf(totalRequests))));
+                return null;
+            }
+        };
+        crawlTask.withInitialMessage(Localization.lang("Searching..."))
+                 .showToUser(true)
+                 .onFailure(e -> {
+                     LOGGER.error("Error during persistence of crawling results.");
+                     dialogService.showErrorDialogAndWait(Localization.lang("Error during persistence of crawling results."), e);
+                 })
+                 .onSuccess(unused -> {
+                     dialogService.notify(Localization.lang("Finished Searching"));
+                     openDatabaseActionSupplier.get().openFile(Path.of(this.studyDirectory.toString(), Crawler.FILENAME_STUDY_RESULT_BIB));
+                 })
+                 .executeWith(taskExecutor);
     }
 
     /**
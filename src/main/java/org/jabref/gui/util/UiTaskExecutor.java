@@ -1,11 +1,11 @@
 package org.jabref.gui.util;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.WeakHashMap;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
@@ -20,7 +20,9 @@ import org.jabref.gui.StateManager;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.DelayTaskThrottler;
 import org.jabref.logic.util.HeadlessExecutorService;
+import org.jabref.logic.util.PriorityTaskScheduler;
 import org.jabref.logic.util.TaskExecutor;
+import org.jabref.logic.util.TaskPriority;
 
 import com.airhacks.afterburner.injection.Injector;
 import org.slf4j.Logger;
@@ -28,7 +30,8 @@ import org.slf4j.LoggerFactory;
 
 /**
  * A very simple implementation of the {@link TaskExecutor} interface.
- * Every submitted task is invoked in a separate thread.
+ * Every submitted task is invoked in a separate thread, scheduled by its {@link BackgroundTask#getPriority() priority}
+ * using a {@link PriorityTaskScheduler}.
  * <p>
  * In case something does not interact well with JavaFX, you can use the {@link HeadlessExecutorService}
  */
@@ -36,7 +39,7 @@ public class UiTaskExecutor implements TaskExecutor {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(UiTaskExecutor.class);
 
-    private final ExecutorService executor = Executors.newFixedThreadPool(5);
+    private final PriorityTaskScheduler scheduler = new PriorityTaskScheduler();
     private final ScheduledExecutorService scheduledExecutor = Executors.newScheduledThreadPool(2);
     private final WeakHashMap<DelayTaskThrottler, Void> throttlers = new WeakHashMap<>();
 
@@ -121,7 +124,8 @@ public class UiTaskExecutor implements TaskExecutor {
                 }
             }
         });
-        return execute(javafxTask);
+        scheduler.execute(javafxTask, task.getPriority(), task.isIoBound());
+        return javafxTask;
     }
 
     /**
@@ -132,10 +136,17 @@ public class UiTaskExecutor implements TaskExecutor {
      * @param task the task to run
      */
     public <V> Future<V> execute(Task<V> task) {
-        executor.submit(task);
+        scheduler.execute(task, TaskPriority.NORMAL, false);
         return task;
     }
 
+    /**
+     * Returns the queue depths and wait times of the lanes tasks are scheduled in.
+     */
+    public List<PriorityTaskScheduler.LaneStatistics> getStatistics() {
+        return scheduler.getStatistics();
+    }
+
     @Override
     public <V> Future<?> schedule(BackgroundTask<V> task, long delay, TimeUnit unit) {
         return scheduledExecutor.schedule(getJavaFXTask(task), delay, unit);
@@ -150,7 +161,7 @@ public class UiTaskExecutor implements TaskExecutor {
         if (stateManager != null) {
             stateManager.getBackgroundTasks().stream().filter(task -> !task.isDone()).forEach(Task::cancel);
         }
-        executor.shutdownNow();
+        scheduler.shutdownNow();
         scheduledExecutor.shutdownNow();
         throttlers.forEach((throttler, aVoid) -> throttler.shutdown());
     }
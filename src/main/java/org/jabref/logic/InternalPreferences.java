@@ -15,17 +15,20 @@ public class InternalPreferences {
 
     private final ObjectProperty<Version> ignoredVersion;
     private final BooleanProperty versionCheckEnabled;
+    private final BooleanProperty httpCacheEnabled;
     private final ObjectProperty<Path> lastPreferencesExportPath;
     private final StringProperty userAndHost;
     private final BooleanProperty memoryStickMode;
 
     public InternalPreferences(Version ignoredVersion,
                                boolean versionCheck,
+                               boolean httpCacheEnabled,
                                Path exportPath,
                                String userAndHost,
                                boolean memoryStickMode) {
         this.ignoredVersion = new SimpleObjectProperty<>(ignoredVersion);
         this.versionCheckEnabled = new SimpleBooleanProperty(versionCheck);
+        this.httpCacheEnabled = new SimpleBooleanProperty(httpCacheEnabled);
         this.lastPreferencesExportPath = new SimpleObjectProperty<>(exportPath);
         this.userAndHost = new SimpleStringProperty(userAndHost);
         this.memoryStickMode = new SimpleBooleanProperty(memoryStickMode);
@@ -55,6 +58,18 @@ public class InternalPreferences {
         this.versionCheckEnabled.set(versionCheckEnabled);
     }
 
+    public boolean isHttpCacheEnabled() {
+        return httpCacheEnabled.get();
+    }
+
+    public BooleanProperty httpCacheEnabledProperty() {
+        return httpCacheEnabled;
+    }
+
+    public void setHttpCacheEnabled(boolean httpCacheEnabled) {
+        this.httpCacheEnabled.set(httpCacheEnabled);
+    }
+
     public Path getLastPreferencesExportPath() {
         return lastPreferencesExportPath.get();
     }
@@ -15,6 +15,7 @@ import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.ProgressCounter;
 import org.jabref.logic.util.TaskExecutor;
+import org.jabref.logic.util.TaskPriority;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.LinkedFile;
 
@@ -63,6 +64,8 @@ public class GenerateEmbeddingsForSeveralTask extends BackgroundTask<Void> {
 
     private void configure(StringProperty name) {
         showToUser(true);
+        // Only waits for the tasks of the single files, so it must not occupy a thread of a bounded lane
+        ioBound(true);
         titleProperty().set(Localization.lang("Generating embeddings for %0", name.get()));
         name.addListener((o, oldValue, newValue) -> titleProperty().set(Localization.lang("Generating embeddings for %0", newValue)));
 
@@ -90,6 +93,7 @@ public class GenerateEmbeddingsForSeveralTask extends BackgroundTask<Void> {
                                     shutdownSignal
                             )
                                     .showToUser(false)
+                                    .withPriority(TaskPriority.BULK)
                                     .onSuccess(v -> processingInfo.setState(ProcessingState.SUCCESS))
                                     .onFailure(processingInfo::setException)
                                     .onFinished(() -> progressCounter.increaseWorkDone(1))
@@ -16,6 +16,7 @@ import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.ProgressCounter;
 import org.jabref.logic.util.TaskExecutor;
+import org.jabref.logic.util.TaskPriority;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 
@@ -71,6 +72,8 @@ public class GenerateSummaryForSeveralTask extends BackgroundTask<Void> {
 
     private void configure() {
         showToUser(true);
+        // Only waits for the tasks of the single entries, so it must not occupy a thread of a bounded lane
+        ioBound(true);
         titleProperty().set(Localization.lang("Generating summaries for %0", groupName.get()));
         groupName.addListener((o, oldValue, newValue) -> titleProperty().set(Localization.lang("Generating summaries for %0", newValue)));
 
@@ -100,6 +103,8 @@ public class GenerateSummaryForSeveralTask extends BackgroundTask<Void> {
                                     filePreferences
                             )
                                     .showToUser(false)
+                                    .withPriority(TaskPriority.BULK)
+                                    .ioBound(true)
                                     .onSuccess(processingInfo::setSuccess)
                                     .onFailure(processingInfo::setException)
                                     .onFinished(() -> progressCounter.increaseWorkDone(1))
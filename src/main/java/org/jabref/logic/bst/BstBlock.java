@@ -0,0 +1,54 @@
+package org.jabref.logic.bst;
+
+import java.util.List;
+
+import org.antlr.v4.runtime.ParserRuleContext;
+
+/**
+ * A function body (or a <code>{ ... }</code> function literal) of a bst file, lowered to an array of instructions.
+ * <p>
+ * Literals are converted once during compilation. Nested function literals are compiled to nested blocks, which are
+ * pushed onto the stack as values and executed by <code>if$</code> and <code>while$</code>.
+ * <p>
+ * Instances are immutable and can be shared between several renderings (and threads).
+ */
+final class BstBlock {
+
+    enum Operation {
+        /**
+         * Pushes the operand (a {@link String}, an {@link Integer}, a {@link BstVMVisitor.Identifier} or a {@link BstBlock}).
+         */
+        PUSH,
+        /**
+         * Resolves the name at run time. Used for names which are declared as variables, because their meaning depends on the selected entry.
+         */
+        RESOLVE,
+        /**
+         * Calls the function with the given name. The function is looked up once per rendering using the function slot.
+         */
+        CALL_FUNCTION
+    }
+
+    /**
+     * @param operand      the value to push or the name to resolve
+     * @param functionSlot the index of the function in the function table of the program (only for {@link Operation#CALL_FUNCTION})
+     * @param context      the parse tree node the instruction was compiled from (used for error messages)
+     */
+    record Instruction(Operation operation, Object operand, int functionSlot, ParserRuleContext context) {
+    }
+
+    private final Instruction[] instructions;
+
+    BstBlock(List<Instruction> instructions) {
+        this.instructions = instructions.toArray(Instruction[]::new);
+    }
+
+    Instruction[] instructions() {
+        return instructions;
+    }
+
+    @Override
+    public String toString() {
+        return "BstBlock{" + instructions.length + " instructions}";
+    }
+}
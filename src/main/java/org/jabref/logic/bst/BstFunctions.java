@@ -18,7 +18,6 @@ import org.jabref.model.entry.AuthorList;
 
 import com.google.common.annotations.VisibleForTesting;
 import org.antlr.v4.runtime.ParserRuleContext;
-import org.antlr.v4.runtime.tree.ParseTree;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -509,22 +508,22 @@ public class BstFunctions {
         Object f2 = stack.pop();
         Object i = stack.pop();
 
-        if (!((f1 instanceof BstVMVisitor.Identifier) || (f1 instanceof ParseTree))
-                && ((f2 instanceof BstVMVisitor.Identifier) || (f2 instanceof ParseTree))
+        if (!((f1 instanceof BstVMVisitor.Identifier) || (f1 instanceof BstBlock))
+                && ((f2 instanceof BstVMVisitor.Identifier) || (f2 instanceof BstBlock))
                 && (i instanceof Integer)) {
             throw new BstVMException("Expecting two functions and an integer for if$ (line %d)".formatted(ctx.start.getLine()));
         }
 
         if (((Integer) i) > 0) {
-            callIdentifierOrTree(f2, visitor, ctx);
+            callIdentifierOrBlock(f2, visitor, ctx);
         } else {
-            callIdentifierOrTree(f1, visitor, ctx);
+            callIdentifierOrBlock(f1, visitor, ctx);
         }
     }
 
-    private void callIdentifierOrTree(Object f, BstVMVisitor visitor, ParserRuleContext ctx) {
-        if (f instanceof ParseTree tree) {
-            visitor.visit(tree);
+    private void callIdentifierOrBlock(Object f, BstVMVisitor visitor, ParserRuleContext ctx) {
+        if (f instanceof BstBlock block) {
+            visitor.execute(block);
         } else if (f instanceof BstVMVisitor.Identifier identifier) {
             visitor.resolveIdentifier(identifier.name(), ctx);
         } else {
@@ -891,13 +890,13 @@ public class BstFunctions {
         Object f2 = stack.pop();
         Object f1 = stack.pop();
 
-        if (!((f1 instanceof BstVMVisitor.Identifier) || (f1 instanceof ParseTree))
-                && ((f2 instanceof BstVMVisitor.Identifier) || (f2 instanceof ParseTree))) {
+        if (!((f1 instanceof BstVMVisitor.Identifier) || (f1 instanceof BstBlock))
+                && ((f2 instanceof BstVMVisitor.Identifier) || (f2 instanceof BstBlock))) {
             throw new BstVMException("Expecting two functions for while$ (line %d)".formatted(ctx.start.getLine()));
         }
 
         do {
-            visitor.visit((ParseTree) f1);
+            visitor.execute((BstBlock) f1);
 
             Object i = stack.pop();
             if (!(i instanceof Integer)) {
@@ -907,7 +906,7 @@ public class BstFunctions {
             if ((Integer) i <= 0) {
                 break;
             }
-            visitor.visit((ParseTree) f2);
+            visitor.execute((BstBlock) f2);
         } while (true);
     }
 
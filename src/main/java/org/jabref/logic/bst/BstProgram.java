@@ -0,0 +1,134 @@
+package org.jabref.logic.bst;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jabref.model.entry.field.StandardField;
+
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+
+/**
+ * A parsed bst file together with its compiled function bodies.
+ * <p>
+ * The commands (<code>READ</code>, <code>ITERATE</code>, ...) are still interpreted on the parse tree, because each of
+ * them is executed only once per rendering. The function bodies, which are executed for each entry, are lowered to
+ * {@link BstBlock}s.
+ * <p>
+ * Instances are immutable and can be shared between several renderings (and threads).
+ */
+final class BstProgram {
+
+    /**
+     * Variables which are provided by the VM itself and not declared in the bst file.
+     */
+    private static final Set<String> BUILT_IN_VARIABLES = Set.of(StandardField.CROSSREF.getName(), "sort.key$", "entry.max$", "global.max$");
+
+    private final ParseTree tree;
+    private final Map<BstParser.StackContext, BstBlock> functionBodies;
+    private final List<String> functionNames;
+
+    private BstProgram(ParseTree tree, Map<BstParser.StackContext, BstBlock> functionBodies, List<String> functionNames) {
+        this.tree = tree;
+        this.functionBodies = functionBodies;
+        this.functionNames = functionNames;
+    }
+
+    static BstProgram compile(BstParser.BstFileContext tree) {
+        Set<String> variableNames = new HashSet<>(BUILT_IN_VARIABLES);
+        for (BstParser.CommandsContext command : tree.commands()) {
+            switch (command) {
+                case BstParser.StringsCommandContext strings ->
+                        strings.ids.identifier().forEach(identifier -> variableNames.add(identifier.getText()));
+                case BstParser.IntegersCommandContext integers ->
+                        integers.ids.identifier().forEach(identifier -> variableNames.add(identifier.getText()));
+                case BstParser.EntryCommandContext entry ->
+                        entry.idListOpt().forEach(list -> list.identifier().forEach(identifier -> variableNames.add(identifier.getText())));
+                default -> {
+                }
+            }
+        }
+
+        Compiler compiler = new Compiler(variableNames);
+        Map<BstParser.StackContext, BstBlock> functionBodies = new IdentityHashMap<>();
+        for (BstParser.CommandsContext command : tree.commands()) {
+            if (command instanceof BstParser.FunctionCommandContext function) {
+                functionBodies.put(function.function, compiler.compile(function.function));
+            }
+        }
+        return new BstProgram(tree, functionBodies, List.copyOf(compiler.functionNames));
+    }
+
+    ParseTree tree() {
+        return tree;
+    }
+
+    BstBlock getFunctionBody(BstParser.StackContext function) {
+        return functionBodies.get(function);
+    }
+
+    /**
+     * Returns the names of all functions called by the compiled blocks. The index is the function slot of the instruction.
+     */
+    List<String> functionNames() {
+        return functionNames;
+    }
+
+    private static class Compiler {
+        private final Set<String> variableNames;
+        private final List<String> functionNames = new ArrayList<>();
+        private final Map<String, Integer> functionSlots = new HashMap<>();
+
+        Compiler(Set<String> variableNames) {
+            this.variableNames = variableNames;
+        }
+
+        BstBlock compile(BstParser.StackContext stack) {
+            List<BstBlock.Instruction> instructions = new ArrayList<>(stack.stackitem().size());
+            for (BstParser.StackitemContext stackitem : stack.stackitem()) {
+                for (ParseTree childNode : stackitem.children) {
+                    if (childNode instanceof TerminalNode token) {
+                        Object literal = switch (token.getSymbol().getType()) {
+                            case BstParser.STRING -> {
+                                String s = token.getText();
+                                yield s.substring(1, s.length() - 1);
+                            }
+                            case BstParser.INTEGER ->
+                                    Integer.parseInt(token.getText().substring(1));
+                            case BstParser.QUOTED ->
+                                    new BstVMVisitor.Identifier(token.getText().substring(1));
+                            default ->
+                                    null;
+                        };
+                        if (literal != null) {
+                            instructions.add(new BstBlock.Instruction(BstBlock.Operation.PUSH, literal, -1, stackitem));
+                        }
+                    } else if (childNode instanceof BstParser.StackContext nestedStack) {
+                        instructions.add(new BstBlock.Instruction(BstBlock.Operation.PUSH, compile(nestedStack), -1, stackitem));
+                    } else if (childNode instanceof BstParser.BstFunctionContext function) {
+                        instructions.add(compileCall(function));
+                    }
+                }
+            }
+            return new BstBlock(instructions);
+        }
+
+        private BstBlock.Instruction compileCall(BstParser.BstFunctionContext function) {
+            String name = function.getChild(0).getText();
+            if (variableNames.contains(name)) {
+                return new BstBlock.Instruction(BstBlock.Operation.RESOLVE, name, -1, function);
+            }
+            // A name which is never declared as variable can only resolve to a function
+            int slot = functionSlots.computeIfAbsent(name, key -> {
+                functionNames.add(key);
+                return functionNames.size() - 1;
+            });
+            return new BstBlock.Instruction(BstBlock.Operation.CALL_FUNCTION, name, slot, function);
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package org.jabref.logic.bst;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.Collection;
 import java.util.Deque;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.jabref.model.database.BibDatabase;
@@ -26,13 +30,19 @@ public class BstVM {
     protected static final Integer FALSE = 0;
     protected static final Integer TRUE = 1;
 
+    /**
+     * Cache of the compiled bst files. A cached program is reused as long as the modification time of the file does not change.
+     */
+    private static final Map<Path, CachedProgram> COMPILED_FILES = new ConcurrentHashMap<>();
+
     protected final ParseTree tree;
     protected BstVMContext latestContext; // for testing
 
+    private final BstProgram program;
     private Path path = null;
 
     public BstVM(Path path) throws RecognitionException, IOException {
-        this(CharStreams.fromPath(path));
+        this(getCompiledProgram(path));
         this.path = path;
     }
 
@@ -41,14 +51,27 @@ public class BstVM {
     }
 
     protected BstVM(CharStream bst) throws RecognitionException {
-        this(charStream2CommonTree(bst));
+        this(BstProgram.compile(charStream2CommonTree(bst)));
+    }
+
+    private BstVM(BstProgram program) {
+        this.program = program;
+        this.tree = program.tree();
     }
 
-    private BstVM(ParseTree tree) {
-        this.tree = tree;
+    private static BstProgram getCompiledProgram(Path path) throws IOException {
+        Path key = path.toAbsolutePath().normalize();
+        FileTime lastModified = Files.getLastModifiedTime(key);
+        CachedProgram cached = COMPILED_FILES.get(key);
+        if ((cached != null) && cached.lastModified().equals(lastModified)) {
+            return cached.program();
+        }
+        BstProgram program = BstProgram.compile(charStream2CommonTree(CharStreams.fromPath(path)));
+        COMPILED_FILES.put(key, new CachedProgram(lastModified, program));
+        return program;
     }
 
-    private static ParseTree charStream2CommonTree(CharStream query) {
+    private static BstParser.BstFileContext charStream2CommonTree(CharStream query) {
         BstLexer lexer = new BstLexer(query);
         lexer.removeErrorListeners();
         lexer.addErrorListener(ThrowingErrorListener.INSTANCE);
@@ -79,7 +102,7 @@ public class BstVM {
         bstVMContext.integers().put("entry.max$", Integer.MAX_VALUE);
         bstVMContext.integers().put("global.max$", Integer.MAX_VALUE);
 
-        BstVMVisitor bstVMVisitor = new BstVMVisitor(bstVMContext, resultBuffer);
+        BstVMVisitor bstVMVisitor = new BstVMVisitor(bstVMContext, resultBuffer, program);
         bstVMVisitor.visit(tree);
 
         latestContext = bstVMContext;
@@ -99,6 +122,9 @@ public class BstVM {
         }
     }
 
+    private record CachedProgram(FileTime lastModified, BstProgram program) {
+    }
+
     private static class ThrowingErrorListener extends BaseErrorListener {
         public static final ThrowingErrorListener INSTANCE = new ThrowingErrorListener();
 
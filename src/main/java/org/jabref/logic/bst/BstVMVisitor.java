@@ -1,5 +1,6 @@
 package org.jabref.logic.bst;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
@@ -15,8 +16,6 @@ import org.jabref.model.entry.field.FieldFactory;
 import org.jabref.model.entry.field.StandardField;
 
 import org.antlr.v4.runtime.ParserRuleContext;
-import org.antlr.v4.runtime.tree.ParseTree;
-import org.antlr.v4.runtime.tree.TerminalNode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -25,15 +24,23 @@ class BstVMVisitor extends BstBaseVisitor<Integer> {
 
     private final BstVMContext bstVMContext;
     private final StringBuilder bbl;
+    private final BstProgram program;
+
+    /**
+     * The functions called by the compiled blocks, indexed by their function slot. Filled lazily during rendering.
+     */
+    private final BstFunctions.BstFunction[] resolvedFunctions;
 
     private BstEntry selectedBstEntry = null;
 
     public record Identifier(String name) {
     }
 
-    public BstVMVisitor(BstVMContext bstVMContext, StringBuilder bbl) {
+    public BstVMVisitor(BstVMContext bstVMContext, StringBuilder bbl, BstProgram program) {
         this.bstVMContext = bstVMContext;
         this.bbl = bbl;
+        this.program = program;
+        this.resolvedFunctions = new BstFunctions.BstFunction[program.functionNames().size()];
     }
 
     @Override
@@ -60,8 +67,11 @@ class BstVMVisitor extends BstBaseVisitor<Integer> {
     public Integer visitFunctionCommand(BstParser.FunctionCommandContext ctx) {
         String name = ctx.id.getText();
         LOGGER.trace("Function: {}", name);
+        BstBlock body = program.getFunctionBody(ctx.function);
         bstVMContext.functions().put(name,
-                (visitor, functionContext) -> visitor.visit(ctx.function));
+                (visitor, functionContext) -> visitor.execute(body));
+        // A function might have been redefined
+        Arrays.fill(resolvedFunctions, null);
         return BstVM.TRUE;
     }
 
@@ -70,6 +80,7 @@ class BstVMVisitor extends BstBaseVisitor<Integer> {
         String replacement = ctx.repl.getText().substring(1, ctx.repl.getText().length() - 1);
         bstVMContext.functions().put(ctx.id.getText(),
                 (visitor, functionContext) -> bstVMContext.stack().push(replacement));
+        Arrays.fill(resolvedFunctions, null);
         return BstVM.TRUE;
     }
 
@@ -251,25 +262,19 @@ class BstVMVisitor extends BstBaseVisitor<Integer> {
         return BstVM.TRUE;
     }
 
-    @Override
-    public Integer visitStackitem(BstParser.StackitemContext ctx) {
-        for (ParseTree childNode : ctx.children) {
+    /**
+     * Executes the instructions of the given compiled block.
+     */
+    protected void execute(BstBlock block) {
+        for (BstBlock.Instruction instruction : block.instructions()) {
             try {
-                if (childNode instanceof TerminalNode token) {
-                    switch (token.getSymbol().getType()) {
-                        case BstParser.STRING -> {
-                            String s = token.getText();
-                            bstVMContext.stack().push(s.substring(1, s.length() - 1));
-                        }
-                        case BstParser.INTEGER ->
-                                bstVMContext.stack().push(Integer.parseInt(token.getText().substring(1)));
-                        case BstParser.QUOTED ->
-                                bstVMContext.stack().push(new Identifier(token.getText().substring(1)));
-                    }
-                } else if (childNode instanceof BstParser.StackContext) {
-                    bstVMContext.stack().push(childNode);
-                } else {
-                    this.visit(childNode);
+                switch (instruction.operation()) {
+                    case PUSH ->
+                            bstVMContext.stack().push(instruction.operand());
+                    case RESOLVE ->
+                            resolveIdentifier((String) instruction.operand(), instruction.context());
+                    case CALL_FUNCTION ->
+                            callFunction(instruction);
                 }
             } catch (BstVMException e) {
                 bstVMContext.path().ifPresentOrElse(
@@ -278,6 +283,19 @@ class BstVMVisitor extends BstBaseVisitor<Integer> {
                 throw e;
             }
         }
-        return BstVM.TRUE;
+    }
+
+    private void callFunction(BstBlock.Instruction instruction) {
+        BstFunctions.BstFunction function = resolvedFunctions[instruction.functionSlot()];
+        if (function == null) {
+            String name = (String) instruction.operand();
+            function = bstVMContext.functions().get(name);
+            if (function == null) {
+                LOGGER.warn("No matching identifier found: {}", name);
+                throw new BstVMException("No matching identifier found: " + name);
+            }
+            resolvedFunctions[instruction.functionSlot()] = function;
+        }
+        function.execute(this, instruction.context(), selectedBstEntry);
     }
 }
@@ -1,10 +1,17 @@
 package org.jabref.logic.citationkeypattern;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
 import java.util.regex.PatternSyntaxException;
 
 import org.jabref.model.FieldChange;
@@ -36,6 +43,9 @@ public class CitationKeyGenerator extends BracketedPattern {
     private static final Logger LOGGER = LoggerFactory.getLogger(CitationKeyGenerator.class);
 
     // Source of disallowed characters : https://tex.stackexchange.com/a/408548/9075
+    // The number of entries whose keys are generated between two progress reports of generateAndSetKeys
+    private static final int PROGRESS_BATCH_SIZE = 500;
+
     private static final List<Character> DISALLOWED_CHARACTERS = Arrays.asList('{', '}', '(', ')', ',', '=', '\\', '"', '#', '%', '~', '\'');
 
     private final AbstractCitationKeyPatterns citeKeyPattern;
@@ -99,24 +109,43 @@ public class CitationKeyGenerator extends BracketedPattern {
      * @return a citation key based on the user's preferences
      */
     public String generateKey(BibEntry entry) {
+        return generateKey(entry, database::getNumberOfCitationKeyOccurrences);
+    }
+
+    /**
+     * Generate a citation key for the given {@link BibEntry}, counting the entries using a candidate key with the given
+     * function instead of searching the library.
+     *
+     * @param entry             a {@link BibEntry}
+     * @param occurrenceCounter returns the number of entries currently using the given key
+     * @return a citation key based on the user's preferences
+     */
+    public String generateKey(BibEntry entry, Function<String, Long> occurrenceCounter) {
         Objects.requireNonNull(entry);
         String currentKey = entry.getCitationKey().orElse(null);
 
-        String newKey = createCitationKeyFromPattern(entry);
-        newKey = replaceWithRegex(newKey);
-        newKey = appendLettersToKey(newKey, currentKey);
+        String newKey = generateBaseKey(entry);
+        newKey = appendLettersToKey(newKey, currentKey, occurrenceCounter);
         return cleanKey(newKey, unwantedCharacters);
     }
 
+    /**
+     * Generates the key without any letter appended, i.e., the part of the key which only depends on the entry itself.
+     */
+    private String generateBaseKey(BibEntry entry) {
+        return replaceWithRegex(createCitationKeyFromPattern(entry));
+    }
+
     /**
      * A letter will be appended to the key based on the user's preferences, either always or to prevent duplicated keys.
      *
-     * @param key    the new key
-     * @param oldKey the old key
+     * @param key               the new key
+     * @param oldKey            the old key
+     * @param occurrenceCounter returns the number of entries currently using the given key
      * @return a key, if needed, with an appended letter
      */
-    private String appendLettersToKey(String key, String oldKey) {
-        long occurrences = database.getNumberOfCitationKeyOccurrences(key);
+    private String appendLettersToKey(String key, String oldKey, Function<String, Long> occurrenceCounter) {
+        long occurrences = occurrenceCounter.apply(key);
 
         if ((occurrences > 0) && Objects.equals(oldKey, key)) {
             occurrences--; // No change, so we can accept one dupe.
@@ -137,7 +166,7 @@ public class CitationKeyGenerator extends BracketedPattern {
                 moddedKey = key + getAppendix(number);
                 number++;
 
-                occurrences = database.getNumberOfCitationKeyOccurrences(moddedKey);
+                occurrences = occurrenceCounter.apply(moddedKey);
                 // only happens if #getAddition() is buggy
                 if (Objects.equals(oldKey, moddedKey)) {
                     occurrences--;
@@ -213,4 +242,62 @@ public class CitationKeyGenerator extends BracketedPattern {
         String newKey = generateKey(entry);
         return entry.setCitationKey(newKey);
     }
+
+    /**
+     * Generates and sets citation keys for all given entries.
+     * <p>
+     * The result is the same as calling {@link #generateAndSetKey(BibEntry)} for each entry in the given order.
+     * The base keys are computed in parallel.
+     * Afterwards, the letters are appended in a single sequential pass, which uses a map of the keys in use instead of scanning the database for each candidate key.
+     *
+     * @param entries the entries to generate the keys for
+     * @return the changes to the keys, in the order of the entries (entries whose key did not change are skipped)
+     */
+    public List<FieldChange> generateAndSetKeys(List<BibEntry> entries) {
+        return generateAndSetKeys(entries, entriesDone -> {
+        });
+    }
+
+    /**
+     * Generates and sets citation keys for all given entries like {@link #generateAndSetKeys(List)}. The entries are
+     * processed in batches, each one generating the base keys in parallel and then appending the letters.
+     *
+     * @param progress called after each batch with the number of entries processed so far
+     */
+    public List<FieldChange> generateAndSetKeys(List<BibEntry> entries, IntConsumer progress) {
+        Objects.requireNonNull(entries);
+
+        Map<String, Long> keyOccurrences = new HashMap<>();
+        Set<BibEntry> entriesInDatabase = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (BibEntry entry : database.getEntries()) {
+            entriesInDatabase.add(entry);
+            entry.getCitationKey().ifPresent(key -> keyOccurrences.merge(key, 1L, Long::sum));
+        }
+
+        List<FieldChange> changes = new ArrayList<>();
+        for (int batchStart = 0; batchStart < entries.size(); batchStart += PROGRESS_BATCH_SIZE) {
+            List<BibEntry> batch = entries.subList(batchStart, Math.min(batchStart + PROGRESS_BATCH_SIZE, entries.size()));
+            List<String> baseKeys = batch.parallelStream()
+                                         .map(this::generateBaseKey)
+                                         .toList();
+
+            for (int i = 0; i < batch.size(); i++) {
+                BibEntry entry = batch.get(i);
+                Optional<String> oldKey = entry.getCitationKey();
+                String newKey = appendLettersToKey(baseKeys.get(i), oldKey.orElse(null), key -> keyOccurrences.getOrDefault(key, 0L));
+                newKey = cleanKey(newKey, unwantedCharacters);
+
+                Optional<FieldChange> change = entry.setCitationKey(newKey);
+                if (change.isPresent()) {
+                    changes.add(change.get());
+                    if (entriesInDatabase.contains(entry)) {
+                        oldKey.ifPresent(key -> keyOccurrences.computeIfPresent(key, (k, count) -> count > 1 ? count - 1 : null));
+                        entry.getCitationKey().ifPresent(key -> keyOccurrences.merge(key, 1L, Long::sum));
+                    }
+                }
+            }
+            progress.accept(batchStart + batch.size());
+        }
+        return changes;
+    }
 }
@@ -12,4 +12,12 @@ public interface CleanupJob {
      * Cleanup the entry.
      */
     List<FieldChange> cleanup(BibEntry entry);
+
+    /**
+     * Returns true if this job renames or moves files. Such jobs need to run one entry after the other, because their
+     * results depend on the files present.
+     */
+    default boolean changesFiles() {
+        return false;
+    }
 }
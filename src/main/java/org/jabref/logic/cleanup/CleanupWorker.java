@@ -1,17 +1,29 @@
 package org.jabref.logic.cleanup;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.jabref.logic.FilePreferences;
 import org.jabref.logic.preferences.TimestampPreferences;
 import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
 
 public class CleanupWorker {
 
+    /**
+     * @param changes        the changes of all entries
+     * @param durationPerJob the time spent in each job for all entries, summed up over all threads
+     */
+    public record Result(List<FieldChange> changes, Map<String, Duration> durationPerJob) {
+    }
+
     private final BibDatabaseContext databaseContext;
     private final FilePreferences filePreferences;
     private final TimestampPreferences timestampPreferences;
@@ -36,6 +48,89 @@ public class CleanupWorker {
         return changes;
     }
 
+    /**
+     * Cleans up the given entries. The result is the same as cleaning up one entry after the other.
+     * <p>
+     * Jobs not changing files are run in parallel on copies of the entries. The changes are then applied to the entries
+     * on the calling thread, so that listeners of the entries are not called concurrently. Each changed field is
+     * reported once, with its value before and after the cleanup. Jobs changing files are run one entry after the
+     * other in the order of the given entries.
+     */
+    public Result cleanupEntries(CleanupPreferences preset, List<BibEntry> entries) {
+        Objects.requireNonNull(preset);
+        List<BibEntry> entriesToClean = List.copyOf(entries);
+
+        List<CleanupJob> jobs = determineCleanupActions(preset);
+        List<LongAdder> nanosPerJob = jobs.stream().map(job -> new LongAdder()).toList();
+
+        List<FieldChange> changes = new ArrayList<>();
+        int start = 0;
+        while (start < jobs.size()) {
+            if (jobs.get(start).changesFiles()) {
+                CleanupJob job = jobs.get(start);
+                LongAdder nanos = nanosPerJob.get(start);
+                for (BibEntry entry : entriesToClean) {
+                    changes.addAll(runTimed(job, entry, nanos));
+                }
+                start++;
+                continue;
+            }
+
+            int end = start;
+            while ((end < jobs.size()) && !jobs.get(end).changesFiles()) {
+                end++;
+            }
+            List<CleanupJob> fieldJobs = jobs.subList(start, end);
+            List<LongAdder> fieldJobNanos = nanosPerJob.subList(start, end);
+            List<BibEntry> cleanedCopies = entriesToClean.parallelStream()
+                                                         .map(entry -> {
+                                                             BibEntry copy = (BibEntry) entry.clone();
+                                                             for (int i = 0; i < fieldJobs.size(); i++) {
+                                                                 runTimed(fieldJobs.get(i), copy, fieldJobNanos.get(i));
+                                                             }
+                                                             return copy;
+                                                         })
+                                                         .toList();
+            for (int i = 0; i < entriesToClean.size(); i++) {
+                changes.addAll(applyChanges(entriesToClean.get(i), cleanedCopies.get(i)));
+            }
+            start = end;
+        }
+
+        Map<String, Duration> durationPerJob = new LinkedHashMap<>();
+        for (int i = 0; i < jobs.size(); i++) {
+            durationPerJob.merge(describe(jobs.get(i)), Duration.ofNanos(nanosPerJob.get(i).sum()), Duration::plus);
+        }
+        return new Result(changes, durationPerJob);
+    }
+
+    private static String describe(CleanupJob job) {
+        // Formatter cleanups describe themselves by field and formatter, the others are described by their class
+        return job instanceof FieldFormatterCleanup ? job.toString() : job.getClass().getSimpleName();
+    }
+
+    private static List<FieldChange> runTimed(CleanupJob job, BibEntry entry, LongAdder nanos) {
+        long start = System.nanoTime();
+        List<FieldChange> changes = job.cleanup(entry);
+        nanos.add(System.nanoTime() - start);
+        return changes;
+    }
+
+    /**
+     * Sets the type and the fields of the cleaned copy in the entry.
+     */
+    private static List<FieldChange> applyChanges(BibEntry entry, BibEntry cleanedCopy) {
+        List<FieldChange> changes = new ArrayList<>();
+        entry.setType(cleanedCopy.getType()).ifPresent(changes::add);
+        for (Field field : entry.getFields()) {
+            if (!cleanedCopy.hasField(field)) {
+                entry.clearField(field).ifPresent(changes::add);
+            }
+        }
+        cleanedCopy.getFieldMap().forEach((field, value) -> entry.setField(field, value).ifPresent(changes::add));
+        return changes;
+    }
+
     private List<CleanupJob> determineCleanupActions(CleanupPreferences preset) {
         List<CleanupJob> jobs = new ArrayList<>();
 
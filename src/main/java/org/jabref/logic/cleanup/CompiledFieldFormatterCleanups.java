@@ -0,0 +1,121 @@
+package org.jabref.logic.cleanup;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jabref.model.FieldChange;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntriesEventSource;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.entry.field.InternalField;
+
+/**
+ * Applies {@link FieldFormatterCleanups} to entries by running all formatters configured for a field one after the
+ * other and setting the field only once.
+ * <p>
+ * {@link FieldFormatterCleanups#applySaveActions(BibEntry)} runs the actions one after the other. Each action looks
+ * up the fields it applies to, sets the field and fires an event. Here, the formatters applying to a field (including
+ * the ones configured for all fields or all text fields) are determined once per field and kept in the order of the
+ * actions. As the formatters of one field do not depend on other fields, the result is the same. There is one
+ * {@link FieldChange} per changed field, which holds the value before the first and after the last formatter.
+ * <p>
+ * The time spent in each formatter is summed up and can be retrieved using {@link #getDurationPerFormatter()}.
+ */
+public class CompiledFieldFormatterCleanups {
+
+    private final List<FieldFormatterCleanup> actions;
+    private final Collection<Field> notTextFields = FieldFactory.getNotTextFields();
+    private final Map<Field, List<Formatter>> formattersByField = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> nanosPerFormatter;
+
+    public CompiledFieldFormatterCleanups(FieldFormatterCleanups cleanups) {
+        this.actions = cleanups.isEnabled() ? List.copyOf(cleanups.getConfiguredActions()) : List.of();
+
+        Map<String, LongAdder> nanos = new LinkedHashMap<>();
+        actions.forEach(action -> nanos.putIfAbsent(action.getFormatter().getName(), new LongAdder()));
+        this.nanosPerFormatter = Collections.unmodifiableMap(nanos);
+    }
+
+    public boolean isEmpty() {
+        return actions.isEmpty();
+    }
+
+    public List<FieldChange> apply(BibEntry entry) {
+        if (actions.isEmpty()) {
+            return List.of();
+        }
+
+        List<FieldChange> changes = new ArrayList<>();
+        for (Field field : entry.getFields()) {
+            List<Formatter> formatters = formattersByField.computeIfAbsent(field, this::determineFormatters);
+            if (formatters.isEmpty()) {
+                continue;
+            }
+
+            String oldValue = entry.getField(field).orElse(null);
+            if (oldValue == null) {
+                // Removed concurrently
+                continue;
+            }
+            String newValue = oldValue;
+            for (Formatter formatter : formatters) {
+                long start = System.nanoTime();
+                newValue = formatter.format(newValue);
+                nanosPerFormatter.get(formatter.getName()).add(System.nanoTime() - start);
+                if (newValue.isEmpty()) {
+                    // The field is removed, thus the remaining formatters have nothing to format
+                    break;
+                }
+            }
+
+            if (!newValue.equals(oldValue)) {
+                if (newValue.isEmpty()) {
+                    entry.clearField(field);
+                    newValue = null;
+                } else {
+                    entry.setField(field, newValue, EntriesEventSource.SAVE_ACTION);
+                }
+                changes.add(new FieldChange(entry, field, oldValue, newValue));
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Determines the formatters applying to the given field in the order of the configured actions. See
+     * {@link FieldFormatterCleanup#cleanup(BibEntry)} for the fields an action applies to.
+     */
+    private List<Formatter> determineFormatters(Field field) {
+        return actions.stream()
+                      .filter(action -> appliesTo(action.getField(), field))
+                      .map(FieldFormatterCleanup::getFormatter)
+                      .toList();
+    }
+
+    private boolean appliesTo(Field actionField, Field field) {
+        if (InternalField.INTERNAL_ALL_FIELD == actionField) {
+            return !InternalField.KEY_FIELD.equals(field);
+        } else if (InternalField.INTERNAL_ALL_TEXT_FIELDS_FIELD == actionField) {
+            return !InternalField.KEY_FIELD.equals(field) && !notTextFields.contains(field);
+        } else {
+            return actionField.equals(field);
+        }
+    }
+
+    /**
+     * Returns the time spent in each formatter, summed up over all entries and fields, by the name of the formatter.
+     */
+    public Map<String, Duration> getDurationPerFormatter() {
+        Map<String, Duration> result = new LinkedHashMap<>();
+        nanosPerFormatter.forEach((name, nanos) -> result.put(name, Duration.ofNanos(nanos.sum())));
+        return result;
+    }
+}
@@ -29,6 +29,11 @@ public class MoveFilesCleanup implements CleanupJob {
         this.filePreferences = Objects.requireNonNull(filePreferences);
     }
 
+    @Override
+    public boolean changesFiles() {
+        return true;
+    }
+
     @Override
     public List<FieldChange> cleanup(BibEntry entry) {
         List<LinkedFile> files = entry.getFiles();
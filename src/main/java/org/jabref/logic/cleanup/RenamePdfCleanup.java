@@ -31,6 +31,11 @@ public class RenamePdfCleanup implements CleanupJob {
         this.filePreferences = filePreferences;
     }
 
+    @Override
+    public boolean changesFiles() {
+        return true;
+    }
+
     @Override
     public List<FieldChange> cleanup(BibEntry entry) {
         List<LinkedFile> files = entry.getFiles();
@@ -0,0 +1,18 @@
+package org.jabref.logic.crawler;
+
+/**
+ * Receives the progress of a crawl. The listener is called from the threads performing the requests.
+ */
+@FunctionalInterface
+public interface CrawlProgressListener {
+
+    CrawlProgressListener NONE = (fetcherName, finishedRequests, totalRequests) -> {
+    };
+
+    /**
+     * @param fetcherName      the name of the fetcher which finished a request
+     * @param finishedRequests the number of finished (successful or failed) requests of this fetcher
+     * @param totalRequests    the number of requests scheduled for this fetcher so far
+     */
+    void onProgress(String fetcherName, int finishedRequests, int totalRequests);
+}
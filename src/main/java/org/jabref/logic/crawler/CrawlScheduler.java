@@ -0,0 +1,106 @@
+package org.jabref.logic.crawler;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jabref.logic.importer.FetcherException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Performs the requests of a crawl on virtual threads.
+ * <p>
+ * The requests are mostly waiting for the response of the catalog. Therefore, each request gets its own virtual thread
+ * instead of blocking the threads of the common pool. To respect the rate limits of the catalogs, the requests of each fetcher
+ * pass a {@link TokenBucket} of their own. Requests failing due to a temporary problem (HTTP 429, HTTP 5xx, I/O errors)
+ * are retried with an exponential backoff.
+ */
+class CrawlScheduler implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CrawlScheduler.class);
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    /**
+     * @param requestsPerSecond the sustained rate of requests per fetcher
+     * @param burst             the number of requests per fetcher which may be sent at once
+     * @param maxRetries        the number of retries of a failed request
+     * @param initialBackoff    the delay before the first retry, doubled for each further retry
+     */
+    record Settings(double requestsPerSecond, int burst, int maxRetries, Duration initialBackoff) {
+        static final Settings DEFAULT = new Settings(2, 4, 3, Duration.ofSeconds(1));
+    }
+
+    @FunctionalInterface
+    interface Request<T> {
+        T perform() throws FetcherException;
+    }
+
+    private record FetcherState(TokenBucket tokenBucket, AtomicInteger scheduledRequests, AtomicInteger finishedRequests) {
+    }
+
+    private final Settings settings;
+    private final CrawlProgressListener progressListener;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, FetcherState> fetcherStates = new ConcurrentHashMap<>();
+
+    CrawlScheduler(Settings settings, CrawlProgressListener progressListener) {
+        this.settings = settings;
+        this.progressListener = progressListener;
+    }
+
+    /**
+     * Schedules the given request of the given fetcher. The returned future fails with the {@link FetcherException} of
+     * the last attempt if the request could not be performed.
+     */
+    <T> Future<T> submit(String fetcherName, Request<T> request) {
+        FetcherState state = fetcherStates.computeIfAbsent(fetcherName, name -> new FetcherState(
+                new TokenBucket(settings.requestsPerSecond(), settings.burst()),
+                new AtomicInteger(),
+                new AtomicInteger()));
+        state.scheduledRequests().incrementAndGet();
+        return executor.submit(() -> {
+            try {
+                return performWithRetries(fetcherName, state.tokenBucket(), request);
+            } finally {
+                progressListener.onProgress(fetcherName, state.finishedRequests().incrementAndGet(), state.scheduledRequests().get());
+            }
+        });
+    }
+
+    private <T> T performWithRetries(String fetcherName, TokenBucket tokenBucket, Request<T> request) throws FetcherException, InterruptedException {
+        for (int attempt = 0; ; attempt++) {
+            tokenBucket.acquire();
+            try {
+                return request.perform();
+            } catch (FetcherException e) {
+                if ((attempt >= settings.maxRetries()) || !isTemporaryFailure(e)) {
+                    throw e;
+                }
+                Duration backoff = settings.initialBackoff().multipliedBy(1L << attempt);
+                LOGGER.debug("{} API request failed, retrying in {} ms", fetcherName, backoff.toMillis(), e);
+                Thread.sleep(backoff);
+            }
+        }
+    }
+
+    static boolean isTemporaryFailure(FetcherException exception) {
+        return exception.getHttpResponse()
+                        .map(response -> (response.statusCode() == TOO_MANY_REQUESTS) || (response.statusCode() >= 500))
+                        .orElse(exception.getCause() instanceof IOException);
+    }
+
+    /**
+     * Waits for all scheduled requests to finish.
+     */
+    @Override
+    public void close() {
+        executor.close();
+    }
+}
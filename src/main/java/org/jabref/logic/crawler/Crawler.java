@@ -67,7 +67,16 @@ public class Crawler {
      * @throws IOException Thrown if a problem occurred during the persistence of the result.
      */
     public void performCrawl() throws IOException, GitAPIException, SaveException {
-        List<QueryResult> results = studyFetcher.crawl();
+        performCrawl(CrawlProgressListener.NONE);
+    }
+
+    /**
+     * Performs the crawling and reports the progress of the requests to each E-Library to the given listener.
+     *
+     * @see #performCrawl()
+     */
+    public void performCrawl(CrawlProgressListener progressListener) throws IOException, GitAPIException, SaveException {
+        List<QueryResult> results = studyFetcher.crawl(progressListener);
         studyRepository.persist(results);
     }
 }
@@ -1,9 +1,11 @@
 package org.jabref.logic.crawler;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import org.jabref.logic.importer.FetcherException;
 import org.jabref.logic.importer.PagedSearchBasedFetcher;
@@ -19,6 +21,9 @@ import org.slf4j.LoggerFactory;
 /**
  * Delegates the search of the provided set of targeted E-Libraries with the provided queries to the E-Library specific fetchers,
  * and aggregates the results returned by the fetchers by query and E-Library.
+ * <p>
+ * All requests (each page of a paged fetcher is a request of its own) are scheduled at once using a {@link CrawlScheduler},
+ * which limits the rate of the requests per fetcher.
  */
 class StudyFetcher {
     private static final Logger LOGGER = LoggerFactory.getLogger(StudyFetcher.class);
@@ -26,10 +31,20 @@ class StudyFetcher {
 
     private final List<SearchBasedFetcher> activeFetchers;
     private final List<String> searchQueries;
+    private final CrawlScheduler.Settings schedulerSettings;
 
     StudyFetcher(List<SearchBasedFetcher> activeFetchers, List<String> searchQueries) throws IllegalArgumentException {
+        this(activeFetchers, searchQueries, CrawlScheduler.Settings.DEFAULT);
+    }
+
+    StudyFetcher(List<SearchBasedFetcher> activeFetchers, List<String> searchQueries, CrawlScheduler.Settings schedulerSettings) {
         this.searchQueries = searchQueries;
         this.activeFetchers = activeFetchers;
+        this.schedulerSettings = schedulerSettings;
+    }
+
+    public List<QueryResult> crawl() {
+        return crawl(CrawlProgressListener.NONE);
     }
 
     /**
@@ -37,44 +52,75 @@ class StudyFetcher {
      * Each entry of the internal map contains the results for a given library.
      * If any library API is not available, its corresponding entry is missing from the internal map.
      */
-    public List<QueryResult> crawl() {
-        return searchQueries.parallelStream()
-                            .map(this::getQueryResult)
-                            .collect(Collectors.toList());
+    public List<QueryResult> crawl(CrawlProgressListener progressListener) {
+        try (CrawlScheduler scheduler = new CrawlScheduler(schedulerSettings, progressListener)) {
+            List<PendingQuery> pendingQueries = new ArrayList<>();
+            for (String searchQuery : searchQueries) {
+                List<PendingFetch> fetches = activeFetchers.stream()
+                                                           .map(fetcher -> performSearchOnQueryForFetcher(scheduler, searchQuery, fetcher))
+                                                           .toList();
+                pendingQueries.add(new PendingQuery(searchQuery, fetches));
+            }
+            return pendingQueries.stream()
+                                 .map(PendingQuery::getQueryResult)
+                                 .toList();
+        }
     }
 
-    private QueryResult getQueryResult(String searchQuery) {
-        return new QueryResult(searchQuery, performSearchOnQuery(searchQuery));
+    private PendingFetch performSearchOnQueryForFetcher(CrawlScheduler scheduler, String searchQuery, SearchBasedFetcher fetcher) {
+        List<Future<? extends Collection<BibEntry>>> requests = new ArrayList<>();
+        if (fetcher instanceof PagedSearchBasedFetcher basedFetcher) {
+            int pages = (int) Math.ceil(((double) MAX_AMOUNT_OF_RESULTS_PER_FETCHER) / basedFetcher.getPageSize());
+            for (int page = 0; page < pages; page++) {
+                int pageNumber = page;
+                requests.add(scheduler.submit(fetcher.getName(), () -> basedFetcher.performSearchPaged(searchQuery, pageNumber).getContent()));
+            }
+        } else {
+            requests.add(scheduler.submit(fetcher.getName(), () -> fetcher.performSearch(searchQuery)));
+        }
+        return new PendingFetch(fetcher.getName(), requests);
     }
 
-    /**
-     * Queries all catalogs on the given searchQuery.
-     *
-     * @param searchQuery The query the search is performed for.
-     * @return Mapping of each fetcher by name and all their retrieved publications as a BibDatabase
-     */
-    private List<FetchResult> performSearchOnQuery(String searchQuery) {
-        return activeFetchers.parallelStream()
-                             .map(fetcher -> performSearchOnQueryForFetcher(searchQuery, fetcher))
-                             .filter(Objects::nonNull)
-                             .collect(Collectors.toList());
+    private record PendingQuery(String searchQuery, List<PendingFetch> fetches) {
+        /**
+         * Queries all catalogs on the given searchQuery.
+         *
+         * @return Mapping of each fetcher by name and all their retrieved publications as a BibDatabase
+         */
+        QueryResult getQueryResult() {
+            return new QueryResult(searchQuery, fetches.stream()
+                                                       .map(PendingFetch::getFetchResult)
+                                                       .filter(Objects::nonNull)
+                                                       .toList());
+        }
     }
 
-    private FetchResult performSearchOnQueryForFetcher(String searchQuery, SearchBasedFetcher fetcher) {
-        try {
+    private record PendingFetch(String fetcherName, List<Future<? extends Collection<BibEntry>>> requests) {
+        /**
+         * Waits for all pages of the fetcher and joins them in the order of the pages.
+         *
+         * @return the result of the fetcher or <code>null</code> if any of its requests failed
+         */
+        FetchResult getFetchResult() {
             List<BibEntry> fetchResult = new ArrayList<>();
-            if (fetcher instanceof PagedSearchBasedFetcher basedFetcher) {
-                int pages = (int) Math.ceil(((double) MAX_AMOUNT_OF_RESULTS_PER_FETCHER) / basedFetcher.getPageSize());
-                for (int page = 0; page < pages; page++) {
-                    fetchResult.addAll(basedFetcher.performSearchPaged(searchQuery, page).getContent());
+            try {
+                for (Future<? extends Collection<BibEntry>> request : requests) {
+                    fetchResult.addAll(request.get());
+                }
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof FetcherException fetcherException) {
+                    LOGGER.warn("%s API request failed".formatted(fetcherName), fetcherException);
+                } else {
+                    LOGGER.error("%s API request failed unexpectedly".formatted(fetcherName), e.getCause());
                 }
-            } else {
-                fetchResult = fetcher.performSearch(searchQuery);
+                requests.forEach(request -> request.cancel(true));
+                return null;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                requests.forEach(request -> request.cancel(true));
+                return null;
             }
-            return new FetchResult(fetcher.getName(), new BibDatabase(fetchResult));
-        } catch (FetcherException e) {
-            LOGGER.warn("%s API request failed".formatted(fetcher.getName()), e);
-            return null;
+            return new FetchResult(fetcherName, new BibDatabase(fetchResult));
         }
     }
 }
@@ -1,6 +1,7 @@
 package org.jabref.logic.crawler;
 
 import java.io.IOException;
+import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
 import java.nio.charset.UnsupportedCharsetException;
 import java.nio.file.Files;
@@ -13,6 +14,7 @@ import java.util.stream.Collectors;
 
 import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
 import org.jabref.logic.database.DatabaseMerger;
+import org.jabref.logic.database.DuplicateIndex;
 import org.jabref.logic.exporter.AtomicFileWriter;
 import org.jabref.logic.exporter.BibWriter;
 import org.jabref.logic.exporter.BibtexDatabaseWriter;
@@ -383,16 +385,17 @@ public class StudyRepository {
      */
     private void persistResults(List<QueryResult> crawlResults) throws IOException, SaveException {
         DatabaseMerger merger = new DatabaseMerger(preferences.getBibEntryPreferences().getKeywordSeparator());
-        BibDatabase newStudyResultEntries = new BibDatabase();
+        // The indexes are kept up to date by the merger, so each of them is built only once per target
+        DuplicateIndex newStudyResultEntries = new DuplicateIndex(new BibDatabase(), bibEntryTypesManager);
 
         for (QueryResult result : crawlResults) {
-            BibDatabase queryResultEntries = new BibDatabase();
+            DuplicateIndex queryResultEntries = new DuplicateIndex(new BibDatabase(), bibEntryTypesManager);
             for (FetchResult fetcherResult : result.getResultsPerFetcher()) {
                 BibDatabase fetcherEntries = fetcherResult.getFetchResult();
                 BibDatabaseContext existingFetcherResult = getFetcherResultEntries(result.getQuery(), fetcherResult.getFetcherName());
 
                 // Merge new entries into fetcher result file
-                merger.merge(existingFetcherResult.getDatabase(), fetcherEntries);
+                merger.merge(new DuplicateIndex(existingFetcherResult.getDatabase(), bibEntryTypesManager), fetcherEntries);
 
                 // Create citation keys for all entries that do not have one
                 generateCiteKeys(existingFetcherResult, fetcherEntries);
@@ -405,16 +408,16 @@ public class StudyRepository {
             BibDatabaseContext existingQueryEntries = getQueryResultEntries(result.getQuery());
 
             // Merge new entries into query result file
-            merger.merge(existingQueryEntries.getDatabase(), queryResultEntries);
+            merger.merge(new DuplicateIndex(existingQueryEntries.getDatabase(), bibEntryTypesManager), queryResultEntries.getDatabase());
             // Aggregate all new entries for every query into the study result
-            merger.merge(newStudyResultEntries, queryResultEntries);
+            merger.merge(newStudyResultEntries, queryResultEntries.getDatabase());
 
             writeResultToFile(getPathToQueryResultFile(result.getQuery()), existingQueryEntries);
         }
         BibDatabaseContext existingStudyResultEntries = getStudyResultEntries();
 
         // Merge new entries into study result file
-        merger.merge(existingStudyResultEntries.getDatabase(), newStudyResultEntries);
+        merger.merge(new DuplicateIndex(existingStudyResultEntries.getDatabase(), bibEntryTypesManager), newStudyResultEntries.getDatabase());
 
         writeResultToFile(getPathToStudyResultFile(), existingStudyResultEntries);
     }
@@ -425,12 +428,16 @@ public class StudyRepository {
         targetEntries.getEntries().stream().filter(bibEntry -> !bibEntry.hasCitationKey()).forEach(citationKeyGenerator::generateAndSetKey);
     }
 
+    /**
+     * Writes the given library to the given file. The file is only rewritten if its content changes.
+     */
     private void writeResultToFile(Path pathToFile, BibDatabaseContext context) throws SaveException {
-        try (AtomicFileWriter fileWriter = new AtomicFileWriter(pathToFile, StandardCharsets.UTF_8)) {
+        try {
+            StringWriter stringWriter = new StringWriter();
             SelfContainedSaveConfiguration saveConfiguration = (SelfContainedSaveConfiguration) new SelfContainedSaveConfiguration()
                     .withSaveOrder(context.getMetaData().getSaveOrder().map(so -> SelfContainedSaveOrder.of(so)).orElse(SaveOrder.getDefaultSaveOrder()))
                     .withReformatOnSave(preferences.getLibraryPreferences().shouldAlwaysReformatOnSave());
-            BibWriter bibWriter = new BibWriter(fileWriter, OS.NEWLINE);
+            BibWriter bibWriter = new BibWriter(stringWriter, OS.NEWLINE);
             BibtexDatabaseWriter databaseWriter = new BibtexDatabaseWriter(
                     bibWriter,
                     saveConfiguration,
@@ -438,6 +445,15 @@ public class StudyRepository {
                     preferences.getCitationKeyPatternPreferences(),
                     bibEntryTypesManager);
             databaseWriter.saveDatabase(context);
+
+            String content = stringWriter.toString();
+            if (Files.exists(pathToFile) && content.equals(Files.readString(pathToFile, StandardCharsets.UTF_8))) {
+                LOGGER.debug("Content of {} did not change", pathToFile);
+                return;
+            }
+            try (AtomicFileWriter fileWriter = new AtomicFileWriter(pathToFile, StandardCharsets.UTF_8)) {
+                fileWriter.write(content);
+            }
         } catch (UnsupportedCharsetException ex) {
             throw new SaveException(Localization.lang("Character encoding UTF-8 is not supported.", ex));
         } catch (IOException ex) {
@@ -0,0 +1,60 @@
+package org.jabref.logic.crawler;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Limits the rate of the requests sent to a single catalog.
+ * <p>
+ * The bucket holds up to <code>burst</code> tokens and is refilled with <code>requestsPerSecond</code> tokens per second.
+ * Each request takes one token. If no token is left, the token is reserved in advance and the caller waits until it is available.
+ * Thus, concurrent callers are served one after another in the configured rate.
+ */
+class TokenBucket {
+
+    private final LongSupplier nanoClock;
+    private final double nanosPerToken;
+    private final int burst;
+
+    private double tokens;
+    private long lastRefill;
+
+    TokenBucket(double requestsPerSecond, int burst) {
+        this(requestsPerSecond, burst, System::nanoTime);
+    }
+
+    TokenBucket(double requestsPerSecond, int burst, LongSupplier nanoClock) {
+        if ((requestsPerSecond <= 0) || (burst < 1)) {
+            throw new IllegalArgumentException("The rate and the burst have to be positive");
+        }
+        this.nanoClock = nanoClock;
+        this.nanosPerToken = TimeUnit.SECONDS.toNanos(1) / requestsPerSecond;
+        this.burst = burst;
+        this.tokens = burst;
+        this.lastRefill = nanoClock.getAsLong();
+    }
+
+    /**
+     * Blocks until a token is available and takes it.
+     */
+    void acquire() throws InterruptedException {
+        long waitNanos = reserve();
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * Takes a token and returns the time in nanoseconds the caller has to wait until the token is available.
+     */
+    synchronized long reserve() {
+        long now = nanoClock.getAsLong();
+        tokens = Math.min(burst, tokens + ((now - lastRefill) / nanosPerToken));
+        lastRefill = now;
+        tokens--;
+        if (tokens >= 0) {
+            return 0;
+        }
+        return (long) Math.ceil(-tokens * nanosPerToken);
+    }
+}
@@ -6,6 +6,7 @@ import java.util.stream.Collectors;
 
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.database.BibDatabaseModeDetection;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
@@ -53,6 +54,24 @@ public class DatabaseMerger {
         mergeMetaData(target.getMetaData(), other.getMetaData(), otherFileName, other.getEntries());
     }
 
+    /**
+     * Merges all entries and strings of the other database into the database of the given index.
+     * Duplicates are detected using the index, which avoids comparing each new entry with all entries of the target.
+     * See {@link DuplicateIndex} for the differences to {@link #merge(BibDatabase, BibDatabase)}.
+     *
+     * @param target The index of the database the other database is merged into. The index is kept up to date, so it can be reused for further merges into the same database.
+     * @param other  The other database that is merged into the target database
+     */
+    public synchronized void merge(DuplicateIndex target, BibDatabase other) {
+        BibDatabaseMode mode = target.inferMode();
+        List<BibEntry> newEntries = other.getEntries().stream()
+                                         // Remove all entries that are already part of the database (duplicate)
+                                         .filter(entry -> target.findDuplicate(entry, mode).isEmpty())
+                                         .toList();
+        target.insertEntries(newEntries);
+        mergeStrings(target.getDatabase(), other);
+    }
+
     private void mergeEntries(BibDatabase target, BibDatabase other) {
         DuplicateCheck duplicateCheck = new DuplicateCheck(new BibEntryTypesManager());
         List<BibEntry> newEntries = other.getEntries().stream()
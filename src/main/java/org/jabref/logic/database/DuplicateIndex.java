@@ -0,0 +1,124 @@
+package org.jabref.logic.database;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.database.BibDatabaseModeDetection;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldProperty;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.identifier.DOI;
+import org.jabref.model.entry.identifier.ISBN;
+import org.jabref.model.entry.types.EntryType;
+
+/**
+ * Index over the entries of a database to find duplicates without comparing an entry with every entry of the database.
+ * <p>
+ * The entries are indexed by their identifiers (DOI, ISBN, eprint, ...) and by their normalized title. DOIs and ISBNs
+ * are normalized, too, so that, e.g., a DOI given as URL and the bare DOI share the same key.
+ * The entries sharing an identifier or the normalized title are compared first using {@link DuplicateCheck}.
+ * If none of them is a duplicate, the entry is compared with the remaining entries of the same entry type, because
+ * {@link DuplicateCheck} considers entries of different types as distinct unless they share an identifier.
+ * Thus, the same duplicates as by {@link DuplicateCheck#containsDuplicate(BibDatabase, BibEntry, BibDatabaseMode)}
+ * are found, but entries of other types are never compared.
+ * <p>
+ * The index has to be used for all modifications of the database to stay in sync (see {@link #insertEntries(List)}).
+ */
+public class DuplicateIndex {
+
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{L}\\p{N}]");
+
+    private final BibDatabase database;
+    private final DuplicateCheck duplicateCheck;
+    private final Map<String, List<BibEntry>> entriesByKey = new HashMap<>();
+    private final Map<EntryType, List<BibEntry>> entriesByType = new HashMap<>();
+
+    public DuplicateIndex(BibDatabase database, BibEntryTypesManager entryTypesManager) {
+        this.database = Objects.requireNonNull(database);
+        this.duplicateCheck = new DuplicateCheck(entryTypesManager);
+        database.getEntries().forEach(this::addToIndex);
+    }
+
+    public BibDatabase getDatabase() {
+        return database;
+    }
+
+    /**
+     * Returns the first entry of the database which is a duplicate of the given entry.
+     */
+    public Optional<BibEntry> findDuplicate(BibEntry entry, BibDatabaseMode mode) {
+        Set<BibEntry> checked = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String key : getKeys(entry)) {
+            for (BibEntry candidate : entriesByKey.getOrDefault(key, List.of())) {
+                if (checked.add(candidate) && duplicateCheck.isDuplicate(entry, candidate, mode)) {
+                    return Optional.of(candidate);
+                }
+            }
+        }
+        // Fuzzy comparison for entries with, e.g., a slightly different title
+        for (BibEntry candidate : entriesByType.getOrDefault(entry.getType(), List.of())) {
+            if (!checked.contains(candidate) && duplicateCheck.isDuplicate(entry, candidate, mode)) {
+                return Optional.of(candidate);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Inserts the given entries into the database and the index.
+     */
+    public void insertEntries(List<BibEntry> entries) {
+        database.insertEntries(entries);
+        entries.forEach(this::addToIndex);
+    }
+
+    public BibDatabaseMode inferMode() {
+        return BibDatabaseModeDetection.inferMode(database);
+    }
+
+    private void addToIndex(BibEntry entry) {
+        for (String key : getKeys(entry)) {
+            entriesByKey.computeIfAbsent(key, k -> new ArrayList<>()).add(entry);
+        }
+        entriesByType.computeIfAbsent(entry.getType(), k -> new ArrayList<>()).add(entry);
+    }
+
+    private static List<String> getKeys(BibEntry entry) {
+        List<String> keys = new ArrayList<>();
+        for (Field field : entry.getFields()) {
+            // The ISBN is not marked as identifier, but DuplicateCheck treats an equal ISBN as duplicate for most entry types
+            if (field.getProperties().contains(FieldProperty.IDENTIFIER) || field == StandardField.ISBN) {
+                entry.getField(field).ifPresent(value -> keys.add(field.getName() + ':' + normalizeIdentifier(field, value)));
+            }
+        }
+        entry.getFieldLatexFree(StandardField.TITLE)
+             .map(title -> NON_ALPHANUMERIC.matcher(title.toLowerCase(Locale.ROOT)).replaceAll(""))
+             .filter(title -> !title.isEmpty())
+             .ifPresent(title -> keys.add("title:" + title));
+        return keys;
+    }
+
+    private static String normalizeIdentifier(Field field, String value) {
+        if (field == StandardField.DOI) {
+            return DOI.parse(value).map(doi -> doi.getDOI().toLowerCase(Locale.ROOT)).orElse(value);
+        }
+        if (field == StandardField.ISBN) {
+            // The check digit X is compared ignoring case, too
+            return ISBN.parse(value).map(isbn -> isbn.getNormalized().toLowerCase(Locale.ROOT)).orElse(value);
+        }
+        return value;
+    }
+}
@@ -25,6 +25,7 @@ import org.jabref.logic.bibtex.comparator.IdComparator;
 import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
 import org.jabref.logic.citationkeypattern.GlobalCitationKeyPatterns;
+import org.jabref.logic.cleanup.CompiledFieldFormatterCleanups;
 import org.jabref.logic.cleanup.FieldFormatterCleanup;
 import org.jabref.logic.cleanup.FieldFormatterCleanups;
 import org.jabref.logic.cleanup.NormalizeWhitespacesCleanup;
@@ -37,13 +38,18 @@ import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryType;
 import org.jabref.model.entry.BibEntryTypesManager;
 import org.jabref.model.entry.BibtexString;
+import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.entry.types.EntryType;
 import org.jabref.model.metadata.MetaData;
 import org.jabref.model.metadata.SaveOrder;
 import org.jabref.model.metadata.SelfContainedSaveOrder;
 import org.jabref.model.strings.StringUtil;
 
+import com.google.common.collect.MapMaker;
 import org.jooq.lambda.Unchecked;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * A generic writer for our database. This is independent of the concrete serialization format.
@@ -57,7 +63,31 @@ public abstract class BibDatabaseWriter {
 
     public enum SaveType { WITH_JABREF_META_DATA, PLAIN_BIBTEX }
 
+    /**
+     * A copy of the content of an entry as written to the file, compared with the current content of the entry
+     */
+    private record EntryContent(EntryType type, Map<Field, String> fields, String userComments) {
+
+        static EntryContent of(BibEntry entry) {
+            return new EntryContent(entry.getType(), Map.copyOf(entry.getFieldMap()), entry.getUserComments());
+        }
+    }
+
+    private record SavedContent(Optional<FieldFormatterCleanups> saveActions, Map<String, EntryContent> contentById) {
+    }
+
+    private record WrittenContent(BibDatabase database, SavedContent content) {
+    }
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BibDatabaseWriter.class);
     private static final Pattern REFERENCE_PATTERN = Pattern.compile("(#[A-Za-z]+#)"); // Used to detect string references in strings
+
+    /**
+     * The content of the entries after the last save, by library. The libraries are compared by identity and
+     * are not kept alive by this map.
+     */
+    private static final Map<BibDatabase, SavedContent> SAVED_CONTENT = new MapMaker().weakKeys().makeMap();
+
     protected final BibWriter bibWriter;
     protected final SelfContainedSaveConfiguration saveConfiguration;
     protected final CitationKeyPatternPreferences keyPatternPreferences;
@@ -65,6 +95,9 @@ public abstract class BibDatabaseWriter {
     protected final BibEntryTypesManager entryTypesManager;
     protected final FieldPreferences fieldPreferences;
 
+    // The content written by the last save, which is remembered once it was stored (see rememberSavedContent)
+    private WrittenContent writtenContent;
+
     public BibDatabaseWriter(BibWriter bibWriter,
                              SelfContainedSaveConfiguration saveConfiguration,
                              FieldPreferences fieldPreferences,
@@ -78,14 +111,22 @@ public abstract class BibDatabaseWriter {
         assert saveConfiguration.getSaveOrder().getOrderType() != SaveOrder.OrderType.TABLE;
     }
 
-    private static List<FieldChange> applySaveActions(List<BibEntry> toChange, MetaData metaData, FieldPreferences fieldPreferences) {
+    /**
+     * Applies the save actions configured in the meta data to the entries to format. The white spaces of all changed
+     * entries are trimmed and normalized.
+     */
+    private static List<FieldChange> applySaveActions(List<BibEntry> toFormat, List<BibEntry> toChange, MetaData metaData, FieldPreferences fieldPreferences) {
         List<FieldChange> changes = new ArrayList<>();
 
         Optional<FieldFormatterCleanups> saveActions = metaData.getSaveActions();
         saveActions.ifPresent(actions -> {
             // save actions defined -> apply for every entry
-            for (BibEntry entry : toChange) {
-                changes.addAll(actions.applySaveActions(entry));
+            CompiledFieldFormatterCleanups compiledActions = new CompiledFieldFormatterCleanups(actions);
+            if (!compiledActions.isEmpty()) {
+                for (BibEntry entry : toFormat) {
+                    changes.addAll(compiledActions.apply(entry));
+                }
+                LOGGER.debug("Time spent per save action formatter: {}", compiledActions.getDurationPerFormatter());
             }
         });
 
@@ -104,7 +145,57 @@ public abstract class BibDatabaseWriter {
     }
 
     public static List<FieldChange> applySaveActions(BibEntry entry, MetaData metaData, FieldPreferences fieldPreferences) {
-        return applySaveActions(List.of(entry), metaData, fieldPreferences);
+        return applySaveActions(List.of(entry), List.of(entry), metaData, fieldPreferences);
+    }
+
+    /**
+     * Determines the entries the save actions have to be applied to: Entries having the same content as after the
+     * last save of the library with the same save actions are already formatted.
+     */
+    private static List<BibEntry> getEntriesToFormat(BibDatabase database, List<BibEntry> entries, Optional<FieldFormatterCleanups> saveActions) {
+        SavedContent lastSave = SAVED_CONTENT.get(database);
+        if ((lastSave == null) || !lastSave.saveActions().equals(saveActions)) {
+            return entries;
+        }
+        return entries.stream()
+                      .filter(entry -> !EntryContent.of(entry).equals(lastSave.contentById().get(entry.getId())))
+                      .toList();
+    }
+
+    private static SavedContent getWrittenContent(List<BibEntry> entries, Optional<FieldFormatterCleanups> saveActions) {
+        Map<String, EntryContent> contentById = new HashMap<>();
+        for (BibEntry entry : entries) {
+            contentById.put(entry.getId(), EntryContent.of(entry));
+        }
+        return new SavedContent(saveActions, contentById);
+    }
+
+    private static void rememberSavedContent(BibDatabase database, SavedContent writtenContent) {
+        Optional<FieldFormatterCleanups> saveActions = writtenContent.saveActions();
+        if (saveActions.filter(FieldFormatterCleanups::isEnabled).isEmpty()) {
+            // Nothing to skip at the next save
+            SAVED_CONTENT.remove(database);
+            return;
+        }
+
+        SavedContent lastSave = SAVED_CONTENT.get(database);
+        Map<String, EntryContent> contentById = ((lastSave != null) && lastSave.saveActions().equals(saveActions))
+                ? new HashMap<>(lastSave.contentById())
+                : new HashMap<>();
+        contentById.putAll(writtenContent.contentById());
+        SAVED_CONTENT.put(database, new SavedContent(saveActions, contentById));
+    }
+
+    /**
+     * Remembers the content of the entries written by the last save, so that the next save of the library applies the
+     * save actions only to the entries changed since then. Call this only after the written content was stored (e.g.,
+     * after the {@link AtomicFileWriter} was closed). If it is not called, all entries are formatted at the next save.
+     */
+    public void rememberSavedContent() {
+        if (writtenContent != null) {
+            rememberSavedContent(writtenContent.database(), writtenContent.content());
+            writtenContent = null;
+        }
     }
 
     private static List<Comparator<BibEntry>> getSaveComparators(SaveOrder saveOrder) {
@@ -189,7 +280,9 @@ public abstract class BibDatabaseWriter {
 
         // FIXME: "Clean" architecture violation: We modify the entries here, which should not happen during a write
         //        The cleanup should be done before the write operation
-        List<FieldChange> saveActionChanges = applySaveActions(sortedEntries, bibDatabaseContext.getMetaData(), fieldPreferences);
+        Optional<FieldFormatterCleanups> saveActions = bibDatabaseContext.getMetaData().getSaveActions();
+        List<BibEntry> entriesToFormat = getEntriesToFormat(bibDatabaseContext.getDatabase(), sortedEntries, saveActions);
+        List<FieldChange> saveActionChanges = applySaveActions(entriesToFormat, sortedEntries, bibDatabaseContext.getMetaData(), fieldPreferences);
         saveActionsFieldChanges.addAll(saveActionChanges);
         if (keyPatternPreferences.shouldGenerateCiteKeysBeforeSaving()) {
             List<FieldChange> keyChanges = generateCitationKeys(bibDatabaseContext, sortedEntries);
@@ -222,6 +315,8 @@ public abstract class BibDatabaseWriter {
 
         // finally write whatever remains of the file, but at least a concluding newline
         writeEpilogue(bibDatabaseContext.getDatabase().getEpilog());
+
+        writtenContent = new WrittenContent(bibDatabaseContext.getDatabase(), getWrittenContent(sortedEntries, saveActions));
     }
 
     protected abstract void writeProlog(BibDatabaseContext bibDatabaseContext, Charset encoding) throws IOException;
@@ -5,25 +5,37 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.Writer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import org.jabref.logic.journals.JournalAbbreviationLoader;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.layout.Layout;
 import org.jabref.logic.layout.LayoutFormatterPreferences;
 import org.jabref.logic.layout.LayoutHelper;
+import org.jabref.logic.layout.StringInt;
 import org.jabref.logic.layout.format.Number;
 import org.jabref.logic.os.OS;
 import org.jabref.logic.util.FileType;
+import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.logic.util.StandardFileType;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
@@ -46,8 +58,17 @@ public class TemplateExporter extends Exporter {
     private static final String BEGIN_INFIX = ".begin";
     private static final String END_INFIX = ".end";
 
+    private static final int ENTRIES_PER_CHUNK = 256;
+
     private static final Logger LOGGER = LoggerFactory.getLogger(TemplateExporter.class);
 
+    /**
+     * Cache of the parsed layout files. The key is the path of the layout file (including the modification time for
+     * files in the file system). The value is empty if the layout file does not exist. Layout files which could not be
+     * read are not cached.
+     */
+    private static final Map<String, Optional<List<StringInt>>> PARSED_LAYOUTS = new ConcurrentHashMap<>();
+
     private final String lfFileName;
     private final String directory;
     private final LayoutFormatterPreferences layoutPreferences;
@@ -160,10 +181,29 @@ public class TemplateExporter extends Exporter {
      * Subclasses of TemplateExporter are free to override and provide their own implementation.
      *
      * @param filename the filename
-     * @return a newly created reader
-     * @throws IOException if the reader could not be created (e.g., file is not found)
+     * @return a newly created reader or an empty optional if the file is not found
+     * @throws IOException if the file exists, but the reader could not be created
      */
-    private Reader getReader(String filename) throws IOException {
+    private Optional<Reader> getReader(String filename) throws IOException {
+        String name = getLayoutFilePath(filename);
+
+        // Attempt to get a Reader for the file path given, either by
+        // loading it as a resource (from within JAR), or as a normal file.
+
+        Path path = Path.of(name);
+        if (Files.exists(path)) {
+            return Optional.of(Files.newBufferedReader(path, StandardCharsets.UTF_8));
+        }
+
+        InputStream inputStream = TemplateExporter.class.getResourceAsStream(name);
+        if (inputStream == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8)));
+    }
+
+    private String getLayoutFilePath(String filename) {
         // If this is a custom export, just use the given filename:
         String dir;
         if (customExport) {
@@ -171,24 +211,48 @@ public class TemplateExporter extends Exporter {
         } else {
             dir = LAYOUT_PREFIX + (directory == null ? "" : directory + '/');
         }
+        return dir + filename;
+    }
 
-        // Attempt to get a Reader for the file path given, either by
-        // loading it as a resource (from within JAR), or as a normal file. If
-        // unsuccessful (e.g. file not found), an IOException is thrown.
-
-        String name = dir + filename;
-
+    /**
+     * Returns the parsed content of the given layout file. Parsed layouts are cached, so that the layout files are read
+     * and parsed only once. For layout files located in the file system, the modification time is part of the cache key
+     * so that changes to custom layouts are picked up.
+     *
+     * @return the parsed layout or an empty optional if the layout file does not exist
+     * @throws IOException if the layout file exists, but cannot be read. The failure is not cached, so that the next
+     *                     export tries again.
+     */
+    private Optional<List<StringInt>> getParsedLayout(String filename) throws IOException {
+        String name = getLayoutFilePath(filename);
+        String cacheKey = name;
         Path path = Path.of(name);
         if (Files.exists(path)) {
-            return Files.newBufferedReader(path, StandardCharsets.UTF_8);
+            try {
+                cacheKey = name + '@' + Files.getLastModifiedTime(path).toMillis();
+            } catch (IOException e) {
+                LOGGER.debug("Could not determine modification time of {}", path, e);
+                return readParsedLayout(filename);
+            }
         }
-
-        InputStream inputStream = TemplateExporter.class.getResourceAsStream(name);
-        if (inputStream == null) {
-            throw new IOException("Cannot find layout file: '" + name + "'.");
+        Optional<List<StringInt>> parsedLayout = PARSED_LAYOUTS.get(cacheKey);
+        if (parsedLayout == null) {
+            parsedLayout = readParsedLayout(filename);
+            PARSED_LAYOUTS.putIfAbsent(cacheKey, parsedLayout);
         }
+        return parsedLayout;
+    }
 
-        return new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    private Optional<List<StringInt>> readParsedLayout(String filename) throws IOException {
+        Optional<Reader> optionalReader = getReader(filename);
+        if (optionalReader.isEmpty()) {
+            // The layout file does not exist (e.g., there is no type-specific layout or no begin/end file)
+            return Optional.empty();
+        }
+        try (Reader reader = optionalReader.get()) {
+            // The preferences and the abbreviations are only required when creating the layout; they do not influence the parsing
+            return Optional.of(new LayoutHelper(reader, layoutPreferences, null).getParsedEntriesFromText());
+        }
     }
 
     @Override
@@ -212,8 +276,6 @@ public class TemplateExporter extends Exporter {
         }
 
         try (AtomicFileWriter ps = new AtomicFileWriter(file, encodingToUse)) {
-            Layout beginLayout = null;
-
             // Check if this export filter has bundled name formatters:
             // Add these to the preferences, so all layouts have access to the custom name formatters:
             readFormatterFile();
@@ -221,17 +283,12 @@ public class TemplateExporter extends Exporter {
             List<String> missingFormatters = new ArrayList<>(1);
 
             // Print header
-            try (Reader reader = getReader(lfFileName + BEGIN_INFIX + LAYOUT_EXTENSION)) {
-                LayoutHelper layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
-                beginLayout = layoutHelper.getLayoutFromText();
-            } catch (IOException ex) {
-                // If an exception was cast, export filter doesn't have a begin
-                // file.
-            }
-            // Write the header
-            if (beginLayout != null) {
-                ps.write(beginLayout.doLayout(databaseContext, encodingToUse));
-                missingFormatters.addAll(beginLayout.getMissingFormatters());
+            // If there is no parsed layout, the export filter doesn't have a begin file.
+            Optional<List<StringInt>> beginLayout = getParsedLayout(lfFileName + BEGIN_INFIX + LAYOUT_EXTENSION);
+            if (beginLayout.isPresent()) {
+                Layout layout = new Layout(beginLayout.get(), fileDirForDatabase, layoutPreferences, abbreviationRepository);
+                ps.write(layout.doLayout(databaseContext, encodingToUse));
+                missingFormatters.addAll(layout.getMissingFormatters());
             }
 
             /*
@@ -241,81 +298,153 @@ public class TemplateExporter extends Exporter {
             List<BibEntry> sorted = BibDatabaseWriter.getSortedEntries(entries, saveOrder);
 
             // Load default layout
-            Layout defLayout;
-            LayoutHelper layoutHelper;
-            try (Reader reader = getReader(lfFileName + LAYOUT_EXTENSION)) {
-                layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
-                defLayout = layoutHelper.getLayoutFromText();
-            }
-            if (defLayout != null) {
-                missingFormatters.addAll(defLayout.getMissingFormatters());
-                if (!missingFormatters.isEmpty()) {
-                    LOGGER.warn("Missing formatters found: {}", missingFormatters);
-                }
-            }
-            Map<EntryType, Layout> layouts = new HashMap<>();
-            Layout layout;
+            List<StringInt> defaultLayout = getParsedLayout(lfFileName + LAYOUT_EXTENSION)
+                    .orElseThrow(() -> new IOException("Cannot find layout file: '" + getLayoutFilePath(lfFileName + LAYOUT_EXTENSION) + "'."));
 
-            Number.serialExportNumber = 0;
+            // We try to get a type-specific layout for each entry type. If there is none, we go with the default one.
+            Map<EntryType, List<StringInt>> parsedLayouts = new HashMap<>();
             for (BibEntry entry : sorted) {
-                Number.serialExportNumber++; // Increment entry counter.
-                // Get the layout
                 EntryType type = entry.getType();
-                if (layouts.containsKey(type)) {
-                    layout = layouts.get(type);
-                } else {
-                    try (Reader reader = getReader(lfFileName + '.' + type.getName() + LAYOUT_EXTENSION)) {
-                        // We try to get a type-specific layout for this entry.
-                        layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
-                        layout = layoutHelper.getLayoutFromText();
-                        layouts.put(type, layout);
-                        if (layout != null) {
-                            missingFormatters.addAll(layout.getMissingFormatters());
-                        }
-                    } catch (IOException ex) {
-                        // The exception indicates that no type-specific layout
-                        // exists, so we
-                        // go with the default one.
-                        layout = defLayout;
-                    }
+                if (!parsedLayouts.containsKey(type)) {
+                    parsedLayouts.put(type, getParsedLayout(lfFileName + '.' + type.getName() + LAYOUT_EXTENSION).orElse(defaultLayout));
                 }
+            }
+
+            EntryRenderer renderer = new EntryRenderer(parsedLayouts, databaseContext, fileDirForDatabase, abbreviationRepository);
+            renderEntries(sorted, renderer, usesGroups(parsedLayouts.values()), ps);
+            missingFormatters.addAll(renderer.getMissingFormatters());
+            if (!missingFormatters.isEmpty()) {
+                LOGGER.warn("Missing formatters found: {}", missingFormatters);
+            }
 
-                // Write the entry
-                if (layout != null) {
+            // Print footer
+            // If there is no parsed layout, the export filter doesn't have an end file.
+            Optional<List<StringInt>> endLayout = getParsedLayout(lfFileName + END_INFIX + LAYOUT_EXTENSION);
+            if (endLayout.isPresent()) {
+                Layout layout = new Layout(endLayout.get(), fileDirForDatabase, layoutPreferences, abbreviationRepository);
+                ps.write(layout.doLayout(databaseContext, encodingToUse));
+                missingFormatters.addAll(layout.getMissingFormatters());
+            }
+
+            layoutPreferences.clearCustomExportNameFormatters();
+
+            if (!missingFormatters.isEmpty() && LOGGER.isWarnEnabled()) {
+                LOGGER.warn("Formatters {} not found", String.join(", ", missingFormatters));
+            }
+        }
+    }
+
+    /**
+     * Renders the given entries and writes them in the given order.
+     * <p>
+     * Chunks of entries are rendered concurrently, each chunk with its own {@link Layout} instances, because formatters
+     * may keep state. The rendered chunks are written in the order of the entries. Layouts using groups depend on the
+     * previously rendered entry and are therefore rendered sequentially.
+     */
+    private void renderEntries(List<BibEntry> sorted, EntryRenderer renderer, boolean sequential, Writer writer) throws Exception {
+        if (sequential || (sorted.size() <= ENTRIES_PER_CHUNK)) {
+            writer.write(renderer.render(sorted, 0));
+            return;
+        }
+
+        int maxChunksInFlight = 2 * Runtime.getRuntime().availableProcessors();
+        Deque<Future<String>> renderedChunks = new ArrayDeque<>();
+        try {
+            for (int start = 0; start < sorted.size(); start += ENTRIES_PER_CHUNK) {
+                if (renderedChunks.size() >= maxChunksInFlight) {
+                    writer.write(getRenderedChunk(renderedChunks.removeFirst()));
+                }
+                List<BibEntry> chunk = sorted.subList(start, Math.min(start + ENTRIES_PER_CHUNK, sorted.size()));
+                int offset = start;
+                renderedChunks.addLast(HeadlessExecutorService.INSTANCE.execute(() -> renderer.render(chunk, offset)));
+            }
+            while (!renderedChunks.isEmpty()) {
+                writer.write(getRenderedChunk(renderedChunks.removeFirst()));
+            }
+        } finally {
+            renderedChunks.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private static String getRenderedChunk(Future<String> renderedChunk) throws Exception {
+        try {
+            return renderedChunk.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static boolean usesGroups(Collection<List<StringInt>> parsedLayouts) {
+        return parsedLayouts.stream()
+                            .flatMap(List::stream)
+                            .anyMatch(parsedEntry -> parsedEntry.i == LayoutHelper.IS_GROUP_START);
+    }
+
+    /**
+     * Renders entries based on the parsed layouts. Each call to {@link #render(List, int)} creates its own layouts, so
+     * that the renderer can be used by several threads at once.
+     */
+    private class EntryRenderer {
+
+        private final Map<EntryType, List<StringInt>> parsedLayouts;
+        private final BibDatabaseContext databaseContext;
+        private final List<Path> fileDirForDatabase;
+        private final JournalAbbreviationRepository abbreviationRepository;
+        private final Set<String> missingFormatters = ConcurrentHashMap.newKeySet();
+
+        EntryRenderer(Map<EntryType, List<StringInt>> parsedLayouts,
+                      BibDatabaseContext databaseContext,
+                      List<Path> fileDirForDatabase,
+                      JournalAbbreviationRepository abbreviationRepository) {
+            this.parsedLayouts = parsedLayouts;
+            this.databaseContext = databaseContext;
+            this.fileDirForDatabase = fileDirForDatabase;
+            this.abbreviationRepository = abbreviationRepository;
+        }
+
+        /**
+         * @param entries the entries to render
+         * @param offset  the number of entries preceding the given entries in the export (used for the entry numbers)
+         */
+        String render(List<BibEntry> entries, int offset) {
+            Map<List<StringInt>, Layout> layouts = new IdentityHashMap<>();
+            StringBuilder builder = new StringBuilder();
+            try {
+                int serialExportNumber = offset;
+                for (BibEntry entry : entries) {
+                    serialExportNumber++; // Increment entry counter.
+                    Number.setSerialExportNumber(serialExportNumber);
+
+                    // Get the layout
+                    Layout layout = layouts.computeIfAbsent(parsedLayouts.get(entry.getType()), parsedLayout -> {
+                        Layout newLayout = new Layout(parsedLayout, fileDirForDatabase, layoutPreferences, abbreviationRepository);
+                        missingFormatters.addAll(newLayout.getMissingFormatters());
+                        return newLayout;
+                    });
+
+                    // Write the entry
                     if (blankLineBehaviour == BlankLineBehaviour.DELETE_BLANKS) {
                         String[] lines = layout.doLayout(entry, databaseContext.getDatabase()).split(BLANK_LINE_PATTERN);
                         for (String line : lines) {
                             if (!line.isBlank() && !line.isEmpty()) {
-                                ps.write(line + OS.NEWLINE);
+                                builder.append(line).append(OS.NEWLINE);
                             }
                         }
                     } else {
-                        ps.write(layout.doLayout(entry, databaseContext.getDatabase()));
+                        builder.append(layout.doLayout(entry, databaseContext.getDatabase()));
                     }
                 }
+            } finally {
+                Number.resetSerialExportNumber();
             }
+            return builder.toString();
+        }
 
-            // Print footer
-            Layout endLayout = null;
-            try (Reader reader = getReader(lfFileName + END_INFIX + LAYOUT_EXTENSION)) {
-                layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
-                endLayout = layoutHelper.getLayoutFromText();
-            } catch (IOException ex) {
-                // If an exception was thrown, export filter doesn't have an end
-                // file.
-            }
-
-            // Write footer
-            if (endLayout != null) {
-                ps.write(endLayout.doLayout(databaseContext, encodingToUse));
-                missingFormatters.addAll(endLayout.getMissingFormatters());
-            }
-
-            layoutPreferences.clearCustomExportNameFormatters();
-
-            if (!missingFormatters.isEmpty() && LOGGER.isWarnEnabled()) {
-                LOGGER.warn("Formatters {} not found", String.join(", ", missingFormatters));
-            }
+        List<String> getMissingFormatters() {
+            return new ArrayList<>(missingFormatters);
         }
     }
 
@@ -69,6 +69,7 @@ public class LinkedFileHandler {
 
         // Move
         Files.move(oldFile.get(), targetPath);
+        databaseContext.getFileDirectoryIndex().ifPresent(index -> index.fileMoved(oldFile.get(), targetPath));
 
         // Update path
         fileEntry.setLink(FileUtil.relativize(targetPath, databaseContext, filePreferences).toString());
@@ -107,6 +108,7 @@ public class LinkedFileHandler {
             Files.createDirectories(newPath.getParent());
             Files.move(oldPath, newPath);
         }
+        databaseContext.getFileDirectoryIndex().ifPresent(index -> index.fileMoved(oldPath, newPath));
 
         // Update path
         fileEntry.setLink(FileUtil.relativize(newPath, databaseContext, filePreferences).toString());
@@ -0,0 +1,108 @@
+package org.jabref.logic.importer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.strings.StringUtil;
+
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.RateLimiter;
+
+/**
+ * An {@link IdBasedParserFetcher} for services which look up several identifiers with one request. The fetched entries
+ * are assigned to the requested identifiers using {@link #getIdentifier(BibEntry)}.
+ */
+public interface BatchIdBasedParserFetcher extends IdBasedParserFetcher {
+
+    /**
+     * Returns the maximal number of identifiers the service accepts in one request.
+     */
+    int getMaximalBatchSize();
+
+    /**
+     * Constructs a URL looking up all given identifiers with one request.
+     *
+     * @param identifiers at most {@link #getMaximalBatchSize()} identifiers
+     */
+    URL getUrlForIdentifiers(List<String> identifiers) throws URISyntaxException, MalformedURLException;
+
+    /**
+     * Returns the identifier of a fetched entry in the form it was requested, used to assign the entries returned for a
+     * batch of identifiers.
+     */
+    Optional<String> getIdentifier(BibEntry fetchedEntry);
+
+    /**
+     * Returns the rate limiter to acquire a permit from before each batch request, if the service limits the number
+     * of requests.
+     */
+    default Optional<RateLimiter> getRateLimiter() {
+        return Optional.empty();
+    }
+
+    /**
+     * Looks up the identifiers in batches of {@link #getMaximalBatchSize()} identifiers. A batch whose request fails is
+     * logged and left out.
+     */
+    @Override
+    default Map<String, BibEntry> performSearchByIds(List<String> identifiers) {
+        if (getMaximalBatchSize() <= 1) {
+            return IdBasedParserFetcher.super.performSearchByIds(identifiers);
+        }
+
+        List<String> nonBlankIdentifiers = identifiers.stream().filter(StringUtil::isNotBlank).distinct().toList();
+        Map<String, BibEntry> result = new LinkedHashMap<>();
+        for (List<String> batch : Lists.partition(nonBlankIdentifiers, getMaximalBatchSize())) {
+            getRateLimiter().ifPresent(RateLimiter::acquire);
+            try {
+                result.putAll(performBatchSearch(batch));
+            } catch (FetcherException e) {
+                LOGGER.warn("{} could not look up {}", getName(), batch, e);
+            }
+        }
+        return result;
+    }
+
+    private Map<String, BibEntry> performBatchSearch(List<String> batch) throws FetcherException {
+        URL urlForIdentifiers;
+        try {
+            urlForIdentifiers = getUrlForIdentifiers(batch);
+        } catch (URISyntaxException | MalformedURLException e) {
+            throw new FetcherException("Search URI is malformed", e);
+        }
+
+        Map<String, String> requestedIdentifiers = new HashMap<>();
+        batch.forEach(identifier -> requestedIdentifiers.put(identifier.toLowerCase(Locale.ROOT), identifier));
+        Map<String, BibEntry> result = new HashMap<>();
+        try (InputStream stream = getUrlDownload(urlForIdentifiers).asInputStream()) {
+            for (BibEntry entry : getParser().parseEntries(stream)) {
+                Optional<String> identifier = getIdentifier(entry).map(id -> requestedIdentifiers.get(id.toLowerCase(Locale.ROOT)));
+                if (identifier.isEmpty()) {
+                    LOGGER.debug("Fetcher {} returned an entry not belonging to a requested identifier", getName());
+                    continue;
+                }
+                doPostCleanup(entry);
+                // As for a single identifier, the first entry found is used
+                result.putIfAbsent(identifier.get(), entry);
+            }
+            return result;
+        } catch (IOException e) {
+            if (e.getCause() instanceof FetcherException fe) {
+                throw fe;
+            }
+            throw new FetcherException(urlForIdentifiers, "A network error occurred", e);
+        } catch (ParseException e) {
+            throw new FetcherException(urlForIdentifiers, "An internal parser error occurred", e);
+        }
+    }
+}
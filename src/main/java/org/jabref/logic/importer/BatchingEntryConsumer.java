@@ -0,0 +1,47 @@
+package org.jabref.logic.importer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import org.jabref.model.entry.BibEntry;
+
+/**
+ * Collects the entries of an import one by one and passes them on in batches of {@link #BATCH_SIZE} entries.
+ * <p>
+ * Importers parsing the source entry by entry use this to stream the entries to the consumer given to
+ * {@link Importer#importDatabase(java.io.BufferedReader, Consumer)}. The last, incomplete, batch is only passed on
+ * when calling {@link #flush()}.
+ */
+public class BatchingEntryConsumer implements Consumer<BibEntry> {
+
+    public static final int BATCH_SIZE = 1000;
+
+    private final Consumer<List<BibEntry>> batchConsumer;
+    private List<BibEntry> batch = new ArrayList<>(BATCH_SIZE);
+
+    public BatchingEntryConsumer(Consumer<List<BibEntry>> batchConsumer) {
+        this.batchConsumer = Objects.requireNonNull(batchConsumer);
+    }
+
+    @Override
+    public void accept(BibEntry entry) {
+        batch.add(entry);
+        if (batch.size() == BATCH_SIZE) {
+            flush();
+        }
+    }
+
+    /**
+     * Passes the entries collected so far on.
+     */
+    public void flush() {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<BibEntry> entries = batch;
+        batch = new ArrayList<>(BATCH_SIZE);
+        batchConsumer.accept(entries);
+    }
+}
@@ -1,6 +1,15 @@
 package org.jabref.logic.importer;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Stream;
 
 import org.jabref.logic.importer.fetcher.ArXivFetcher;
@@ -44,6 +53,53 @@ public class CompositeIdFetcher {
         return Optional.empty();
     }
 
+    /**
+     * Looks up many identifiers at once. The identifiers are grouped by the service resolving them, each service
+     * receives all its identifiers in one call, allowing it to batch its requests, and the services are queried
+     * concurrently.
+     *
+     * @return the found entries by the given identifier (identifiers without data are not contained)
+     */
+    public Map<String, BibEntry> performSearchByIds(Collection<String> identifiers) {
+        // Normalized identifier to the identifiers given for it, grouped by fetcher
+        Map<IdBasedFetcher, Map<String, List<String>>> identifiersByFetcher = new LinkedHashMap<>();
+        DoiFetcher doiFetcher = new DoiFetcher(importFormatPreferences);
+        ArXivFetcher arXivFetcher = new ArXivFetcher(importFormatPreferences);
+        IsbnFetcher isbnFetcher = new IsbnFetcher(importFormatPreferences);
+        for (String identifier : identifiers) {
+            Optional<DOI> doi = DOI.findInText(identifier);
+            Optional<ArXivIdentifier> arXivIdentifier = ArXivIdentifier.parse(identifier);
+            Optional<ISBN> isbn = ISBN.parse(identifier);
+            if (doi.isPresent()) {
+                addIdentifier(identifiersByFetcher, doiFetcher, doi.get().getNormalized(), identifier);
+            } else if (arXivIdentifier.isPresent()) {
+                addIdentifier(identifiersByFetcher, arXivFetcher, arXivIdentifier.get().getNormalized(), identifier);
+            } else if (isbn.isPresent()) {
+                addIdentifier(identifiersByFetcher, isbnFetcher, isbn.get().getNormalized(), identifier);
+            }
+        }
+
+        Map<String, BibEntry> result = new HashMap<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<CompletableFuture<Void>> lookups = new ArrayList<>();
+            identifiersByFetcher.forEach((fetcher, givenIdentifiers) -> lookups.add(CompletableFuture
+                    .supplyAsync(() -> fetcher.performSearchByIds(List.copyOf(givenIdentifiers.keySet())), executor)
+                    .thenAccept(entries -> {
+                        synchronized (result) {
+                            entries.forEach((normalized, entry) -> givenIdentifiers.get(normalized).forEach(identifier -> result.put(identifier, entry)));
+                        }
+                    })));
+            CompletableFuture.allOf(lookups.toArray(CompletableFuture[]::new)).join();
+        }
+        return result;
+    }
+
+    private static void addIdentifier(Map<IdBasedFetcher, Map<String, List<String>>> identifiersByFetcher, IdBasedFetcher fetcher, String normalized, String identifier) {
+        identifiersByFetcher.computeIfAbsent(fetcher, key -> new LinkedHashMap<>())
+                            .computeIfAbsent(normalized, key -> new ArrayList<>())
+                            .add(identifier);
+    }
+
     public String getName() {
         return "CompositeIdFetcher";
     }
@@ -1,9 +1,14 @@
 package org.jabref.logic.importer;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.jabref.model.entry.BibEntry;
 
+import org.slf4j.LoggerFactory;
+
 /**
  * Searches web resources for bibliographic information based on an identifier.
  * Examples are ISBN numbers and DOIs.
@@ -17,4 +22,27 @@ public interface IdBasedFetcher extends WebFetcher {
      * @return a {@link BibEntry} containing the bibliographic information (or an empty optional if no data was found)
      */
     Optional<BibEntry> performSearchById(String identifier) throws FetcherException;
+
+    /**
+     * Looks for bibliographic information associated to each of the given identifiers.
+     * <p>
+     * By default, the identifiers are looked up one after another. Fetchers of services accepting several identifiers
+     * in one request (see {@link BatchIdBasedParserFetcher}), or allowing concurrent requests, override this to look up
+     * many identifiers faster. Identifiers
+     * whose lookup fails are logged and left out, so that one failure does not discard the other results.
+     *
+     * @param identifiers the identifiers to look up
+     * @return the found entries by identifier (identifiers without data are not contained)
+     */
+    default Map<String, BibEntry> performSearchByIds(List<String> identifiers) {
+        Map<String, BibEntry> result = new LinkedHashMap<>();
+        for (String identifier : identifiers) {
+            try {
+                performSearchById(identifier).ifPresent(entry -> result.put(identifier, entry));
+            } catch (FetcherException e) {
+                LoggerFactory.getLogger(IdBasedFetcher.class).warn("{} could not look up {}", getName(), identifier, e);
+            }
+        }
+        return result;
+    }
 }
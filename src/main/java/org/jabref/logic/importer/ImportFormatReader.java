@@ -1,6 +1,9 @@
 package org.jabref.logic.importer;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
@@ -8,6 +11,11 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
 import org.jabref.logic.importer.fileformat.BiblioscapeImporter;
@@ -33,14 +41,25 @@ import org.jabref.logic.importer.fileformat.PdfXmpImporter;
 import org.jabref.logic.importer.fileformat.RepecNepImporter;
 import org.jabref.logic.importer.fileformat.RisImporter;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.model.database.BibDatabases;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.util.FileUpdateMonitor;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 public class ImportFormatReader {
 
     public static final String BIBTEX_FORMAT = "BibTeX";
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(ImportFormatReader.class);
+
+    /**
+     * The number of bytes (or characters) at the beginning of a source checked by all importers
+     */
+    private static final int PREFIX_LENGTH = 64 * 1024;
+
     /**
      * All import formats.
      * Sorted accordingly to {@link Importer#compareTo}, which defaults to alphabetically by the name
@@ -112,19 +131,33 @@ public class ImportFormatReader {
     }
 
     public ParserResult importFromFile(String format, Path file) throws ImportException {
-        Optional<Importer> importer = getByCliId(format);
+        Importer importer = getImporterByCliId(format);
 
-        if (importer.isEmpty()) {
-            throw new ImportException(Localization.lang("Unknown import format") + ": " + format);
+        try {
+            return importer.importDatabase(file);
+        } catch (IOException e) {
+            throw new ImportException(e);
         }
+    }
+
+    /**
+     * Imports the file in the given format and passes the entries to the consumer while importing. See
+     * {@link Importer#importDatabase(Path, Consumer)} for details.
+     */
+    public ParserResult importFromFile(String format, Path file, Consumer<List<BibEntry>> entriesConsumer) throws ImportException {
+        Importer importer = getImporterByCliId(format);
 
         try {
-            return importer.get().importDatabase(file);
+            return importer.importDatabase(file, entriesConsumer);
         } catch (IOException e) {
             throw new ImportException(e);
         }
     }
 
+    private Importer getImporterByCliId(String format) throws ImportException {
+        return getByCliId(format).orElseThrow(() -> new ImportException(Localization.lang("Unknown import format") + ": " + format));
+    }
+
     /**
      * All importers.
      *
@@ -144,7 +177,9 @@ public class ImportFormatReader {
      * Tries to import a file by iterating through the available import filters,
      * and keeping the import that seems most promising.
      * <p/>
-     * This method first attempts to read this file as bibtex.
+     * The beginning of the file is read once and checked by all importers. Only the importers recognizing it
+     * import the file. See {@link #importUnknownFormat(CheckedFunction, Optional, CheckedFunction, boolean)} for details.
+     * If no importer succeeds, the file is read as BibTeX.
      *
      * @throws ImportException if the import fails (for example, if no suitable importer is found)
      */
@@ -152,7 +187,16 @@ public class ImportFormatReader {
         Objects.requireNonNull(filePath);
 
         try {
-            UnknownFormatImport unknownFormatImport = importUnknownFormat(importer -> importer.importDatabase(filePath), importer -> importer.isRecognizedFormat(filePath));
+            Optional<String> prefix;
+            try {
+                prefix = Optional.of(readPrefix(filePath));
+            } catch (IOException e) {
+                // The importers check the file itself then
+                LOGGER.debug("Could not read the beginning of {}", filePath, e);
+                prefix = Optional.empty();
+            }
+            // Some importers (e.g., for zipped files) do not read the file as text, thus they have to check the file itself
+            UnknownFormatImport unknownFormatImport = importUnknownFormat(importer -> importer.importDatabase(filePath), prefix, importer -> importer.isRecognizedFormat(filePath), true);
             unknownFormatImport.parserResult.setPath(filePath);
             return unknownFormatImport;
         } catch (ImportException e) {
@@ -172,51 +216,171 @@ public class ImportFormatReader {
         }
     }
 
+    /**
+     * Reads the first lines of the file, at most {@link #PREFIX_LENGTH} bytes.
+     */
+    private static String readPrefix(Path filePath) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(filePath)) {
+            byte[] bytes = inputStream.readNBytes(PREFIX_LENGTH);
+            String prefix = new String(bytes, StandardCharsets.UTF_8);
+            if ((bytes.length < PREFIX_LENGTH) || (inputStream.read() == -1)) {
+                return prefix;
+            }
+            return cutAfterLastLineBreak(prefix);
+        }
+    }
+
+    private static String cutAfterLastLineBreak(String prefix) {
+        // A cut line could be misinterpreted, e.g., if the cut is inside a tag
+        int lastLineBreak = prefix.lastIndexOf('\n');
+        return lastLineBreak < 0 ? prefix : prefix.substring(0, lastLineBreak + 1);
+    }
+
     /**
      * Tries to import entries by iterating through the available import filters,
-     * and keeping the import that seems the most promising
+     * and keeping the import that seems the most promising.
+     * <p>
+     * Reading the complete source with each importer takes long for large sources. Therefore, the importers are
+     * tried in three stages. The next stage is only reached if no import of the previous stage found entries.
+     * <ol>
+     *     <li>The importers recognizing the beginning of the source (the prefix)</li>
+     *     <li>If the prefix is not the complete source, the importers recognizing the complete source</li>
+     *     <li>The importers {@link Importer#acceptsAnySource() accepting any source}, e.g., BibTeX, on their own</li>
+     * </ol>
+     * The importers accepting any source compete in the first stage having recognizing importers. The importers of a
+     * stage import the source concurrently and the import with the most entries is kept. Thus, the result is the same
+     * as if all importers recognizing the source were compared at once, as long as the importers not recognizing the
+     * prefix do not recognize the complete source either.
      *
      * @param importDatabase     the function to import the entries with a formatter
-     * @param isRecognizedFormat the function to check whether the source is in the correct format for an importer
+     * @param prefix             the beginning of the source, empty if it could not be read
+     * @param isRecognizedFormat the function to check whether the complete source is in the correct format for an importer
+     * @param prefixIsIncomplete whether the importers not recognizing the prefix have to check the complete source
      * @return an UnknownFormatImport with the imported entries and metadata
      * @throws ImportException if the import fails (for example, if no suitable importer is found)
      */
-    private UnknownFormatImport importUnknownFormat(CheckedFunction<Importer, ParserResult> importDatabase, CheckedFunction<Importer, Boolean> isRecognizedFormat) throws ImportException {
-        // stores ref to best result, gets updated at the next loop
-        List<BibEntry> bestResult = null;
-        int bestResultCount = 0;
-        String bestFormatName = null;
+    private UnknownFormatImport importUnknownFormat(CheckedFunction<Importer, ParserResult> importDatabase,
+                                                    Optional<String> prefix,
+                                                    CheckedFunction<Importer, Boolean> isRecognizedFormat,
+                                                    boolean prefixIsIncomplete) throws ImportException {
+        long start = System.nanoTime();
+        List<Importer> importers = formats.stream().filter(importer -> !importer.acceptsAnySource()).toList();
+        List<Importer> acceptingAnySource = formats.stream().filter(Importer::acceptsAnySource).toList();
+        boolean acceptingAnySourceTried = false;
 
-        // Cycle through all importers:
-        for (Importer imFo : formats) {
-            try {
-                if (!isRecognizedFormat.apply(imFo)) {
-                    continue;
-                }
+        List<Importer> prefixRecognizing = prefix.map(text -> getRecognizing(importers, importer -> importer.isRecognizedFormat(text)))
+                                                 .orElse(List.of());
+        LOGGER.debug("Importers recognizing the beginning of the source: {} (checked in {} ms)", prefixRecognizing, toMillis(start));
+        Optional<UnknownFormatImport> bestImport = Optional.empty();
+        if (!prefixRecognizing.isEmpty()) {
+            bestImport = importBest(withAcceptingAnySource(prefixRecognizing, acceptingAnySource), importDatabase);
+            acceptingAnySourceTried = true;
+        }
+
+        if (bestImport.isEmpty() && (prefixIsIncomplete || prefix.isEmpty())) {
+            List<Importer> remaining = importers.stream().filter(importer -> !prefixRecognizing.contains(importer)).toList();
+            List<Importer> recognizing = getRecognizing(remaining, isRecognizedFormat);
+            if (!recognizing.isEmpty()) {
+                bestImport = importBest(acceptingAnySourceTried ? recognizing : withAcceptingAnySource(recognizing, acceptingAnySource), importDatabase);
+                acceptingAnySourceTried = true;
+            }
+        }
 
-                ParserResult parserResult = importDatabase.apply(imFo);
-                List<BibEntry> entries = parserResult.getDatabase().getEntries();
+        if (bestImport.isEmpty() && !acceptingAnySourceTried) {
+            bestImport = importBest(acceptingAnySource, importDatabase);
+        }
 
-                BibDatabases.purgeEmptyEntries(entries);
-                int entryCount = entries.size();
+        LOGGER.debug("Imported source in unknown format in {} ms", toMillis(start));
+        return bestImport.orElseThrow(() -> new ImportException(Localization.lang("Could not find a suitable import format.")));
+    }
 
-                if (entryCount > bestResultCount) {
-                    bestResult = entries;
-                    bestResultCount = entryCount;
-                    bestFormatName = imFo.getName();
+    /**
+     * The importers accepting any source come last, so that the specific importers win a tie
+     */
+    private static List<Importer> withAcceptingAnySource(List<Importer> recognizing, List<Importer> acceptingAnySource) {
+        List<Importer> importers = new ArrayList<>(recognizing);
+        importers.addAll(acceptingAnySource);
+        return importers;
+    }
+
+    private static List<Importer> getRecognizing(List<Importer> importers, CheckedFunction<Importer, Boolean> isRecognizedFormat) {
+        List<Importer> recognizing = new ArrayList<>();
+        for (Importer importer : importers) {
+            try {
+                if (isRecognizedFormat.apply(importer)) {
+                    recognizing.add(importer);
                 }
             } catch (IOException ex) {
-                // The import did not succeed. Go on.
+                // The check did not succeed. Go on.
+            }
+        }
+        return recognizing;
+    }
+
+    /**
+     * Imports the source with the given importers and keeps the import with the most entries. In case of a tie, the
+     * import of the importer coming first is kept.
+     *
+     * @return empty, if no import found entries
+     */
+    private static Optional<UnknownFormatImport> importBest(List<Importer> importers, CheckedFunction<Importer, ParserResult> importDatabase) {
+        List<Optional<List<BibEntry>>> results;
+        if (importers.size() == 1) {
+            results = List.of(importEntries(importers.getFirst(), importDatabase));
+        } else {
+            List<Callable<Optional<List<BibEntry>>>> imports = importers.stream()
+                                                                        .<Callable<Optional<List<BibEntry>>>>map(importer -> () -> importEntries(importer, importDatabase))
+                                                                        .toList();
+            results = new ArrayList<>();
+            for (Future<Optional<List<BibEntry>>> future : HeadlessExecutorService.INSTANCE.executeAll(imports)) {
+                try {
+                    results.add(future.get());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    results.add(Optional.empty());
+                } catch (ExecutionException e) {
+                    LOGGER.debug("Import failed", e);
+                    results.add(Optional.empty());
+                }
             }
         }
 
-        if (bestResult != null) {
-            // we found something
-            ParserResult parserResult = new ParserResult(bestResult);
-            return new UnknownFormatImport(bestFormatName, parserResult);
+        // stores ref to best result
+        List<BibEntry> bestResult = null;
+        String bestFormatName = null;
+        for (int i = 0; i < results.size(); i++) {
+            Optional<List<BibEntry>> entries = results.get(i);
+            if (entries.isPresent() && (entries.get().size() > ((bestResult == null) ? 0 : bestResult.size()))) {
+                bestResult = entries.get();
+                bestFormatName = importers.get(i).getName();
+            }
         }
 
-        throw new ImportException(Localization.lang("Could not find a suitable import format."));
+        if (bestResult == null) {
+            return Optional.empty();
+        }
+        // we found something
+        return Optional.of(new UnknownFormatImport(bestFormatName, new ParserResult(bestResult)));
+    }
+
+    private static Optional<List<BibEntry>> importEntries(Importer importer, CheckedFunction<Importer, ParserResult> importDatabase) {
+        long start = System.nanoTime();
+        try {
+            ParserResult parserResult = importDatabase.apply(importer);
+            List<BibEntry> entries = parserResult.getDatabase().getEntries();
+
+            BibDatabases.purgeEmptyEntries(entries);
+            LOGGER.debug("{} imported {} entries in {} ms", importer.getName(), entries.size(), toMillis(start));
+            return Optional.of(entries);
+        } catch (IOException ex) {
+            // The import did not succeed. Go on.
+            LOGGER.debug("{} could not import the source", importer.getName(), ex);
+            return Optional.empty();
+        }
+    }
+
+    private static long toMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
     }
 
     @FunctionalInterface
@@ -236,6 +400,7 @@ public class ImportFormatReader {
     public UnknownFormatImport importUnknownFormat(String data) throws ImportException {
         Objects.requireNonNull(data);
 
-        return importUnknownFormat(importer -> importer.importDatabase(data), importer -> importer.isRecognizedFormat(data));
+        String prefix = data.length() <= PREFIX_LENGTH ? data : cutAfterLastLineBreak(data.substring(0, PREFIX_LENGTH));
+        return importUnknownFormat(importer -> importer.importDatabase(data), Optional.of(prefix), importer -> importer.isRecognizedFormat(data), prefix.length() < data.length());
     }
 }
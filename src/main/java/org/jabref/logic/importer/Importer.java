@@ -12,12 +12,16 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 import org.jabref.logic.util.FileType;
 import org.jabref.logic.util.io.FileUtil;
 import org.jabref.model.database.BibDatabaseModeDetection;
+import org.jabref.model.entry.BibEntry;
 
+import com.google.common.collect.Lists;
 import com.ibm.icu.text.CharsetDetector;
 import com.ibm.icu.text.CharsetMatch;
 import org.slf4j.Logger;
@@ -68,6 +72,17 @@ public abstract class Importer implements Comparable<Importer> {
         }
     }
 
+    /**
+     * Returns whether {@link #isRecognizedFormat(BufferedReader)} accepts any source, because the format has no
+     * characteristics to check for.
+     * <p>
+     * When searching for a suitable import format, such an importer is only tried if no other importer recognizes
+     * the source.
+     */
+    public boolean acceptsAnySource() {
+        return false;
+    }
+
     /**
      * Parse the database in the source.
      * <p>
@@ -89,24 +104,71 @@ public abstract class Importer implements Comparable<Importer> {
      * @param filePath the path to the file which should be imported
      */
     public ParserResult importDatabase(Path filePath) throws IOException {
+        ParserResult parserResult = importFile(filePath, this::importDatabase);
+
+        // Make sure the mode is always set
+        if (parserResult.getMetaData().getMode().isEmpty()) {
+            parserResult.getMetaData().setMode(BibDatabaseModeDetection.inferMode(parserResult.getDatabase()));
+        }
+        return parserResult;
+    }
+
+    /**
+     * Parse the database in the source and pass the entries to the given consumer while parsing.
+     * <p>
+     * The entries are passed in batches of at most {@link BatchingEntryConsumer#BATCH_SIZE} entries in the order of
+     * the source. They are not contained in the database of the returned result, which holds the remaining content,
+     * such as the metadata and the warnings. Thus, the caller decides where the entries are kept and neither the
+     * importer nor the result holds all of them.
+     * <p>
+     * Importers parsing the source entry by entry override this method. By default, the complete source is imported
+     * and the entries are passed on afterwards. If the source turns out to be invalid, the entries passed so far are
+     * not taken back.
+     *
+     * @param input           the input to read from
+     * @param entriesConsumer receives the parsed entries
+     */
+    public ParserResult importDatabase(BufferedReader input, Consumer<List<BibEntry>> entriesConsumer) throws IOException {
+        return passEntries(importDatabase(input), entriesConsumer);
+    }
+
+    /**
+     * Parse the database in the specified file and pass the entries to the given consumer while parsing. See
+     * {@link #importDatabase(BufferedReader, Consumer)} for details.
+     * <p>
+     * As the entries are not part of the result, the mode of the library is not inferred from them.
+     *
+     * @param filePath        the path to the file which should be imported
+     * @param entriesConsumer receives the parsed entries
+     */
+    public ParserResult importDatabase(Path filePath, Consumer<List<BibEntry>> entriesConsumer) throws IOException {
+        return passEntries(importDatabase(filePath), entriesConsumer);
+    }
+
+    /**
+     * Reads the specified file as UTF-8 and imports it using the given function.
+     */
+    protected ParserResult importFile(Path filePath, ImportFormatReader.CheckedFunction<BufferedReader, ParserResult> importFunction) throws IOException {
         try (InputStream inputStream = Files.newInputStream(filePath, StandardOpenOption.READ)) {
             BufferedInputStream bufferedInputStream = new BufferedInputStream(inputStream);
 
             Charset charset = StandardCharsets.UTF_8;
 
             BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(bufferedInputStream, charset));
-            ParserResult parserResult = importDatabase(bufferedReader);
+            ParserResult parserResult = importFunction.apply(bufferedReader);
             parserResult.getMetaData().setEncoding(charset);
             parserResult.setPath(filePath);
-
-            // Make sure the mode is always set
-            if (parserResult.getMetaData().getMode().isEmpty()) {
-                parserResult.getMetaData().setMode(BibDatabaseModeDetection.inferMode(parserResult.getDatabase()));
-            }
             return parserResult;
         }
     }
 
+    private static ParserResult passEntries(ParserResult parserResult, Consumer<List<BibEntry>> entriesConsumer) {
+        List<BibEntry> entries = List.copyOf(parserResult.getDatabase().getEntries());
+        parserResult.getDatabase().removeEntries(entries);
+        Lists.partition(entries, BatchingEntryConsumer.BATCH_SIZE).forEach(entriesConsumer);
+        return parserResult;
+    }
+
     protected static Charset getCharset(BufferedInputStream bufferedInputStream) {
         Charset defaultCharSet = StandardCharsets.UTF_8;
 
@@ -40,14 +40,18 @@ public interface SearchBasedFetcher extends WebFetcher {
             return Collections.emptyList();
         }
 
+        return this.performSearch(parseQuery(searchQuery));
+    }
+
+    /**
+     * Parses the given query string to the lucene query passed to {@link #performSearch(QueryNode)}.
+     */
+    static QueryNode parseQuery(String searchQuery) throws FetcherException {
         SyntaxParser parser = new StandardSyntaxParser();
-        QueryNode queryNode;
         try {
-            queryNode = parser.parse(searchQuery, NO_EXPLICIT_FIELD);
+            return parser.parse(searchQuery, NO_EXPLICIT_FIELD);
         } catch (QueryNodeParseException e) {
             throw new FetcherException("An error occurred when parsing the query");
         }
-
-        return this.performSearch(queryNode);
     }
 }
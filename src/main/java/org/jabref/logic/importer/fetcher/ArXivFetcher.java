@@ -9,6 +9,8 @@ import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -49,6 +51,8 @@ import org.jabref.model.paging.Page;
 import org.jabref.model.strings.StringUtil;
 import org.jabref.model.util.OptionalUtil;
 
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.RateLimiter;
 import org.apache.hc.core5.net.URIBuilder;
 import org.apache.lucene.queryparser.flexible.core.nodes.QueryNode;
 import org.slf4j.Logger;
@@ -371,6 +375,20 @@ public class ArXivFetcher implements FulltextFetcher, PagedSearchBasedFetcher, I
         return arXivBibEntryPromise.join();
     }
 
+    /**
+     * Looks the identifiers up in batches and then merges the data of the DOIs of all found entries concurrently.
+     */
+    @Override
+    public Map<String, BibEntry> performSearchByIds(List<String> identifiers) {
+        Map<String, BibEntry> result = arXiv.performSearchByIds(identifiers);
+        if (this.doiFetcher != null) {
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                result.values().forEach(bibEntry -> executor.execute(() -> inplaceAsyncInfuseArXivWithDoi(bibEntry)));
+            }
+        }
+        return result;
+    }
+
     @Override
     public Optional<ArXivIdentifier> findIdentifier(BibEntry entry) throws FetcherException {
         return arXiv.findIdentifier(entry);
@@ -400,6 +418,10 @@ public class ArXivFetcher implements FulltextFetcher, PagedSearchBasedFetcher, I
 
         private static final DocumentBuilderFactory DOCUMENT_BUILDER_FACTORY = DocumentBuilderFactory.newInstance();
 
+        // arXiv asks for at most one request every three seconds. See https://info.arxiv.org/help/api/tou.html
+        private static final RateLimiter API_RATE_LIMITER = RateLimiter.create(1.0 / 3);
+        private static final int MAXIMAL_BATCH_SIZE = 100;
+
         private final ImportFormatPreferences importFormatPreferences;
 
         public ArXiv(ImportFormatPreferences importFormatPreferences) {
@@ -645,6 +667,39 @@ public class ArXivFetcher implements FulltextFetcher, PagedSearchBasedFetcher, I
                     .map(arXivEntry -> arXivEntry.toBibEntry(importFormatPreferences.bibEntryPreferences().getKeywordSeparator()));
         }
 
+        /**
+         * Looks the identifiers up using the {@code id_list} parameter of the API, {@value #MAXIMAL_BATCH_SIZE}
+         * identifiers per request.
+         */
+        @Override
+        public Map<String, BibEntry> performSearchByIds(List<String> identifiers) {
+            // The API returns the identifiers without version
+            Map<String, String> requestedIdentifiers = new HashMap<>();
+            List<ArXivIdentifier> ids = new ArrayList<>();
+            for (String identifier : identifiers) {
+                ArXivIdentifier.parse(identifier).ifPresent(id -> {
+                    if (requestedIdentifiers.putIfAbsent(id.getNormalizedWithoutVersion(), identifier) == null) {
+                        ids.add(id);
+                    }
+                });
+            }
+
+            Map<String, BibEntry> result = new LinkedHashMap<>();
+            for (List<ArXivIdentifier> batch : Lists.partition(ids, MAXIMAL_BATCH_SIZE)) {
+                API_RATE_LIMITER.acquire();
+                try {
+                    for (ArXivEntry arXivEntry : queryApi("", batch, 0, batch.size())) {
+                        arXivEntry.getIdString()
+                                  .map(requestedIdentifiers::get)
+                                  .ifPresent(identifier -> result.put(identifier, arXivEntry.toBibEntry(importFormatPreferences.bibEntryPreferences().getKeywordSeparator())));
+                    }
+                } catch (FetcherException e) {
+                    LOGGER.warn("arXiv API request failed for {}", batch, e);
+                }
+            }
+            return result;
+        }
+
         @Override
         public Optional<ArXivIdentifier> findIdentifier(BibEntry entry) throws FetcherException {
             return searchForEntries(entry).stream()
@@ -1,10 +1,24 @@
 package org.jabref.logic.importer.fetcher;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.jabref.logic.help.HelpFile;
 import org.jabref.logic.importer.FetcherException;
@@ -22,11 +36,55 @@ public class CompositeSearchBasedFetcher implements SearchBasedFetcher {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CompositeSearchBasedFetcher.class);
 
+    private static final Duration DEFAULT_FETCHER_TIMEOUT = Duration.ofSeconds(20);
+
     private Set<SearchBasedFetcher> fetchers;
     private final int maximumNumberOfReturnedResults;
+    private final Duration fetcherTimeout;
+
+    /**
+     * Reports how the catalogs answered a search.
+     *
+     * @param answered the names of the catalogs whose results were passed on
+     * @param failed   the names of the catalogs whose request failed
+     * @param timedOut the names of the catalogs which did not answer within the deadline
+     */
+    public record SearchReport(Set<String> answered, Set<String> failed, Set<String> timedOut) {
+
+        /**
+         * Returns the names of the catalogs whose results are missing, because their request failed or timed out.
+         */
+        public Set<String> unanswered() {
+            Set<String> unanswered = new HashSet<>(failed);
+            unanswered.addAll(timedOut);
+            return unanswered;
+        }
+
+        /**
+         * Checks whether no catalog failed or timed out. Catalogs still running when the maximum number of results was
+         * reached are not needed, thus the result is complete then.
+         */
+        public boolean isComplete() {
+            return failed.isEmpty() && timedOut.isEmpty();
+        }
+    }
+
+    /**
+     * The entries found by a search together with the {@link SearchReport} telling whether they are complete.
+     */
+    public record SearchResult(List<BibEntry> entries, SearchReport report) {
+    }
 
     public CompositeSearchBasedFetcher(Set<SearchBasedFetcher> searchBasedFetchers, ImporterPreferences importerPreferences, int maximumNumberOfReturnedResults)
             throws IllegalArgumentException {
+        this(searchBasedFetchers, importerPreferences, maximumNumberOfReturnedResults, DEFAULT_FETCHER_TIMEOUT);
+    }
+
+    /**
+     * @param fetcherTimeout the time each catalog has to answer
+     */
+    public CompositeSearchBasedFetcher(Set<SearchBasedFetcher> searchBasedFetchers, ImporterPreferences importerPreferences, int maximumNumberOfReturnedResults, Duration fetcherTimeout)
+            throws IllegalArgumentException {
         if (searchBasedFetchers == null) {
             throw new IllegalArgumentException("The set of searchBasedFetchers must not be null!");
         }
@@ -39,6 +97,7 @@ public class CompositeSearchBasedFetcher implements SearchBasedFetcher {
                                                                                        .anyMatch((name -> name.equals(searchBasedFetcher.getName()))))
                                       .collect(Collectors.toSet());
         this.maximumNumberOfReturnedResults = maximumNumberOfReturnedResults;
+        this.fetcherTimeout = fetcherTimeout;
     }
 
     @Override
@@ -51,19 +110,204 @@ public class CompositeSearchBasedFetcher implements SearchBasedFetcher {
         return Optional.empty();
     }
 
+    /**
+     * Searches all catalogs and waits for their results. Catalogs not answering within the deadline are left out; use
+     * {@link #performSearchWithReport(String)} to learn which ones.
+     *
+     * @throws FetcherException if none of the catalogs answered
+     */
     @Override
     public List<BibEntry> performSearch(QueryNode luceneQuery) throws FetcherException {
-        // All entries have to be converted into one format, this is necessary for the format conversion
-        return fetchers.parallelStream()
-                       .flatMap(searchBasedFetcher -> {
-                           try {
-                               return searchBasedFetcher.performSearch(luceneQuery).stream();
-                           } catch (FetcherException e) {
-                               LOGGER.warn("%s API request failed".formatted(searchBasedFetcher.getName()), e);
-                               return Stream.empty();
-                           }
-                       })
-                       .limit(maximumNumberOfReturnedResults)
-                       .collect(Collectors.toList());
+        SearchResult result = performSearchWithReport(luceneQuery);
+        SearchReport report = result.report();
+        if (report.answered().isEmpty() && !report.isComplete()) {
+            throw new FetcherException("None of the catalogs answered: " + String.join(", ", report.unanswered()));
+        }
+        if (!report.isComplete()) {
+            LOGGER.warn("Search results are incomplete, these catalogs did not answer: {}", report.unanswered());
+        }
+        return result.entries();
+    }
+
+    /**
+     * Searches all catalogs like {@link #performSearch(String)}, but returns the report which catalogs answered, too.
+     */
+    public SearchResult performSearchWithReport(String searchQuery) throws FetcherException {
+        if (searchQuery.isBlank()) {
+            return new SearchResult(List.of(), new SearchReport(Set.of(), Set.of(), Set.of()));
+        }
+        return performSearchWithReport(SearchBasedFetcher.parseQuery(searchQuery));
+    }
+
+    /**
+     * Searches all catalogs and waits for their results, see {@link #performSearchAsync(QueryNode, Consumer)}.
+     */
+    public SearchResult performSearchWithReport(QueryNode luceneQuery) throws FetcherException {
+        List<BibEntry> results = new ArrayList<>();
+        try {
+            SearchReport report = performSearchAsync(luceneQuery, results::addAll).get();
+            return new SearchResult(results, report);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FetcherException("Search was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new FetcherException("Search failed", e.getCause());
+        }
+    }
+
+    /**
+     * Searches all catalogs concurrently, each one on its own virtual thread. The results of a catalog are passed to
+     * the consumer as soon as it answers, leaving out the entries already passed on (having the same DOI, or the same
+     * title as a result of another catalog). The consumer is called by one catalog at a time.
+     * <p>
+     * Each catalog has to answer within the timeout given at construction. Catalogs answering later are not waited
+     * for, but reported in the returned {@link SearchReport}, which completes as soon as all catalogs answered, the
+     * deadline passed or the maximum number of results was passed on.
+     */
+    public CompletableFuture<SearchReport> performSearchAsync(QueryNode luceneQuery, Consumer<List<BibEntry>> resultConsumer) {
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        ResultMerger merger = new ResultMerger(resultConsumer);
+        Set<String> answered = ConcurrentHashMap.newKeySet();
+        Set<String> failed = ConcurrentHashMap.newKeySet();
+        Set<String> timedOut = ConcurrentHashMap.newKeySet();
+
+        List<CompletableFuture<Void>> searches = fetchers.stream().map(fetcher -> CompletableFuture
+                .supplyAsync(() -> search(fetcher, luceneQuery), executor)
+                .orTimeout(fetcherTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .handle((results, throwable) -> {
+                    if (throwable == null) {
+                        answered.add(fetcher.getName());
+                        merger.add(fetcher.getName(), results);
+                    } else if (unwrap(throwable) instanceof TimeoutException) {
+                        LOGGER.info("{} did not answer within {} seconds", fetcher.getName(), fetcherTimeout.toSeconds());
+                        timedOut.add(fetcher.getName());
+                    } else {
+                        LOGGER.warn("{} API request failed", fetcher.getName(), unwrap(throwable));
+                        failed.add(fetcher.getName());
+                    }
+                    return (Void) null;
+                }))
+                .toList();
+
+        CompletableFuture<Void> allAnswered = CompletableFuture.allOf(searches.toArray(CompletableFuture[]::new));
+        return CompletableFuture.anyOf(allAnswered, merger.limitReached)
+                                .handle((ignored, throwable) -> {
+                                    // Catalogs still running are not needed anymore
+                                    merger.close();
+                                    executor.shutdownNow();
+                                    return new SearchReport(Set.copyOf(answered), Set.copyOf(failed), Set.copyOf(timedOut));
+                                });
+    }
+
+    private static List<BibEntry> search(SearchBasedFetcher fetcher, QueryNode luceneQuery) {
+        try {
+            return fetcher.performSearch(luceneQuery);
+        } catch (FetcherException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        return (throwable instanceof CompletionException) && (throwable.getCause() != null) ? throwable.getCause() : throwable;
+    }
+
+    /**
+     * Returns the keys identifying the given entry when merging the results of several catalogs: the DOI and the title
+     * without case, whitespace and punctuation. Two entries having different DOIs are never merged by their titles.
+     */
+    static Set<String> getDuplicateKeys(BibEntry entry) {
+        Set<String> keys = new HashSet<>();
+        getDoiKey(entry).ifPresent(keys::add);
+        getTitleKey(entry).ifPresent(keys::add);
+        return keys;
+    }
+
+    private static Optional<String> getDoiKey(BibEntry entry) {
+        return entry.getDOI().map(doi -> "doi:" + doi.getDOI().toLowerCase(Locale.ROOT));
+    }
+
+    private static Optional<String> getTitleKey(BibEntry entry) {
+        return entry.getTitle()
+                    .map(title -> title.toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{N}]", ""))
+                    .filter(title -> !title.isEmpty())
+                    .map(title -> "title:" + title);
+    }
+
+    /**
+     * Passes the results of the catalogs on, leaving out duplicates and the results exceeding the maximum number.
+     * <p>
+     * An entry is a duplicate if an entry having the same DOI was passed on already. Generic titles such as
+     * "Introduction" are shared by distinct works, so the title identifies a duplicate only if the entry or the earlier
+     * entry having that title has no DOI. Furthermore, a catalog lists each work only once, so entries of the same
+     * catalog are never duplicates by their titles.
+     */
+    private class ResultMerger {
+
+        private final Consumer<List<BibEntry>> resultConsumer;
+        private final Set<String> seenDois = new HashSet<>();
+        // Title keys mapped to the names of the catalogs which delivered them
+        private final Map<String, Set<String>> seenTitles = new HashMap<>();
+        private final Map<String, Set<String>> seenTitlesWithoutDoi = new HashMap<>();
+        private final CompletableFuture<Void> limitReached = new CompletableFuture<>();
+        private int numberOfResults;
+        private boolean closed;
+
+        ResultMerger(Consumer<List<BibEntry>> resultConsumer) {
+            this.resultConsumer = resultConsumer;
+        }
+
+        synchronized void add(String catalog, List<BibEntry> results) {
+            if (closed) {
+                return;
+            }
+            List<BibEntry> newResults = new ArrayList<>();
+            for (BibEntry entry : results) {
+                if (numberOfResults >= maximumNumberOfReturnedResults) {
+                    break;
+                }
+                if (isDuplicate(catalog, entry)) {
+                    continue;
+                }
+                remember(catalog, entry);
+                newResults.add(entry);
+                numberOfResults++;
+            }
+
+            if (!newResults.isEmpty()) {
+                resultConsumer.accept(newResults);
+            }
+            if (numberOfResults >= maximumNumberOfReturnedResults) {
+                limitReached.complete(null);
+            }
+        }
+
+        private boolean isDuplicate(String catalog, BibEntry entry) {
+            Optional<String> doi = getDoiKey(entry);
+            if (doi.isPresent() && seenDois.contains(doi.get())) {
+                return true;
+            }
+            Map<String, Set<String>> titlesToMatch = doi.isPresent() ? seenTitlesWithoutDoi : seenTitles;
+            return getTitleKey(entry).map(title -> titlesToMatch.getOrDefault(title, Set.of()))
+                                     .map(catalogs -> catalogs.stream().anyMatch(seenCatalog -> !seenCatalog.equals(catalog)))
+                                     .orElse(false);
+        }
+
+        private void remember(String catalog, BibEntry entry) {
+            Optional<String> doi = getDoiKey(entry);
+            doi.ifPresent(seenDois::add);
+            getTitleKey(entry).ifPresent(title -> {
+                seenTitles.computeIfAbsent(title, key -> new HashSet<>()).add(catalog);
+                if (doi.isEmpty()) {
+                    seenTitlesWithoutDoi.computeIfAbsent(title, key -> new HashSet<>()).add(catalog);
+                }
+            });
+        }
+
+        /**
+         * Stops passing results on, so that catalogs answering after the search completed do not change its result.
+         */
+        synchronized void close() {
+            closed = true;
+        }
     }
 }
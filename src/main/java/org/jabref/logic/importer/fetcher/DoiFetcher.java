@@ -7,10 +7,17 @@ import java.net.URI;
 import java.net.URL;
 import java.net.URLConnection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.regex.Pattern;
 
 import org.jabref.logic.cleanup.FieldFormatterCleanup;
@@ -62,6 +69,9 @@ public class DoiFetcher implements IdBasedFetcher, EntryBasedFetcher {
      */
     private static final RateLimiter CROSSREF_DCN_RATE_LIMITER = RateLimiter.create(50.0);
 
+    // The registration agencies do not offer a common batch lookup, thus many DOIs are looked up by concurrent requests
+    private static final int MAXIMAL_CONCURRENT_REQUESTS = 8;
+
     private final ImportFormatPreferences preferences;
 
     public DoiFetcher(ImportFormatPreferences preferences) {
@@ -112,6 +122,41 @@ public class DoiFetcher implements IdBasedFetcher, EntryBasedFetcher {
         });
     }
 
+    /**
+     * Looks the DOIs up using up to {@value #MAXIMAL_CONCURRENT_REQUESTS} concurrent requests, keeping to the rate
+     * limits of the registration agencies.
+     */
+    @Override
+    public Map<String, BibEntry> performSearchByIds(List<String> identifiers) {
+        Semaphore concurrentRequests = new Semaphore(MAXIMAL_CONCURRENT_REQUESTS);
+        Map<String, Future<Optional<BibEntry>>> lookups = new LinkedHashMap<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (String identifier : identifiers.stream().distinct().toList()) {
+                lookups.put(identifier, executor.submit(() -> {
+                    concurrentRequests.acquire();
+                    try {
+                        doAPILimiting(identifier);
+                        return performSearchById(identifier);
+                    } finally {
+                        concurrentRequests.release();
+                    }
+                }));
+            }
+        }
+
+        Map<String, BibEntry> result = new LinkedHashMap<>();
+        lookups.forEach((identifier, lookup) -> {
+            try {
+                lookup.get().ifPresent(entry -> result.put(identifier, entry));
+            } catch (ExecutionException e) {
+                LOGGER.warn("Could not look up DOI {}", identifier, e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        return result;
+    }
+
     @Override
     public Optional<BibEntry> performSearchById(String identifier) throws FetcherException {
         Optional<DOI> doi = DOI.parse(identifier);
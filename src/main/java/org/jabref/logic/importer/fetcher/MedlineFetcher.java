@@ -23,8 +23,8 @@ import org.jabref.logic.formatter.bibtexfields.ClearFormatter;
 import org.jabref.logic.formatter.bibtexfields.NormalizeMonthFormatter;
 import org.jabref.logic.formatter.bibtexfields.NormalizeNamesFormatter;
 import org.jabref.logic.help.HelpFile;
+import org.jabref.logic.importer.BatchIdBasedParserFetcher;
 import org.jabref.logic.importer.FetcherException;
-import org.jabref.logic.importer.IdBasedParserFetcher;
 import org.jabref.logic.importer.Parser;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.importer.SearchBasedFetcher;
@@ -35,6 +35,7 @@ import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.field.UnknownField;
 
+import com.google.common.util.concurrent.RateLimiter;
 import org.apache.hc.core5.net.URIBuilder;
 import org.apache.lucene.queryparser.flexible.core.nodes.QueryNode;
 import org.slf4j.Logger;
@@ -45,13 +46,17 @@ import org.slf4j.LoggerFactory;
  * The MedlineFetcher fetches the entries from the PubMed database.
  * See <a href="https://docs.jabref.org/collect/import-using-online-bibliographic-database#medline-pubmed">docs.jabref.org</a> for a detailed documentation of the available fields.
  */
-public class MedlineFetcher implements IdBasedParserFetcher, SearchBasedFetcher {
+public class MedlineFetcher implements BatchIdBasedParserFetcher, SearchBasedFetcher {
     private static final Logger LOGGER = LoggerFactory.getLogger(MedlineFetcher.class);
 
     private static final int NUMBER_TO_FETCH = 50;
     private static final String ID_URL = "https://eutils.ncbi.nlm.nih.gov/entrez/eutils/efetch.fcgi";
     private static final String SEARCH_URL = "https://eutils.ncbi.nlm.nih.gov/entrez/eutils/esearch.fcgi";
 
+    // NCBI allows three requests per second without an API key. See https://www.ncbi.nlm.nih.gov/books/NBK25497/
+    private static final RateLimiter EUTILS_RATE_LIMITER = RateLimiter.create(3.0);
+    private static final int MAXIMAL_BATCH_SIZE = 200;
+
     private int numberOfResultsFound;
 
     /**
@@ -134,6 +139,27 @@ public class MedlineFetcher implements IdBasedParserFetcher, SearchBasedFetcher
         return uriBuilder.build().toURL();
     }
 
+    @Override
+    public int getMaximalBatchSize() {
+        return MAXIMAL_BATCH_SIZE;
+    }
+
+    @Override
+    public URL getUrlForIdentifiers(List<String> identifiers) throws URISyntaxException, MalformedURLException {
+        // Separate the IDs with a comma to search multiple entries
+        return getUrlForIdentifier(String.join(",", identifiers));
+    }
+
+    @Override
+    public Optional<String> getIdentifier(BibEntry fetchedEntry) {
+        return fetchedEntry.getField(StandardField.PMID);
+    }
+
+    @Override
+    public Optional<RateLimiter> getRateLimiter() {
+        return Optional.of(EUTILS_RATE_LIMITER);
+    }
+
     @Override
     public Parser getParser() {
         return new MedlineImporter();
@@ -167,8 +193,7 @@ public class MedlineFetcher implements IdBasedParserFetcher, SearchBasedFetcher
      */
     private List<BibEntry> fetchMedline(List<String> ids) throws FetcherException {
         try {
-            // Separate the IDs with a comma to search multiple entries
-            URL fetchURL = getUrlForIdentifier(String.join(",", ids));
+            URL fetchURL = getUrlForIdentifiers(ids);
             URLConnection data = fetchURL.openConnection();
             ParserResult result = new MedlineImporter().importDatabase(
                     new BufferedReader(new InputStreamReader(data.getInputStream(), StandardCharsets.UTF_8)));
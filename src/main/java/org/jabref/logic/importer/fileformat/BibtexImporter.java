@@ -10,16 +10,19 @@ import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CodingErrorAction;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import org.jabref.logic.exporter.SaveConfiguration;
 import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.ImportFormatReader;
 import org.jabref.logic.importer.Importer;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.util.StandardFileType;
-import org.jabref.model.database.BibDatabaseModeDetection;
+import org.jabref.model.entry.BibEntry;
 import org.jabref.model.util.FileUpdateMonitor;
 
 import org.slf4j.Logger;
@@ -54,7 +57,20 @@ public class BibtexImporter extends Importer {
     }
 
     @Override
-    public ParserResult importDatabase(Path filePath) throws IOException {
+    public boolean acceptsAnySource() {
+        return true;
+    }
+
+    @Override
+    public ParserResult importDatabase(Path filePath, Consumer<List<BibEntry>> entriesConsumer) throws IOException {
+        return importFile(filePath, reader -> importDatabase(reader, entriesConsumer));
+    }
+
+    /**
+     * Reads the specified file in its encoding and imports it using the given function.
+     */
+    @Override
+    protected ParserResult importFile(Path filePath, ImportFormatReader.CheckedFunction<BufferedReader, ParserResult> importFunction) throws IOException {
         EncodingResult result = getEncodingResult(filePath);
 
         // We replace unreadable characters
@@ -65,13 +81,10 @@ public class BibtexImporter extends Importer {
 
         try (InputStreamReader inputStreamReader = new InputStreamReader(Files.newInputStream(filePath), decoder);
              BufferedReader reader = new BufferedReader(inputStreamReader)) {
-            ParserResult parserResult = this.importDatabase(reader);
+            ParserResult parserResult = importFunction.apply(reader);
             parserResult.getMetaData().setEncoding(result.encoding());
             parserResult.getMetaData().setEncodingExplicitlySupplied(result.encodingExplicitlySupplied());
             parserResult.setPath(filePath);
-            if (parserResult.getMetaData().getMode().isEmpty()) {
-                parserResult.getMetaData().setMode(BibDatabaseModeDetection.inferMode(parserResult.getDatabase()));
-            }
             return parserResult;
         }
     }
@@ -128,6 +141,15 @@ public class BibtexImporter extends Importer {
         return new BibtexParser(importFormatPreferences, fileMonitor).parse(reader);
     }
 
+    /**
+     * This method does not set the metadata encoding information. The caller needs to set the encoding of the supplied
+     * reader manually to the metadata
+     */
+    @Override
+    public ParserResult importDatabase(BufferedReader reader, Consumer<List<BibEntry>> entriesConsumer) throws IOException {
+        return new BibtexParser(importFormatPreferences, fileMonitor).parse(reader, entriesConsumer);
+    }
+
     @Override
     public String getName() {
         return "BibTeX";
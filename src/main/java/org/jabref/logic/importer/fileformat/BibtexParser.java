@@ -19,6 +19,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
@@ -29,6 +30,7 @@ import org.jabref.logic.bibtex.FieldWriter;
 import org.jabref.logic.exporter.BibtexDatabaseWriter;
 import org.jabref.logic.exporter.SaveConfiguration;
 import org.jabref.logic.groups.DefaultGroupsFactory;
+import org.jabref.logic.importer.BatchingEntryConsumer;
 import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.logic.importer.Importer;
 import org.jabref.logic.importer.ParseException;
@@ -105,6 +107,12 @@ public class BibtexParser implements Parser {
 
     private GroupTreeNode bibDeskGroupTreeNode;
 
+    /**
+     * Receives the parsed entries instead of the database if parsing with {@link #parse(Reader, Consumer)}
+     */
+    private BatchingEntryConsumer entryConsumer;
+    private final Map<String, BibEntry> passedEntriesByCitationKey = new HashMap<>();
+
     public BibtexParser(ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor) {
         this.importFormatPreferences = Objects.requireNonNull(importFormatPreferences);
         this.metaDataParser = new MetaDataParser(fileMonitor);
@@ -159,6 +167,28 @@ public class BibtexParser implements Parser {
      * Handling of encoding is done at {@link BibtexImporter}
      */
     public ParserResult parse(Reader in) throws IOException {
+        entryConsumer = null;
+        return parseReader(in);
+    }
+
+    /**
+     * Parses BibTeX data found when reading from reader and passes the entries in batches to the given consumer while
+     * parsing. The database of the returned result contains everything except the entries.
+     * <p>
+     * BibDesk groups are stored after the entries. Thus, the entries belonging to them are updated after they were
+     * passed on.
+     */
+    public ParserResult parse(Reader in, Consumer<List<BibEntry>> entriesConsumer) throws IOException {
+        entryConsumer = new BatchingEntryConsumer(entriesConsumer);
+        passedEntriesByCitationKey.clear();
+        try {
+            return parseReader(in);
+        } finally {
+            passedEntriesByCitationKey.clear();
+        }
+    }
+
+    private ParserResult parseReader(Reader in) throws IOException {
         Objects.requireNonNull(in);
         pushbackReader = new PushbackReader(in, BibtexParser.LOOKAHEAD);
 
@@ -257,6 +287,10 @@ public class BibtexParser implements Parser {
             skipWhitespace();
         }
 
+        if (entryConsumer != null) {
+            entryConsumer.flush();
+        }
+
         addBibDeskGroupEntriesToJabRefGroups();
 
         try {
@@ -329,7 +363,12 @@ public class BibtexParser implements Parser {
             String parsedSerialization = commentsAndEntryTypeDefinition + dumpTextReadSoFarToString();
             entry.setParsedSerialization(parsedSerialization);
 
-            database.insertEntry(entry);
+            if (entryConsumer == null) {
+                database.insertEntry(entry);
+            } else {
+                entry.getCitationKey().ifPresent(key -> passedEntriesByCitationKey.putIfAbsent(key, entry));
+                entryConsumer.accept(entry);
+            }
         } catch (IOException ex) {
             // This makes the parser more robust:
             // If an exception is thrown when parsing an entry, drop the entry and try to resume parsing.
@@ -396,7 +435,7 @@ public class BibtexParser implements Parser {
         for (String groupName : parsedBibdeskGroups.keySet()) {
             String[] citationKeys = parsedBibdeskGroups.get(groupName).split(",");
             for (String citation : citationKeys) {
-                Optional<BibEntry> bibEntry = database.getEntryByCitationKey(citation);
+                Optional<BibEntry> bibEntry = getEntryByCitationKey(citation);
                 Optional<String> groupValue = bibEntry.flatMap(entry -> entry.getField(StandardField.GROUPS));
                 if (groupValue.isEmpty()) { // if the citation does not belong to a group already
                     bibEntry.flatMap(entry -> entry.setField(StandardField.GROUPS, groupName));
@@ -409,6 +448,13 @@ public class BibtexParser implements Parser {
         }
     }
 
+    private Optional<BibEntry> getEntryByCitationKey(String citationKey) {
+        if (entryConsumer == null) {
+            return database.getEntryByCitationKey(citationKey);
+        }
+        return Optional.ofNullable(passedEntriesByCitationKey.get(citationKey));
+    }
+
     /**
      * Parses comment types found in BibDesk, to migrate BibDesk Static Groups to JabRef.
      */
@@ -8,11 +8,13 @@ import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 import org.jabref.logic.importer.ImportException;
 import org.jabref.logic.importer.Importer;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.util.FileType;
+import org.jabref.model.entry.BibEntry;
 
 /**
  * Object with data for a custom importer.
@@ -74,11 +76,21 @@ public class CustomImporter extends Importer {
         return importer.isRecognizedFormat(input);
     }
 
+    @Override
+    public boolean acceptsAnySource() {
+        return importer.acceptsAnySource();
+    }
+
     @Override
     public ParserResult importDatabase(BufferedReader input) throws IOException {
         return importer.importDatabase(input);
     }
 
+    @Override
+    public ParserResult importDatabase(BufferedReader input, Consumer<List<BibEntry>> entriesConsumer) throws IOException {
+        return importer.importDatabase(input, entriesConsumer);
+    }
+
     @Override
     public String getName() {
         return importer.getName();
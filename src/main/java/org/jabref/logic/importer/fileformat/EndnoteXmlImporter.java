@@ -5,6 +5,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -12,12 +13,14 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.StringJoiner;
+import java.util.function.Consumer;
 
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamReader;
 import javax.xml.stream.events.XMLEvent;
 
+import org.jabref.logic.importer.BatchingEntryConsumer;
 import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.logic.importer.Importer;
 import org.jabref.logic.importer.ParseException;
@@ -140,9 +143,22 @@ public class EndnoteXmlImporter extends Importer implements Parser {
 
     @Override
     public ParserResult importDatabase(BufferedReader input) throws IOException {
+        List<BibEntry> bibItems = new ArrayList<>();
+        ParserResult parserResult = importDatabase(input, bibItems::addAll);
+        if (parserResult.hasWarnings()) {
+            return parserResult;
+        }
+        return new ParserResult(bibItems);
+    }
+
+    /**
+     * Passes each record to the consumer as soon as it is parsed.
+     */
+    @Override
+    public ParserResult importDatabase(BufferedReader input, Consumer<List<BibEntry>> entriesConsumer) throws IOException {
         Objects.requireNonNull(input);
 
-        List<BibEntry> bibItems = new ArrayList<>();
+        BatchingEntryConsumer bibItems = new BatchingEntryConsumer(entriesConsumer);
 
         try {
             XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(input);
@@ -151,14 +167,23 @@ public class EndnoteXmlImporter extends Importer implements Parser {
                 reader.next();
                 if (isStartElement(reader, "record")) {
                     BibEntry entry = parseRecord(reader);
-                    bibItems.add(entry);
+                    if (!entry.getFields().isEmpty()) {
+                        bibItems.accept(entry);
+                    }
                 }
             }
         } catch (XMLStreamException e) {
             LOGGER.debug("could not parse document", e);
             return ParserResult.fromError(e);
+        } finally {
+            bibItems.flush();
         }
-        return new ParserResult(bibItems);
+        return new ParserResult();
+    }
+
+    @Override
+    public ParserResult importDatabase(Path filePath, Consumer<List<BibEntry>> entriesConsumer) throws IOException {
+        return importFile(filePath, reader -> importDatabase(reader, entriesConsumer));
     }
 
     private BibEntry parseRecord(XMLStreamReader reader) throws XMLStreamException {
@@ -5,6 +5,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -13,12 +14,14 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamReader;
 import javax.xml.stream.events.XMLEvent;
 
+import org.jabref.logic.importer.BatchingEntryConsumer;
 import org.jabref.logic.importer.Importer;
 import org.jabref.logic.importer.ParseException;
 import org.jabref.logic.importer.Parser;
@@ -106,9 +109,22 @@ public class MedlineImporter extends Importer implements Parser {
 
     @Override
     public ParserResult importDatabase(BufferedReader input) throws IOException {
+        List<BibEntry> bibItems = new ArrayList<>();
+        ParserResult parserResult = importDatabase(input, bibItems::addAll);
+        if (parserResult.hasWarnings()) {
+            return parserResult;
+        }
+        return new ParserResult(bibItems);
+    }
+
+    /**
+     * Passes each article to the consumer as soon as it is parsed.
+     */
+    @Override
+    public ParserResult importDatabase(BufferedReader input, Consumer<List<BibEntry>> entriesConsumer) throws IOException {
         Objects.requireNonNull(input);
 
-        List<BibEntry> bibItems = new ArrayList<>();
+        BatchingEntryConsumer bibItems = new BatchingEntryConsumer(entriesConsumer);
 
         try {
             XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(input);
@@ -130,12 +146,19 @@ public class MedlineImporter extends Importer implements Parser {
         } catch (XMLStreamException e) {
             LOGGER.debug("could not parse document", e);
             return ParserResult.fromError(e);
+        } finally {
+            bibItems.flush();
         }
 
-        return new ParserResult(bibItems);
+        return new ParserResult();
     }
 
-    private void parseBookArticle(XMLStreamReader reader, List<BibEntry> bibItems, String startElement)
+    @Override
+    public ParserResult importDatabase(Path filePath, Consumer<List<BibEntry>> entriesConsumer) throws IOException {
+        return importFile(filePath, reader -> importDatabase(reader, entriesConsumer));
+    }
+
+    private void parseBookArticle(XMLStreamReader reader, Consumer<BibEntry> bibItems, String startElement)
             throws XMLStreamException {
         Map<Field, String> fields = new HashMap<>();
 
@@ -164,7 +187,9 @@ public class MedlineImporter extends Importer implements Parser {
         BibEntry entry = new BibEntry(StandardEntryType.Article);
         entry.setField(fields);
 
-        bibItems.add(entry);
+        if (!fields.isEmpty()) {
+            bibItems.accept(entry);
+        }
     }
 
     private void parseBookDocument(XMLStreamReader reader, Map<Field, String> fields, String startElement)
@@ -365,7 +390,7 @@ public class MedlineImporter extends Importer implements Parser {
         }
     }
 
-    private void parseArticle(XMLStreamReader reader, List<BibEntry> bibItems, String startElement)
+    private void parseArticle(XMLStreamReader reader, Consumer<BibEntry> bibItems, String startElement)
             throws XMLStreamException {
         Map<Field, String> fields = new HashMap<>();
 
@@ -391,7 +416,9 @@ public class MedlineImporter extends Importer implements Parser {
         BibEntry entry = new BibEntry(StandardEntryType.Article);
         entry.setField(fields);
 
-        bibItems.add(entry);
+        if (!fields.isEmpty()) {
+            bibItems.accept(entry);
+        }
     }
 
     private void parsePubmedData(XMLStreamReader reader, Map<Field, String> fields, String startElement)
@@ -7,6 +7,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 import java.util.regex.Pattern;
 
 import org.jabref.logic.importer.ImportFormatPreferences;
@@ -34,6 +35,38 @@ public class MedlinePlainImporter extends Importer {
     private static final Pattern PMCR_PATTERN = Pattern.compile("PMCR.*-.*");
     private static final Pattern CREATE_DATE_PATTERN = Pattern.compile("\\d{4}/[0123]?\\d/\\s?[012]\\d:[0-5]\\d");
     private static final Pattern COMPLETE_DATE_PATTERN = Pattern.compile("\\d{8}");
+
+    // The fields with a direct mapping
+    private static final Map<String, Field> FIELD_MAPPING = Map.ofEntries(
+            Map.entry("PMID", StandardField.PMID),
+            Map.entry("PG", StandardField.PAGES),
+            Map.entry("PL", StandardField.ADDRESS),
+            Map.entry("VI", StandardField.VOLUME),
+            Map.entry("LA", StandardField.LANGUAGE),
+            Map.entry("IP", StandardField.ISSUE),
+            Map.entry("EN", StandardField.EDITION),
+            Map.entry("GN", StandardField.NOTE),
+            Map.entry("OWN", StandardField.OWNER));
+
+    // The names of the non-standard fields with a direct mapping. The fields are created for each entry, because an
+    // UnknownField is mutable and must not be shared between entries.
+    private static final Map<String, String> UNKNOWN_FIELD_MAPPING = Map.ofEntries(
+            Map.entry("PHST", "history"),
+            Map.entry("PST", "publication-status"),
+            Map.entry("PUBM", "model"),
+            Map.entry("RN", "registry-number"),
+            Map.entry("NM", "substance-name"),
+            Map.entry("OCI", "copyright-owner"),
+            Map.entry("CN", "corporate"),
+            Map.entry("GS", "gene-symbol"),
+            Map.entry("GR", "grantno"),
+            Map.entry("SO", "source"),
+            Map.entry("NR", "number-of-references"),
+            Map.entry("SFM", "space-flight-mission"),
+            Map.entry("STAT", "status"),
+            Map.entry("SB", "subset"),
+            Map.entry("OTO", "termowner"));
+
     private final ImportFormatPreferences importFormatPreferences;
 
     public MedlinePlainImporter(ImportFormatPreferences importFormatPreferences) {
@@ -79,162 +112,144 @@ public class MedlinePlainImporter extends Importer {
     public ParserResult importDatabase(BufferedReader reader) throws IOException {
         List<BibEntry> bibitems = new ArrayList<>();
 
-        // use optional here, so that no exception will be thrown if the file is empty
-        String linesAsString = reader.lines().reduce((line, nextline) -> line + "\n" + nextline).orElse("");
-
-        String[] entries = linesAsString.replace("\u2013", "-").replace("\u2014", "--").replace("\u2015", "--")
-                                        .split("\\n\\n");
-
-        for (String entry1 : entries) {
-            if (entry1.trim().isEmpty() || !entry1.contains("-")) {
-                continue;
+        // The records are separated by empty lines. They are parsed one after the other, so that only the lines of the
+        // current record are kept in memory.
+        List<String> recordLines = new ArrayList<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isEmpty()) {
+                parseRecord(recordLines).ifPresent(bibitems::add);
+                recordLines.clear();
+            } else {
+                recordLines.add(line.replace("\u2013", "-").replace("\u2014", "--").replace("\u2015", "--"));
             }
+        }
+        parseRecord(recordLines).ifPresent(bibitems::add);
 
-            EntryType type = BibEntry.DEFAULT_TYPE;
-            StringBuilder author = new StringBuilder();
-            StringBuilder editor = new StringBuilder();
-            StringBuilder comment = new StringBuilder();
-            Map<Field, String> fieldConversionMap = new HashMap<>();
+        return new ParserResult(bibitems);
+    }
+
+    private Optional<BibEntry> parseRecord(List<String> recordLines) {
+        if (recordLines.stream().allMatch(String::isBlank) || recordLines.stream().noneMatch(recordLine -> recordLine.contains("-"))) {
+            return Optional.empty();
+        }
+        return Optional.of(parseEntry(recordLines.toArray(String[]::new)));
+    }
 
-            String[] lines = entry1.split("\n");
+    private BibEntry parseEntry(String[] lines) {
+        EntryType type = BibEntry.DEFAULT_TYPE;
+        StringBuilder author = new StringBuilder();
+        StringBuilder editor = new StringBuilder();
+        StringBuilder comment = new StringBuilder();
+        Map<Field, String> fieldConversionMap = new HashMap<>();
 
-            for (int j = 0; j < lines.length; j++) {
-                StringBuilder current = new StringBuilder(lines[j]);
-                boolean done = false;
+        for (int j = 0; j < lines.length; j++) {
+            StringBuilder current = new StringBuilder(lines[j]);
+            boolean done = false;
 
-                while (!done && (j < (lines.length - 1))) {
-                    if (lines[j + 1].length() <= 4) {
-                        j++;
-                        continue;
-                    }
-                    if (lines[j + 1].charAt(4) != '-') {
-                        if ((!current.isEmpty()) && !Character.isWhitespace(current.charAt(current.length() - 1))) {
-                            current.append(' ');
-                        }
-                        current.append(lines[j + 1].trim());
-                        j++;
-                    } else {
-                        done = true;
-                    }
-                }
-                String entry = current.toString();
-                if (!checkLineValidity(entry)) {
+            while (!done && (j < (lines.length - 1))) {
+                if (lines[j + 1].length() <= 4) {
+                    j++;
                     continue;
                 }
+                if (lines[j + 1].charAt(4) != '-') {
+                    if ((!current.isEmpty()) && !Character.isWhitespace(current.charAt(current.length() - 1))) {
+                        current.append(' ');
+                    }
+                    current.append(lines[j + 1].trim());
+                    j++;
+                } else {
+                    done = true;
+                }
+            }
+            String entry = current.toString();
+            if (!checkLineValidity(entry)) {
+                continue;
+            }
 
-                String label = entry.substring(0, entry.indexOf('-')).trim();
-                String value = entry.substring(entry.indexOf('-') + 1).trim();
+            String label = entry.substring(0, entry.indexOf('-')).trim();
+            String value = entry.substring(entry.indexOf('-') + 1).trim();
 
-                if ("PT".equals(label)) {
-                    type = addSourceType(value, type);
+            if ("PT".equals(label)) {
+                type = addSourceType(value, type);
+            }
+            addDates(fieldConversionMap, label, value);
+            addAbstract(fieldConversionMap, label, value);
+            addTitles(fieldConversionMap, label, value, type);
+            addIDs(fieldConversionMap, label, value);
+            addStandardNumber(fieldConversionMap, label, value);
+
+            if ("FAU".equals(label)) {
+                if (author.isEmpty()) {
+                    author = new StringBuilder(value);
+                } else {
+                    author.append(" and ").append(value);
                 }
-                addDates(fieldConversionMap, label, value);
-                addAbstract(fieldConversionMap, label, value);
-                addTitles(fieldConversionMap, label, value, type);
-                addIDs(fieldConversionMap, label, value);
-                addStandardNumber(fieldConversionMap, label, value);
-
-                if ("FAU".equals(label)) {
-                    if (author.isEmpty()) {
-                        author = new StringBuilder(value);
-                    } else {
-                        author.append(" and ").append(value);
-                    }
-                } else if ("FED".equals(label)) {
-                    if (editor.isEmpty()) {
-                        editor = new StringBuilder(value);
-                    } else {
-                        editor.append(" and ").append(value);
-                    }
+            } else if ("FED".equals(label)) {
+                if (editor.isEmpty()) {
+                    editor = new StringBuilder(value);
+                } else {
+                    editor.append(" and ").append(value);
                 }
+            }
 
-                // store the fields in a map
-                Map<String, Field> hashMap = new HashMap<>();
-                hashMap.put("PMID", StandardField.PMID);
-                hashMap.put("PG", StandardField.PAGES);
-                hashMap.put("PL", StandardField.ADDRESS);
-                hashMap.put("PHST", new UnknownField("history"));
-                hashMap.put("PST", new UnknownField("publication-status"));
-                hashMap.put("VI", StandardField.VOLUME);
-                hashMap.put("LA", StandardField.LANGUAGE);
-                hashMap.put("PUBM", new UnknownField("model"));
-                hashMap.put("RN", new UnknownField("registry-number"));
-                hashMap.put("NM", new UnknownField("substance-name"));
-                hashMap.put("OCI", new UnknownField("copyright-owner"));
-                hashMap.put("CN", new UnknownField("corporate"));
-                hashMap.put("IP", StandardField.ISSUE);
-                hashMap.put("EN", StandardField.EDITION);
-                hashMap.put("GS", new UnknownField("gene-symbol"));
-                hashMap.put("GN", StandardField.NOTE);
-                hashMap.put("GR", new UnknownField("grantno"));
-                hashMap.put("SO", new UnknownField("source"));
-                hashMap.put("NR", new UnknownField("number-of-references"));
-                hashMap.put("SFM", new UnknownField("space-flight-mission"));
-                hashMap.put("STAT", new UnknownField("status"));
-                hashMap.put("SB", new UnknownField("subset"));
-                hashMap.put("OTO", new UnknownField("termowner"));
-                hashMap.put("OWN", StandardField.OWNER);
-
-                // add the fields to hm
-                for (Map.Entry<String, Field> mapEntry : hashMap.entrySet()) {
-                    String medlineKey = mapEntry.getKey();
-                    Field bibtexKey = mapEntry.getValue();
-                    if (medlineKey.equals(label)) {
-                        fieldConversionMap.put(bibtexKey, value);
-                    }
-                }
+            Field mappedField = FIELD_MAPPING.get(label);
+            if (mappedField != null) {
+                fieldConversionMap.put(mappedField, value);
+            }
+            String unknownFieldName = UNKNOWN_FIELD_MAPPING.get(label);
+            if (unknownFieldName != null) {
+                fieldConversionMap.put(new UnknownField(unknownFieldName), value);
+            }
 
-                switch (label) {
-                    case "IRAD",
-                         "IR",
-                         "FIR" -> {
-                        fieldConversionMap.merge(new UnknownField("investigator"), value, (a, b) -> a + ", " + b);
-                    }
-                    case "MH",
-                         "OT" -> {
-                        if (!fieldConversionMap.containsKey(StandardField.KEYWORDS)) {
-                            fieldConversionMap.put(StandardField.KEYWORDS, value);
-                        } else {
-                            fieldConversionMap.compute(StandardField.KEYWORDS, (k, kw) -> kw + importFormatPreferences.bibEntryPreferences().getKeywordSeparator() + " " + value);
-                        }
+            switch (label) {
+                case "IRAD",
+                     "IR",
+                     "FIR" -> {
+                    fieldConversionMap.merge(new UnknownField("investigator"), value, (a, b) -> a + ", " + b);
+                }
+                case "MH",
+                     "OT" -> {
+                    if (!fieldConversionMap.containsKey(StandardField.KEYWORDS)) {
+                        fieldConversionMap.put(StandardField.KEYWORDS, value);
+                    } else {
+                        fieldConversionMap.compute(StandardField.KEYWORDS, (k, kw) -> kw + importFormatPreferences.bibEntryPreferences().getKeywordSeparator() + " " + value);
                     }
-                    case "CON",
-                         "CIN",
-                         "EIN",
-                         "EFR",
-                         "CRI",
-                         "CRF",
-                         "PRIN",
-                         "PROF",
-                         "RPI",
-                         "RPF",
-                         "RIN",
-                         "ROF",
-                         "UIN",
-                         "UOF",
-                         "SPIN",
-                         "ORI" -> {
-                        if (!comment.isEmpty()) {
-                            comment.append("\n");
-                        }
-                        comment.append(value);
+                }
+                case "CON",
+                     "CIN",
+                     "EIN",
+                     "EFR",
+                     "CRI",
+                     "CRF",
+                     "PRIN",
+                     "PROF",
+                     "RPI",
+                     "RPF",
+                     "RIN",
+                     "ROF",
+                     "UIN",
+                     "UOF",
+                     "SPIN",
+                     "ORI" -> {
+                    if (!comment.isEmpty()) {
+                        comment.append("\n");
                     }
+                    comment.append(value);
                 }
             }
-            fixAuthors(fieldConversionMap, author.toString(), StandardField.AUTHOR);
-            fixAuthors(fieldConversionMap, editor.toString(), StandardField.EDITOR);
-            if (!comment.isEmpty()) {
-                fieldConversionMap.put(StandardField.COMMENT, comment.toString());
-            }
-
-            BibEntry b = new BibEntry(type);
-
-            // create one here
-            b.setField(fieldConversionMap);
-            bibitems.add(b);
+        }
+        fixAuthors(fieldConversionMap, author.toString(), StandardField.AUTHOR);
+        fixAuthors(fieldConversionMap, editor.toString(), StandardField.EDITOR);
+        if (!comment.isEmpty()) {
+            fieldConversionMap.put(StandardField.COMMENT, comment.toString());
         }
 
-        return new ParserResult(bibitems);
+        BibEntry b = new BibEntry(type);
+
+        // create one here
+        b.setField(fieldConversionMap);
+        return b;
     }
 
     private boolean checkLineValidity(String line) {
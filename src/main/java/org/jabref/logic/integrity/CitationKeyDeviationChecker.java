@@ -4,6 +4,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
@@ -16,10 +18,26 @@ public class CitationKeyDeviationChecker implements EntryChecker {
 
     private final BibDatabaseContext bibDatabaseContext;
     private final CitationKeyPatternPreferences citationKeyPatternPreferences;
+    private final Function<String, Long> occurrenceCounter;
 
+    /**
+     * Counts the occurrences of citation keys in the library, so that changes of the library are reflected by the next
+     * check.
+     */
     public CitationKeyDeviationChecker(BibDatabaseContext bibDatabaseContext, CitationKeyPatternPreferences citationKeyPatternPreferences) {
         this.bibDatabaseContext = Objects.requireNonNull(bibDatabaseContext);
         this.citationKeyPatternPreferences = Objects.requireNonNull(citationKeyPatternPreferences);
+        this.occurrenceCounter = key -> bibDatabaseContext.getDatabase().getNumberOfCitationKeyOccurrences(key);
+    }
+
+    /**
+     * @param databaseFacts supplies the facts of the current check run
+     */
+    public CitationKeyDeviationChecker(BibDatabaseContext bibDatabaseContext, CitationKeyPatternPreferences citationKeyPatternPreferences, Supplier<DatabaseFacts> databaseFacts) {
+        Objects.requireNonNull(databaseFacts);
+        this.bibDatabaseContext = Objects.requireNonNull(bibDatabaseContext);
+        this.citationKeyPatternPreferences = Objects.requireNonNull(citationKeyPatternPreferences);
+        this.occurrenceCounter = key -> databaseFacts.get().getNumberOfCitationKeyOccurrences(key);
     }
 
     @Override
@@ -32,7 +50,8 @@ public class CitationKeyDeviationChecker implements EntryChecker {
         String key = valuekey.get();
 
         // generate new key
-        String generatedKey = new CitationKeyGenerator(bibDatabaseContext, citationKeyPatternPreferences).generateKey(entry);
+        String generatedKey = new CitationKeyGenerator(bibDatabaseContext, citationKeyPatternPreferences)
+                .generateKey(entry, occurrenceCounter);
 
         if (!Objects.equals(key, generatedKey)) {
             return Collections.singletonList(new IntegrityMessage(
@@ -4,6 +4,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabase;
@@ -12,10 +14,21 @@ import org.jabref.model.entry.field.StandardField;
 
 public class CitationKeyDuplicationChecker implements EntryChecker {
 
-    private final BibDatabase database;
+    private final Predicate<String> isDuplicateCitationKey;
 
+    /**
+     * Looks the citation keys up in the library, so that changes of the library are reflected by the next check.
+     */
     public CitationKeyDuplicationChecker(BibDatabase database) {
-        this.database = Objects.requireNonNull(database);
+        this.isDuplicateCitationKey = Objects.requireNonNull(database)::isDuplicateCitationKeyExisting;
+    }
+
+    /**
+     * @param databaseFacts supplies the facts of the current check run
+     */
+    public CitationKeyDuplicationChecker(Supplier<DatabaseFacts> databaseFacts) {
+        Objects.requireNonNull(databaseFacts);
+        this.isDuplicateCitationKey = key -> databaseFacts.get().isDuplicateCitationKey(key);
     }
 
     @Override
@@ -25,7 +38,7 @@ public class CitationKeyDuplicationChecker implements EntryChecker {
             return Collections.emptyList();
         }
 
-        boolean isDuplicate = database.isDuplicateCitationKeyExisting(citeKey.get());
+        boolean isDuplicate = isDuplicateCitationKey.test(citeKey.get());
         if (isDuplicate) {
             return Collections.singletonList(
                     new IntegrityMessage(Localization.lang("Duplicate citation key"), entry, StandardField.KEY));
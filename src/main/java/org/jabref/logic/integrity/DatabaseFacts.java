@@ -0,0 +1,97 @@
+package org.jabref.logic.integrity;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.identifier.DOI;
+import org.jabref.model.entry.types.EntryType;
+
+/**
+ * Facts about all entries of a library, which are needed by the checks comparing an entry with the other entries.
+ * <p>
+ * Looking up these facts in the library for each entry makes a check of the whole library quadratic in its size.
+ * Therefore, they are collected once per check run. Changes of the library afterwards are not reflected.
+ */
+public class DatabaseFacts {
+
+    /**
+     * The fields of the entries of one entry type.
+     *
+     * @param fieldsInAnyEntry   the fields set in at least one entry
+     * @param fieldsInAllEntries the fields set in all entries
+     * @param entries            the entries in the order of the library
+     */
+    public record FieldPresence(Set<Field> fieldsInAnyEntry, Set<Field> fieldsInAllEntries, List<BibEntry> entries) {
+    }
+
+    private final Map<String, List<BibEntry>> entriesByCitationKey = new HashMap<>();
+    private final Map<DOI, List<BibEntry>> entriesByDoi = new LinkedHashMap<>();
+    private final Map<EntryType, FieldPresence> fieldPresenceByEntryType = new LinkedHashMap<>();
+
+    private DatabaseFacts() {
+    }
+
+    public static DatabaseFacts of(BibDatabase database) {
+        return of(database.getEntries());
+    }
+
+    public static DatabaseFacts of(List<BibEntry> entries) {
+        DatabaseFacts facts = new DatabaseFacts();
+        for (BibEntry entry : List.copyOf(entries)) {
+            entry.getCitationKey().ifPresent(key -> facts.entriesByCitationKey.computeIfAbsent(key, k -> new ArrayList<>()).add(entry));
+            entry.getDOI().ifPresent(doi -> facts.entriesByDoi.computeIfAbsent(doi, k -> new ArrayList<>()).add(entry));
+
+            Set<Field> fields = entry.getFields();
+            FieldPresence presence = facts.fieldPresenceByEntryType.computeIfAbsent(entry.getType(),
+                    type -> new FieldPresence(new HashSet<>(), new HashSet<>(fields), new ArrayList<>()));
+            presence.fieldsInAnyEntry().addAll(fields);
+            presence.fieldsInAllEntries().retainAll(fields);
+            presence.entries().add(entry);
+        }
+        return facts;
+    }
+
+    /**
+     * Returns the entries having the given citation key in the order of the library.
+     */
+    public List<BibEntry> getEntriesByCitationKey(String key) {
+        return Collections.unmodifiableList(entriesByCitationKey.getOrDefault(key, List.of()));
+    }
+
+    /**
+     * Returns the entry an entry link (e.g., a crossref) with the given key points to. As in
+     * {@link BibDatabase#getEntryByCitationKey(String)}, this is the first entry having the key.
+     */
+    public Optional<BibEntry> getLinkedEntry(String key) {
+        return getEntriesByCitationKey(key).stream().findFirst();
+    }
+
+    public boolean isDuplicateCitationKey(String key) {
+        return getNumberOfCitationKeyOccurrences(key) > 1;
+    }
+
+    public long getNumberOfCitationKeyOccurrences(String key) {
+        return entriesByCitationKey.getOrDefault(key, List.of()).size();
+    }
+
+    /**
+     * Returns the entries by their DOI, ordered by the first occurrence of the DOI in the library.
+     */
+    public Map<DOI, List<BibEntry>> getEntriesByDoi() {
+        return Collections.unmodifiableMap(entriesByDoi);
+    }
+
+    public Map<EntryType, FieldPresence> getFieldPresenceByEntryType() {
+        return Collections.unmodifiableMap(fieldPresenceByEntryType);
+    }
+}
@@ -4,20 +4,36 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.EntryLinkList;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldProperty;
+import org.jabref.model.strings.StringUtil;
 
 public class EntryLinkChecker implements EntryChecker {
 
-    private final BibDatabase database;
+    private final Function<String, Optional<BibEntry>> linkedEntry;
 
+    /**
+     * Looks the linked entries up in the library, so that changes of the library are reflected by the next check.
+     */
     public EntryLinkChecker(BibDatabase database) {
-        this.database = Objects.requireNonNull(database);
+        this.linkedEntry = Objects.requireNonNull(database)::getEntryByCitationKey;
+    }
+
+    /**
+     * @param databaseFacts supplies the facts of the current check run
+     */
+    public EntryLinkChecker(Supplier<DatabaseFacts> databaseFacts) {
+        Objects.requireNonNull(databaseFacts);
+        this.linkedEntry = key -> databaseFacts.get().getLinkedEntry(key);
     }
 
     @Override
@@ -25,12 +41,16 @@ public class EntryLinkChecker implements EntryChecker {
         List<IntegrityMessage> result = new ArrayList<>();
         for (Entry<Field, String> field : entry.getFieldMap().entrySet()) {
             Set<FieldProperty> properties = field.getKey().getProperties();
-            if (properties.contains(FieldProperty.MULTIPLE_ENTRY_LINK) || properties.contains(FieldProperty.SINGLE_ENTRY_LINK)) {
-                entry.getEntryLinkList(field.getKey(), database).stream()
-                     .filter(parsedEntryLink -> parsedEntryLink.getLinkedEntry().isEmpty())
-                     .forEach(parsedEntryLink -> result.add(new IntegrityMessage(
-                             Localization.lang("Referenced citation key '%0' does not exist", parsedEntryLink.getKey()),
-                             entry, field.getKey())));
+            if ((properties.contains(FieldProperty.MULTIPLE_ENTRY_LINK) || properties.contains(FieldProperty.SINGLE_ENTRY_LINK))
+                    && !StringUtil.isNullOrEmpty(field.getValue())) {
+                // Same splitting as in EntryLinkList#parse, but without creating the parsed links
+                for (String key : field.getValue().split(EntryLinkList.SEPARATOR)) {
+                    if (linkedEntry.apply(key).isEmpty()) {
+                        result.add(new IntegrityMessage(
+                                Localization.lang("Referenced citation key '%0' does not exist", key),
+                                entry, field.getKey()));
+                    }
+                }
             }
         }
         return result;
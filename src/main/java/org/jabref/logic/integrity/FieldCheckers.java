@@ -66,6 +66,18 @@ public class FieldCheckers {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Returns the checkers of all fields, caching the results of the value checkers (see {@link MemoizingValueChecker}).
+     * A new cache is used for each call.
+     */
+    List<FieldChecker> getAllMemoized() {
+        return fieldChecker
+                .entries()
+                .stream()
+                .map(pair -> new FieldChecker(pair.getKey(), new MemoizingValueChecker(pair.getValue())))
+                .collect(Collectors.toList());
+    }
+
     public Collection<ValueChecker> getForField(Field field) {
         return fieldChecker
                 .get(field);
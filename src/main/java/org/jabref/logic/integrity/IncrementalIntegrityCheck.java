@@ -0,0 +1,125 @@
+package org.jabref.logic.integrity;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.StandardField;
+
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Runs an {@link IntegrityCheck} repeatedly on a library, re-checking only the entries changed since the last run.
+ * <p>
+ * The checks depending on other entries (e.g., duplicate citation keys or broken entry links) and the checks of the
+ * library as a whole are run on all entries each time. Entries having linked files are checked each time, too, because
+ * changes of the files are not noticed.
+ */
+public class IncrementalIntegrityCheck implements AutoCloseable {
+
+    private final IntegrityCheck integrityCheck;
+    private final BibDatabase database;
+
+    // Entries are compared by identity, because equal entries need to be checked separately
+    private final Map<BibEntry, List<IntegrityMessage>> messagesOfEntries = new IdentityHashMap<>();
+    private final Set<BibEntry> changedEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    public IncrementalIntegrityCheck(IntegrityCheck integrityCheck, BibDatabase database) {
+        this.integrityCheck = Objects.requireNonNull(integrityCheck);
+        this.database = Objects.requireNonNull(database);
+        database.registerListener(this);
+    }
+
+    /**
+     * Checks the library. The first run checks all entries.
+     */
+    public List<IntegrityMessage> check() {
+        return check(() -> false, entry -> {
+        });
+    }
+
+    /**
+     * Checks the library. The first run checks all entries.
+     *
+     * @param isCancelled    the remaining entries are skipped as soon as this returns true. Changed entries which were
+     *                       skipped are checked by the next run.
+     * @param onEntryChecked called for each entry of the library once its checks are done, possibly from several threads
+     *                       at the same time
+     */
+    public List<IntegrityMessage> check(BooleanSupplier isCancelled, Consumer<BibEntry> onEntryChecked) {
+        List<BibEntry> entries = List.copyOf(database.getEntries());
+        List<BibEntry> entriesToCheck;
+        Set<BibEntry> currentEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+        currentEntries.addAll(entries);
+        synchronized (this) {
+            messagesOfEntries.keySet().retainAll(currentEntries);
+            entriesToCheck = entries.stream()
+                                    .filter(entry -> changedEntries.contains(entry)
+                                            || !messagesOfEntries.containsKey(entry)
+                                            || entry.hasField(StandardField.FILE))
+                                    .toList();
+            changedEntries.clear();
+        }
+
+        integrityCheck.startRun();
+        Map<BibEntry, List<IntegrityMessage>> newMessages = Collections.synchronizedMap(new IdentityHashMap<>());
+        entriesToCheck.parallelStream()
+                      .filter(entry -> !isCancelled.getAsBoolean())
+                      .forEach(entry -> newMessages.put(entry, integrityCheck.checkEntryOnly(entry)));
+
+        List<IntegrityMessage> result = new ArrayList<>();
+        synchronized (this) {
+            messagesOfEntries.putAll(newMessages);
+            entriesToCheck.stream()
+                          .filter(entry -> !newMessages.containsKey(entry))
+                          .forEach(changedEntries::add);
+            for (BibEntry entry : entries) {
+                result.addAll(messagesOfEntries.getOrDefault(entry, List.of()));
+            }
+        }
+        result.addAll(entries.parallelStream()
+                             .filter(entry -> !isCancelled.getAsBoolean())
+                             .flatMap(entry -> {
+                                 List<IntegrityMessage> messages = integrityCheck.checkEntryInDatabase(entry);
+                                 onEntryChecked.accept(entry);
+                                 return messages.stream();
+                             })
+                             .toList());
+        result.addAll(integrityCheck.checkDatabase(database));
+        return result;
+    }
+
+    @Subscribe
+    public synchronized void listen(FieldChangedEvent event) {
+        changedEntries.add(event.getBibEntry());
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesAddedEvent event) {
+        changedEntries.addAll(event.getBibEntries());
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesRemovedEvent event) {
+        event.getBibEntries().forEach(entry -> {
+            changedEntries.remove(entry);
+            messagesOfEntries.remove(entry);
+        });
+    }
+
+    @Override
+    public void close() {
+        database.unregisterListener(this);
+    }
+}
@@ -3,6 +3,9 @@ package org.jabref.logic.integrity;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import org.jabref.logic.FilePreferences;
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
@@ -12,11 +15,23 @@ import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.StandardField;
 
+/**
+ * Checks the entries of a library using all {@link FieldChecker}s and {@link EntryChecker}s.
+ * <p>
+ * The entries are checked in parallel. During one run (e.g., {@link #checkEntries(List, BooleanSupplier, Consumer)}), the
+ * results of the value checkers are cached, so that values shared by many entries are checked only once. The checks
+ * comparing an entry with the other entries look up the {@link DatabaseFacts} collected at the start of the run.
+ * {@link IncrementalIntegrityCheck} re-checks only the entries changed since its last run.
+ */
 public class IntegrityCheck {
 
     private final BibDatabaseContext bibDatabaseContext;
     private final FieldCheckers fieldCheckers;
     private final List<EntryChecker> entryCheckers;
+    // These checkers depend on other entries of the library, too
+    private final List<EntryChecker> databaseDependentEntryCheckers;
+    private volatile List<FieldChecker> memoizedFieldCheckers;
+    private volatile DatabaseFacts databaseFacts;
 
     public IntegrityCheck(BibDatabaseContext bibDatabaseContext,
                           FilePreferences filePreferences,
@@ -35,12 +50,14 @@ public class IntegrityCheck {
                 new TypeChecker(),
                 new BibStringChecker(),
                 new HTMLCharacterChecker(),
-                new EntryLinkChecker(bibDatabaseContext.getDatabase()),
-                new CitationKeyDeviationChecker(bibDatabaseContext, citationKeyPatternPreferences),
-                new CitationKeyDuplicationChecker(bibDatabaseContext.getDatabase()),
                 new AmpersandChecker(),
                 new LatexIntegrityChecker(),
                 new JournalInAbbreviationListChecker(StandardField.JOURNAL, journalAbbreviationRepository)));
+        Supplier<DatabaseFacts> currentDatabaseFacts = this::getDatabaseFacts;
+        databaseDependentEntryCheckers = List.of(
+                new EntryLinkChecker(currentDatabaseFacts),
+                new CitationKeyDeviationChecker(bibDatabaseContext, citationKeyPatternPreferences, currentDatabaseFacts),
+                new CitationKeyDuplicationChecker(currentDatabaseFacts));
 
         if (bibDatabaseContext.isBiblatexMode()) {
             entryCheckers.add(new UTF8Checker(bibDatabaseContext.getMetaData().getEncoding().orElse(StandardCharsets.UTF_8)));
@@ -54,26 +71,77 @@ public class IntegrityCheck {
         }
     }
 
-    List<IntegrityMessage> check() {
-        List<IntegrityMessage> result = new ArrayList<>();
-
+    /**
+     * Checks all entries and the library as a whole.
+     */
+    public List<IntegrityMessage> check() {
         BibDatabase database = bibDatabaseContext.getDatabase();
 
-        for (BibEntry entry : database.getEntries()) {
-            result.addAll(checkEntry(entry));
-        }
+        List<IntegrityMessage> result = new ArrayList<>(checkEntries(database.getEntries(), () -> false, entry -> {
+        }));
         result.addAll(checkDatabase(database));
 
         return result;
     }
 
+    /**
+     * Checks the given entries in parallel. The messages are returned in the order of the entries.
+     *
+     * @param isCancelled    the remaining entries are skipped as soon as this returns true
+     * @param onEntryChecked called for each checked entry, possibly from several threads at the same time
+     */
+    public List<IntegrityMessage> checkEntries(List<BibEntry> entries, BooleanSupplier isCancelled, Consumer<BibEntry> onEntryChecked) {
+        startRun();
+        return List.copyOf(entries).parallelStream()
+                   .filter(entry -> !isCancelled.getAsBoolean())
+                   .map(entry -> {
+                       List<IntegrityMessage> messages = checkEntry(entry);
+                       onEntryChecked.accept(entry);
+                       return messages;
+                   })
+                   .flatMap(List::stream)
+                   .toList();
+    }
+
+    /**
+     * Starts a new run, which discards the cached results of the value checkers and the facts of the library of the
+     * previous run.
+     */
+    void startRun() {
+        memoizedFieldCheckers = fieldCheckers.getAllMemoized();
+        databaseFacts = DatabaseFacts.of(bibDatabaseContext.getDatabase());
+    }
+
+    private DatabaseFacts getDatabaseFacts() {
+        DatabaseFacts currentDatabaseFacts = databaseFacts;
+        if (currentDatabaseFacts == null) {
+            startRun();
+            currentDatabaseFacts = databaseFacts;
+        }
+        return currentDatabaseFacts;
+    }
+
     public List<IntegrityMessage> checkEntry(BibEntry entry) {
+        List<IntegrityMessage> result = checkEntryOnly(entry);
+        result.addAll(checkEntryInDatabase(entry));
+        return result;
+    }
+
+    /**
+     * Runs the checks depending on the given entry only.
+     */
+    List<IntegrityMessage> checkEntryOnly(BibEntry entry) {
         List<IntegrityMessage> result = new ArrayList<>();
         if (entry == null) {
             return result;
         }
 
-        for (FieldChecker fieldChecker : fieldCheckers.getAll()) {
+        List<FieldChecker> currentFieldCheckers = memoizedFieldCheckers;
+        if (currentFieldCheckers == null) {
+            startRun();
+            currentFieldCheckers = memoizedFieldCheckers;
+        }
+        for (FieldChecker fieldChecker : currentFieldCheckers) {
             result.addAll(fieldChecker.check(entry));
         }
 
@@ -84,7 +152,29 @@ public class IntegrityCheck {
         return result;
     }
 
+    /**
+     * Runs the checks of the given entry depending on other entries of the library, too (e.g., duplicate citation keys).
+     */
+    List<IntegrityMessage> checkEntryInDatabase(BibEntry entry) {
+        List<IntegrityMessage> result = new ArrayList<>();
+        if (entry == null) {
+            return result;
+        }
+
+        for (EntryChecker entryChecker : databaseDependentEntryCheckers) {
+            result.addAll(entryChecker.check(entry));
+        }
+
+        return result;
+    }
+
+    /**
+     * Runs the checks of the library as a whole. For the library of this check, the facts of the current run are used.
+     */
     public List<IntegrityMessage> checkDatabase(BibDatabase database) {
+        if (database == bibDatabaseContext.getDatabase()) {
+            return new DoiDuplicationChecker().check(getDatabaseFacts());
+        }
         return new DoiDuplicationChecker().check(database);
     }
 }
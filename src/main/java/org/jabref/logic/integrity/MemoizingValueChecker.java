@@ -0,0 +1,33 @@
+package org.jabref.logic.integrity;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches the results of a {@link ValueChecker}. Many entries of a library share the same values (e.g., the journal or
+ * the year), which are then checked only once.
+ * <p>
+ * The wrapped checker has to depend on the value only, which holds for the duration of one integrity check.
+ */
+class MemoizingValueChecker implements ValueChecker {
+
+    private final ValueChecker checker;
+    private final Map<String, Optional<String>> results = new ConcurrentHashMap<>();
+
+    MemoizingValueChecker(ValueChecker checker) {
+        this.checker = Objects.requireNonNull(checker);
+    }
+
+    @Override
+    public Optional<String> checkValue(String value) {
+        Optional<String> result = results.get(value);
+        if (result == null) {
+            // Not using computeIfAbsent, as checking the value can take some time and would block other threads
+            result = checker.checkValue(value);
+            results.putIfAbsent(value, result);
+        }
+        return result;
+    }
+}
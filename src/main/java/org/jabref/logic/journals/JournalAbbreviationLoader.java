@@ -7,7 +7,9 @@ import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
+import org.h2.mvstore.MVStore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -17,6 +19,10 @@ import org.slf4j.LoggerFactory;
  *   It can also create an {@link JournalAbbreviationRepository} based on an MV file ({@link #loadRepository(JournalAbbreviationPreferences)}.
  * </p>
  * <p>
+ *   The built-in MV file is copied to a temporary file and opened once per process. All loaded repositories share this
+ *   read-only store and differ in their custom abbreviations only. The store is closed and the file deleted on shutdown.
+ * </p>
+ * <p>
  *   Abbreviations are available at <a href="https://github.com/JabRef/abbrv.jabref.org/">https://github.com/JabRef/abbrv.jabref.org/</a>.
  * </p>
  */
@@ -24,6 +30,11 @@ public class JournalAbbreviationLoader {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(JournalAbbreviationLoader.class);
 
+    /**
+     * The store of the built-in list, empty if there is no built-in list. {@code null} until first loaded.
+     */
+    private static Optional<MVStore> builtInStore;
+
     public static Collection<Abbreviation> readAbbreviationsFromCsvFile(Path file) throws IOException {
         LOGGER.debug("Reading journal list from file {}", file);
         AbbreviationParser parser = new AbbreviationParser();
@@ -35,18 +46,9 @@ public class JournalAbbreviationLoader {
         JournalAbbreviationRepository repository;
 
         // Initialize with built-in list
-        try (InputStream resourceAsStream = JournalAbbreviationRepository.class.getResourceAsStream("/journals/journal-list.mv")) {
-            if (resourceAsStream == null) {
-                LOGGER.warn("There is no journal-list.mv. We use a default journal list");
-                repository = new JournalAbbreviationRepository();
-            } else {
-                Path tempDir = Files.createTempDirectory("jabref-journal");
-                Path tempJournalList = tempDir.resolve("journal-list.mv");
-                Files.copy(resourceAsStream, tempJournalList);
-                repository = new JournalAbbreviationRepository(tempJournalList);
-                tempDir.toFile().deleteOnExit();
-                tempJournalList.toFile().deleteOnExit();
-            }
+        try {
+            repository = getBuiltInStore().map(store -> new JournalAbbreviationRepository(store, false))
+                                          .orElseGet(JournalAbbreviationRepository::new);
         } catch (IOException e) {
             LOGGER.error("Error while copying journal list", e);
             return null;
@@ -69,6 +71,35 @@ public class JournalAbbreviationLoader {
         return repository;
     }
 
+    private static synchronized Optional<MVStore> getBuiltInStore() throws IOException {
+        if (builtInStore != null) {
+            return builtInStore;
+        }
+        try (InputStream resourceAsStream = JournalAbbreviationRepository.class.getResourceAsStream("/journals/journal-list.mv")) {
+            if (resourceAsStream == null) {
+                LOGGER.warn("There is no journal-list.mv. We use a default journal list");
+                builtInStore = Optional.empty();
+                return builtInStore;
+            }
+            Path tempDir = Files.createTempDirectory("jabref-journal");
+            Path tempJournalList = tempDir.resolve("journal-list.mv");
+            Files.copy(resourceAsStream, tempJournalList);
+            MVStore store = JournalAbbreviationRepository.openStore(tempJournalList);
+            // An open file cannot be deleted on Windows, thus the store is closed before
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                store.close();
+                try {
+                    Files.deleteIfExists(tempJournalList);
+                    Files.deleteIfExists(tempDir);
+                } catch (IOException e) {
+                    LOGGER.debug("Could not delete temporary journal list {}", tempJournalList, e);
+                }
+            }, "Journal list cleanup"));
+            builtInStore = Optional.of(store);
+            return builtInStore;
+        }
+    }
+
     public static JournalAbbreviationRepository loadBuiltInRepository() {
         return loadRepository(new JournalAbbreviationPreferences(Collections.emptyList(), true));
     }
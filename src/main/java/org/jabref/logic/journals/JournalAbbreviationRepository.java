@@ -2,49 +2,92 @@ package org.jabref.logic.journals;
 
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.SortedSet;
 import java.util.TreeSet;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
-import org.h2.mvstore.MVMap;
 import org.h2.mvstore.MVStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * A repository for all journal abbreviations, including add and find methods.
+ * <p>
+ * The built-in abbreviations are not copied into memory. They are looked up in the read-only maps of the MV file, which
+ * contains the abbreviations by full name and the full names by (dotless, shortest unique) abbreviation. Recently used
+ * names are cached. Custom abbreviations are indexed by their lower-cased names.
+ * <p>
+ * The store of the built-in list is shared by all repositories created by {@link JournalAbbreviationLoader}. A
+ * repository created from a {@link Path} owns its store and closes it in {@link #close()}.
  */
-public class JournalAbbreviationRepository {
+public class JournalAbbreviationRepository implements AutoCloseable {
+    public static final String FULL_TO_ABBREVIATION = "FullToAbbreviation";
+    public static final String ABBREVIATION_TO_FULL = "AbbreviationToFull";
+    public static final String DOTLESS_TO_FULL = "DotlessToFull";
+    public static final String SHORTEST_UNIQUE_TO_FULL = "ShortestUniqueToFull";
+
     static final Pattern QUESTION_MARK = Pattern.compile("\\?");
 
-    private final Map<String, Abbreviation> fullToAbbreviationObject = new HashMap<>();
-    private final Map<String, Abbreviation> abbreviationToAbbreviationObject = new HashMap<>();
-    private final Map<String, Abbreviation> dotlessToAbbreviationObject = new HashMap<>();
-    private final Map<String, Abbreviation> shortestUniqueToAbbreviationObject = new HashMap<>();
+    private static final Logger LOGGER = LoggerFactory.getLogger(JournalAbbreviationRepository.class);
+
+    private static final int CACHE_SIZE = 1024;
+    private static final int STORE_CACHE_SIZE_MB = 2;
+
+    private final MVStore ownedStore;
+    private final Map<String, Abbreviation> fullToAbbreviationObject;
+    private final Map<String, String> abbreviationToFull;
+    private final Map<String, String> dotlessToFull;
+    private final Map<String, String> shortestUniqueToFull;
+    private final Map<String, Optional<Abbreviation>> recentlyUsed = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Optional<Abbreviation>> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    });
+
     private final TreeSet<Abbreviation> customAbbreviations = new TreeSet<>();
+    private final Map<String, SortedSet<Abbreviation>> customAbbreviationsByName = new HashMap<>();
 
     /**
-     * Initializes the internal data based on the abbreviations found in the given MV file
+     * Opens the given MV file. The file is kept open and has to exist until the repository is closed.
      */
     public JournalAbbreviationRepository(Path journalList) {
-        MVMap<String, Abbreviation> mvFullToAbbreviationObject;
-        try (MVStore store = new MVStore.Builder().readOnly().fileName(journalList.toAbsolutePath().toString()).open()) {
-            mvFullToAbbreviationObject = store.openMap("FullToAbbreviation");
-            mvFullToAbbreviationObject.forEach((name, abbreviation) -> {
-                String abbrevationString = abbreviation.getAbbreviation();
-                String shortestUniqueAbbreviation = abbreviation.getShortestUniqueAbbreviation();
-                Abbreviation newAbbreviation = new Abbreviation(
-                        name,
-                        abbrevationString,
-                        shortestUniqueAbbreviation
-                );
-                fullToAbbreviationObject.put(name, newAbbreviation);
-                abbreviationToAbbreviationObject.put(abbrevationString, newAbbreviation);
-                dotlessToAbbreviationObject.put(newAbbreviation.getDotlessAbbreviation(), newAbbreviation);
-                shortestUniqueToAbbreviationObject.put(shortestUniqueAbbreviation, newAbbreviation);
+        this(openStore(journalList), true);
+    }
+
+    /**
+     * Creates a repository on top of an opened store.
+     *
+     * @param ownsStore whether {@link #close()} closes the store. A shared store has to be closed by its owner.
+     */
+    JournalAbbreviationRepository(MVStore store, boolean ownsStore) {
+        ownedStore = ownsStore ? store : null;
+        fullToAbbreviationObject = store.openMap(FULL_TO_ABBREVIATION);
+        if (store.hasMap(ABBREVIATION_TO_FULL) && store.hasMap(DOTLESS_TO_FULL) && store.hasMap(SHORTEST_UNIQUE_TO_FULL)) {
+            abbreviationToFull = store.openMap(ABBREVIATION_TO_FULL);
+            dotlessToFull = store.openMap(DOTLESS_TO_FULL);
+            shortestUniqueToFull = store.openMap(SHORTEST_UNIQUE_TO_FULL);
+        } else {
+            // MV files generated by older versions contain the abbreviations by full name only
+            LOGGER.debug("Journal list does not contain the reverse maps, building them in memory");
+            abbreviationToFull = new HashMap<>();
+            dotlessToFull = new HashMap<>();
+            shortestUniqueToFull = new HashMap<>();
+            fullToAbbreviationObject.forEach((name, storedAbbreviation) -> {
+                Abbreviation abbreviation = withName(name, storedAbbreviation);
+                abbreviationToFull.put(abbreviation.getAbbreviation(), name);
+                dotlessToFull.put(abbreviation.getDotlessAbbreviation(), name);
+                shortestUniqueToFull.put(abbreviation.getShortestUniqueAbbreviation(), name);
             });
         }
     }
@@ -53,15 +96,30 @@ public class JournalAbbreviationRepository {
      * Initializes the repository with demonstration data. Used if no abbreviation file is found.
      */
     public JournalAbbreviationRepository() {
+        ownedStore = null;
         Abbreviation newAbbreviation = new Abbreviation(
                 "Demonstration",
                 "Demo",
                 "Dem"
         );
-        fullToAbbreviationObject.put("Demonstration", newAbbreviation);
-        abbreviationToAbbreviationObject.put("Demo", newAbbreviation);
-        dotlessToAbbreviationObject.put("Demo", newAbbreviation);
-        shortestUniqueToAbbreviationObject.put("Dem", newAbbreviation);
+        fullToAbbreviationObject = Map.of("Demonstration", newAbbreviation);
+        abbreviationToFull = Map.of("Demo", "Demonstration");
+        dotlessToFull = Map.of("Demo", "Demonstration");
+        shortestUniqueToFull = Map.of("Dem", "Demonstration");
+    }
+
+    static MVStore openStore(Path journalList) {
+        return new MVStore.Builder().readOnly()
+                                    .cacheSize(STORE_CACHE_SIZE_MB)
+                                    .fileName(journalList.toAbsolutePath().toString())
+                                    .open();
+    }
+
+    /**
+     * The full name is not stored in the serialized abbreviations of the MV file, and the dotless abbreviation is derived.
+     */
+    private static Abbreviation withName(String name, Abbreviation storedAbbreviation) {
+        return new Abbreviation(name, storedAbbreviation.getAbbreviation(), storedAbbreviation.getShortestUniqueAbbreviation());
     }
 
     private static boolean isMatched(String name, Abbreviation abbreviation) {
@@ -90,11 +148,8 @@ public class JournalAbbreviationRepository {
             return false;
         }
         String journal = journalName.trim().replaceAll(Matcher.quoteReplacement("\\&"), "&");
-        return customAbbreviations.stream().anyMatch(abbreviation -> isMatched(journal, abbreviation))
-                || fullToAbbreviationObject.containsKey(journal)
-                || abbreviationToAbbreviationObject.containsKey(journal)
-                || dotlessToAbbreviationObject.containsKey(journal)
-                || shortestUniqueToAbbreviationObject.containsKey(journal);
+        return getCustomAbbreviations(journal).anyMatch(abbreviation -> isMatched(journal, abbreviation))
+                || getBuiltIn(journal).isPresent();
     }
 
     /**
@@ -106,10 +161,10 @@ public class JournalAbbreviationRepository {
             return false;
         }
         String journal = journalName.trim().replaceAll(Matcher.quoteReplacement("\\&"), "&");
-        return customAbbreviations.stream().anyMatch(abbreviation -> isMatchedAbbreviated(journal, abbreviation))
-                || abbreviationToAbbreviationObject.containsKey(journal)
-                || dotlessToAbbreviationObject.containsKey(journal)
-                || shortestUniqueToAbbreviationObject.containsKey(journal);
+        return getCustomAbbreviations(journal).anyMatch(abbreviation -> isMatchedAbbreviated(journal, abbreviation))
+                || abbreviationToFull.containsKey(journal)
+                || dotlessToFull.containsKey(journal)
+                || shortestUniqueToFull.containsKey(journal);
     }
 
     /**
@@ -121,17 +176,44 @@ public class JournalAbbreviationRepository {
         // Clean up input: trim and unescape ampersand
         String journal = input.trim().replaceAll(Matcher.quoteReplacement("\\&"), "&");
 
-        Optional<Abbreviation> customAbbreviation = customAbbreviations.stream()
-                                                                       .filter(abbreviation -> isMatched(journal, abbreviation))
-                                                                       .findFirst();
+        Optional<Abbreviation> customAbbreviation = getCustomAbbreviations(journal)
+                .filter(abbreviation -> isMatched(journal, abbreviation))
+                .findFirst();
         if (customAbbreviation.isPresent()) {
             return customAbbreviation;
         }
 
-        return Optional.ofNullable(fullToAbbreviationObject.get(journal))
-                .or(() -> Optional.ofNullable(abbreviationToAbbreviationObject.get(journal)))
-                .or(() -> Optional.ofNullable(dotlessToAbbreviationObject.get(journal)))
-                .or(() -> Optional.ofNullable(shortestUniqueToAbbreviationObject.get(journal)));
+        return getBuiltIn(journal);
+    }
+
+    /**
+     * Returns the custom abbreviations having the given name in any form (ignoring case), ordered as in {@link #getCustomAbbreviations()}.
+     */
+    private Stream<Abbreviation> getCustomAbbreviations(String journal) {
+        SortedSet<Abbreviation> abbreviations = customAbbreviationsByName.get(journal.toLowerCase(Locale.ROOT));
+        return abbreviations == null ? Stream.empty() : abbreviations.stream();
+    }
+
+    private Optional<Abbreviation> getBuiltIn(String journal) {
+        Optional<Abbreviation> cached = recentlyUsed.get(journal);
+        if (cached != null) {
+            return cached;
+        }
+        Optional<Abbreviation> abbreviation = Optional.ofNullable(fullToAbbreviationObject.get(journal))
+                                                      .map(storedAbbreviation -> withName(journal, storedAbbreviation))
+                                                      .or(() -> getByFullName(abbreviationToFull.get(journal)))
+                                                      .or(() -> getByFullName(dotlessToFull.get(journal)))
+                                                      .or(() -> getByFullName(shortestUniqueToFull.get(journal)));
+        recentlyUsed.put(journal, abbreviation);
+        return abbreviation;
+    }
+
+    private Optional<Abbreviation> getByFullName(String name) {
+        if (name == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(fullToAbbreviationObject.get(name))
+                       .map(storedAbbreviation -> withName(name, storedAbbreviation));
     }
 
     public void addCustomAbbreviation(Abbreviation abbreviation) {
@@ -140,11 +222,16 @@ public class JournalAbbreviationRepository {
         // We do NOT want to keep duplicates
         // The set automatically "removes" duplicates
         // What is a duplicate? An abbreviation is NOT the same if any field is NOT equal (e.g., if the shortest unique differs, the abbreviation is NOT the same)
-        customAbbreviations.add(abbreviation);
+        if (customAbbreviations.add(abbreviation)) {
+            Stream.of(abbreviation.getName(), abbreviation.getAbbreviation(), abbreviation.getDotlessAbbreviation(), abbreviation.getShortestUniqueAbbreviation())
+                  .map(name -> name.toLowerCase(Locale.ROOT))
+                  .distinct()
+                  .forEach(name -> customAbbreviationsByName.computeIfAbsent(name, key -> new TreeSet<>()).add(abbreviation));
+        }
     }
 
     public Collection<Abbreviation> getCustomAbbreviations() {
-        return customAbbreviations;
+        return Collections.unmodifiableSortedSet(customAbbreviations);
     }
 
     public void addCustomAbbreviations(Collection<Abbreviation> abbreviationsToAdd) {
@@ -171,7 +258,22 @@ public class JournalAbbreviationRepository {
         return fullToAbbreviationObject.keySet();
     }
 
+    /**
+     * Returns all built-in abbreviations. This reads the complete journal list and should be used for displaying the list only.
+     */
     public Collection<Abbreviation> getAllLoaded() {
-        return fullToAbbreviationObject.values();
+        return fullToAbbreviationObject.entrySet().stream()
+                                       .map(entry -> withName(entry.getKey(), entry.getValue()))
+                                       .toList();
+    }
+
+    /**
+     * Closes the store if this repository owns it. The shared store of the built-in list stays open.
+     */
+    @Override
+    public void close() {
+        if (ownedStore != null) {
+            ownedStore.close();
+        }
     }
 }
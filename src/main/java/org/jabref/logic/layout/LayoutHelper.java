@@ -61,6 +61,16 @@ public class LayoutHelper {
     }
 
     public Layout getLayoutFromText() throws IOException {
+        return new Layout(getParsedEntriesFromText(), fileDirForDatabase, preferences, abbreviationRepository);
+    }
+
+    /**
+     * Parses the layout text without creating a {@link Layout}.
+     * <p>
+     * The result does not depend on the preferences and can be used to create several {@link Layout} instances
+     * (e.g., one per thread) without reading and parsing the layout text again.
+     */
+    public List<StringInt> getParsedEntriesFromText() throws IOException {
         parse();
 
         for (StringInt parsedEntry : parsedEntries) {
@@ -71,7 +81,7 @@ public class LayoutHelper {
             }
         }
 
-        return new Layout(parsedEntries, fileDirForDatabase, preferences, abbreviationRepository);
+        return Collections.unmodifiableList(parsedEntries);
     }
 
     public static String getCurrentGroup() {
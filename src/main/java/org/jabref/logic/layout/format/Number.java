@@ -5,10 +5,27 @@ import org.jabref.logic.layout.ParamLayoutFormatter;
 /**
  * Formatter that outputs a sequence number for the current entry. The sequence number is
  * tied to the entry's position in the order, not to the number of calls to this formatter.
+ * <p>
+ * The number is kept per thread so that several entries (or several exports) can be rendered concurrently.
+ * The renderer sets the number before rendering an entry. If no number is set, the entry is treated as the first one.
  */
 public class Number implements ParamLayoutFormatter {
 
-    public static int serialExportNumber;
+    private static final ThreadLocal<Integer> SERIAL_EXPORT_NUMBER = ThreadLocal.withInitial(() -> 1);
+
+    /**
+     * Sets the sequence number of the entry which is rendered next by the current thread.
+     */
+    public static void setSerialExportNumber(int serialExportNumber) {
+        SERIAL_EXPORT_NUMBER.set(serialExportNumber);
+    }
+
+    /**
+     * Resets the sequence number of the current thread to the default.
+     */
+    public static void resetSerialExportNumber() {
+        SERIAL_EXPORT_NUMBER.remove();
+    }
 
     @Override
     public void setArgument(String arg) {
@@ -17,6 +34,6 @@ public class Number implements ParamLayoutFormatter {
 
     @Override
     public String format(String fieldText) {
-        return String.valueOf(serialExportNumber);
+        return String.valueOf(SERIAL_EXPORT_NUMBER.get());
     }
 }
@@ -0,0 +1,485 @@
+package org.jabref.logic.net;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+
+import com.google.common.util.concurrent.Striped;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Stores responses to HTTP GET requests on disk, so that repeated requests, e.g., when looking up the same identifiers
+ * again, do not need to download the same data again.
+ * <p>
+ * The caching rules of RFC 7234 for a private cache are followed: a stored response is used without contacting the
+ * server as long as it is fresh according to <code>Cache-Control: max-age</code>, <code>Expires</code> or, if none of
+ * them is given, 10% of the time since <code>Last-Modified</code>. Afterwards, it is revalidated using its
+ * <code>ETag</code> or <code>Last-Modified</code> header. Responses with <code>Cache-Control: no-store</code> are
+ * not stored, the ones with <code>no-cache</code> are revalidated each time.
+ * <p>
+ * The responses are keyed by the URL and the request headers, because fetchers ask for different formats of the same
+ * URL using the <code>Accept</code> header. The least recently used responses are evicted as soon as the stored
+ * responses exceed the maximum size. Responses larger than an eighth of the maximum size are not stored.
+ * <p>
+ * Only the hash of the URL is stored, because URLs can contain API keys. The files of a response are read and written
+ * while holding a lock of its key, so that the stored body and headers always belong to the same response.
+ */
+public class HttpResponseCache {
+
+    public static final long DEFAULT_MAX_SIZE = 50L * 1024 * 1024;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HttpResponseCache.class);
+
+    private static final String BODY_EXTENSION = ".body";
+    private static final String HEADERS_EXTENSION = ".headers";
+    private static final String RESPONSE_TIME_PROPERTY = "responseTime";
+    private static final String HEADER_PROPERTY_PREFIX = "header.";
+
+    /**
+     * The response headers stored, these are the ones needed to determine the freshness and to revalidate
+     */
+    private static final List<String> STORED_HEADERS = List.of("Age", "Cache-Control", "Content-Type", "Date", "ETag", "Expires", "Last-Modified");
+
+    private final Path directory;
+    private final long maxSize;
+    private final Clock clock;
+    private final Striped<Lock> keyLocks = Striped.lock(32);
+
+    /**
+     * The sizes of the stored responses by their key in the order of their last access
+     */
+    private final LinkedHashMap<String, Long> sizeByKey = new LinkedHashMap<>(16, 0.75f, true);
+    private long size;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder revalidations = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public HttpResponseCache(Path directory, long maxSize) {
+        this(directory, maxSize, Clock.systemUTC());
+    }
+
+    HttpResponseCache(Path directory, long maxSize, Clock clock) {
+        this.directory = directory;
+        this.maxSize = maxSize;
+        this.clock = clock;
+        loadIndex();
+    }
+
+    /**
+     * Outcome of a request as counted in the {@link Statistics}
+     */
+    public enum Outcome {
+        /**
+         * The stored response was fresh and was used without contacting the server
+         */
+        HIT,
+        /**
+         * The server confirmed that the stored response is still valid
+         */
+        REVALIDATED,
+        /**
+         * The response was downloaded
+         */
+        MISS
+    }
+
+    public record Statistics(long hits, long revalidations, long misses, long size) {
+    }
+
+    /**
+     * A response stored in the cache
+     *
+     * @param headers      the stored response headers by their lower-case name
+     * @param responseTime the time the response was received or revalidated
+     */
+    public record CachedResponse(Map<String, String> headers, Instant responseTime, byte[] body) {
+
+        public Optional<String> getHeader(String name) {
+            return Optional.ofNullable(headers.get(name.toLowerCase(Locale.ROOT)));
+        }
+
+        /**
+         * Checks whether the response may be used without revalidation (RFC 7234, Section 4.2)
+         */
+        public boolean isFresh(Instant now) {
+            CacheControl cacheControl = CacheControl.parse(getHeader("Cache-Control"));
+            if (cacheControl.noCache()) {
+                return false;
+            }
+            return freshnessLifetime(cacheControl).compareTo(currentAge(now)) > 0;
+        }
+
+        private Duration freshnessLifetime(CacheControl cacheControl) {
+            if (cacheControl.maxAge().isPresent()) {
+                return cacheControl.maxAge().get();
+            }
+
+            Instant date = getDateHeader("Date").orElse(responseTime);
+            if (getHeader("Expires").isPresent()) {
+                // An invalid date, such as "0", means "already expired"
+                return getDateHeader("Expires").map(expires -> Duration.between(date, expires)).orElse(Duration.ZERO);
+            }
+
+            // Heuristic freshness
+            return getDateHeader("Last-Modified").map(lastModified -> Duration.between(lastModified, date).dividedBy(10))
+                                                 .orElse(Duration.ZERO);
+        }
+
+        private Duration currentAge(Instant now) {
+            Duration apparentAge = getDateHeader("Date").map(date -> Duration.between(date, responseTime))
+                                                        .filter(age -> !age.isNegative())
+                                                        .orElse(Duration.ZERO);
+            Duration ageValue = getHeader("Age").flatMap(CacheControl::parseSeconds).orElse(Duration.ZERO);
+            Duration correctedAge = apparentAge.compareTo(ageValue) > 0 ? apparentAge : ageValue;
+            return correctedAge.plus(Duration.between(responseTime, now));
+        }
+
+        /**
+         * Returns the request headers asking the server whether this response is still valid
+         */
+        public Map<String, String> getConditionalRequestHeaders() {
+            Map<String, String> conditionalHeaders = new LinkedHashMap<>();
+            getHeader("ETag").ifPresent(eTag -> conditionalHeaders.put("If-None-Match", eTag));
+            getHeader("Last-Modified").ifPresent(lastModified -> conditionalHeaders.put("If-Modified-Since", lastModified));
+            return conditionalHeaders;
+        }
+
+        private Optional<Instant> getDateHeader(String name) {
+            return getHeader(name).flatMap(HttpResponseCache::parseDate);
+        }
+    }
+
+    private record CacheControl(boolean noStore, boolean noCache, Optional<Duration> maxAge) {
+
+        static CacheControl parse(Optional<String> header) {
+            boolean noStore = false;
+            boolean noCache = false;
+            Optional<Duration> maxAge = Optional.empty();
+            for (String directive : header.orElse("").split(",")) {
+                String[] nameAndValue = directive.trim().split("=", 2);
+                String name = nameAndValue[0].trim().toLowerCase(Locale.ROOT);
+                switch (name) {
+                    case "no-store" ->
+                            noStore = true;
+                    case "no-cache" ->
+                            noCache = true;
+                    case "max-age" -> {
+                        if (nameAndValue.length == 2) {
+                            maxAge = parseSeconds(nameAndValue[1]);
+                        }
+                    }
+                }
+            }
+            return new CacheControl(noStore, noCache, maxAge);
+        }
+
+        static Optional<Duration> parseSeconds(String value) {
+            try {
+                return Optional.of(Duration.ofSeconds(Long.parseLong(value.trim().replace("\"", ""))));
+            } catch (NumberFormatException e) {
+                return Optional.empty();
+            }
+        }
+    }
+
+    private static Optional<Instant> parseDate(String value) {
+        try {
+            return Optional.of(ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant());
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the stored response to a GET request of the given URL with the given request headers, regardless of
+     * whether it is fresh.
+     */
+    public Optional<CachedResponse> get(String url, Map<String, String> requestHeaders) {
+        String key = getKey(url, requestHeaders);
+        synchronized (this) {
+            if (sizeByKey.get(key) == null) {
+                return Optional.empty();
+            }
+        }
+
+        Lock lock = keyLocks.get(key);
+        lock.lock();
+        try {
+            Properties properties = readHeaders(key);
+            byte[] body = Files.readAllBytes(getBodyPath(key));
+            // Keep the order of access over restarts
+            Files.setLastModifiedTime(getHeadersPath(key), FileTime.from(clock.instant()));
+            return Optional.of(toCachedResponse(properties, body));
+        } catch (IOException | RuntimeException e) {
+            LOGGER.debug("Could not read cached response {}", key, e);
+        } finally {
+            lock.unlock();
+        }
+        remove(key);
+        return Optional.empty();
+    }
+
+    /**
+     * Returns whether a response with the given headers and the given length (-1 if unknown) may be stored
+     */
+    public boolean isStorable(URLConnection connection, long contentLength) {
+        CacheControl cacheControl = CacheControl.parse(Optional.ofNullable(connection.getHeaderField("Cache-Control")));
+        if (cacheControl.noStore() || (contentLength > getMaxEntrySize())) {
+            return false;
+        }
+        // Without any information on the freshness or a validator, the response can never be used again
+        return cacheControl.maxAge().isPresent() || cacheControl.noCache()
+                || (connection.getHeaderField("Expires") != null)
+                || (connection.getHeaderField("ETag") != null)
+                || (connection.getHeaderField("Last-Modified") != null);
+    }
+
+    public long getMaxEntrySize() {
+        return maxSize / 8;
+    }
+
+    /**
+     * Stores the response received using the given connection
+     */
+    public void put(String url, Map<String, String> requestHeaders, URLConnection connection, byte[] body) {
+        if (body.length > getMaxEntrySize()) {
+            return;
+        }
+
+        String key = getKey(url, requestHeaders);
+        Properties properties = new Properties();
+        properties.setProperty(RESPONSE_TIME_PROPERTY, String.valueOf(clock.millis()));
+        for (String header : STORED_HEADERS) {
+            String value = connection.getHeaderField(header);
+            if (value != null) {
+                properties.setProperty(HEADER_PROPERTY_PREFIX + header.toLowerCase(Locale.ROOT), value);
+            }
+        }
+
+        boolean stored = false;
+        Lock lock = keyLocks.get(key);
+        lock.lock();
+        try {
+            Files.createDirectories(directory);
+            Files.write(getBodyPath(key), body);
+            writeHeaders(key, properties);
+            stored = true;
+        } catch (IOException e) {
+            LOGGER.warn("Could not store response {}", key, e);
+        } finally {
+            lock.unlock();
+        }
+        if (!stored) {
+            remove(key);
+            return;
+        }
+
+        synchronized (this) {
+            Long oldSize = sizeByKey.put(key, (long) body.length);
+            size += body.length - (oldSize == null ? 0 : oldSize);
+            evict();
+        }
+    }
+
+    /**
+     * Updates the stored response after the server confirmed that it is still valid (RFC 7234, Section 4.3.4)
+     *
+     * @param connection the connection which received the "304 Not Modified" response
+     * @return the updated response
+     */
+    public CachedResponse update(String url, Map<String, String> requestHeaders, CachedResponse response, URLConnection connection) {
+        String key = getKey(url, requestHeaders);
+        Map<String, String> headers = new TreeMap<>(response.headers());
+        for (String header : STORED_HEADERS) {
+            String value = connection.getHeaderField(header);
+            if (value != null) {
+                headers.put(header.toLowerCase(Locale.ROOT), value);
+            }
+        }
+        CachedResponse updated = new CachedResponse(headers, clock.instant(), response.body());
+
+        Properties properties = new Properties();
+        properties.setProperty(RESPONSE_TIME_PROPERTY, String.valueOf(updated.responseTime().toEpochMilli()));
+        headers.forEach((name, value) -> properties.setProperty(HEADER_PROPERTY_PREFIX + name, value));
+        Lock lock = keyLocks.get(key);
+        lock.lock();
+        try {
+            // A concurrent download might have stored a newer response meanwhile, which keeps its own headers
+            if (Arrays.equals(Files.readAllBytes(getBodyPath(key)), response.body())) {
+                writeHeaders(key, properties);
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not update cached response {}", key, e);
+        } finally {
+            lock.unlock();
+        }
+        return updated;
+    }
+
+    public Instant now() {
+        return clock.instant();
+    }
+
+    public void record(Outcome outcome) {
+        switch (outcome) {
+            case HIT ->
+                    hits.increment();
+            case REVALIDATED ->
+                    revalidations.increment();
+            case MISS ->
+                    misses.increment();
+        }
+    }
+
+    public synchronized Statistics getStatistics() {
+        return new Statistics(hits.sum(), revalidations.sum(), misses.sum(), size);
+    }
+
+    /**
+     * Removes all stored responses
+     */
+    public synchronized void clear() {
+        new ArrayList<>(sizeByKey.keySet()).forEach(this::remove);
+    }
+
+    private synchronized void evict() {
+        Iterator<Map.Entry<String, Long>> leastRecentlyUsed = sizeByKey.entrySet().iterator();
+        List<String> evicted = new ArrayList<>();
+        while ((size > maxSize) && leastRecentlyUsed.hasNext()) {
+            Map.Entry<String, Long> entry = leastRecentlyUsed.next();
+            evicted.add(entry.getKey());
+            size -= entry.getValue();
+            leastRecentlyUsed.remove();
+        }
+        evicted.forEach(this::deleteFiles);
+    }
+
+    private synchronized void remove(String key) {
+        Long removedSize = sizeByKey.remove(key);
+        if (removedSize != null) {
+            size -= removedSize;
+        }
+        deleteFiles(key);
+    }
+
+    private void deleteFiles(String key) {
+        try {
+            Files.deleteIfExists(getHeadersPath(key));
+            Files.deleteIfExists(getBodyPath(key));
+        } catch (IOException e) {
+            LOGGER.debug("Could not delete cached response {}", key, e);
+        }
+    }
+
+    /**
+     * Reads the stored responses in the order of their last access
+     */
+    private void loadIndex() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+
+        record StoredResponse(String key, FileTime lastAccess, long size) {
+        }
+
+        List<StoredResponse> storedResponses = new ArrayList<>();
+        try (DirectoryStream<Path> headerFiles = Files.newDirectoryStream(directory, "*" + HEADERS_EXTENSION)) {
+            for (Path headerFile : headerFiles) {
+                String fileName = headerFile.getFileName().toString();
+                String key = fileName.substring(0, fileName.length() - HEADERS_EXTENSION.length());
+                Path bodyFile = getBodyPath(key);
+                if (Files.exists(bodyFile)) {
+                    storedResponses.add(new StoredResponse(key, Files.getLastModifiedTime(headerFile), Files.size(bodyFile)));
+                } else {
+                    Files.deleteIfExists(headerFile);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not read HTTP cache at {}", directory, e);
+        }
+
+        storedResponses.sort(Comparator.comparing(StoredResponse::lastAccess));
+        synchronized (this) {
+            for (StoredResponse storedResponse : storedResponses) {
+                sizeByKey.put(storedResponse.key(), storedResponse.size());
+                size += storedResponse.size();
+            }
+            evict();
+        }
+    }
+
+    private CachedResponse toCachedResponse(Properties properties, byte[] body) {
+        Map<String, String> headers = new TreeMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            if (name.startsWith(HEADER_PROPERTY_PREFIX)) {
+                headers.put(name.substring(HEADER_PROPERTY_PREFIX.length()), properties.getProperty(name));
+            }
+        }
+        Instant responseTime = Instant.ofEpochMilli(Long.parseLong(properties.getProperty(RESPONSE_TIME_PROPERTY)));
+        return new CachedResponse(headers, responseTime, body);
+    }
+
+    private Properties readHeaders(String key) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream inputStream = Files.newInputStream(getHeadersPath(key))) {
+            properties.load(inputStream);
+        }
+        return properties;
+    }
+
+    private void writeHeaders(String key, Properties properties) throws IOException {
+        try (OutputStream outputStream = Files.newOutputStream(getHeadersPath(key))) {
+            properties.store(outputStream, null);
+        }
+    }
+
+    private Path getBodyPath(String key) {
+        return directory.resolve(key + BODY_EXTENSION);
+    }
+
+    private Path getHeadersPath(String key) {
+        return directory.resolve(key + HEADERS_EXTENSION);
+    }
+
+    private static String getKey(String url, Map<String, String> requestHeaders) {
+        StringBuilder request = new StringBuilder(url);
+        new TreeMap<>(requestHeaders).forEach((name, value) -> request.append('\n').append(name).append(": ").append(value));
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(request.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform supports SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -2,11 +2,13 @@ package org.jabref.logic.net;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.SequenceInputStream;
 import java.io.StringWriter;
 import java.io.Writer;
 import java.net.CookieHandler;
@@ -42,6 +44,7 @@ import org.jabref.http.dto.SimpleHttpResponse;
 import org.jabref.logic.importer.FetcherClientException;
 import org.jabref.logic.importer.FetcherException;
 import org.jabref.logic.importer.FetcherServerException;
+import org.jabref.logic.util.Directories;
 import org.jabref.logic.util.io.FileUtil;
 import org.jabref.model.strings.StringUtil;
 
@@ -63,7 +66,8 @@ import org.slf4j.LoggerFactory;
  * </code>
  * <br/><br/>
  * Almost each call to a public method creates a new HTTP connection (except for {@link #asString(Charset, URLConnection) asString},
- * which uses an already opened connection). Nothing is cached.
+ * which uses an already opened connection). If a {@link HttpResponseCache} is {@link #setCache(HttpResponseCache) set},
+ * {@link #asString()} and {@link #asInputStream()} use it for GET requests.
  */
 public class URLDownload {
 
@@ -78,6 +82,8 @@ public class URLDownload {
     private Duration connectTimeout = DEFAULT_CONNECT_TIMEOUT;
     private SSLContext sslContext;
 
+    private static HttpResponseCache cache;
+
     static {
         Unirest.config()
                .followRedirects(true)
@@ -114,6 +120,29 @@ public class URLDownload {
         return source;
     }
 
+    /**
+     * Sets the cache used for GET requests of all downloads. <code>null</code> disables caching.
+     */
+    public static void setCache(HttpResponseCache cache) {
+        URLDownload.cache = cache;
+    }
+
+    /**
+     * Sets up the cache in the user's cache directory or removes it. Disabling the cache deletes the stored responses.
+     */
+    public static synchronized void setCacheEnabled(boolean enabled) {
+        if (enabled && (cache == null)) {
+            setCache(new HttpResponseCache(Directories.getHttpCacheDirectory(), HttpResponseCache.DEFAULT_MAX_SIZE));
+        } else if (!enabled && (cache != null)) {
+            cache.clear();
+            setCache(null);
+        }
+    }
+
+    public static Optional<HttpResponseCache> getCache() {
+        return Optional.ofNullable(cache);
+    }
+
     public Optional<String> getMimeType() {
         String contentType;
 
@@ -211,6 +240,16 @@ public class URLDownload {
      * @return the downloaded string
      */
     public String asString(Charset encoding) throws FetcherException {
+        HttpResponseCache responseCache = cache;
+        if (isCacheable(responseCache)) {
+            try (InputStream input = openCachedResponse(responseCache).inputStream();
+                 Writer output = new StringWriter()) {
+                copy(input, output, encoding);
+                return output.toString();
+            } catch (IOException e) {
+                throw new FetcherException("Error downloading", e);
+            }
+        }
         return asString(encoding, this.openConnection());
     }
 
@@ -275,6 +314,12 @@ public class URLDownload {
      * Takes the web resource as the source for a monitored input stream.
      */
     public ProgressInputStream asInputStream() throws FetcherException {
+        HttpResponseCache responseCache = cache;
+        if (isCacheable(responseCache)) {
+            Response response = openCachedResponse(responseCache);
+            return new ProgressInputStream(new BufferedInputStream(response.inputStream()), response.length());
+        }
+
         HttpURLConnection urlConnection = (HttpURLConnection) this.openConnection();
 
         int responseCode;
@@ -299,6 +344,69 @@ public class URLDownload {
         return new ProgressInputStream(new BufferedInputStream(inputStream), fileSize);
     }
 
+    private record Response(InputStream inputStream, long length) {
+    }
+
+    private boolean isCacheable(HttpResponseCache responseCache) {
+        return (responseCache != null)
+                && postData.isEmpty()
+                && ("http".equals(source.getProtocol()) || "https".equals(source.getProtocol()));
+    }
+
+    /**
+     * Returns the response to the GET request, using the stored one if it is fresh or the server confirms that it is
+     * still valid. A new response is stored if it is allowed to.
+     */
+    private Response openCachedResponse(HttpResponseCache responseCache) throws FetcherException {
+        String url = source.toString();
+        Optional<HttpResponseCache.CachedResponse> cachedResponse = responseCache.get(url, parameters);
+        if (cachedResponse.isPresent() && cachedResponse.get().isFresh(responseCache.now())) {
+            responseCache.record(HttpResponseCache.Outcome.HIT);
+            return toResponse(cachedResponse.get().body());
+        }
+
+        Map<String, String> conditionalHeaders = cachedResponse.map(HttpResponseCache.CachedResponse::getConditionalRequestHeaders)
+                                                               .orElse(Map.of());
+        HttpURLConnection connection = (HttpURLConnection) openConnection(conditionalHeaders);
+        try {
+            int responseCode = connection.getResponseCode();
+            if ((responseCode == HttpURLConnection.HTTP_NOT_MODIFIED) && cachedResponse.isPresent()) {
+                responseCache.record(HttpResponseCache.Outcome.REVALIDATED);
+                HttpResponseCache.CachedResponse updatedResponse = responseCache.update(url, parameters, cachedResponse.get(), connection);
+                connection.disconnect();
+                return toResponse(updatedResponse.body());
+            }
+            responseCache.record(HttpResponseCache.Outcome.MISS);
+            if (responseCode >= 300) {
+                SimpleHttpResponse simpleHttpResponse = new SimpleHttpResponse(connection);
+                LOGGER.error("Failed to read from url: {}", simpleHttpResponse);
+                throw FetcherException.of(this.source, simpleHttpResponse);
+            }
+
+            long length = connection.getContentLengthLong();
+            InputStream inputStream = connection.getInputStream();
+            if ((responseCode != HttpURLConnection.HTTP_OK) || !responseCache.isStorable(connection, length)) {
+                return new Response(inputStream, length);
+            }
+
+            // The length might be unknown, thus we read one byte more than allowed to find out whether it fits
+            int maxEntrySize = (int) Math.min(responseCache.getMaxEntrySize(), Integer.MAX_VALUE - 1);
+            byte[] start = inputStream.readNBytes(maxEntrySize + 1);
+            if (start.length > maxEntrySize) {
+                return new Response(new SequenceInputStream(new ByteArrayInputStream(start), inputStream), length);
+            }
+            inputStream.close();
+            responseCache.put(url, parameters, connection, start);
+            return toResponse(start);
+        } catch (IOException e) {
+            throw new FetcherException("Error downloading", e);
+        }
+    }
+
+    private static Response toResponse(byte[] body) {
+        return new Response(new ByteArrayInputStream(body), body.length);
+    }
+
     /**
      * Downloads the web resource to a temporary file.
      *
@@ -350,9 +458,13 @@ public class URLDownload {
      * @return an open connection
      */
     public URLConnection openConnection() throws FetcherException {
+        return openConnection(Map.of());
+    }
+
+    private URLConnection openConnection(Map<String, String> additionalHeaders) throws FetcherException {
         URLConnection connection;
         try {
-            connection = getUrlConnection();
+            connection = getUrlConnection(additionalHeaders);
         } catch (IOException e) {
             throw new FetcherException("Error opening connection", e);
         }
@@ -394,7 +506,7 @@ public class URLDownload {
         return connection;
     }
 
-    private URLConnection getUrlConnection() throws IOException {
+    private URLConnection getUrlConnection(Map<String, String> additionalHeaders) throws IOException {
         URLConnection connection = this.source.openConnection();
 
         if (connection instanceof HttpURLConnection httpConnection) {
@@ -409,6 +521,7 @@ public class URLDownload {
         for (Entry<String, String> entry : this.parameters.entrySet()) {
             connection.setRequestProperty(entry.getKey(), entry.getValue());
         }
+        additionalHeaders.forEach(connection::setRequestProperty);
         if (!this.postData.isEmpty()) {
             connection.setDoOutput(true);
             try (DataOutputStream wr = new DataOutputStream(connection.getOutputStream())) {
@@ -277,6 +277,7 @@ public class JabRefCliPreferences implements CliPreferences {
     // Version
     public static final String VERSION_IGNORED_UPDATE = "versionIgnoreUpdate";
     public static final String VERSION_CHECK_ENABLED = "versionCheck";
+    public static final String HTTP_CACHE_ENABLED = "httpCacheEnabled";
 
     // String delimiter
     public static final Character STRINGLIST_DELIMITER = ';';
@@ -614,6 +615,7 @@ public class JabRefCliPreferences implements CliPreferences {
         // version check defaults
         defaults.put(VERSION_IGNORED_UPDATE, "");
         defaults.put(VERSION_CHECK_ENABLED, Boolean.TRUE);
+        defaults.put(HTTP_CACHE_ENABLED, Boolean.TRUE);
 
         setLanguageDependentDefaultValues();
 
@@ -1433,6 +1435,7 @@ public class JabRefCliPreferences implements CliPreferences {
         internalPreferences = new InternalPreferences(
                 Version.parse(get(VERSION_IGNORED_UPDATE)),
                 getBoolean(VERSION_CHECK_ENABLED),
+                getBoolean(HTTP_CACHE_ENABLED),
                 getPath(PREFS_EXPORT_PATH, getDefaultPath()),
                 getUserAndHost(),
                 getBoolean(MEMORY_STICK_MODE));
@@ -1441,6 +1444,8 @@ public class JabRefCliPreferences implements CliPreferences {
                 (obs, oldValue, newValue) -> put(VERSION_IGNORED_UPDATE, newValue.toString()));
         EasyBind.listen(internalPreferences.versionCheckEnabledProperty(),
                 (obs, oldValue, newValue) -> putBoolean(VERSION_CHECK_ENABLED, newValue));
+        EasyBind.listen(internalPreferences.httpCacheEnabledProperty(),
+                (obs, oldValue, newValue) -> putBoolean(HTTP_CACHE_ENABLED, newValue));
         EasyBind.listen(internalPreferences.lastPreferencesExportPathProperty(),
                 (obs, oldValue, newValue) -> put(PREFS_EXPORT_PATH, newValue.toString()));
         // user is a static value, should only be changed for debugging
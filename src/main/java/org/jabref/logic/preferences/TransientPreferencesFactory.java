@@ -0,0 +1,86 @@
+package org.jabref.logic.preferences;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.prefs.AbstractPreferences;
+import java.util.prefs.Preferences;
+import java.util.prefs.PreferencesFactory;
+
+/**
+ * Keeps the preferences in memory only, so that the stored preferences of the user are neither read nor changed.
+ * <p>
+ * It is selected by starting the JVM with
+ * {@code -Djava.util.prefs.PreferencesFactory=org.jabref.logic.preferences.TransientPreferencesFactory}. The training
+ * run creating the AppCDS archive (see "appCdsArchive" in build.gradle) uses it to start JabRef with the default
+ * preferences.
+ */
+public class TransientPreferencesFactory implements PreferencesFactory {
+
+    private static final Preferences USER_ROOT = new TransientPreferences(null, "");
+    private static final Preferences SYSTEM_ROOT = new TransientPreferences(null, "");
+
+    @Override
+    public Preferences userRoot() {
+        return USER_ROOT;
+    }
+
+    @Override
+    public Preferences systemRoot() {
+        return SYSTEM_ROOT;
+    }
+
+    /**
+     * The child nodes are kept by {@link AbstractPreferences} itself, so only the values are stored here.
+     */
+    private static class TransientPreferences extends AbstractPreferences {
+
+        private final Map<String, String> values = new HashMap<>();
+
+        TransientPreferences(TransientPreferences parent, String name) {
+            super(parent, name);
+        }
+
+        @Override
+        protected void putSpi(String key, String value) {
+            values.put(key, value);
+        }
+
+        @Override
+        protected String getSpi(String key) {
+            return values.get(key);
+        }
+
+        @Override
+        protected void removeSpi(String key) {
+            values.remove(key);
+        }
+
+        @Override
+        protected void removeNodeSpi() {
+            values.clear();
+        }
+
+        @Override
+        protected String[] keysSpi() {
+            return values.keySet().toArray(String[]::new);
+        }
+
+        @Override
+        protected String[] childrenNamesSpi() {
+            return new String[0];
+        }
+
+        @Override
+        protected AbstractPreferences childSpi(String name) {
+            return new TransientPreferences(this, name);
+        }
+
+        @Override
+        protected void syncSpi() {
+        }
+
+        @Override
+        protected void flushSpi() {
+        }
+    }
+}
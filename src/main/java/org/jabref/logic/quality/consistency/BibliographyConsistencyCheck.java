@@ -10,6 +10,7 @@ import java.util.Map;
 import java.util.SequencedCollection;
 import java.util.Set;
 
+import org.jabref.logic.integrity.DatabaseFacts;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.types.EntryType;
@@ -34,29 +35,29 @@ public class BibliographyConsistencyCheck {
      * @implNote This class does not implement {@link org.jabref.logic.integrity.DatabaseChecker}, because it returns a list of {@link org.jabref.logic.integrity.IntegrityMessage}, which are too fine-grained.
      */
     public Result check(List<BibEntry> entries) {
-        // collects fields existing in any entry, scoped by entry type
-        Map<EntryType, Set<Field>> entryTypeToFieldsInAnyEntryMap = new HashMap<>();
-        // collects fields existing in all entries, scoped by entry type
-        Map<EntryType, Set<Field>> entryTypeToFieldsInAllEntriesMap = new HashMap<>();
-        // collects entries of the same type
-        Map<EntryType, Set<BibEntry>> entryTypeToEntriesMap = new HashMap<>();
-
-        collectEntriesIntoMaps(entries, entryTypeToFieldsInAnyEntryMap, entryTypeToFieldsInAllEntriesMap, entryTypeToEntriesMap);
+        return check(DatabaseFacts.of(entries));
+    }
 
+    /**
+     * Checks the consistency of the entries the given facts were collected from.
+     *
+     * @see #check(List)
+     */
+    public Result check(DatabaseFacts databaseFacts) {
         Map<EntryType, EntryTypeResult> resultMap = new HashMap<>();
 
-        entryTypeToFieldsInAnyEntryMap.forEach((entryType, fields) -> {
-            Set<Field> commonFields = entryTypeToFieldsInAllEntriesMap.get(entryType);
-            assert commonFields != null;
-            Set<Field> uniqueFields = new HashSet<>(fields);
+        databaseFacts.getFieldPresenceByEntryType().forEach((entryType, fieldPresence) -> {
+            Set<Field> commonFields = fieldPresence.fieldsInAllEntries();
+            Set<Field> uniqueFields = new HashSet<>(fieldPresence.fieldsInAnyEntry());
             uniqueFields.removeAll(commonFields);
 
             if (uniqueFields.isEmpty()) {
                 return;
             }
 
-            List<BibEntry> sortedEntries = entryTypeToEntriesMap
-                    .get(entryType).stream()
+            List<BibEntry> sortedEntries = fieldPresence
+                    .entries().stream()
+                    .distinct()
                     .filter(entry -> !entry.getFields().equals(commonFields))
                     .sorted(getBibEntryComparator()).toList();
             resultMap.put(entryType, new EntryTypeResult(uniqueFields, sortedEntries));
@@ -86,19 +87,4 @@ public class BibliographyConsistencyCheck {
             return 0;
         };
     }
-
-    private static void collectEntriesIntoMaps(List<BibEntry> entries, Map<EntryType, Set<Field>> entryTypeToFieldsInAnyEntryMap, Map<EntryType, Set<Field>> entryTypeToFieldsInAllEntriesMap, Map<EntryType, Set<BibEntry>> entryTypeToEntriesMap) {
-        entries.forEach(entry -> {
-            EntryType entryType = entry.getType();
-
-            Set<Field> fieldsInAnyEntry = entryTypeToFieldsInAnyEntryMap.computeIfAbsent(entryType, k -> new HashSet<>());
-            fieldsInAnyEntry.addAll(entry.getFields());
-
-            Set<Field> fieldsInAllEntries = entryTypeToFieldsInAllEntriesMap.computeIfAbsent(entryType, k -> new HashSet<>(entry.getFields()));
-            fieldsInAllEntries.retainAll(entry.getFields());
-
-            Set<BibEntry> entriesOfType = entryTypeToEntriesMap.computeIfAbsent(entryType, k -> new HashSet<>());
-            entriesOfType.add(entry);
-        });
-    }
 }
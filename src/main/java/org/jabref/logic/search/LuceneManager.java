@@ -1,7 +1,10 @@
 package org.jabref.logic.search;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.SimpleBooleanProperty;
@@ -14,8 +17,11 @@ import org.jabref.logic.search.indexing.ReadOnlyLinkedFilesIndexer;
 import org.jabref.logic.search.retrieval.LuceneSearcher;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.TaskExecutor;
+import org.jabref.logic.util.TaskPriority;
+import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.search.SearchQuery;
 import org.jabref.model.search.SearchResults;
 import org.jabref.model.search.event.IndexAddedOrUpdatedEvent;
@@ -68,7 +74,8 @@ public class LuceneManager {
                     linkedFilesIndexer.updateOnStart(this);
                     return null;
                 }
-            }.executeWith(taskExecutor);
+            }.withPriority(TaskPriority.BULK)
+             .executeWith(taskExecutor);
         } else {
             linkedFilesIndexer.removeAllFromIndex();
         }
@@ -92,7 +99,8 @@ public class LuceneManager {
                     linkedFilesIndexer.updateOnStart(this);
                     return null;
                 }
-            }.executeWith(taskExecutor);
+            }.withPriority(TaskPriority.BULK)
+             .executeWith(taskExecutor);
         }
     }
 
@@ -113,7 +121,8 @@ public class LuceneManager {
                     linkedFilesIndexer.addToIndex(entries, this);
                     return null;
                 }
-            }.executeWith(taskExecutor);
+            }.withPriority(TaskPriority.BULK)
+             .executeWith(taskExecutor);
         }
     }
 
@@ -134,7 +143,8 @@ public class LuceneManager {
                     linkedFilesIndexer.removeFromIndex(entries, this);
                     return null;
                 }
-            }.executeWith(taskExecutor);
+            }.withPriority(TaskPriority.BULK)
+             .executeWith(taskExecutor);
         }
     }
 
@@ -155,7 +165,57 @@ public class LuceneManager {
                     linkedFilesIndexer.updateEntry(entry, oldValue, newValue, this);
                     return null;
                 }
-            }.executeWith(taskExecutor);
+            }.withPriority(TaskPriority.BULK)
+             .executeWith(taskExecutor);
+        }
+    }
+
+    /**
+     * Updates the index for many field changes at once, e.g., those of a {@link org.jabref.model.database.BibDatabaseTransaction}.
+     * Each changed entry is re-indexed once.
+     */
+    public void updateEntries(List<FieldChange> fieldChanges) {
+        // Entries are compared by identity, because equal entries need to be indexed separately
+        Map<BibEntry, List<FieldChange>> changesByEntry = new IdentityHashMap<>();
+        List<BibEntry> entries = new ArrayList<>();
+        for (FieldChange change : fieldChanges) {
+            changesByEntry.computeIfAbsent(change.getEntry(), entry -> {
+                entries.add(entry);
+                return new ArrayList<>();
+            }).add(change);
+        }
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        new BackgroundTask<>() {
+            @Override
+            public Object call() {
+                for (BibEntry entry : entries) {
+                    bibFieldsIndexer.updateEntry(entry, "", "", this);
+                }
+                return null;
+            }
+        }.onFinished(() -> this.databaseContext.getDatabase().postEvent(new IndexAddedOrUpdatedEvent(entries)))
+         .executeWith(taskExecutor);
+
+        if (shouldIndexLinkedFiles.get() && !isLinkedFilesIndexerBlocked.get()) {
+            new BackgroundTask<>() {
+                @Override
+                public Object call() {
+                    changesByEntry.forEach((entry, changes) -> {
+                        List<FieldChange> fileChanges = changes.stream()
+                                                               .filter(change -> change.getField().equals(StandardField.FILE))
+                                                               .toList();
+                        if (!fileChanges.isEmpty()) {
+                            // Only the files linked before and after the transaction matter
+                            linkedFilesIndexer.updateEntry(entry, fileChanges.getFirst().getOldValue(), fileChanges.getLast().getNewValue(), this);
+                        }
+                    });
+                    return null;
+                }
+            }.withPriority(TaskPriority.BULK)
+             .executeWith(taskExecutor);
         }
     }
 
@@ -176,7 +236,8 @@ public class LuceneManager {
                     linkedFilesIndexer.addToIndex(List.of(entry), this);
                     return null;
                 }
-            }.executeWith(taskExecutor);
+            }.withPriority(TaskPriority.BULK)
+             .executeWith(taskExecutor);
         }
     }
 
@@ -197,7 +258,8 @@ public class LuceneManager {
                     linkedFilesIndexer.rebuildIndex(this);
                     return null;
                 }
-            }.executeWith(taskExecutor);
+            }.withPriority(TaskPriority.BULK)
+             .executeWith(taskExecutor);
         }
     }
 
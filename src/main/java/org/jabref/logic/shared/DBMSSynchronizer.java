@@ -22,7 +22,9 @@ import org.jabref.logic.shared.event.UpdateRefusedEvent;
 import org.jabref.logic.shared.exception.OfflineLockException;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseTransaction;
 import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesChangedEvent;
 import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.EntriesEvent;
@@ -94,6 +96,10 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
      */
     @Subscribe
     public void listen(FieldChangedEvent event) {
+        if (event.isPartOfChangeSet()) {
+            // Synchronized at once when the transaction is committed
+            return;
+        }
         BibEntry bibEntry = event.getBibEntry();
         // While synchronizing the local database (see synchronizeLocalDatabase() below), some EntriesEvents may be posted.
         // In this case DBSynchronizer should not try to update the bibEntry entry again (but it would not harm).
@@ -108,6 +114,21 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         }
     }
 
+    /**
+     * Listening method. Updates all {@link BibEntry} changed during a transaction of the local database.
+     */
+    @Subscribe
+    public void listen(EntriesChangedEvent event) {
+        if (isEventSourceAccepted(event) && checkCurrentConnection()) {
+            synchronizeLocalMetaData();
+            pullWithLastEntry();
+            event.getBibEntries().stream()
+                 .filter(this::isPresentLocalBibEntry)
+                 .forEach(this::synchronizeSharedEntry);
+            synchronizeLocalDatabase(); // Pull changes for the case that there were some
+        }
+    }
+
     /**
      * Listening method. Deletes the given list of {@link BibEntry} from shared database.
      */
@@ -182,6 +203,22 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         removeNotSharedEntries(localEntries, idVersionMap.keySet());
         List<Integer> entriesToInsertIntoLocalDatabase = new ArrayList<>();
         // compare versions and update local entry if needed
+        try (BibDatabaseTransaction transaction = bibDatabase.beginTransaction(EntriesEventSource.SHARED)) {
+            updateLocalEntries(localEntries, idVersionMap, entriesToInsertIntoLocalDatabase);
+        }
+
+        if (!entriesToInsertIntoLocalDatabase.isEmpty()) {
+            // in case entries should be added into the local database, insert them
+            bibDatabase.insertEntries(dbmsProcessor.partitionAndGetSharedEntries(entriesToInsertIntoLocalDatabase), EntriesEventSource.SHARED);
+        }
+    }
+
+    /**
+     * Updates the local entries older than their shared version.
+     *
+     * @param entriesToInsertIntoLocalDatabase the IDs of shared entries not present locally are added to this list
+     */
+    private void updateLocalEntries(List<BibEntry> localEntries, Map<Integer, Integer> idVersionMap, List<Integer> entriesToInsertIntoLocalDatabase) {
         for (Map.Entry<Integer, Integer> idVersionEntry : idVersionMap.entrySet()) {
             boolean remoteEntryMatchingOneLocalEntryFound = false;
             for (BibEntry localEntry : localEntries) {
@@ -213,11 +250,6 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
                 entriesToInsertIntoLocalDatabase.add(idVersionEntry.getKey());
             }
         }
-
-        if (!entriesToInsertIntoLocalDatabase.isEmpty()) {
-            // in case entries should be added into the local database, insert them
-            bibDatabase.insertEntries(dbmsProcessor.partitionAndGetSharedEntries(entriesToInsertIntoLocalDatabase), EntriesEventSource.SHARED);
-        }
     }
 
     /**
@@ -61,6 +61,8 @@ public abstract class BackgroundTask<V> {
     private final DoubleProperty workDonePercentage = new SimpleDoubleProperty(0);
     private final BooleanProperty showToUser = new SimpleBooleanProperty(false);
     private final BooleanProperty willBeRecoveredAutomatically = new SimpleBooleanProperty(false);
+    private TaskPriority priority = TaskPriority.NORMAL;
+    private boolean ioBound;
 
     public BackgroundTask() {
         workDonePercentage.bind(EasyBind.map(progress, BackgroundTask.BackgroundProgress::getWorkDonePercentage));
@@ -164,6 +166,30 @@ public abstract class BackgroundTask<V> {
         return this;
     }
 
+    public TaskPriority getPriority() {
+        return priority;
+    }
+
+    /**
+     * Sets the lane the task is scheduled in. By default, this is {@link TaskPriority#NORMAL}.
+     */
+    public BackgroundTask<V> withPriority(TaskPriority priority) {
+        this.priority = priority;
+        return this;
+    }
+
+    public boolean isIoBound() {
+        return ioBound;
+    }
+
+    /**
+     * Marks the task as mostly waiting for I/O (e.g., web requests), so that it is run on a virtual thread.
+     */
+    public BackgroundTask<V> ioBound(boolean ioBound) {
+        this.ioBound = ioBound;
+        return this;
+    }
+
     /**
      * Sets the {@link Runnable} that is invoked after the task is started.
      */
@@ -236,7 +262,7 @@ public abstract class BackgroundTask<V> {
                 EasyBind.subscribe(nextTask.progressProperty(), this::updateProgress);
                 return nextTask.call();
             }
-        };
+        }.withPriority(priority).ioBound(ioBound);
     }
 
     /**
@@ -254,7 +280,7 @@ public abstract class BackgroundTask<V> {
                 EasyBind.subscribe(nextTask.progressProperty(), this::updateProgress);
                 return nextTask.call();
             }
-        };
+        }.withPriority(priority).ioBound(ioBound);
     }
 
     /**
@@ -271,7 +297,7 @@ public abstract class BackgroundTask<V> {
                 EasyBind.subscribe(nextTask.progressProperty(), this::updateProgress);
                 return nextTask.call();
             }
-        };
+        }.withPriority(priority).ioBound(ioBound);
     }
 
     protected void updateProgress(BackgroundProgress newProgress) {
@@ -13,6 +13,8 @@ import com.google.common.eventbus.Subscribe;
 
 /**
  * Filters change events and only relays major changes.
+ * <p>
+ * Changes made during a transaction of the database are relayed once as {@link org.jabref.model.database.event.EntriesChangedEvent}.
  */
 public class CoarseChangeFilter {
 
@@ -34,7 +36,10 @@ public class CoarseChangeFilter {
 
     @Subscribe
     public synchronized void listen(BibDatabaseContextChangedEvent event) {
-        if (event instanceof FieldChangedEvent fieldChange) {
+        if ((event instanceof FieldChangedEvent fieldChange) && fieldChange.isPartOfChangeSet()) {
+            // Relayed at once by the EntriesChangedEvent of the transaction
+            return;
+        } else if (event instanceof FieldChangedEvent fieldChange) {
             // If editing has started
             boolean isNewEdit = lastFieldChanged.isEmpty() || lastEntryChanged.isEmpty();
 
@@ -49,6 +49,26 @@ public class Directories {
                                              OS.APP_DIR_APP_AUTHOR));
     }
 
+    /**
+     * Returns the directory storing the indexes of the file directories of the libraries. These can be recreated at any time.
+     */
+    public static Path getFileDirectoryIndexDirectory() {
+        return Path.of(AppDirsFactory.getInstance()
+                                     .getUserCacheDir(OS.APP_DIR_APP_NAME,
+                                             "file-index",
+                                             OS.APP_DIR_APP_AUTHOR));
+    }
+
+    /**
+     * Returns the directory storing the responses of web requests. These can be removed at any time.
+     */
+    public static Path getHttpCacheDirectory() {
+        return Path.of(AppDirsFactory.getInstance()
+                                     .getUserCacheDir(OS.APP_DIR_APP_NAME,
+                                             "http",
+                                             OS.APP_DIR_APP_AUTHOR));
+    }
+
     public static Path getAiFilesDirectory() {
         return Path.of(AppDirsFactory.getInstance()
                 .getUserDataDir(OS.APP_DIR_APP_NAME,
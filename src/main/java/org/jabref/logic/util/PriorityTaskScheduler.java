@@ -0,0 +1,178 @@
+package org.jabref.logic.util;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs tasks in lanes by {@link TaskPriority}. Each lane has its own queue and concurrency limit sized to the number
+ * of processors, so that many long-running tasks of a lower priority never delay a task of a higher priority. The
+ * {@link TaskPriority#NORMAL} lane runs at least {@value #MINIMAL_NORMAL_CONCURRENCY} tasks concurrently, as many as
+ * the fixed pool used before the lanes were introduced.
+ * <p>
+ * Tasks waiting for I/O (e.g., web requests) are run on virtual threads in separate lanes allowing
+ * {@value #IO_BOUND_CONCURRENCY_FACTOR} times as many concurrent tasks, because they hardly use a processor.
+ */
+public class PriorityTaskScheduler {
+
+    static final int IO_BOUND_CONCURRENCY_FACTOR = 4;
+    static final int MINIMAL_NORMAL_CONCURRENCY = 5;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PriorityTaskScheduler.class);
+
+    private final Map<TaskPriority, Lane> cpuBoundLanes = new EnumMap<>(TaskPriority.class);
+    private final Map<TaskPriority, Lane> ioBoundLanes = new EnumMap<>(TaskPriority.class);
+    private final List<ExecutorService> executors = new ArrayList<>();
+
+    /**
+     * Statistics of a lane.
+     *
+     * @param queued      the number of tasks waiting to be run
+     * @param running     the number of tasks currently running
+     * @param started     the number of tasks started so far
+     * @param averageWait the average time the started tasks waited in the queue
+     * @param maximalWait the longest time a started task waited in the queue
+     */
+    public record LaneStatistics(TaskPriority priority, boolean ioBound, int limit, int queued, int running, long started, Duration averageWait, Duration maximalWait) {
+    }
+
+    public PriorityTaskScheduler() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    PriorityTaskScheduler(int processors) {
+        ExecutorService virtualThreadExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("JabRef I/O task ", 0).factory());
+        executors.add(virtualThreadExecutor);
+        for (TaskPriority priority : TaskPriority.values()) {
+            int limit = getConcurrencyLimit(priority, processors);
+            ExecutorService platformThreadExecutor = Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable);
+                thread.setName("JabRef " + priority.name().toLowerCase(Locale.ROOT) + " task");
+                thread.setPriority(priority == TaskPriority.BULK ? Thread.MIN_PRIORITY : Thread.NORM_PRIORITY);
+                thread.setUncaughtExceptionHandler(new FallbackExceptionHandler());
+                return thread;
+            });
+            executors.add(platformThreadExecutor);
+            cpuBoundLanes.put(priority, new Lane(priority, false, limit, platformThreadExecutor));
+            ioBoundLanes.put(priority, new Lane(priority, true, limit * IO_BOUND_CONCURRENCY_FACTOR, virtualThreadExecutor));
+        }
+    }
+
+    static int getConcurrencyLimit(TaskPriority priority, int processors) {
+        return switch (priority) {
+            case INTERACTIVE ->
+                    Math.max(2, processors);
+            case NORMAL ->
+                    Math.max(MINIMAL_NORMAL_CONCURRENCY, processors / 2);
+            case BULK ->
+                    Math.max(1, processors / 4);
+        };
+    }
+
+    /**
+     * Runs the given task as soon as its lane has capacity.
+     *
+     * @param ioBound whether the task mostly waits for I/O
+     */
+    public void execute(Runnable task, TaskPriority priority, boolean ioBound) {
+        (ioBound ? ioBoundLanes : cpuBoundLanes).get(priority).submit(task);
+    }
+
+    public List<LaneStatistics> getStatistics() {
+        List<LaneStatistics> statistics = new ArrayList<>();
+        cpuBoundLanes.values().forEach(lane -> statistics.add(lane.getStatistics()));
+        ioBoundLanes.values().forEach(lane -> statistics.add(lane.getStatistics()));
+        return statistics;
+    }
+
+    /**
+     * Discards the queued tasks and interrupts the running ones.
+     */
+    public void shutdownNow() {
+        getStatistics().forEach(statistics -> LOGGER.debug("{}", statistics));
+        cpuBoundLanes.values().forEach(Lane::clear);
+        ioBoundLanes.values().forEach(Lane::clear);
+        executors.forEach(ExecutorService::shutdownNow);
+    }
+
+    private static class Lane {
+
+        private final TaskPriority priority;
+        private final boolean ioBound;
+        private final int limit;
+        private final ExecutorService executor;
+        private final Queue<QueuedTask> queue = new ArrayDeque<>();
+
+        private int running;
+        private long started;
+        private long totalWaitNanos;
+        private long maximalWaitNanos;
+
+        Lane(TaskPriority priority, boolean ioBound, int limit, ExecutorService executor) {
+            this.priority = priority;
+            this.ioBound = ioBound;
+            this.limit = limit;
+            this.executor = executor;
+        }
+
+        synchronized void submit(Runnable task) {
+            queue.add(new QueuedTask(task, System.nanoTime()));
+            dispatch();
+        }
+
+        /**
+         * Starts queued tasks while the lane has capacity. Has to be called while holding the lock.
+         */
+        private void dispatch() {
+            while ((running < limit) && !queue.isEmpty()) {
+                QueuedTask next = queue.poll();
+                try {
+                    executor.execute(() -> run(next.task()));
+                } catch (RejectedExecutionException e) {
+                    LOGGER.debug("Task not started, because the scheduler is shut down", e);
+                    queue.clear();
+                    return;
+                }
+                long waitNanos = System.nanoTime() - next.queuedNanos();
+                totalWaitNanos += waitNanos;
+                maximalWaitNanos = Math.max(maximalWaitNanos, waitNanos);
+                started++;
+                running++;
+            }
+        }
+
+        private void run(Runnable task) {
+            try {
+                task.run();
+            } finally {
+                synchronized (this) {
+                    running--;
+                    dispatch();
+                }
+            }
+        }
+
+        synchronized void clear() {
+            queue.clear();
+        }
+
+        synchronized LaneStatistics getStatistics() {
+            Duration averageWait = started == 0 ? Duration.ZERO : Duration.ofNanos(totalWaitNanos / started);
+            return new LaneStatistics(priority, ioBound, limit, queue.size(), running, started, averageWait, Duration.ofNanos(maximalWaitNanos));
+        }
+    }
+
+    private record QueuedTask(Runnable task, long queuedNanos) {
+    }
+}
@@ -0,0 +1,175 @@
+package org.jabref.logic.util;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.jabref.logic.os.OS;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs the initialization steps of the application start and records how long each of them took.
+ * <p>
+ * Steps depending on each other are {@link #run(String, Callable) run} one after another. Independent steps are
+ * {@link #start(String, Runnable) started} concurrently and joined by {@link #await()} before the first step needing
+ * them. Steps nothing waits for are {@link #startInBackground(String, Runnable) started in background}.
+ * <p>
+ * Started steps run in other threads. Thus, they should compute their result only, which is then registered, e.g., at
+ * the injector, in the main thread after {@link #await()}.
+ * <p>
+ * The recorded timeline can be printed using the command line option {@code --startup-timeline} to track the time
+ * needed for a cold start.
+ */
+public class StartupOrchestrator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StartupOrchestrator.class);
+
+    private final long startNanos;
+    private final Duration untilMain;
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("JabRef startup ", 0).factory());
+    private final List<Phase> phases = Collections.synchronizedList(new ArrayList<>());
+    private final List<Future<?>> startedSteps = new ArrayList<>();
+
+    /**
+     * A recorded phase of the start.
+     *
+     * @param start    the time since the process was started at which the phase began
+     * @param duration the time the phase took, zero for a milestone
+     */
+    public record Phase(String name, Duration start, Duration duration, boolean concurrent) {
+    }
+
+    public StartupOrchestrator() {
+        startNanos = System.nanoTime();
+        // The time until the orchestrator is created, i.e., starting the JVM and configuring the logging, is the first phase
+        untilMain = ProcessHandle.current().info().startInstant()
+                                 .map(processStart -> Duration.between(processStart, Instant.now()))
+                                 .orElse(Duration.ZERO);
+        phases.add(new Phase("JVM start and logging", Duration.ZERO, untilMain, false));
+    }
+
+    /**
+     * Runs the given step in the current thread.
+     */
+    public <T> T run(String name, Callable<T> step) throws Exception {
+        long stepStart = System.nanoTime();
+        try {
+            return step.call();
+        } finally {
+            record(name, stepStart, false);
+        }
+    }
+
+    public void run(String name, Runnable step) {
+        long stepStart = System.nanoTime();
+        try {
+            step.run();
+        } finally {
+            record(name, stepStart, false);
+        }
+    }
+
+    /**
+     * Starts the given step concurrently to the following ones. It is joined by {@link #await()}.
+     */
+    public void start(String name, Runnable step) {
+        start(name, Executors.callable(step));
+    }
+
+    /**
+     * Starts the given step concurrently to the following ones. It is joined by {@link #await()}.
+     *
+     * @return the result of the step, available after {@link #await()}
+     */
+    public <T> Future<T> start(String name, Callable<T> step) {
+        Future<T> future = submit(name, step);
+        startedSteps.add(future);
+        return future;
+    }
+
+    /**
+     * Starts the given step concurrently. Nothing waits for it to finish.
+     */
+    public void startInBackground(String name, Runnable step) {
+        submit(name, Executors.callable(step));
+    }
+
+    private <T> Future<T> submit(String name, Callable<T> step) {
+        return executor.submit(() -> {
+            long stepStart = System.nanoTime();
+            try {
+                return step.call();
+            } finally {
+                record(name, stepStart, true);
+            }
+        });
+    }
+
+    /**
+     * Waits for all {@link #start(String, Runnable) started} steps to finish.
+     *
+     * @throws ExecutionException if one of the steps failed
+     */
+    public void await() throws ExecutionException, InterruptedException {
+        long waitStart = System.nanoTime();
+        for (Future<?> step : startedSteps) {
+            step.get();
+        }
+        startedSteps.clear();
+        record("Waiting for concurrent steps", waitStart, false);
+    }
+
+    /**
+     * Records that a milestone, e.g., showing the main window, is reached.
+     */
+    public void mark(String name) {
+        phases.add(new Phase(name, sinceProcessStart(System.nanoTime()), Duration.ZERO, false));
+    }
+
+    private void record(String name, long stepStartNanos, boolean concurrent) {
+        long now = System.nanoTime();
+        Duration duration = Duration.ofNanos(now - stepStartNanos);
+        phases.add(new Phase(name, sinceProcessStart(stepStartNanos), duration, concurrent));
+        LOGGER.debug("Startup phase '{}' took {} ms", name, duration.toMillis());
+    }
+
+    private Duration sinceProcessStart(long nanos) {
+        return untilMain.plusNanos(nanos - startNanos);
+    }
+
+    /**
+     * Returns the recorded phases ordered by their start.
+     */
+    public List<Phase> getTimeline() {
+        synchronized (phases) {
+            return phases.stream().sorted(Comparator.comparing(Phase::start)).toList();
+        }
+    }
+
+    /**
+     * Returns the timeline as table: start and duration in milliseconds and the name of each phase. Phases run
+     * concurrently are marked with "||".
+     */
+    public String formatTimeline() {
+        StringBuilder builder = new StringBuilder("Startup timeline (start ms, duration ms, phase)").append(OS.NEWLINE);
+        for (Phase phase : getTimeline()) {
+            builder.append("%8d %8d %s %s".formatted(
+                            phase.start().toMillis(),
+                            phase.duration().toMillis(),
+                            phase.concurrent() ? "||" : "  ",
+                            phase.name()))
+                   .append(OS.NEWLINE);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,24 @@
+package org.jabref.logic.util;
+
+/**
+ * The lane a {@link BackgroundTask} is scheduled in. Each lane has its own concurrency limit, so that long-running
+ * work does not delay the work the user is waiting for.
+ *
+ * @see PriorityTaskScheduler
+ */
+public enum TaskPriority {
+    /**
+     * Work the user is waiting for, such as refreshing search results.
+     */
+    INTERACTIVE,
+
+    /**
+     * Work triggered by the user, but not blocking further interaction. This is the default.
+     */
+    NORMAL,
+
+    /**
+     * Long-running work nobody waits for, such as indexing linked files or generating embeddings.
+     */
+    BULK
+}
@@ -1,11 +1,7 @@
 package org.jabref.logic.util.io;
 
 import java.io.IOException;
-import java.io.UncheckedIOException;
-import java.nio.file.FileVisitOption;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
@@ -13,9 +9,6 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.BiPredicate;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
 import org.jabref.model.entry.BibEntry;
@@ -39,6 +32,18 @@ class CitationKeyBasedFileFinder implements FileFinder {
         Objects.requireNonNull(directories);
         Objects.requireNonNull(entry);
 
+        if (StringUtil.isBlank(entry.getCitationKey())) {
+            LOGGER.debug("No citation key found in entry {}", entry);
+            return Collections.emptyList();
+        }
+        return findAssociatedFiles(entry, DirectorySnapshot.create(directories), extensions);
+    }
+
+    @Override
+    public List<Path> findAssociatedFiles(BibEntry entry, DirectorySnapshot snapshot, List<String> extensions) throws IOException {
+        Objects.requireNonNull(entry);
+        Objects.requireNonNull(extensions, "Extensions must not be null!");
+
         Optional<String> citeKeyOptional = entry.getCitationKey();
         if (StringUtil.isBlank(citeKeyOptional)) {
             LOGGER.debug("No citation key found in entry {}", entry);
@@ -46,13 +51,15 @@ class CitationKeyBasedFileFinder implements FileFinder {
         }
         String citeKey = citeKeyOptional.get();
 
-        List<Path> result = new ArrayList<>();
-
-        // First scan directories
-        Set<Path> filesWithExtension = findFilesByExtension(directories, extensions);
+        // Only files starting with the key (or the key cleaned for file names) can match
+        Set<Path> candidates = new HashSet<>(snapshot.getFilesStartingWith(citeKey));
+        candidates.addAll(snapshot.getFilesStartingWith(FileNameCleaner.cleanFileName(citeKey)));
 
-        // Now look for keys
-        for (Path file : filesWithExtension) {
+        List<Path> result = new ArrayList<>();
+        for (Path file : candidates) {
+            if (!extensions.contains(FileUtil.getFileExtension(file).orElse(""))) {
+                continue;
+            }
             String name = file.getFileName().toString();
             String nameWithoutExtension = FileUtil.getBaseName(name);
 
@@ -82,26 +89,4 @@ class CitationKeyBasedFileFinder implements FileFinder {
         }
         return false;
     }
-
-    /**
-     * Returns a list of all files in the given directories which have one of the given extension.
-     */
-    private Set<Path> findFilesByExtension(List<Path> directories, List<String> extensions) throws IOException {
-        Objects.requireNonNull(extensions, "Extensions must not be null!");
-
-        BiPredicate<Path, BasicFileAttributes> isFileWithCorrectExtension = (path, attributes) -> !Files.isDirectory(path)
-                && extensions.contains(FileUtil.getFileExtension(path).orElse(""));
-
-        Set<Path> result = new HashSet<>();
-        for (Path directory : directories) {
-            if (Files.exists(directory)) {
-                try (Stream<Path> pathStream = Files.find(directory, Integer.MAX_VALUE, isFileWithCorrectExtension, FileVisitOption.FOLLOW_LINKS)) {
-                    result.addAll(pathStream.collect(Collectors.toSet()));
-                } catch (UncheckedIOException e) {
-                    throw new IOException("Problem in finding files", e);
-                }
-            }
-        }
-        return result;
-    }
 }
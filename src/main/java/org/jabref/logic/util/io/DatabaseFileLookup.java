@@ -1,6 +1,7 @@
 package org.jabref.logic.util.io;
 
 import java.io.File;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -8,6 +9,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import org.jabref.logic.FilePreferences;
@@ -28,6 +30,8 @@ public class DatabaseFileLookup {
 
     private final Path pathOfDatabase;
 
+    private final Predicate<Path> fileExists;
+
     /**
      * Creates an instance by passing a {@link BibDatabase} which will be used for the searches.
      */
@@ -35,6 +39,9 @@ public class DatabaseFileLookup {
         Objects.requireNonNull(databaseContext);
         possibleFilePaths = Optional.ofNullable(databaseContext.getFileDirectories(filePreferences))
                                     .orElse(new ArrayList<>());
+        fileExists = databaseContext.getFileDirectoryIndex(possibleFilePaths)
+                                    .<Predicate<Path>>map(index -> index::exists)
+                                    .orElse(Files::exists);
 
         for (BibEntry entry : databaseContext.getDatabase().getEntries()) {
             fileCache.addAll(parseFileField(entry));
@@ -64,7 +71,7 @@ public class DatabaseFileLookup {
 
         return entry.getFiles().stream()
                     .filter(file -> !file.isOnlineLink()) // Do not query external file links (huge performance leak)
-                    .map(file -> file.findIn(possibleFilePaths))
+                    .map(file -> file.findIn(possibleFilePaths, fileExists))
                     .filter(Optional::isPresent)
                     .map(Optional::get)
                     .collect(Collectors.toList());
@@ -0,0 +1,154 @@
+package org.jabref.logic.util.io;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * The content of a set of directories (including all subdirectories), read once from the file system.
+ * <p>
+ * When files are searched for many entries (e.g., when automatically linking the files of a whole library), walking the
+ * directory tree for each entry is the dominating cost, especially on network drives. A snapshot walks each root directory
+ * once and answers the queries of the {@link FileFinder}s in memory.
+ * <p>
+ * Changes of the file system after the creation of the snapshot are not reflected.
+ */
+public class DirectorySnapshot {
+
+    private static final DirectorySnapshot EMPTY = new DirectorySnapshot(List.of());
+
+    private final List<Path> roots;
+    private final Map<Path, List<Path>> childrenByDirectory = new HashMap<>();
+    private final NavigableMap<String, List<Path>> filesByName = new TreeMap<>();
+
+    private DirectorySnapshot(List<Path> roots) {
+        this.roots = List.copyOf(roots);
+    }
+
+    /**
+     * Reads the given directories. Each directory is walked in a thread of its own. Non-existing directories are ignored.
+     */
+    public static DirectorySnapshot create(List<Path> directories) throws IOException {
+        DirectorySnapshot snapshot = new DirectorySnapshot(directories);
+        List<DirectorySnapshot> parts;
+        try {
+            parts = directories.parallelStream()
+                               .filter(Files::exists)
+                               .map(DirectorySnapshot::walk)
+                               .toList();
+        } catch (UncheckedIOException e) {
+            throw new IOException("Problem in finding files", e.getCause());
+        }
+        for (DirectorySnapshot part : parts) {
+            // Nested root directories are contained in several parts
+            part.childrenByDirectory.forEach(snapshot.childrenByDirectory::putIfAbsent);
+            part.filesByName.forEach((name, files) -> {
+                List<Path> filesWithName = snapshot.filesByName.computeIfAbsent(name, key -> new ArrayList<>());
+                files.stream().filter(file -> !filesWithName.contains(file)).forEach(filesWithName::add);
+            });
+        }
+        return snapshot;
+    }
+
+    /**
+     * Creates a snapshot from already known directories and files (e.g., of a {@link FileDirectoryIndex}).
+     */
+    static DirectorySnapshot of(List<Path> roots, Collection<Path> directories, Collection<Path> files) {
+        DirectorySnapshot snapshot = new DirectorySnapshot(roots);
+        for (Path directory : directories) {
+            snapshot.childrenByDirectory.put(directory, new ArrayList<>());
+        }
+        for (Path directory : directories) {
+            snapshot.addChild(directory);
+        }
+        for (Path file : files) {
+            snapshot.addChild(file);
+            snapshot.filesByName.computeIfAbsent(file.getFileName().toString(), key -> new ArrayList<>()).add(file);
+        }
+        snapshot.childrenByDirectory.values().forEach(children -> children.sort(null));
+        return snapshot;
+    }
+
+    /**
+     * Returns a snapshot which does not know any directory. All queries have to be answered by the file system.
+     */
+    public static DirectorySnapshot empty() {
+        return EMPTY;
+    }
+
+    private static DirectorySnapshot walk(Path root) {
+        DirectorySnapshot snapshot = new DirectorySnapshot(List.of(root));
+        try {
+            Files.walkFileTree(root, EnumSet.of(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path directory, BasicFileAttributes attributes) {
+                    snapshot.addChild(directory);
+                    snapshot.childrenByDirectory.put(directory, new ArrayList<>());
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                    snapshot.addChild(file);
+                    if (!attributes.isDirectory()) {
+                        snapshot.filesByName.computeIfAbsent(file.getFileName().toString(), key -> new ArrayList<>()).add(file);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return snapshot;
+    }
+
+    private void addChild(Path path) {
+        Path parent = path.getParent();
+        if (parent != null) {
+            List<Path> children = childrenByDirectory.get(parent);
+            if (children != null) {
+                children.add(path);
+            }
+        }
+    }
+
+    public List<Path> getRoots() {
+        return roots;
+    }
+
+    /**
+     * Returns the files and directories directly contained in the given directory.
+     *
+     * @return the content of the directory or an empty optional if the directory is not part of the snapshot
+     */
+    public Optional<List<Path>> getChildren(Path directory) {
+        return Optional.ofNullable(childrenByDirectory.get(directory));
+    }
+
+    /**
+     * Returns all files (no directories) whose name starts with the given prefix.
+     */
+    public List<Path> getFilesStartingWith(String prefix) {
+        if (prefix.isEmpty()) {
+            return filesByName.values().stream().flatMap(Collection::stream).toList();
+        }
+        return filesByName.subMap(prefix, true, prefix + Character.MAX_VALUE, false)
+                          .values().stream()
+                          .flatMap(Collection::stream)
+                          .toList();
+    }
+}
@@ -0,0 +1,468 @@
+package org.jabref.logic.util.io;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jabref.logic.exporter.AtomicFileWriter;
+import org.jabref.logic.util.Directories;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Index of the files in the file directories of a library.
+ * <p>
+ * Resolving linked files and searching for files otherwise accesses the file system for each file, which is slow on
+ * network drives. The index records the path, the size and the modification time of each file and answers these queries
+ * in memory. It is stored in the {@link Directories#getFileDirectoryIndexDirectory() cache directory}, so that it is
+ * available right after opening a library. {@link #startWatching()} brings it up to date and keeps it current using a
+ * {@link WatchService}. JabRef's own file operations, such as renaming or moving linked files, report their changes
+ * directly, because the watch service reports them with a delay.
+ * <p>
+ * Only positive answers are taken from the index: a path not contained in the index is looked up in the file system.
+ * Thus, files created before the index noticed them, and paths differing in case on case-insensitive file systems,
+ * are still found. Positive answers are only trusted while the file directory is watched and stored on a local file
+ * store: the watch service does not report changes made by other computers to a network drive. If watching fails, the
+ * index is detached and all paths are looked up in the file system.
+ */
+public class FileDirectoryIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileDirectoryIndex.class);
+
+    private static final String HEADER = "# JabRef file directory index v1";
+    private static final char ROOT = 'R';
+    private static final char DIRECTORY = 'D';
+    private static final char FILE = 'F';
+
+    // File store types of network file systems (see FileStore#type()), whose changes are not reported by a watch service
+    private static final Set<String> REMOTE_FILE_STORE_TYPES = Set.of(
+            "nfs", "nfs4", "cifs", "smb", "smbfs", "smb2", "smb3", "afpfs", "webdav", "davfs", "ncpfs", "9p");
+
+    public record IndexedFile(long size, long lastModified) {
+    }
+
+    private record CachedSnapshot(long version, DirectorySnapshot snapshot) {
+    }
+
+    private final List<Path> roots;
+    private final Path storage;
+    private final Map<Path, IndexedFile> files = new ConcurrentHashMap<>();
+    private final Set<Path> directories = ConcurrentHashMap.newKeySet();
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicBoolean modified = new AtomicBoolean();
+    private final Map<WatchKey, Path> watchedDirectories = new ConcurrentHashMap<>();
+    private volatile WatchService watchService;
+    // The roots whose files are trusted to exist if they are in the index; empty if the index is not watched
+    private volatile List<Path> trustedRoots = List.of();
+    private volatile CachedSnapshot cachedSnapshot;
+    private volatile boolean upToDate;
+
+    /**
+     * @param roots   the file directories to index
+     * @param storage the file storing the index
+     */
+    public FileDirectoryIndex(List<Path> roots, Path storage) {
+        this.roots = normalize(roots);
+        this.storage = storage;
+    }
+
+    /**
+     * Creates the index of the given file directories, stored in the cache directory of JabRef. The index is empty until
+     * it is {@link #load() loaded} or {@link #refresh() refreshed}.
+     */
+    public static FileDirectoryIndex forDirectories(List<Path> roots) {
+        String fileName = HexFormat.of().formatHex(ByteBuffer.allocate(4).putInt(normalize(roots).hashCode()).array()) + ".index";
+        return new FileDirectoryIndex(roots, Directories.getFileDirectoryIndexDirectory().resolve(fileName));
+    }
+
+    private static List<Path> normalize(List<Path> directories) {
+        return directories.stream().map(directory -> directory.toAbsolutePath().normalize()).toList();
+    }
+
+    public List<Path> getRoots() {
+        return roots;
+    }
+
+    /**
+     * Checks whether this index covers exactly the given file directories. The file directories of a library change
+     * if the user changes the preferences or the library properties.
+     */
+    public boolean isIndexing(List<Path> fileDirectories) {
+        return roots.equals(normalize(fileDirectories));
+    }
+
+    /**
+     * Returns whether the index has been refreshed and is watched. Then, the index contains all files up to the changes
+     * not yet reported by the watch service.
+     */
+    public boolean isUpToDate() {
+        return upToDate && (watchService != null);
+    }
+
+    public Optional<IndexedFile> getFile(Path file) {
+        return Optional.ofNullable(files.get(file.toAbsolutePath().normalize()));
+    }
+
+    /**
+     * Checks whether the given file or directory exists. Paths not contained in the index, or contained in a part of the
+     * index which is not trusted (see class comment), are looked up in the file system. The index is updated with the
+     * result.
+     */
+    public boolean exists(Path path) {
+        Path normalized = path.toAbsolutePath().normalize();
+        boolean contained = files.containsKey(normalized) || directories.contains(normalized);
+        if (contained && isTrusted(normalized)) {
+            return true;
+        }
+        if (!Files.exists(path)) {
+            if (contained) {
+                fileRemoved(normalized);
+            }
+            return false;
+        }
+        if (!contained && isIndexed(normalized) && Files.isRegularFile(normalized)) {
+            fileAdded(normalized);
+        }
+        return true;
+    }
+
+    private boolean isIndexed(Path normalizedPath) {
+        return roots.stream().anyMatch(normalizedPath::startsWith);
+    }
+
+    private boolean isTrusted(Path normalizedPath) {
+        return trustedRoots.stream().anyMatch(normalizedPath::startsWith);
+    }
+
+    private static boolean isOnLocalFileStore(Path root) {
+        Path fileSystemRoot = root.getRoot();
+        if ((fileSystemRoot != null) && fileSystemRoot.toString().startsWith("\\\\")) {
+            // UNC path on Windows
+            return false;
+        }
+        try {
+            String type = Files.getFileStore(root).type().toLowerCase(Locale.ROOT);
+            // "fuseblk" is a local block device, other FUSE file systems, such as "fuse.sshfs", may be remote
+            return !REMOTE_FILE_STORE_TYPES.contains(type) && !type.startsWith("fuse.");
+        } catch (IOException e) {
+            LOGGER.debug("Could not determine the file store of {}", root, e);
+            return false;
+        }
+    }
+
+    /**
+     * Records that JabRef created or changed the given file.
+     */
+    public void fileAdded(Path file) {
+        Path normalized = file.toAbsolutePath().normalize();
+        if (!isIndexed(normalized)) {
+            return;
+        }
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(normalized, BasicFileAttributes.class);
+            if (attributes.isDirectory()) {
+                walk(normalized, directories, files, null);
+            } else {
+                files.put(normalized, new IndexedFile(attributes.size(), attributes.lastModifiedTime().toMillis()));
+            }
+            changed();
+        } catch (IOException | UncheckedIOException e) {
+            LOGGER.debug("Could not index {}", normalized, e);
+        }
+    }
+
+    /**
+     * Records that JabRef deleted the given file or directory.
+     */
+    public void fileRemoved(Path path) {
+        Path normalized = path.toAbsolutePath().normalize();
+        if (files.remove(normalized) == null) {
+            // Everything below a deleted directory is gone as well
+            directories.removeIf(candidate -> candidate.startsWith(normalized));
+            files.keySet().removeIf(candidate -> candidate.startsWith(normalized));
+        }
+        changed();
+    }
+
+    /**
+     * Records that JabRef moved or renamed the given file.
+     */
+    public void fileMoved(Path source, Path target) {
+        fileRemoved(source);
+        fileAdded(target);
+    }
+
+    /**
+     * Returns the content of the index as {@link DirectorySnapshot} to search files using {@link FileFinder}s.
+     */
+    public DirectorySnapshot getSnapshot() {
+        long currentVersion = version.get();
+        CachedSnapshot cached = cachedSnapshot;
+        if ((cached != null) && (cached.version() == currentVersion)) {
+            return cached.snapshot();
+        }
+        DirectorySnapshot snapshot = DirectorySnapshot.of(roots, List.copyOf(directories), List.copyOf(files.keySet()));
+        cachedSnapshot = new CachedSnapshot(currentVersion, snapshot);
+        return snapshot;
+    }
+
+    /**
+     * Reads the stored index. A stored index of other directories or in an unknown format is ignored.
+     */
+    public void load() throws IOException {
+        if (!Files.exists(storage)) {
+            return;
+        }
+        List<Path> storedRoots = new ArrayList<>();
+        Set<Path> storedDirectories = new HashSet<>();
+        Map<Path, IndexedFile> storedFiles = new HashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(storage, StandardCharsets.UTF_8)) {
+            if (!HEADER.equals(reader.readLine())) {
+                LOGGER.debug("Ignoring file directory index {} in unknown format", storage);
+                return;
+            }
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                switch (line.charAt(0)) {
+                    case ROOT ->
+                            storedRoots.add(Path.of(line.substring(2)));
+                    case DIRECTORY ->
+                            storedDirectories.add(Path.of(line.substring(2)));
+                    case FILE -> {
+                        String[] parts = line.split("\t", 4);
+                        storedFiles.put(Path.of(parts[3]), new IndexedFile(Long.parseLong(parts[1]), Long.parseLong(parts[2])));
+                    }
+                    default ->
+                            throw new IOException("Invalid line in file directory index: " + line);
+                }
+            }
+        } catch (InvalidPathException | NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            throw new IOException("Invalid file directory index " + storage, e);
+        }
+
+        if (!roots.equals(storedRoots) || upToDate) {
+            return;
+        }
+        directories.addAll(storedDirectories);
+        files.putAll(storedFiles);
+        version.incrementAndGet();
+    }
+
+    /**
+     * Reads the file directories from the file system. Each directory is walked in a thread of its own.
+     * Subdirectories which cannot be read are skipped. If the index is watched, the directories are registered at the
+     * watch service during the same walk.
+     */
+    public void refresh() throws IOException {
+        WatchService service = watchService;
+        Set<Path> currentDirectories = ConcurrentHashMap.newKeySet();
+        Map<Path, IndexedFile> currentFiles = new ConcurrentHashMap<>();
+        try {
+            roots.parallelStream()
+                 .filter(Files::isDirectory)
+                 .forEach(root -> walk(root, currentDirectories, currentFiles, service));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        directories.retainAll(currentDirectories);
+        directories.addAll(currentDirectories);
+        files.keySet().retainAll(currentFiles.keySet());
+        files.putAll(currentFiles);
+        changed();
+        upToDate = true;
+    }
+
+    /**
+     * @param service the watch service to register the directories at; null if they should not be watched
+     * @throws UncheckedIOException if a directory cannot be registered at the watch service
+     */
+    private void walk(Path root, Set<Path> directories, Map<Path, IndexedFile> files, WatchService service) {
+        try {
+            Files.walkFileTree(root, EnumSet.of(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path directory, BasicFileAttributes attributes) throws IOException {
+                    if (service != null) {
+                        WatchKey key = directory.register(service,
+                                StandardWatchEventKinds.ENTRY_CREATE,
+                                StandardWatchEventKinds.ENTRY_DELETE,
+                                StandardWatchEventKinds.ENTRY_MODIFY);
+                        watchedDirectories.put(key, directory);
+                    }
+                    directories.add(directory);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                    if (!attributes.isDirectory()) {
+                        files.put(file, new IndexedFile(attributes.size(), attributes.lastModifiedTime().toMillis()));
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException exception) {
+                    LOGGER.debug("Could not index {}", file, exception);
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Stores the index if it has been changed since it was loaded or stored the last time.
+     */
+    public void save() throws IOException {
+        if (!modified.getAndSet(false)) {
+            return;
+        }
+        Files.createDirectories(storage.getParent());
+        try (Writer writer = new AtomicFileWriter(storage, StandardCharsets.UTF_8)) {
+            writer.write(HEADER + "\n");
+            for (Path root : roots) {
+                writer.write(ROOT + "\t" + root + "\n");
+            }
+            for (Path directory : directories) {
+                writer.write(DIRECTORY + "\t" + directory + "\n");
+            }
+            for (Map.Entry<Path, IndexedFile> file : files.entrySet()) {
+                writer.write(FILE + "\t" + file.getValue().size() + "\t" + file.getValue().lastModified() + "\t" + file.getKey() + "\n");
+            }
+        } catch (IOException e) {
+            modified.set(true);
+            throw e;
+        }
+    }
+
+    /**
+     * Refreshes the index and keeps it current by watching the file directories. The watch service is not recursive on
+     * all platforms, thus each directory is registered on its own while refreshing. If the watch service drops events,
+     * the index is refreshed again.
+     *
+     * @throws IOException if the file directories cannot be read or watched. Then, the index is detached, i.e., all
+     *                     paths are looked up in the file system.
+     */
+    public void startWatching() throws IOException {
+        stopWatching();
+        if (roots.isEmpty()) {
+            return;
+        }
+        WatchService service = roots.getFirst().getFileSystem().newWatchService();
+        watchService = service;
+        try {
+            refresh();
+        } catch (IOException e) {
+            stopWatching();
+            throw e;
+        }
+        trustedRoots = roots.stream().filter(FileDirectoryIndex::isOnLocalFileStore).toList();
+        Thread.ofVirtual().name("File directory index " + storage.getFileName()).start(() -> processEvents(service));
+    }
+
+    /**
+     * Stops watching the file directories. Afterwards, the index is detached: all paths are looked up in the file system.
+     */
+    public void stopWatching() {
+        WatchService service = watchService;
+        watchService = null;
+        trustedRoots = List.of();
+        watchedDirectories.clear();
+        if (service == null) {
+            return;
+        }
+        try {
+            service.close();
+        } catch (IOException e) {
+            LOGGER.debug("Could not close watch service", e);
+        }
+    }
+
+    private void processEvents(WatchService service) {
+        while (true) {
+            WatchKey key;
+            try {
+                key = service.take();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+            Path directory = watchedDirectories.get(key);
+            for (WatchEvent<?> event : key.pollEvents()) {
+                try {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        refresh();
+                    } else if (directory != null) {
+                        handleEvent(service, event.kind(), directory.resolve((Path) event.context()));
+                    }
+                } catch (IOException | UncheckedIOException e) {
+                    LOGGER.warn("Could not update the file directory index, looking up files in the file system from now on", e);
+                    stopWatching();
+                    return;
+                } catch (ClosedWatchServiceException e) {
+                    return;
+                }
+            }
+            if (!key.reset()) {
+                watchedDirectories.remove(key);
+            }
+        }
+    }
+
+    void handleEvent(WatchService service, WatchEvent.Kind<?> kind, Path path) throws IOException {
+        if (kind == StandardWatchEventKinds.ENTRY_DELETE) {
+            fileRemoved(path);
+            return;
+        }
+        Path normalized = path.toAbsolutePath().normalize();
+        if ((kind == StandardWatchEventKinds.ENTRY_CREATE) && isIndexed(normalized) && Files.isDirectory(normalized)) {
+            // Indexes and registers the new directory in one walk
+            try {
+                walk(normalized, directories, files, service);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            changed();
+            return;
+        }
+        fileAdded(normalized);
+    }
+
+    private void changed() {
+        version.incrementAndGet();
+        modified.set(true);
+    }
+}
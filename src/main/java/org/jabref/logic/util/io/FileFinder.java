@@ -16,4 +16,16 @@ public interface FileFinder {
      * @param extensions  The extensions that are acceptable.
      */
     List<Path> findAssociatedFiles(BibEntry entry, List<Path> directories, List<String> extensions) throws IOException;
+
+    /**
+     * Finds all files in the root directories of the given snapshot that are probably associated with the given entry and have one of the passed extensions.
+     * Use this method when searching files for many entries, so that the directories are read only once.
+     *
+     * @param entry      The entry to search files for.
+     * @param snapshot   The content of the root directories to search.
+     * @param extensions The extensions that are acceptable.
+     */
+    default List<Path> findAssociatedFiles(BibEntry entry, DirectorySnapshot snapshot, List<String> extensions) throws IOException {
+        return findAssociatedFiles(entry, snapshot.getRoots(), extensions);
+    }
 }
@@ -9,6 +9,7 @@ import java.nio.file.Path;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.regex.Matcher;
@@ -88,7 +89,13 @@ class RegExpBasedFileFinder implements FileFinder {
     @Override
     public List<Path> findAssociatedFiles(BibEntry entry, List<Path> directories, List<String> extensions) throws IOException {
         String extensionRegExp = '(' + String.join("|", extensions) + ')';
-        return findFile(entry, directories, extensionRegExp);
+        return findFile(entry, directories, extensionRegExp, DirectorySnapshot.empty());
+    }
+
+    @Override
+    public List<Path> findAssociatedFiles(BibEntry entry, DirectorySnapshot snapshot, List<String> extensions) throws IOException {
+        String extensionRegExp = '(' + String.join("|", extensions) + ')';
+        return findFile(entry, snapshot.getRoots(), extensionRegExp, snapshot);
     }
 
     /**
@@ -118,13 +125,14 @@ class RegExpBasedFileFinder implements FileFinder {
      *              returned relative to these directories if relative is set to
      *              true. These directories will not be expanded or anything. Use
      *              the file attribute for this.
+     * @param snapshot the content of the directories; directories not contained in the snapshot are read from the file system
      * @return Will return the first file found to match the given criteria or
      * null if none was found.
      */
-    private List<Path> findFile(BibEntry entry, List<Path> dirs, String extensionRegExp) throws IOException {
+    private List<Path> findFile(BibEntry entry, List<Path> dirs, String extensionRegExp, DirectorySnapshot snapshot) throws IOException {
         List<Path> res = new ArrayList<>();
         for (Path directory : dirs) {
-            res.addAll(findFile(entry, directory, regExp, extensionRegExp));
+            res.addAll(findFile(entry, directory, regExp, extensionRegExp, snapshot));
         }
         return res;
     }
@@ -133,7 +141,7 @@ class RegExpBasedFileFinder implements FileFinder {
      * The actual work-horse. Will find absolute filepaths starting from the
      * given directory using the given regular expression string for search.
      */
-    private List<Path> findFile(final BibEntry entry, final Path directory, final String file, final String extensionRegExp) throws IOException {
+    private List<Path> findFile(final BibEntry entry, final Path directory, final String file, final String extensionRegExp, final DirectorySnapshot snapshot) throws IOException {
         List<Path> resultFiles = new ArrayList<>();
 
         String fileName = file;
@@ -174,12 +182,21 @@ class RegExpBasedFileFinder implements FileFinder {
                 continue;
             }
             if ("*".equals(dirToProcess)) { // Do for all direct subdirs
-                File[] subDirs = actualDirectory.toFile().listFiles();
-                if (subDirs != null) {
-                    String restOfFileString = StringUtil.join(fileParts, "/", index + 1, fileParts.length);
-                    for (File subDir : subDirs) {
-                        if (subDir.isDirectory()) {
-                            resultFiles.addAll(findFile(entry, subDir.toPath(), restOfFileString, extensionRegExp));
+                Optional<List<Path>> children = snapshot.getChildren(actualDirectory);
+                String restOfFileString = StringUtil.join(fileParts, "/", index + 1, fileParts.length);
+                if (children.isPresent()) {
+                    for (Path subDir : children.get()) {
+                        if (snapshot.getChildren(subDir).isPresent()) {
+                            resultFiles.addAll(findFile(entry, subDir, restOfFileString, extensionRegExp, snapshot));
+                        }
+                    }
+                } else {
+                    File[] subDirs = actualDirectory.toFile().listFiles();
+                    if (subDirs != null) {
+                        for (File subDir : subDirs) {
+                            if (subDir.isDirectory()) {
+                                resultFiles.addAll(findFile(entry, subDir.toPath(), restOfFileString, extensionRegExp, snapshot));
+                            }
                         }
                     }
                 }
@@ -189,20 +206,37 @@ class RegExpBasedFileFinder implements FileFinder {
                 String restOfFileString = StringUtil.join(fileParts, "/", index + 1, fileParts.length);
 
                 final Path rootDirectory = actualDirectory;
-                try (Stream<Path> pathStream = Files.walk(actualDirectory)) {
-                    // We only want to transverse directory (and not the current one; this is already done below)
-                    for (Path path : pathStream.filter(element -> isSubDirectory(rootDirectory, element)).collect(Collectors.toList())) {
-                        resultFiles.addAll(findFile(entry, path, restOfFileString, extensionRegExp));
+                if (snapshot.getChildren(rootDirectory).isPresent()) {
+                    for (Path path : getSubDirectories(snapshot, rootDirectory)) {
+                        resultFiles.addAll(findFile(entry, path, restOfFileString, extensionRegExp, snapshot));
+                    }
+                } else {
+                    try (Stream<Path> pathStream = Files.walk(actualDirectory)) {
+                        // We only want to transverse directory (and not the current one; this is already done below)
+                        for (Path path : pathStream.filter(element -> isSubDirectory(rootDirectory, element)).collect(Collectors.toList())) {
+                            resultFiles.addAll(findFile(entry, path, restOfFileString, extensionRegExp, snapshot));
+                        }
+                    } catch (UncheckedIOException ioe) {
+                        throw ioe.getCause();
                     }
-                } catch (UncheckedIOException ioe) {
-                    throw ioe.getCause();
                 }
             } // End process directory information
         }
 
         // Last step: check if the given file can be found in this directory
         Pattern toMatch = createFileNamePattern(fileParts, extensionRegExp, entry);
-        BiPredicate<Path, BasicFileAttributes> matcher = (path, attributes) -> toMatch.matcher(path.getFileName().toString()).matches();
+        Optional<List<Path>> children = snapshot.getChildren(actualDirectory);
+        if (children.isPresent()) {
+            // Same as the search using the file system below, which also considers the directory itself
+            if (matchesFileName(toMatch, actualDirectory)) {
+                resultFiles.add(actualDirectory);
+            }
+            children.get().stream()
+                    .filter(path -> matchesFileName(toMatch, path))
+                    .forEach(resultFiles::add);
+            return resultFiles;
+        }
+        BiPredicate<Path, BasicFileAttributes> matcher = (path, attributes) -> matchesFileName(toMatch, path);
         try (Stream<Path> pathStream = Files.find(actualDirectory, 1, matcher, FileVisitOption.FOLLOW_LINKS)) {
             resultFiles.addAll(pathStream.collect(Collectors.toList()));
         } catch (UncheckedIOException uncheckedIOException) {
@@ -212,6 +246,25 @@ class RegExpBasedFileFinder implements FileFinder {
         return resultFiles;
     }
 
+    private static boolean matchesFileName(Pattern pattern, Path path) {
+        Path fileName = path.getFileName();
+        return (fileName != null) && pattern.matcher(fileName.toString()).matches();
+    }
+
+    /**
+     * Returns all direct and indirect subdirectories of the given directory of the snapshot
+     */
+    private static List<Path> getSubDirectories(DirectorySnapshot snapshot, Path directory) {
+        List<Path> result = new ArrayList<>();
+        for (Path child : snapshot.getChildren(directory).orElse(List.of())) {
+            if (snapshot.getChildren(child).isPresent()) {
+                result.add(child);
+                result.addAll(getSubDirectories(snapshot, child));
+            }
+        }
+        return result;
+    }
+
     private boolean isSubDirectory(Path rootDirectory, Path path) {
         return !rootDirectory.equals(path) && Files.isDirectory(path);
     }
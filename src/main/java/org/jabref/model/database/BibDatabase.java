@@ -9,6 +9,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -23,7 +24,9 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
 import org.jabref.logic.bibtex.FieldWriter;
+import org.jabref.model.FieldChange;
 import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesChangedEvent;
 import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibtexString;
@@ -62,6 +65,9 @@ public class BibDatabase {
     // Not included in equals, because it is not relevant for the content of the database
     private final EventBus eventBus = new EventBus();
 
+    // The changes of the transaction opened by the current thread; unset if the thread has no open transaction
+    private final ThreadLocal<ChangeSet> changeSet = new ThreadLocal<>();
+
     private String preamble;
 
     // All file contents below the last entry in the file
@@ -240,7 +246,7 @@ public class BibDatabase {
     public synchronized void removeEntries(List<BibEntry> toBeDeleted, EntriesEventSource eventSource) {
         Objects.requireNonNull(toBeDeleted);
 
-        List<String> ids = new ArrayList<>();
+        Set<String> ids = new HashSet<>();
         for (BibEntry entry : toBeDeleted) {
             ids.add(entry.getId());
         }
@@ -550,6 +556,7 @@ public class BibDatabase {
      * - {@link EntriesAddedEvent}
      * - {@link EntryChangedEvent}
      * - {@link EntriesRemovedEvent}
+     * - {@link EntriesChangedEvent}
      *
      * @param listener listener (subscriber) to add
      */
@@ -575,8 +582,72 @@ public class BibDatabase {
         }
     }
 
+    /**
+     * Starts a transaction for changing many entries at once. Until the transaction is committed, the field changes of
+     * all entries are collected. On commit, they are posted as one {@link EntriesChangedEvent}, so that listeners can
+     * react to all of them at once.
+     * <p>
+     * Each change is still posted as {@link FieldChangedEvent} when it is made, marked as part of a change set, because
+     * listeners such as the {@link KeyChangeListener} only react to single field changes.
+     * Transactions may be nested; the changes are posted when the outermost one is committed.
+     * <p>
+     * A transaction belongs to the thread which began it and has to be committed by that thread. Only the changes made
+     * by this thread are collected; changes made by other threads in the meantime, e.g., edits of the user while a
+     * background task runs a transaction, are posted as usual.
+     */
+    public BibDatabaseTransaction beginTransaction() {
+        return beginTransaction(EntriesEventSource.LOCAL);
+    }
+
+    /**
+     * @param eventSource the source of the {@link EntriesChangedEvent} posted on commit
+     * @see #beginTransaction()
+     */
+    public BibDatabaseTransaction beginTransaction(EntriesEventSource eventSource) {
+        Objects.requireNonNull(eventSource);
+        ChangeSet currentChangeSet = changeSet.get();
+        if (currentChangeSet == null) {
+            currentChangeSet = new ChangeSet(eventSource);
+            changeSet.set(currentChangeSet);
+        }
+        currentChangeSet.openTransactions++;
+        return new BibDatabaseTransaction(this);
+    }
+
+    void commitTransaction() {
+        ChangeSet currentChangeSet = changeSet.get();
+        if (currentChangeSet == null) {
+            throw new IllegalStateException("The transaction has to be committed by the thread which began it");
+        }
+        currentChangeSet.openTransactions--;
+        if (currentChangeSet.openTransactions > 0) {
+            return;
+        }
+        changeSet.remove();
+        List<FieldChange> committedChanges = currentChangeSet.changes;
+        if (committedChanges.isEmpty()) {
+            return;
+        }
+
+        // Entries are compared by identity, because equal entries are changed separately
+        Set<BibEntry> seenEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<BibEntry> changedEntries = new ArrayList<>();
+        for (FieldChange change : committedChanges) {
+            if (seenEntries.add(change.getEntry())) {
+                changedEntries.add(change.getEntry());
+            }
+        }
+        eventBus.post(new EntriesChangedEvent(changedEntries, committedChanges, currentChangeSet.eventSource));
+    }
+
     @Subscribe
     private void relayEntryChangeEvent(FieldChangedEvent event) {
+        // The event is delivered on the thread changing the field
+        ChangeSet currentChangeSet = changeSet.get();
+        if (currentChangeSet != null) {
+            event.setPartOfChangeSet(true);
+            currentChangeSet.changes.add(new FieldChange(event.getBibEntry(), event.getField(), event.getOldValue(), event.getNewValue()));
+        }
         eventBus.post(event);
     }
 
@@ -681,4 +752,14 @@ public class BibDatabase {
     public int hashCode() {
         return Objects.hash(entries, bibtexStrings, preamble, epilog, sharedDatabaseID, newLineSeparator);
     }
+
+    private static class ChangeSet {
+        private final EntriesEventSource eventSource;
+        private final List<FieldChange> changes = new ArrayList<>();
+        private int openTransactions;
+
+        ChangeSet(EntriesEventSource eventSource) {
+            this.eventSource = eventSource;
+        }
+    }
 }
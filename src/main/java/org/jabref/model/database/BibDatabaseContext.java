@@ -18,6 +18,7 @@ import org.jabref.logic.shared.DatabaseSynchronizer;
 import org.jabref.logic.util.CoarseChangeFilter;
 import org.jabref.logic.util.Directories;
 import org.jabref.logic.util.io.BackupFileUtil;
+import org.jabref.logic.util.io.FileDirectoryIndex;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.metadata.MetaData;
 import org.jabref.model.study.Study;
@@ -59,6 +60,8 @@ public class BibDatabaseContext {
     private CoarseChangeFilter dbmsListener;
     private DatabaseLocation location;
 
+    private FileDirectoryIndex fileDirectoryIndex;
+
     public BibDatabaseContext() {
         this(new BibDatabase());
     }
@@ -252,6 +255,29 @@ public class BibDatabaseContext {
         return database.getEntries();
     }
 
+    public void setFileDirectoryIndex(FileDirectoryIndex fileDirectoryIndex) {
+        this.fileDirectoryIndex = fileDirectoryIndex;
+    }
+
+    public void clearFileDirectoryIndex() {
+        this.fileDirectoryIndex = null;
+    }
+
+    /**
+     * Returns the index of the file directories, e.g., to report changes made to the files.
+     */
+    public Optional<FileDirectoryIndex> getFileDirectoryIndex() {
+        return Optional.ofNullable(fileDirectoryIndex);
+    }
+
+    /**
+     * Returns the index of the file directories if it covers exactly the given file directories (see {@link #getFileDirectories(FilePreferences)}).
+     */
+    public Optional<FileDirectoryIndex> getFileDirectoryIndex(List<Path> fileDirectories) {
+        return Optional.ofNullable(fileDirectoryIndex)
+                       .filter(index -> index.isIndexing(fileDirectories));
+    }
+
     /**
      * @return The path to store the lucene index files. One directory for each library.
      */
@@ -0,0 +1,41 @@
+package org.jabref.model.database;
+
+import org.jabref.model.database.event.EntriesChangedEvent;
+
+/**
+ * Collects the field changes made to a {@link BibDatabase} until it is committed, see
+ * {@link BibDatabase#beginTransaction()}. Changes cannot be rolled back.
+ * <p>
+ * Use it with try-with-resources, which commits on closing:
+ * <pre>{@code
+ * try (BibDatabaseTransaction transaction = database.beginTransaction()) {
+ *     entries.forEach(entry -> entry.setField(StandardField.YEAR, "2024"));
+ * }
+ * }</pre>
+ */
+public class BibDatabaseTransaction implements AutoCloseable {
+
+    private final BibDatabase database;
+    private boolean committed;
+
+    BibDatabaseTransaction(BibDatabase database) {
+        this.database = database;
+    }
+
+    /**
+     * Ends the transaction. If this is the outermost open transaction, an {@link EntriesChangedEvent} with all changes
+     * is posted. Committing again has no effect.
+     */
+    public synchronized void commit() {
+        if (committed) {
+            return;
+        }
+        committed = true;
+        database.commitTransaction();
+    }
+
+    @Override
+    public void close() {
+        commit();
+    }
+}
@@ -0,0 +1,37 @@
+package org.jabref.model.database.event;
+
+import java.util.List;
+
+import org.jabref.model.FieldChange;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseTransaction;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntriesEvent;
+import org.jabref.model.entry.event.EntriesEventSource;
+import org.jabref.model.entry.event.FieldChangedEvent;
+
+/**
+ * {@link EntriesChangedEvent} is fired when a {@link BibDatabaseTransaction} of a {@link BibDatabase} is committed. It
+ * sums up all field changes of the transaction.
+ * <p>
+ * Each change has been posted as {@link FieldChangedEvent} before, marked as {@link FieldChangedEvent#isPartOfChangeSet() part of a change set}.
+ * Listeners reacting to many changes at once (e.g., by updating an index) should skip those and handle this event only.
+ */
+public class EntriesChangedEvent extends EntriesEvent {
+
+    private final List<FieldChange> fieldChanges;
+
+    /**
+     * @param bibEntries   the changed entries, each listed once
+     * @param fieldChanges the changes in the order they were made
+     * @param location     Location affected by this event
+     */
+    public EntriesChangedEvent(List<BibEntry> bibEntries, List<FieldChange> fieldChanges, EntriesEventSource location) {
+        super(bibEntries, location);
+        this.fieldChanges = List.copyOf(fieldChanges);
+    }
+
+    public List<FieldChange> getFieldChanges() {
+        return fieldChanges;
+    }
+}
@@ -100,28 +100,33 @@ public class BibEntry implements Cloneable {
     private static final Logger LOGGER = LoggerFactory.getLogger(BibEntry.class);
     private final SharedBibEntryData sharedBibEntryData;
 
+    /*
+     * The caches and the event bus are created when they are first needed, because most entries of a large library
+     * are never searched or listened to individually.
+     */
+
     /**
      * Map to store the words in every field
      */
-    private final Map<Field, Set<String>> fieldsAsWords = new HashMap<>();
+    private Map<Field, Set<String>> fieldsAsWords;
 
     /**
      * Cache that stores latex free versions of fields.
      */
-    private final Map<Field, String> latexFreeFields = new ConcurrentHashMap<>();
+    private volatile Map<Field, String> latexFreeFields;
 
     /**
      * Cache that stores the field as keyword lists (format &lt;Field, Separator, Keyword list>)
      */
-    private final MultiKeyMap<StandardField, Character, KeywordList> fieldsAsKeywords = new MultiKeyMap<>(StandardField.class);
+    private MultiKeyMap<StandardField, Character, KeywordList> fieldsAsKeywords;
 
-    private final EventBus eventBus = new EventBus();
+    private volatile EventBus eventBus;
 
     private String id;
 
     private final ObjectProperty<EntryType> type = new SimpleObjectProperty<>(DEFAULT_TYPE);
 
-    private ObservableMap<Field, String> fields = FXCollections.observableMap(new ConcurrentHashMap<>());
+    private ObservableMap<Field, String> fields = FXCollections.observableMap(new CompactFieldMap());
 
     /**
      * The part before the start of the entry
@@ -376,7 +381,7 @@ public class BibEntry implements Cloneable {
 
         String oldId = this.id;
 
-        eventBus.post(new FieldChangedEvent(this, InternalField.INTERNAL_ID_FIELD, id, oldId));
+        postEvent(new FieldChangedEvent(this, InternalField.INTERNAL_ID_FIELD, id, oldId));
         this.id = id;
         changed = true;
     }
@@ -447,7 +452,7 @@ public class BibEntry implements Cloneable {
         this.type.setValue(newType);
 
         FieldChange change = new FieldChange(this, InternalField.TYPE_HEADER, oldType.getName(), newType.getName());
-        eventBus.post(new FieldChangedEvent(change, eventSource));
+        postEvent(new FieldChangedEvent(change, eventSource));
         return Optional.of(change);
     }
 
@@ -478,13 +483,21 @@ public class BibEntry implements Cloneable {
             return getCitationKey();
         } else if (InternalField.TYPE_HEADER == field) {
             return Optional.of(type.get().getDisplayName());
-        } else if (latexFreeFields.containsKey(field)) {
-            return Optional.ofNullable(latexFreeFields.get(field));
+        }
+
+        Map<Field, String> currentLatexFreeFields = latexFreeFields;
+        if (currentLatexFreeFields == null) {
+            // Several threads may create a cache at the same time, which only loses cached values
+            currentLatexFreeFields = new ConcurrentHashMap<>();
+            latexFreeFields = currentLatexFreeFields;
+        }
+        if (currentLatexFreeFields.containsKey(field)) {
+            return Optional.ofNullable(currentLatexFreeFields.get(field));
         } else {
             Optional<String> fieldValue = getField(field);
             if (fieldValue.isPresent()) {
                 String latexFreeValue = LatexToUnicodeAdapter.format(fieldValue.get()).intern();
-                latexFreeFields.put(field, latexFreeValue);
+                currentLatexFreeFields.put(field, latexFreeValue);
                 return Optional.of(latexFreeValue);
             } else {
                 return Optional.empty();
@@ -637,9 +650,9 @@ public class BibEntry implements Cloneable {
 
         FieldChange change = new FieldChange(this, field, oldValue, value);
         if (isNewField) {
-            eventBus.post(new FieldAddedOrRemovedEvent(change, eventSource));
+            postEvent(new FieldAddedOrRemovedEvent(change, eventSource));
         } else {
-            eventBus.post(new FieldChangedEvent(change, eventSource));
+            postEvent(new FieldChangedEvent(change, eventSource));
         }
         return Optional.of(change);
     }
@@ -682,7 +695,7 @@ public class BibEntry implements Cloneable {
         fields.remove(field);
 
         FieldChange change = new FieldChange(this, field, oldValue.get(), null);
-        eventBus.post(new FieldAddedOrRemovedEvent(change, eventSource));
+        postEvent(new FieldAddedOrRemovedEvent(change, eventSource));
         return Optional.of(change);
     }
 
@@ -708,7 +721,7 @@ public class BibEntry implements Cloneable {
     @Override
     public Object clone() {
         BibEntry clone = new BibEntry(type.getValue());
-        clone.fields = FXCollections.observableMap(new ConcurrentHashMap<>(fields));
+        clone.fields = FXCollections.observableMap(new CompactFieldMap(fields));
         clone.commentsBeforeEntry = commentsBeforeEntry;
         clone.parsedSerialization = parsedSerialization;
         clone.changed = changed;
@@ -956,18 +969,40 @@ public class BibEntry implements Cloneable {
     }
 
     public void registerListener(Object object) {
-        this.eventBus.register(object);
+        EventBus currentEventBus = eventBus;
+        if (currentEventBus == null) {
+            synchronized (this) {
+                currentEventBus = eventBus;
+                if (currentEventBus == null) {
+                    currentEventBus = new EventBus();
+                    eventBus = currentEventBus;
+                }
+            }
+        }
+        currentEventBus.register(object);
     }
 
     public void unregisterListener(Object object) {
+        EventBus currentEventBus = eventBus;
+        if (currentEventBus == null) {
+            return;
+        }
         try {
-            this.eventBus.unregister(object);
+            currentEventBus.unregister(object);
         } catch (IllegalArgumentException e) {
             // occurs if the event source has not been registered, should not prevent shutdown
             LOGGER.debug("Problem unregistering", e);
         }
     }
 
+    private void postEvent(Object event) {
+        // Without a bus, nobody has registered to listen
+        EventBus currentEventBus = eventBus;
+        if (currentEventBus != null) {
+            currentEventBus.post(event);
+        }
+    }
+
     public BibEntry withField(Field field, String value) {
         setField(field, value);
         this.setChanged(false);
@@ -978,7 +1013,7 @@ public class BibEntry implements Cloneable {
      * A copy is made of the parameter
      */
     public BibEntry withFields(Map<Field, String> content) {
-        this.fields = FXCollections.observableMap(new HashMap<>(content));
+        this.fields = FXCollections.observableMap(new CompactFieldMap(content));
         this.setChanged(false);
         return this;
     }
@@ -1018,6 +1053,9 @@ public class BibEntry implements Cloneable {
     }
 
     public Set<String> getFieldAsWords(Field field) {
+        if (fieldsAsWords == null) {
+            fieldsAsWords = new HashMap<>();
+        }
         Set<String> storedList = fieldsAsWords.get(field);
         if (storedList != null) {
             return storedList;
@@ -1034,7 +1072,7 @@ public class BibEntry implements Cloneable {
     }
 
     public KeywordList getFieldAsKeywords(Field field, Character keywordSeparator) {
-        if (field instanceof StandardField standardField) {
+        if ((field instanceof StandardField standardField) && (fieldsAsKeywords != null)) {
             Optional<KeywordList> storedList = fieldsAsKeywords.get(standardField, keywordSeparator);
             if (storedList.isPresent()) {
                 return storedList.get();
@@ -1046,6 +1084,9 @@ public class BibEntry implements Cloneable {
                 .orElse(new KeywordList());
 
         if (field instanceof StandardField standardField) {
+            if (fieldsAsKeywords == null) {
+                fieldsAsKeywords = new MultiKeyMap<>(StandardField.class);
+            }
             fieldsAsKeywords.put(standardField, keywordSeparator, keywords);
         }
         return keywords;
@@ -1056,10 +1097,15 @@ public class BibEntry implements Cloneable {
     }
 
     private void invalidateFieldCache(Field field) {
-        latexFreeFields.remove(field);
-        fieldsAsWords.remove(field);
+        Map<Field, String> currentLatexFreeFields = latexFreeFields;
+        if (currentLatexFreeFields != null) {
+            currentLatexFreeFields.remove(field);
+        }
+        if (fieldsAsWords != null) {
+            fieldsAsWords.remove(field);
+        }
 
-        if (field instanceof StandardField standardField) {
+        if ((field instanceof StandardField standardField) && (fieldsAsKeywords != null)) {
             fieldsAsKeywords.remove(standardField);
         }
     }
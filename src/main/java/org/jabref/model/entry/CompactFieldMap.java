@@ -0,0 +1,204 @@
+package org.jabref.model.entry;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import org.jabref.model.entry.field.Field;
+
+/**
+ * Stores the fields of a {@link BibEntry} in two arrays in the order they were added.
+ * <p>
+ * An entry has only a few fields. For these, the arrays need a fraction of the memory of a hash map, and a linear
+ * search is as fast as hashing. As the {@link java.util.concurrent.ConcurrentHashMap} used before, the map may be
+ * accessed by several threads and changed while iterating: all methods are synchronized and the views iterate over a
+ * snapshot. Neither fields nor values may be <code>null</code>.
+ */
+final class CompactFieldMap extends AbstractMap<Field, String> {
+
+    private static final Field[] NO_FIELDS = new Field[0];
+    private static final String[] NO_VALUES = new String[0];
+    private static final int INITIAL_CAPACITY = 8;
+
+    private Field[] fields = NO_FIELDS;
+    private String[] values = NO_VALUES;
+    private int size;
+
+    CompactFieldMap() {
+    }
+
+    CompactFieldMap(Map<Field, String> content) {
+        int contentSize = content.size();
+        if (contentSize > 0) {
+            fields = new Field[contentSize];
+            values = new String[contentSize];
+        }
+        content.forEach(this::put);
+    }
+
+    private int indexOf(Object field) {
+        for (int i = 0; i < size; i++) {
+            if (fields[i].equals(field)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public synchronized int size() {
+        return size;
+    }
+
+    @Override
+    public synchronized boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public synchronized boolean containsKey(Object field) {
+        return indexOf(field) >= 0;
+    }
+
+    @Override
+    public synchronized String get(Object field) {
+        int index = indexOf(field);
+        return index >= 0 ? values[index] : null;
+    }
+
+    @Override
+    public synchronized String put(Field field, String value) {
+        Objects.requireNonNull(field);
+        Objects.requireNonNull(value);
+
+        int index = indexOf(field);
+        if (index >= 0) {
+            String oldValue = values[index];
+            values[index] = value;
+            return oldValue;
+        }
+
+        if (size == fields.length) {
+            int newCapacity = Math.max(INITIAL_CAPACITY, size + (size >> 1));
+            fields = Arrays.copyOf(fields, newCapacity);
+            values = Arrays.copyOf(values, newCapacity);
+        }
+        fields[size] = field;
+        values[size] = value;
+        size++;
+        return null;
+    }
+
+    @Override
+    public synchronized String remove(Object field) {
+        int index = indexOf(field);
+        if (index < 0) {
+            return null;
+        }
+
+        String oldValue = values[index];
+        int following = size - index - 1;
+        System.arraycopy(fields, index + 1, fields, index, following);
+        System.arraycopy(values, index + 1, values, index, following);
+        size--;
+        fields[size] = null;
+        values[size] = null;
+        return oldValue;
+    }
+
+    @Override
+    public synchronized void clear() {
+        Arrays.fill(fields, 0, size, null);
+        Arrays.fill(values, 0, size, null);
+        size = 0;
+    }
+
+    @Override
+    public Set<Entry<Field, String>> entrySet() {
+        return new EntrySet();
+    }
+
+    private synchronized Entry<Field, String>[] snapshot() {
+        @SuppressWarnings("unchecked")
+        Entry<Field, String>[] entries = new Entry[size];
+        for (int i = 0; i < size; i++) {
+            entries[i] = new FieldEntry(fields[i], values[i]);
+        }
+        return entries;
+    }
+
+    private class EntrySet extends AbstractSet<Entry<Field, String>> {
+
+        @Override
+        public Iterator<Entry<Field, String>> iterator() {
+            Entry<Field, String>[] entries = snapshot();
+            return new Iterator<>() {
+                private int next;
+                private Entry<Field, String> last;
+
+                @Override
+                public boolean hasNext() {
+                    return next < entries.length;
+                }
+
+                @Override
+                public Entry<Field, String> next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    last = entries[next++];
+                    return last;
+                }
+
+                @Override
+                public void remove() {
+                    if (last == null) {
+                        throw new IllegalStateException();
+                    }
+                    CompactFieldMap.this.remove(last.getKey());
+                    last = null;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return CompactFieldMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Entry<?, ?> entry)) {
+                return false;
+            }
+            String value = get(entry.getKey());
+            return (value != null) && value.equals(entry.getValue());
+        }
+
+        @Override
+        public void clear() {
+            CompactFieldMap.this.clear();
+        }
+    }
+
+    /**
+     * An entry of the snapshot, which writes a new value through to the map.
+     */
+    private class FieldEntry extends SimpleEntry<Field, String> {
+
+        FieldEntry(Field field, String value) {
+            super(field, value);
+        }
+
+        @Override
+        public String setValue(String value) {
+            put(getKey(), value);
+            return super.setValue(value);
+        }
+    }
+}
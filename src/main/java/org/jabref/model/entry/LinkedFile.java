@@ -11,6 +11,7 @@ import java.nio.file.Path;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
 import javafx.beans.Observable;
@@ -222,7 +223,9 @@ public class LinkedFile implements Serializable {
 
     public Optional<Path> findIn(BibDatabaseContext databaseContext, FilePreferences filePreferences) {
         List<Path> dirs = databaseContext.getFileDirectories(filePreferences);
-        return findIn(dirs);
+        return databaseContext.getFileDirectoryIndex(dirs)
+                              .map(index -> findIn(dirs, index::exists))
+                              .orElseGet(() -> findIn(dirs));
     }
 
     /**
@@ -230,6 +233,16 @@ public class LinkedFile implements Serializable {
      * optional if the file cannot be found.
      */
     public Optional<Path> findIn(List<Path> directories) {
+        return findIn(directories, Files::exists);
+    }
+
+    /**
+     * Tries to find the file in the given directories and returns the path to the file (if found). Returns an empty
+     * optional if the file cannot be found.
+     *
+     * @param fileExists decides whether a path exists (e.g., using a {@link org.jabref.logic.util.io.FileDirectoryIndex})
+     */
+    public Optional<Path> findIn(List<Path> directories, Predicate<Path> fileExists) {
         try {
             if (link.get().isEmpty()) {
                 // We do not want to match empty paths (which could be any file or none ?!)
@@ -238,13 +251,13 @@ public class LinkedFile implements Serializable {
 
             Path file = Path.of(link.get());
             if (file.isAbsolute() || directories.isEmpty()) {
-                if (Files.exists(file)) {
+                if (fileExists.test(file)) {
                     return Optional.of(file);
                 } else {
                     return Optional.empty();
                 }
             } else {
-                return FileUtil.find(link.get(), directories);
+                return FileUtil.find(link.get(), directories, fileExists);
             }
         } catch (InvalidPathException ex) {
             return Optional.empty();
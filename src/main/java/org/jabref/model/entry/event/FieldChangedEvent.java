@@ -13,6 +13,7 @@ public class FieldChangedEvent extends EntryChangedEvent {
     private final String newValue;
     private final String oldValue;
     private int majorCharacterChange = 0;
+    private boolean partOfChangeSet;
 
     /**
      * @param bibEntry Affected BibEntry object
@@ -88,4 +89,16 @@ public class FieldChangedEvent extends EntryChangedEvent {
     public int getMajorCharacterChange() {
         return majorCharacterChange;
     }
+
+    /**
+     * Checks if this change was made during a transaction of the database. All changes of the transaction are posted
+     * again as one {@link org.jabref.model.database.event.EntriesChangedEvent} when it is committed.
+     */
+    public boolean isPartOfChangeSet() {
+        return partOfChangeSet;
+    }
+
+    public void setPartOfChangeSet(boolean partOfChangeSet) {
+        this.partOfChangeSet = partOfChangeSet;
+    }
 }
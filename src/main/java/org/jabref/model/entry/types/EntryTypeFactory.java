@@ -1,15 +1,34 @@
 package org.jabref.model.entry.types;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
 import org.jabref.model.entry.BibEntryType;
 
 public class EntryTypeFactory {
 
+    /**
+     * The types by their name. If several types have the same name, the first one wins.
+     */
+    private static final Map<String, EntryType> KNOWN_TYPES = new HashMap<>();
+    private static final Map<String, EntryType> UNKNOWN_TYPES = new ConcurrentHashMap<>();
+
+    static {
+        Stream.<EntryType[]>of(
+                      StandardEntryType.values(),
+                      IEEETranEntryType.values(),
+                      BiblatexSoftwareEntryType.values(),
+                      BiblatexApaEntryType.values(),
+                      SystematicLiteratureReviewStudyEntryType.values())
+              .flatMap(Arrays::stream)
+              .forEach(type -> KNOWN_TYPES.putIfAbsent(type.getName(), type));
+    }
+
     private EntryTypeFactory() {
     }
 
@@ -45,12 +64,12 @@ public class EntryTypeFactory {
     }
 
     public static EntryType parse(String typeName) {
-        List<EntryType> types = new ArrayList<>(Arrays.<EntryType>asList(StandardEntryType.values()));
-        types.addAll(Arrays.<EntryType>asList(IEEETranEntryType.values()));
-        types.addAll(Arrays.<EntryType>asList(BiblatexSoftwareEntryType.values()));
-        types.addAll(Arrays.<EntryType>asList(BiblatexApaEntryType.values()));
-        types.addAll(Arrays.<EntryType>asList(SystematicLiteratureReviewStudyEntryType.values()));
-
-        return types.stream().filter(type -> type.getName().equals(typeName.toLowerCase(Locale.ENGLISH))).findFirst().orElse(new UnknownEntryType(typeName));
+        String name = typeName.toLowerCase(Locale.ENGLISH);
+        EntryType knownType = KNOWN_TYPES.get(name);
+        if (knownType != null) {
+            return knownType;
+        }
+        // Unknown types are immutable, thus one instance is shared by all entries of that type
+        return UNKNOWN_TYPES.computeIfAbsent(name, UnknownEntryType::new);
     }
 }
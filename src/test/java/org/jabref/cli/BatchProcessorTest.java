@@ -0,0 +1,134 @@
+package org.jabref.cli;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
+import org.jabref.logic.citationkeypattern.GlobalCitationKeyPatterns;
+import org.jabref.logic.cleanup.CleanupPreferences;
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.fileformat.BibtexImporter;
+import org.jabref.logic.journals.JournalAbbreviationRepository;
+import org.jabref.logic.preferences.CliPreferences;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+
+import static org.jabref.logic.citationkeypattern.CitationKeyGenerator.DEFAULT_UNWANTED_CHARACTERS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BatchProcessorTest {
+
+    private final CliPreferences preferences = mock(CliPreferences.class, Answers.RETURNS_DEEP_STUBS);
+    private final ImportFormatPreferences importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+
+    @TempDir
+    private Path tempDir;
+
+    private BatchProcessor batchProcessor;
+
+    @BeforeEach
+    void setUp() {
+        when(importFormatPreferences.bibEntryPreferences().getKeywordSeparator()).thenReturn(',');
+        when(preferences.getImportFormatPreferences()).thenReturn(importFormatPreferences);
+        when(preferences.getCleanupPreferences()).thenReturn(new CleanupPreferences(CleanupPreferences.CleanupStep.CLEAN_UP_DOI));
+        when(preferences.getCitationKeyPatternPreferences()).thenReturn(new CitationKeyPatternPreferences(
+                false,
+                false,
+                false,
+                CitationKeyPatternPreferences.KeySuffix.SECOND_WITH_A,
+                "",
+                "",
+                DEFAULT_UNWANTED_CHARACTERS,
+                GlobalCitationKeyPatterns.fromPattern("[auth][year]"),
+                "",
+                ','));
+
+        batchProcessor = new BatchProcessor(
+                preferences,
+                new BibEntryTypesManager(),
+                mock(JournalAbbreviationRepository.class),
+                Optional.empty(),
+                2);
+    }
+
+    @Test
+    void librariesAreCleanedUpAndGetKeys() throws Exception {
+        Path first = library("first.bib", "Newton", "1999", "https://doi.org/10.1000/first");
+        Path second = library("second.bib", "Darwin", "1888", "doi:10.1000/second");
+        Path outputDirectory = tempDir.resolve("output");
+
+        BatchProcessor.Summary summary = batchProcessor.process(List.of(first, second), outputDirectory);
+
+        assertEquals(2, summary.libraries());
+        assertEquals(0, summary.failedLibraries());
+        assertEquals(2, summary.entries());
+        assertEquals(new BibEntry(StandardEntryType.Article)
+                             .withCitationKey("Newton1999")
+                             .withField(StandardField.AUTHOR, "Newton")
+                             .withField(StandardField.YEAR, "1999")
+                             .withField(StandardField.DOI, "10.1000/first"),
+                readSingleEntry(outputDirectory.resolve("first.bib")));
+        assertEquals("10.1000/second", readSingleEntry(outputDirectory.resolve("second.bib")).getField(StandardField.DOI).orElseThrow());
+        assertTrue(Files.exists(outputDirectory.resolve(BatchProcessor.SUMMARY_FILE_NAME)));
+    }
+
+    @Test
+    void missingLibraryIsReportedAsFailed() throws Exception {
+        Path existing = library("existing.bib", "Newton", "1999", "10.1000/existing");
+        Path missing = tempDir.resolve("missing.bib");
+
+        BatchProcessor.Summary summary = batchProcessor.process(List.of(existing, missing), tempDir.resolve("output"));
+
+        assertEquals(1, summary.failedLibraries());
+        assertEquals("", summary.results().getFirst().error());
+        assertEquals(missing.toString(), summary.results().getLast().input());
+    }
+
+    @Test
+    void librariesWithSameFileNameAreReportedAsFailed() throws Exception {
+        Path first = library("a/refs.bib", "Newton", "1999", "10.1000/first");
+        Path second = library("b/refs.bib", "Darwin", "1888", "10.1000/second");
+        Path other = library("other.bib", "Curie", "1903", "10.1000/other");
+        Path outputDirectory = tempDir.resolve("output");
+
+        BatchProcessor.Summary summary = batchProcessor.process(List.of(first, second, other), outputDirectory);
+
+        assertEquals(2, summary.failedLibraries());
+        assertEquals(List.of(false, false, true), summary.results().stream().map(result -> result.error().isEmpty()).toList());
+        assertFalse(Files.exists(outputDirectory.resolve("refs.bib")));
+    }
+
+    private Path library(String name, String author, String year, String doi) throws Exception {
+        Path library = tempDir.resolve(name);
+        Files.createDirectories(library.getParent());
+        Files.writeString(library, """
+                @Article{,
+                  author = {%s},
+                  year = {%s},
+                  doi = {%s}
+                }
+                """.formatted(author, year, doi));
+        return library;
+    }
+
+    private BibEntry readSingleEntry(Path library) throws Exception {
+        List<BibEntry> entries = new BibtexImporter(importFormatPreferences, new DummyFileUpdateMonitor())
+                .importDatabase(library).getDatabase().getEntries();
+        assertEquals(1, entries.size());
+        return entries.getFirst();
+    }
+}
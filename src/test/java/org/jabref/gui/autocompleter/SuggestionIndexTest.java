@@ -0,0 +1,118 @@
+package org.jabref.gui.autocompleter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import com.google.common.base.Equivalence;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SuggestionIndexTest {
+
+    private static final Equivalence<String> EQUIVALENCE = Equivalence.equals().onResultOf(word -> word);
+
+    private BibDatabase database;
+    private SuggestionIndex<String> index;
+
+    @BeforeEach
+    void setUp() {
+        database = new BibDatabase();
+        index = SuggestionIndex.forFields(Set.of(StandardField.KEYWORDS), database, SuggestionIndex::getWords, word -> word);
+    }
+
+    private List<String> find(String userText) {
+        return index.find(userText, 10, EQUIVALENCE);
+    }
+
+    @Test
+    void candidatesAreRankedByOccurrences() {
+        database.insertEntries(
+                new BibEntry().withField(StandardField.KEYWORDS, "software, semantics"),
+                new BibEntry().withField(StandardField.KEYWORDS, "semantics"));
+
+        assertEquals(List.of("semantics", "software"), find("s"));
+    }
+
+    @Test
+    void candidatesStartingWithTextComeFirst() {
+        database.insertEntries(
+                new BibEntry().withField(StandardField.KEYWORDS, "hypertext"),
+                new BibEntry().withField(StandardField.KEYWORDS, "hypertext"),
+                new BibEntry().withField(StandardField.KEYWORDS, "text mining"));
+
+        assertEquals(List.of("text", "hypertext"), find("TEXT"));
+    }
+
+    @Test
+    void resultIsLimited() {
+        database.insertEntry(new BibEntry().withField(StandardField.KEYWORDS, "a1 a2 a3 a4"));
+
+        assertEquals(2, index.find("a", 2, EQUIVALENCE).size());
+    }
+
+    @Test
+    void changedFieldIsUpdated() {
+        BibEntry entry = new BibEntry().withField(StandardField.KEYWORDS, "semantics");
+        database.insertEntry(entry);
+        find("s");
+
+        entry.setField(StandardField.KEYWORDS, "software");
+
+        assertEquals(List.of("software"), find("s"));
+    }
+
+    @Test
+    void clearedFieldIsRemoved() {
+        BibEntry entry = new BibEntry().withField(StandardField.KEYWORDS, "semantics");
+        database.insertEntry(entry);
+        find("s");
+
+        entry.clearField(StandardField.KEYWORDS);
+
+        assertEquals(List.of(), find("s"));
+    }
+
+    @Test
+    void removedEntryIsRemoved() {
+        BibEntry entry = new BibEntry().withField(StandardField.KEYWORDS, "semantics");
+        database.insertEntries(entry, new BibEntry().withField(StandardField.KEYWORDS, "semantics"));
+        find("s");
+
+        database.removeEntry(entry);
+        assertEquals(List.of("semantics"), find("s"));
+
+        entry.setField(StandardField.KEYWORDS, "software");
+        assertEquals(List.of("semantics"), find("s"));
+    }
+
+    @Test
+    void rareCandidateContainingTextIsFound() {
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            values.add("value" + i);
+        }
+        values.add("last value");
+        SuggestionIndex<String> fixedIndex = SuggestionIndex.of(values);
+
+        assertEquals(List.of("value0"), fixedIndex.find("alue0", 10, EQUIVALENCE).subList(0, 1));
+        assertEquals(List.of("last value"), fixedIndex.find("st value", 10, EQUIVALENCE));
+    }
+
+    @Test
+    void otherFieldsAreIgnored() {
+        BibEntry entry = new BibEntry();
+        database.insertEntry(entry);
+        find("s");
+
+        entry.setField(StandardField.TITLE, "semantics");
+
+        assertEquals(List.of(), find("s"));
+    }
+}
@@ -1,7 +1,9 @@
 package org.jabref.logic.bst;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.Collections;
 import java.util.List;
 
@@ -12,6 +14,7 @@ import org.jabref.model.entry.types.StandardEntryType;
 
 import org.antlr.v4.runtime.RecognitionException;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -233,4 +236,31 @@ public class BstVMTest {
 
         assertEquals("colorful morning", vm.latestContext.stack().pop());
     }
+
+    @Test
+    void changedBstFileIsCompiledAgain(@TempDir Path tempDir) throws Exception {
+        Path bstFile = tempDir.resolve("test.bst");
+        Files.writeString(bstFile, "FUNCTION { test } { \"first\" write$ } EXECUTE { test }");
+        assertEquals("first", new BstVM(bstFile).render(Collections.emptyList()));
+
+        Files.writeString(bstFile, "FUNCTION { test } { \"second\" write$ } EXECUTE { test }");
+        Files.setLastModifiedTime(bstFile, FileTime.fromMillis(Files.getLastModifiedTime(bstFile).toMillis() + 10_000));
+        assertEquals("second", new BstVM(bstFile).render(Collections.emptyList()));
+    }
+
+    @Test
+    void redefinedFunctionIsCalled() {
+        BstVM vm = new BstVM("""
+                FUNCTION { value } { #1 }
+                FUNCTION { test } { value }
+                EXECUTE { test }
+                FUNCTION { value } { #2 }
+                EXECUTE { test }
+                """);
+
+        vm.render(Collections.emptyList());
+
+        assertEquals(2, vm.getStack().pop());
+        assertEquals(1, vm.getStack().pop());
+    }
 }
@@ -1,7 +1,10 @@
 package org.jabref.logic.citationkeypattern;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
+import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.StandardField;
@@ -509,4 +512,65 @@ class MakeLabelWithDatabaseTest {
         new CitationKeyGenerator(bibtexKeyPattern, database, preferences).generateAndSetKey(entry);
         assertEquals(Optional.of("Aapoj"), entry.getCitationKey());
     }
+
+    @Test
+    void generateAndSetKeysAppendsLettersLikeSequentialGeneration() {
+        BibEntry entry2 = new BibEntry()
+                .withField(StandardField.AUTHOR, "John Doe")
+                .withField(StandardField.YEAR, "2016");
+        BibEntry entry3 = new BibEntry()
+                .withField(StandardField.AUTHOR, "John Doe")
+                .withField(StandardField.YEAR, "2016");
+        BibEntry entry4 = new BibEntry()
+                .withField(StandardField.AUTHOR, "Jane Smith")
+                .withField(StandardField.YEAR, "2020");
+        database.insertEntries(entry2, entry3, entry4);
+
+        List<FieldChange> changes = new CitationKeyGenerator(bibtexKeyPattern, database, preferences).generateAndSetKeys(List.of(entry, entry2, entry3, entry4));
+
+        assertEquals(4, changes.size());
+        assertEquals(List.of(Optional.of("Doe2016"), Optional.of("Doe2016a"), Optional.of("Doe2016b"), Optional.of("Smith2020")),
+                List.of(entry.getCitationKey(), entry2.getCitationKey(), entry3.getCitationKey(), entry4.getCitationKey()));
+    }
+
+    @Test
+    void generateAndSetKeysMatchesSequentialGenerationForExistingKeys() {
+        entry.setCitationKey("Doe2016a");
+        BibEntry entry2 = new BibEntry()
+                .withCitationKey("Doe2016")
+                .withField(StandardField.AUTHOR, "John Doe")
+                .withField(StandardField.YEAR, "2016");
+        BibEntry entry3 = new BibEntry()
+                .withField(StandardField.AUTHOR, "John Doe")
+                .withField(StandardField.YEAR, "2016");
+        database.insertEntries(entry2, entry3);
+
+        BibDatabase sequentialDatabase = new BibDatabase();
+        List<BibEntry> sequentialEntries = List.of((BibEntry) entry.clone(), (BibEntry) entry2.clone(), (BibEntry) entry3.clone());
+        sequentialDatabase.insertEntries(sequentialEntries);
+        CitationKeyGenerator sequentialGenerator = new CitationKeyGenerator(bibtexKeyPattern, sequentialDatabase, preferences);
+        sequentialEntries.forEach(sequentialGenerator::generateAndSetKey);
+
+        new CitationKeyGenerator(bibtexKeyPattern, database, preferences).generateAndSetKeys(List.of(entry, entry2, entry3));
+
+        assertEquals(sequentialEntries.stream().map(BibEntry::getCitationKey).toList(),
+                List.of(entry.getCitationKey(), entry2.getCitationKey(), entry3.getCitationKey()));
+    }
+
+    @Test
+    void generateAndSetKeysReportsProgressPerBatch() {
+        List<BibEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 1200; i++) {
+            entries.add(new BibEntry()
+                    .withField(StandardField.AUTHOR, "John Doe")
+                    .withField(StandardField.YEAR, "2016"));
+        }
+        database.insertEntries(entries);
+        List<Integer> progress = new ArrayList<>();
+
+        new CitationKeyGenerator(bibtexKeyPattern, database, preferences).generateAndSetKeys(entries, progress::add);
+
+        assertEquals(List.of(500, 1000, 1200), progress);
+        assertEquals(entries.size(), entries.stream().map(BibEntry::getCitationKey).distinct().count());
+    }
 }
@@ -345,4 +345,37 @@ class CleanupWorkerTest {
         worker.cleanup(preset, entry);
         assertEquals(Optional.of("01"), entry.getField(StandardField.MONTH));
     }
+
+    @Test
+    void cleanupEntriesCleansUpAllEntries() {
+        CleanupPreferences preset = new CleanupPreferences(CleanupPreferences.CleanupStep.CLEAN_UP_DOI);
+        BibEntry first = new BibEntry()
+                .withField(StandardField.DOI, "http://dx.doi.org/10.1016/0001-8708(80)90035-3");
+        BibEntry second = new BibEntry()
+                .withField(StandardField.URL, "http://dx.doi.org/10.1016/0001-8708(80)90035-4");
+
+        CleanupWorker.Result result = worker.cleanupEntries(preset, List.of(first, second));
+
+        assertEquals(List.of(
+                new FieldChange(first, StandardField.DOI, "http://dx.doi.org/10.1016/0001-8708(80)90035-3", "10.1016/0001-8708(80)90035-3"),
+                new FieldChange(second, StandardField.URL, "http://dx.doi.org/10.1016/0001-8708(80)90035-4", null),
+                new FieldChange(second, StandardField.DOI, null, "10.1016/0001-8708(80)90035-4")),
+                result.changes());
+        assertEquals(Optional.of("10.1016/0001-8708(80)90035-3"), first.getField(StandardField.DOI));
+        assertEquals(Optional.of("10.1016/0001-8708(80)90035-4"), second.getField(StandardField.DOI));
+        assertEquals(Optional.empty(), second.getField(StandardField.URL));
+    }
+
+    @Test
+    void cleanupEntriesReportsDurationPerJob() {
+        CleanupPreferences preset = new CleanupPreferences(EnumSet.of(CleanupPreferences.CleanupStep.CLEAN_UP_DOI), new FieldFormatterCleanups(true,
+                Collections.singletonList(new FieldFormatterCleanup(StandardField.MONTH, new NormalizeMonthFormatter()))));
+        BibEntry entry = new BibEntry().withField(StandardField.MONTH, "01");
+
+        CleanupWorker.Result result = worker.cleanupEntries(preset, List.of(entry));
+
+        assertEquals(Optional.of("#jan#"), entry.getField(StandardField.MONTH));
+        assertEquals(List.of("DoiCleanup", new FieldFormatterCleanup(StandardField.MONTH, new NormalizeMonthFormatter()).toString()),
+                List.copyOf(result.durationPerJob().keySet()));
+    }
 }
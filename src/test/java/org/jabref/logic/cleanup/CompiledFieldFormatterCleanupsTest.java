@@ -0,0 +1,96 @@
+package org.jabref.logic.cleanup;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.jabref.logic.formatter.bibtexfields.ClearFormatter;
+import org.jabref.logic.formatter.bibtexfields.NormalizePagesFormatter;
+import org.jabref.logic.formatter.casechanger.LowerCaseFormatter;
+import org.jabref.logic.formatter.casechanger.UpperCaseFormatter;
+import org.jabref.model.FieldChange;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompiledFieldFormatterCleanupsTest {
+
+    private final BibEntry entry = new BibEntry(StandardEntryType.Article)
+            .withCitationKey("Key2011")
+            .withField(StandardField.TITLE, "An <b>HTML</b> title ﬁnding 1st ideas")
+            .withField(StandardField.AUTHOR, "Bär, Ölaf")
+            .withField(StandardField.MONTH, "Sept.")
+            .withField(StandardField.PAGES, "1-7")
+            .withField(StandardField.DATE, "29.11.2011")
+            .withField(StandardField.URL, "https://example.org/ﬁle_1");
+
+    private static Stream<List<FieldFormatterCleanup>> sameResultAsApplyingActionsOneAfterTheOther() {
+        return Stream.of(
+                FieldFormatterCleanups.DEFAULT_SAVE_ACTIONS,
+                FieldFormatterCleanups.RECOMMEND_BIBTEX_ACTIONS,
+                FieldFormatterCleanups.RECOMMEND_BIBLATEX_ACTIONS,
+                List.of(new FieldFormatterCleanup(InternalField.INTERNAL_ALL_FIELD, new UpperCaseFormatter()),
+                        new FieldFormatterCleanup(StandardField.TITLE, new LowerCaseFormatter()),
+                        new FieldFormatterCleanup(StandardField.PAGES, new ClearFormatter()),
+                        new FieldFormatterCleanup(StandardField.PAGES, new NormalizePagesFormatter())));
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void sameResultAsApplyingActionsOneAfterTheOther(List<FieldFormatterCleanup> actions) {
+        BibEntry expected = (BibEntry) entry.clone();
+        new FieldFormatterCleanups(true, actions).applySaveActions(expected);
+
+        new CompiledFieldFormatterCleanups(new FieldFormatterCleanups(true, actions)).apply(entry);
+
+        assertEquals(expected, entry);
+    }
+
+    @Test
+    void oneChangePerField() {
+        CompiledFieldFormatterCleanups cleanups = new CompiledFieldFormatterCleanups(new FieldFormatterCleanups(true, List.of(
+                new FieldFormatterCleanup(StandardField.TITLE, new UpperCaseFormatter()),
+                new FieldFormatterCleanup(StandardField.TITLE, new LowerCaseFormatter()),
+                new FieldFormatterCleanup(StandardField.PAGES, new ClearFormatter()))));
+
+        List<FieldChange> changes = cleanups.apply(entry);
+
+        assertEquals(List.of(
+                new FieldChange(entry, StandardField.TITLE, "An <b>HTML</b> title ﬁnding 1st ideas", "an <b>html</b> title ﬁnding 1st ideas"),
+                new FieldChange(entry, StandardField.PAGES, "1-7", null)), changes);
+        assertEquals(Optional.empty(), entry.getField(StandardField.PAGES));
+    }
+
+    @Test
+    void disabledCleanupsChangeNothing() {
+        CompiledFieldFormatterCleanups cleanups = new CompiledFieldFormatterCleanups(new FieldFormatterCleanups(false,
+                List.of(new FieldFormatterCleanup(StandardField.TITLE, new LowerCaseFormatter()))));
+
+        assertTrue(cleanups.isEmpty());
+        assertEquals(List.of(), cleanups.apply(entry));
+    }
+
+    @Test
+    void reportsDurationPerFormatter() {
+        CompiledFieldFormatterCleanups cleanups = new CompiledFieldFormatterCleanups(new FieldFormatterCleanups(true, List.of(
+                new FieldFormatterCleanup(StandardField.TITLE, new LowerCaseFormatter()),
+                new FieldFormatterCleanup(StandardField.PAGES, new NormalizePagesFormatter()),
+                new FieldFormatterCleanup(StandardField.AUTHOR, new LowerCaseFormatter()))));
+
+        cleanups.apply(entry);
+
+        Map<String, Duration> durationPerFormatter = cleanups.getDurationPerFormatter();
+        assertEquals(List.of(new LowerCaseFormatter().getName(), new NormalizePagesFormatter().getName()),
+                List.copyOf(durationPerFormatter.keySet()));
+    }
+}
@@ -0,0 +1,137 @@
+package org.jabref.logic.crawler;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.jabref.logic.importer.FetcherClientException;
+import org.jabref.logic.importer.FetcherException;
+import org.jabref.logic.importer.FetcherServerException;
+import org.jabref.logic.net.URLDownload;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CrawlSchedulerTest {
+
+    private static final CrawlScheduler.Settings SETTINGS = new CrawlScheduler.Settings(1000, 10, 2, Duration.ofMillis(1));
+
+    private WireMockServer server;
+
+    @BeforeEach
+    void setUp() {
+        server = new WireMockServer(wireMockConfig().dynamicPort());
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    void temporaryFailuresAreRetried() throws Exception {
+        stubFailures("/search", 503, 429);
+
+        try (CrawlScheduler scheduler = new CrawlScheduler(SETTINGS, CrawlProgressListener.NONE)) {
+            Future<String> result = scheduler.submit("Stub", () -> download("/search"));
+
+            assertEquals("result", result.get());
+        }
+        server.verify(3, getRequestedFor(urlEqualTo("/search")));
+    }
+
+    @Test
+    void requestFailsAfterMaxRetries() {
+        server.stubFor(get(urlEqualTo("/search")).willReturn(aResponse().withStatus(503)));
+
+        try (CrawlScheduler scheduler = new CrawlScheduler(SETTINGS, CrawlProgressListener.NONE)) {
+            Future<String> result = scheduler.submit("Stub", () -> download("/search"));
+
+            ExecutionException exception = assertThrows(ExecutionException.class, result::get);
+            assertInstanceOf(FetcherServerException.class, exception.getCause());
+        }
+        server.verify(3, getRequestedFor(urlEqualTo("/search")));
+    }
+
+    @Test
+    void clientErrorsAreNotRetried() {
+        server.stubFor(get(urlEqualTo("/search")).willReturn(aResponse().withStatus(404)));
+
+        try (CrawlScheduler scheduler = new CrawlScheduler(SETTINGS, CrawlProgressListener.NONE)) {
+            Future<String> result = scheduler.submit("Stub", () -> download("/search"));
+
+            ExecutionException exception = assertThrows(ExecutionException.class, result::get);
+            assertInstanceOf(FetcherClientException.class, exception.getCause());
+        }
+        server.verify(1, getRequestedFor(urlEqualTo("/search")));
+    }
+
+    @Test
+    void progressIsReportedPerFetcher() throws Exception {
+        server.stubFor(get(urlEqualTo("/search")).willReturn(aResponse().withStatus(200).withBody("result")));
+        Map<String, Integer> finishedRequests = new ConcurrentHashMap<>();
+
+        try (CrawlScheduler scheduler = new CrawlScheduler(SETTINGS, (fetcherName, finished, total) -> finishedRequests.merge(fetcherName, 1, Integer::sum))) {
+            List<Future<String>> results = List.of(
+                    scheduler.submit("First", () -> download("/search")),
+                    scheduler.submit("First", () -> download("/search")),
+                    scheduler.submit("Second", () -> download("/search")));
+            for (Future<String> result : results) {
+                result.get();
+            }
+        }
+
+        assertEquals(Map.of("First", 2, "Second", 1), finishedRequests);
+    }
+
+    @Test
+    void ioErrorsAreTemporary() {
+        assertTrue(CrawlScheduler.isTemporaryFailure(new FetcherException("Error opening connection", new IOException())));
+        assertFalse(CrawlScheduler.isTemporaryFailure(new FetcherException("An error occurred when parsing the query")));
+    }
+
+    private void stubFailures(String path, int... statusCodes) {
+        String state = Scenario.STARTED;
+        for (int i = 0; i < statusCodes.length; i++) {
+            server.stubFor(get(urlEqualTo(path)).inScenario("failures")
+                                                .whenScenarioStateIs(state)
+                                                .willReturn(aResponse().withStatus(statusCodes[i]))
+                                                .willSetStateTo("attempt " + (i + 1)));
+            state = "attempt " + (i + 1);
+        }
+        server.stubFor(get(urlEqualTo(path)).inScenario("failures")
+                                            .whenScenarioStateIs(state)
+                                            .willReturn(aResponse().withStatus(200).withBody("result")));
+    }
+
+    private String download(String path) throws FetcherException {
+        try {
+            URL url = URI.create(server.baseUrl() + path).toURL();
+            return new URLDownload(url).asString();
+        } catch (MalformedURLException e) {
+            throw new FetcherException("Invalid URL", e);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package org.jabref.logic.crawler;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+
+import org.jabref.logic.importer.FetcherException;
+import org.jabref.logic.importer.PagedSearchBasedFetcher;
+import org.jabref.logic.importer.SearchBasedFetcher;
+import org.jabref.logic.net.URLDownload;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.paging.Page;
+import org.jabref.model.study.FetchResult;
+import org.jabref.model.study.QueryResult;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.apache.lucene.queryparser.flexible.core.nodes.QueryNode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StudyFetcherTest {
+
+    private static final CrawlScheduler.Settings SETTINGS = new CrawlScheduler.Settings(1000, 10, 0, Duration.ofMillis(1));
+
+    private WireMockServer server;
+
+    @BeforeEach
+    void setUp() {
+        server = new WireMockServer(wireMockConfig().dynamicPort());
+        server.start();
+        for (int page = 0; page < 5; page++) {
+            // Earlier pages respond slower to make sure the order of the pages is kept
+            server.stubFor(get(urlEqualTo("/paged?page=" + page)).willReturn(aResponse().withStatus(200)
+                                                                                        .withBody("Page " + page)
+                                                                                        .withFixedDelay(50 * (5 - page))));
+        }
+        server.stubFor(get(urlEqualTo("/unavailable")).willReturn(aResponse().withStatus(503)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    void pagesAreJoinedInOrder() {
+        StudyFetcher studyFetcher = new StudyFetcher(List.of(new StubPagedFetcher()), List.of("term"), SETTINGS);
+
+        List<QueryResult> results = studyFetcher.crawl();
+
+        List<BibEntry> expected = List.of(
+                new BibEntry().withField(StandardField.TITLE, "Page 0"),
+                new BibEntry().withField(StandardField.TITLE, "Page 1"),
+                new BibEntry().withField(StandardField.TITLE, "Page 2"),
+                new BibEntry().withField(StandardField.TITLE, "Page 3"),
+                new BibEntry().withField(StandardField.TITLE, "Page 4"));
+        assertEquals(1, results.size());
+        assertEquals(expected, results.getFirst().getResultsPerFetcher().getFirst().getFetchResult().getEntries());
+    }
+
+    @Test
+    void failingFetcherIsOmitted() {
+        StudyFetcher studyFetcher = new StudyFetcher(List.of(new StubPagedFetcher(), new UnavailableFetcher()), List.of("term", "other"), SETTINGS);
+
+        List<QueryResult> results = studyFetcher.crawl();
+
+        assertEquals(List.of("term", "other"), results.stream().map(QueryResult::getQuery).toList());
+        for (QueryResult result : results) {
+            assertEquals(List.of("Stub"), result.getResultsPerFetcher().stream().map(FetchResult::getFetcherName).toList());
+        }
+    }
+
+    private String download(String path) throws FetcherException {
+        try {
+            return new URLDownload(URI.create(server.baseUrl() + path).toURL()).asString();
+        } catch (MalformedURLException e) {
+            throw new FetcherException("Invalid URL", e);
+        }
+    }
+
+    private class StubPagedFetcher implements PagedSearchBasedFetcher {
+        @Override
+        public Page<BibEntry> performSearchPaged(QueryNode luceneQuery, int pageNumber) throws FetcherException {
+            String title = download("/paged?page=" + pageNumber);
+            return new Page<>(luceneQuery.toString(), pageNumber, List.of(new BibEntry().withField(StandardField.TITLE, title)));
+        }
+
+        @Override
+        public String getName() {
+            return "Stub";
+        }
+    }
+
+    private class UnavailableFetcher implements SearchBasedFetcher {
+        @Override
+        public List<BibEntry> performSearch(QueryNode luceneQuery) throws FetcherException {
+            return List.of(new BibEntry().withField(StandardField.TITLE, download("/unavailable")));
+        }
+
+        @Override
+        public String getName() {
+            return "Unavailable";
+        }
+    }
+}
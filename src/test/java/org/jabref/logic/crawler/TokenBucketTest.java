@@ -0,0 +1,60 @@
+package org.jabref.logic.crawler;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void burstIsAvailableImmediately() {
+        TokenBucket tokenBucket = new TokenBucket(1, 3, clock::get);
+
+        assertEquals(0, tokenBucket.reserve());
+        assertEquals(0, tokenBucket.reserve());
+        assertEquals(0, tokenBucket.reserve());
+    }
+
+    @Test
+    void requestsBeyondBurstWaitInTurn() {
+        TokenBucket tokenBucket = new TokenBucket(2, 1, clock::get);
+
+        assertEquals(0, tokenBucket.reserve());
+        assertEquals(SECOND / 2, tokenBucket.reserve());
+        assertEquals(SECOND, tokenBucket.reserve());
+    }
+
+    @Test
+    void bucketIsRefilledOverTime() {
+        TokenBucket tokenBucket = new TokenBucket(2, 1, clock::get);
+        tokenBucket.reserve();
+
+        clock.addAndGet(SECOND / 2);
+
+        assertEquals(0, tokenBucket.reserve());
+    }
+
+    @Test
+    void refillIsLimitedByBurst() {
+        TokenBucket tokenBucket = new TokenBucket(1, 2, clock::get);
+
+        clock.addAndGet(10 * SECOND);
+
+        assertEquals(0, tokenBucket.reserve());
+        assertEquals(0, tokenBucket.reserve());
+        assertEquals(SECOND, tokenBucket.reserve());
+    }
+
+    @Test
+    void nonPositiveRateIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0, 1));
+    }
+}
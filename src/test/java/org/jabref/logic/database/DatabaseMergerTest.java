@@ -7,6 +7,7 @@ import org.jabref.logic.bibtex.comparator.BibtexStringComparator;
 import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
 import org.jabref.model.entry.BibtexString;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.types.StandardEntryType;
@@ -54,6 +55,30 @@ class DatabaseMergerTest {
         assertEquals(List.of(entry1, entry3), database.getEntries());
     }
 
+    @Test
+    void indexedMergeAddsNonDuplicateEntriesAndKeepsIndexUpToDate() {
+        BibEntry entry1 = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Phillip Kaye and Michele Mosca")
+                .withField(StandardField.TITLE, "Quantum Networks for Generating Arbitrary Quantum States");
+        BibEntry entry2 = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Phillip Kaye and Michele Mosca")
+                .withField(StandardField.TITLE, "Quantum Networks for Generating Arbitrary Quantum States");
+        BibEntry entry3 = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Stephen Blaha")
+                .withField(StandardField.TITLE, "Quantum Computers and Quantum Computer Languages: Quantum Assembly Language and Quantum C Language");
+        BibEntry entry4 = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Stephen Blaha")
+                .withField(StandardField.TITLE, "Quantum Computers and Quantum Computer Languages: Quantum Assembly Language and Quantum C Language");
+
+        BibDatabase database = new BibDatabase(List.of(entry1));
+        DuplicateIndex index = new DuplicateIndex(database, new BibEntryTypesManager());
+        DatabaseMerger merger = new DatabaseMerger(importFormatPreferences.bibEntryPreferences().getKeywordSeparator());
+        merger.merge(index, new BibDatabase(List.of(entry2, entry3)));
+        merger.merge(index, new BibDatabase(List.of(entry4)));
+
+        assertEquals(List.of(entry1, entry3), database.getEntries());
+    }
+
     @Test
     void mergeAddsWithDuplicateEntries() {
         // Entries 1 and 2 are identical,  Entries 3 and 4 are identical
@@ -0,0 +1,96 @@
+package org.jabref.logic.database;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DuplicateIndexTest {
+
+    private final BibEntry existingEntry = new BibEntry(StandardEntryType.Article)
+            .withField(StandardField.AUTHOR, "Phillip Kaye and Michele Mosca")
+            .withField(StandardField.TITLE, "Quantum Networks for Generating Arbitrary Quantum States")
+            .withField(StandardField.DOI, "10.1364/OFC.2001.PB28");
+
+    private DuplicateIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new DuplicateIndex(new BibDatabase(List.of(existingEntry)), new BibEntryTypesManager());
+    }
+
+    @Test
+    void findsDuplicateBySameIdentifier() {
+        BibEntry entry = new BibEntry(StandardEntryType.Misc)
+                .withField(StandardField.TITLE, "Completely different")
+                .withField(StandardField.DOI, "10.1364/OFC.2001.PB28");
+
+        assertEquals(Optional.of(existingEntry), index.findDuplicate(entry, BibDatabaseMode.BIBTEX));
+    }
+
+    @Test
+    void findsDuplicateByNormalizedTitle() {
+        BibEntry entry = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Phillip Kaye and Michele Mosca")
+                .withField(StandardField.TITLE, "{Quantum} networks for generating arbitrary quantum states.");
+
+        assertEquals(Optional.of(existingEntry), index.findDuplicate(entry, BibDatabaseMode.BIBTEX));
+    }
+
+    @Test
+    void findsDuplicateBySameIsbnWrittenDifferently() {
+        BibEntry book = new BibEntry(StandardEntryType.Book)
+                .withField(StandardField.TITLE, "Quantum Computation and Quantum Information")
+                .withField(StandardField.ISBN, "978-3-16-148410-0");
+        index.insertEntries(List.of(book));
+
+        BibEntry entry = new BibEntry(StandardEntryType.Book)
+                .withField(StandardField.TITLE, "Quantum Computation and Quantum Information: 10th Anniversary Edition")
+                .withField(StandardField.ISBN, "9783161484100");
+
+        assertEquals(Optional.of(book), index.findDuplicate(entry, BibDatabaseMode.BIBTEX));
+    }
+
+    @Test
+    void findsDuplicateWithSlightlyDifferentTitleAndNoIdentifier() {
+        BibEntry entry = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Phillip Kaye and Michele Mosca")
+                .withField(StandardField.TITLE, "Quantum Network for Generating Arbitrary Quantum States");
+
+        assertEquals(Optional.of(existingEntry), index.findDuplicate(entry, BibDatabaseMode.BIBTEX));
+    }
+
+    @Test
+    void sameTitleOfDifferentEntryTypeIsNoDuplicate() {
+        BibEntry entry = new BibEntry(StandardEntryType.Book)
+                .withField(StandardField.AUTHOR, "Phillip Kaye and Michele Mosca")
+                .withField(StandardField.TITLE, "Quantum Networks for Generating Arbitrary Quantum States");
+
+        assertEquals(Optional.empty(), index.findDuplicate(entry, BibDatabaseMode.BIBTEX));
+    }
+
+    @Test
+    void insertedEntriesAreFound() {
+        BibEntry newEntry = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Stephen Blaha")
+                .withField(StandardField.TITLE, "Quantum Computers and Quantum Computer Languages");
+        index.insertEntries(List.of(newEntry));
+
+        BibEntry entry = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Stephen Blaha")
+                .withField(StandardField.TITLE, "Quantum Computers and Quantum Computer Languages");
+
+        assertEquals(List.of(existingEntry, newEntry), index.getDatabase().getEntries());
+        assertEquals(Optional.of(newEntry), index.findDuplicate(entry, BibDatabaseMode.BIBTEX));
+    }
+}
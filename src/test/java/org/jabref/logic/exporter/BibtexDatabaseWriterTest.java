@@ -12,6 +12,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.jabref.logic.bibtex.FieldPreferences;
 import org.jabref.logic.citationkeypattern.AbstractCitationKeyPatterns;
@@ -20,6 +21,7 @@ import org.jabref.logic.citationkeypattern.DatabaseCitationKeyPatterns;
 import org.jabref.logic.citationkeypattern.GlobalCitationKeyPatterns;
 import org.jabref.logic.cleanup.FieldFormatterCleanup;
 import org.jabref.logic.cleanup.FieldFormatterCleanups;
+import org.jabref.logic.cleanup.Formatter;
 import org.jabref.logic.formatter.casechanger.LowerCaseFormatter;
 import org.jabref.logic.formatter.casechanger.TitleCaseFormatter;
 import org.jabref.logic.formatter.casechanger.UpperCaseFormatter;
@@ -29,6 +31,7 @@ import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.importer.fileformat.BibtexImporter;
 import org.jabref.logic.importer.fileformat.BibtexParser;
 import org.jabref.logic.os.OS;
+import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.BibDatabaseMode;
@@ -66,6 +69,34 @@ import static org.mockito.Mockito.when;
  */
 class BibtexDatabaseWriterTest {
 
+    // Not idempotent, so that applying it twice can be noticed
+    private static final Formatter APPEND_EXCLAMATION_MARK = new Formatter() {
+        @Override
+        public String getName() {
+            return "Append exclamation mark";
+        }
+
+        @Override
+        public String getKey() {
+            return "append_exclamation_mark";
+        }
+
+        @Override
+        public String format(String value) {
+            return value + "!";
+        }
+
+        @Override
+        public String getDescription() {
+            return "Appends an exclamation mark";
+        }
+
+        @Override
+        public String getExampleInput() {
+            return "Hello";
+        }
+    };
+
     private BibtexDatabaseWriter databaseWriter;
     private BibDatabase database;
     private MetaData metaData;
@@ -760,6 +791,41 @@ class BibtexDatabaseWriterTest {
                 + OS.NEWLINE, stringWriter.toString());
     }
 
+    @Test
+    void saveActionsAreAppliedOnlyToEntriesChangedSinceLastSave() throws Exception {
+        metaData.setSaveActions(new FieldFormatterCleanups(true,
+                List.of(new FieldFormatterCleanup(StandardField.TITLE, APPEND_EXCLAMATION_MARK))));
+        BibEntry unchangedEntry = new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "Unchanged");
+        BibEntry changedEntry = new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "Changed");
+        database.insertEntries(unchangedEntry, changedEntry);
+
+        databaseWriter.saveDatabase(bibtexContext);
+        databaseWriter.rememberSavedContent();
+        changedEntry.setField(StandardField.TITLE, "Changed again");
+        initializeDatabaseWriter();
+        databaseWriter.saveDatabase(bibtexContext);
+
+        assertEquals(List.of("Unchanged!", "Changed again!"),
+                List.of(unchangedEntry.getTitle().orElseThrow(), changedEntry.getTitle().orElseThrow()));
+        assertEquals(List.of(new FieldChange(changedEntry, StandardField.TITLE, "Changed again", "Changed again!")),
+                databaseWriter.getSaveActionsFieldChanges());
+    }
+
+    @Test
+    void saveActionsAreAppliedAgainIfSaveWasNotRemembered() throws Exception {
+        metaData.setSaveActions(new FieldFormatterCleanups(true,
+                List.of(new FieldFormatterCleanup(StandardField.TITLE, APPEND_EXCLAMATION_MARK))));
+        BibEntry entry = new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "Unchanged");
+        database.insertEntry(entry);
+
+        // E.g., storing the file failed
+        databaseWriter.saveDatabase(bibtexContext);
+        initializeDatabaseWriter();
+        databaseWriter.saveDatabase(bibtexContext);
+
+        assertEquals(Optional.of("Unchanged!!"), entry.getTitle());
+    }
+
     @Test
     void writeSaveOrderConfig() throws Exception {
         SaveOrder saveOrder = new SaveOrder(SaveOrder.OrderType.SPECIFIED,
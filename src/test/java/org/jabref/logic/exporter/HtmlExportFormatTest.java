@@ -5,6 +5,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.stream.IntStream;
 
 import org.jabref.logic.layout.LayoutFormatterPreferences;
 import org.jabref.logic.util.StandardFileType;
@@ -59,4 +60,29 @@ public class HtmlExportFormatTest {
         List<String> lines = Files.readAllLines(path);
         assertEquals("</html>", lines.getLast());
     }
+
+    @Test
+    void exportOfManyEntriesKeepsOrderAndNumbering(@TempDir Path testFolder) throws Exception {
+        Path layoutFile = testFolder.resolve("numbered.layout");
+        Files.writeString(layoutFile, "\\format[Number]{\\title}: \\title\n");
+        TemplateExporter numberedExporter = new TemplateExporter("Numbered",
+                "numbered",
+                layoutFile.toString(),
+                null,
+                StandardFileType.TXT,
+                mock(LayoutFormatterPreferences.class, Answers.RETURNS_DEEP_STUBS),
+                SaveOrder.getDefaultSaveOrder());
+        numberedExporter.setCustomExport(true);
+
+        List<BibEntry> manyEntries = IntStream.rangeClosed(1, 1000)
+                                              .mapToObj(i -> new BibEntry().withField(StandardField.TITLE, "title" + i))
+                                              .toList();
+        Path path = testFolder.resolve("ThisIsARandomlyNamedFile");
+        numberedExporter.export(databaseContext, path, manyEntries);
+
+        List<String> expected = IntStream.rangeClosed(1, 1000)
+                                         .mapToObj(i -> i + ": title" + i)
+                                         .toList();
+        assertEquals(expected, Files.readAllLines(path));
+    }
 }
@@ -0,0 +1,119 @@
+package org.jabref.logic.importer;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.jabref.logic.importer.fileformat.BibtexParser;
+import org.jabref.model.entry.BibEntry;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+class BatchIdBasedParserFetcherTest {
+
+    private final WireMockServer wireMockServer = new WireMockServer(options().dynamicPort());
+    private final ImportFormatPreferences importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+
+    @BeforeEach
+    void setUp() {
+        wireMockServer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        wireMockServer.stop();
+    }
+
+    @Test
+    void identifiersAreLookedUpInBatches() {
+        wireMockServer.stubFor(get(urlPathEqualTo("/lookup")).withQueryParam("ids", equalTo("a,b")).willReturn(aResponse()
+                .withBody("@article{b, title = {B}} @article{a, title = {A}}")));
+        wireMockServer.stubFor(get(urlPathEqualTo("/lookup")).withQueryParam("ids", equalTo("c")).willReturn(aResponse()
+                .withBody("@article{c, title = {C}}")));
+
+        Map<String, BibEntry> result = new StubFetcher(2).performSearchByIds(List.of("a", "b", "c"));
+
+        assertEquals(Optional.of("A"), result.get("a").getTitle());
+        assertEquals(Optional.of("B"), result.get("b").getTitle());
+        assertEquals(Optional.of("C"), result.get("c").getTitle());
+        wireMockServer.verify(2, getRequestedFor(urlPathEqualTo("/lookup")));
+    }
+
+    @Test
+    void identifiersWithoutDataAreLeftOut() {
+        wireMockServer.stubFor(get(urlPathEqualTo("/lookup")).willReturn(aResponse()
+                .withBody("@article{a, title = {A}} @article{unrequested, title = {Other}}")));
+
+        Map<String, BibEntry> result = new StubFetcher(10).performSearchByIds(List.of("a", "missing"));
+
+        assertEquals(List.of("a"), List.copyOf(result.keySet()));
+    }
+
+    @Test
+    void failingBatchDoesNotDiscardOtherBatches() {
+        wireMockServer.stubFor(get(urlPathEqualTo("/lookup")).withQueryParam("ids", equalTo("a")).willReturn(aResponse()
+                .withStatus(500)));
+        wireMockServer.stubFor(get(urlPathEqualTo("/lookup")).withQueryParam("ids", equalTo("b")).willReturn(aResponse()
+                .withBody("@article{b, title = {B}}")));
+
+        Map<String, BibEntry> result = new StubFetcher(1).performSearchByIds(List.of("a", "b"));
+
+        assertEquals(List.of("b"), List.copyOf(result.keySet()));
+    }
+
+    private class StubFetcher implements BatchIdBasedParserFetcher {
+
+        private final int maximalBatchSize;
+
+        StubFetcher(int maximalBatchSize) {
+            this.maximalBatchSize = maximalBatchSize;
+        }
+
+        @Override
+        public String getName() {
+            return "Stub";
+        }
+
+        @Override
+        public URL getUrlForIdentifier(String identifier) throws URISyntaxException, MalformedURLException {
+            return getUrlForIdentifiers(List.of(identifier));
+        }
+
+        @Override
+        public int getMaximalBatchSize() {
+            return maximalBatchSize;
+        }
+
+        @Override
+        public URL getUrlForIdentifiers(List<String> identifiers) throws MalformedURLException {
+            return URI.create("http://localhost:" + wireMockServer.port() + "/lookup?ids=" + String.join(",", identifiers)).toURL();
+        }
+
+        @Override
+        public Optional<String> getIdentifier(BibEntry fetchedEntry) {
+            return fetchedEntry.getCitationKey();
+        }
+
+        @Override
+        public Parser getParser() {
+            return new BibtexParser(importFormatPreferences);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package org.jabref.logic.importer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jabref.model.entry.BibEntry;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BatchingEntryConsumerTest {
+
+    private final List<List<BibEntry>> batches = new ArrayList<>();
+    private final BatchingEntryConsumer consumer = new BatchingEntryConsumer(batches::add);
+
+    @Test
+    void passesCompleteBatchesWhileCollecting() {
+        for (int i = 0; i < BatchingEntryConsumer.BATCH_SIZE + 1; i++) {
+            consumer.accept(new BibEntry().withCitationKey("key" + i));
+        }
+
+        assertEquals(1, batches.size());
+        assertEquals(BatchingEntryConsumer.BATCH_SIZE, batches.getFirst().size());
+    }
+
+    @Test
+    void flushPassesRemainingEntries() {
+        BibEntry entry = new BibEntry().withCitationKey("key");
+        consumer.accept(entry);
+
+        consumer.flush();
+
+        assertEquals(List.of(List.of(entry)), batches);
+    }
+
+    @Test
+    void flushWithoutEntriesPassesNothing() {
+        consumer.flush();
+
+        assertEquals(List.of(), batches);
+    }
+}
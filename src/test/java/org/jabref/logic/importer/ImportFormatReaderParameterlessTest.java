@@ -10,8 +10,10 @@ import org.jabref.model.util.FileUpdateMonitor;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Answers;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -35,6 +37,21 @@ class ImportFormatReaderParameterlessTest {
         assertThrows(ImportException.class, () -> reader.importUnknownFormat(file, fileMonitor));
     }
 
+    @Test
+    void importUnknownFormatRecognizesFormatNotShownAtTheBeginning() throws Exception {
+        String data = "\n".repeat(100_000) + "TY  - JOUR\nTI  - Some title\nER  - \n";
+
+        ImportFormatReader.UnknownFormatImport unknownFormatImport = reader.importUnknownFormat(data);
+
+        assertEquals("RIS", unknownFormatImport.format());
+        assertEquals(1, unknownFormatImport.parserResult().getDatabase().getEntryCount());
+    }
+
+    @Test
+    void importUnknownFormatThrowsImportExceptionIfFileCannotBeRead(@TempDir Path tempDir) {
+        assertThrows(ImportException.class, () -> reader.importUnknownFormat(tempDir.resolve("missing.pdf"), fileMonitor));
+    }
+
     @Test
     void importUnknownFormatThrowsExceptionIfPathIsNull() {
         assertThrows(NullPointerException.class, () -> reader.importUnknownFormat(null, fileMonitor));
@@ -0,0 +1,196 @@
+package org.jabref.logic.importer.fetcher;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import javafx.collections.FXCollections;
+
+import org.jabref.logic.importer.FetcherException;
+import org.jabref.logic.importer.ImporterPreferences;
+import org.jabref.logic.importer.SearchBasedFetcher;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.apache.lucene.queryparser.flexible.core.nodes.QueryNode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CompositeSearchBasedFetcherMergingTest {
+
+    private static final Duration TIMEOUT = Duration.ofMillis(500);
+
+    private final ImporterPreferences importerPreferences = mock(ImporterPreferences.class);
+    private final QueryNode query = mock(QueryNode.class);
+    private final CountDownLatch neverAnswering = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        neverAnswering.countDown();
+    }
+
+    @Test
+    void duplicatesFoundByOtherCatalogsAreLeftOut() throws Exception {
+        BibEntry byDoi = new BibEntry().withField(StandardField.DOI, "10.1000/182").withField(StandardField.TITLE, "First");
+        BibEntry byDoiElsewhere = new BibEntry().withField(StandardField.DOI, "10.1000/182").withField(StandardField.TITLE, "First title");
+        BibEntry byTitle = new BibEntry().withField(StandardField.TITLE, "Quantum Computing");
+        BibEntry byTitleElsewhere = new BibEntry().withField(StandardField.TITLE, "quantum computing.");
+        BibEntry other = new BibEntry().withField(StandardField.TITLE, "Other");
+
+        CompositeSearchBasedFetcher fetcher = compositeFetcher(Integer.MAX_VALUE,
+                new StubFetcher("A", List.of(byDoi, byTitle)),
+                new StubFetcher("B", List.of(byDoiElsewhere, byTitleElsewhere, other)));
+        List<BibEntry> result = fetcher.performSearch(query);
+
+        assertEquals(3, result.size());
+        assertEquals(1, result.stream().filter(entry -> entry.getDOI().isPresent()).count());
+        assertEquals(1, result.stream().filter(entry -> entry.getTitle().orElse("").toLowerCase().startsWith("quantum")).count());
+    }
+
+    @Test
+    void entriesWithSameTitleButDifferentDoisAreKept() throws Exception {
+        BibEntry first = new BibEntry().withField(StandardField.DOI, "10.1000/1").withField(StandardField.TITLE, "Introduction");
+        BibEntry second = new BibEntry().withField(StandardField.DOI, "10.1000/2").withField(StandardField.TITLE, "Introduction");
+
+        CompositeSearchBasedFetcher fetcher = compositeFetcher(Integer.MAX_VALUE,
+                new StubFetcher("A", List.of(first)),
+                new StubFetcher("B", List.of(second)));
+        List<BibEntry> result = fetcher.performSearch(query);
+
+        assertEquals(Set.of(first, second), Set.copyOf(result));
+    }
+
+    @Test
+    void entriesOfSameCatalogWithSameTitleAreKept() throws Exception {
+        BibEntry withDoi = new BibEntry().withField(StandardField.DOI, "10.1000/1").withField(StandardField.TITLE, "Introduction");
+        BibEntry withoutDoi = new BibEntry().withField(StandardField.TITLE, "Introduction");
+
+        CompositeSearchBasedFetcher fetcher = compositeFetcher(Integer.MAX_VALUE, new StubFetcher("A", List.of(withDoi, withoutDoi)));
+
+        assertEquals(List.of(withDoi, withoutDoi), fetcher.performSearch(query));
+    }
+
+    @Test
+    void searchWithReportTellsWhichCatalogsDidNotAnswer() throws Exception {
+        BibEntry entry = new BibEntry().withField(StandardField.TITLE, "Fast");
+        CompositeSearchBasedFetcher fetcher = compositeFetcher(Integer.MAX_VALUE,
+                new StubFetcher("Fast", List.of(entry)),
+                new FailingFetcher("Failing"));
+
+        CompositeSearchBasedFetcher.SearchResult result = fetcher.performSearchWithReport(query);
+
+        assertEquals(List.of(entry), result.entries());
+        assertFalse(result.report().isComplete());
+        assertEquals(Set.of("Failing"), result.report().unanswered());
+    }
+
+    @Test
+    void searchFailsIfNoCatalogAnswered() {
+        CompositeSearchBasedFetcher fetcher = compositeFetcher(Integer.MAX_VALUE, new FailingFetcher("Failing"));
+
+        assertThrows(FetcherException.class, () -> fetcher.performSearch(query));
+    }
+
+    @Test
+    void entriesWithoutDoiAndTitleAreKept() throws Exception {
+        BibEntry first = new BibEntry().withField(StandardField.AUTHOR, "Someone");
+        BibEntry second = new BibEntry().withField(StandardField.AUTHOR, "Someone");
+
+        CompositeSearchBasedFetcher fetcher = compositeFetcher(Integer.MAX_VALUE, new StubFetcher("A", List.of(first, second)));
+
+        assertEquals(List.of(first, second), fetcher.performSearch(query));
+    }
+
+    @Test
+    void slowCatalogIsReportedAndNotAwaited() throws Exception {
+        BibEntry entry = new BibEntry().withField(StandardField.TITLE, "Fast");
+        CompositeSearchBasedFetcher fetcher = compositeFetcher(Integer.MAX_VALUE,
+                new StubFetcher("Fast", List.of(entry)),
+                new SlowFetcher("Slow"),
+                new FailingFetcher("Failing"));
+
+        List<BibEntry> result = new ArrayList<>();
+        CompositeSearchBasedFetcher.SearchReport report = fetcher.performSearchAsync(query, result::addAll).get();
+
+        assertEquals(List.of(entry), result);
+        assertEquals(new CompositeSearchBasedFetcher.SearchReport(Set.of("Fast"), Set.of("Failing"), Set.of("Slow")), report);
+    }
+
+    @Test
+    void searchCompletesWhenMaximumNumberOfResultsIsReached() throws Exception {
+        List<BibEntry> entries = List.of(
+                new BibEntry().withField(StandardField.TITLE, "One"),
+                new BibEntry().withField(StandardField.TITLE, "Two"),
+                new BibEntry().withField(StandardField.TITLE, "Three"));
+        CompositeSearchBasedFetcher fetcher = compositeFetcher(2, new StubFetcher("A", entries), new SlowFetcher("Slow"));
+
+        List<BibEntry> result = new ArrayList<>();
+        CompositeSearchBasedFetcher.SearchReport report = fetcher.performSearchAsync(query, result::addAll).get();
+
+        assertEquals(entries.subList(0, 2), result);
+        // The slow catalog was not waited for
+        assertEquals(Set.of(), report.timedOut());
+    }
+
+    private CompositeSearchBasedFetcher compositeFetcher(int maximumNumberOfResults, SearchBasedFetcher... fetchers) {
+        when(importerPreferences.getCatalogs()).thenReturn(FXCollections.observableArrayList(
+                Set.of(fetchers).stream().map(SearchBasedFetcher::getName).toList()));
+        return new CompositeSearchBasedFetcher(Set.of(fetchers), importerPreferences, maximumNumberOfResults, TIMEOUT);
+    }
+
+    private record StubFetcher(String name, List<BibEntry> results) implements SearchBasedFetcher {
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public List<BibEntry> performSearch(QueryNode luceneQuery) {
+            return results;
+        }
+    }
+
+    private record FailingFetcher(String name) implements SearchBasedFetcher {
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public List<BibEntry> performSearch(QueryNode luceneQuery) throws FetcherException {
+            throw new FetcherException("Catalog not reachable");
+        }
+    }
+
+    private class SlowFetcher implements SearchBasedFetcher {
+
+        private final String name;
+
+        SlowFetcher(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public List<BibEntry> performSearch(QueryNode luceneQuery) throws FetcherException {
+            try {
+                neverAnswering.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return List.of();
+        }
+    }
+}
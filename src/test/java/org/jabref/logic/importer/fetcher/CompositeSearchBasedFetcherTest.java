@@ -5,6 +5,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import javafx.collections.FXCollections;
@@ -82,7 +83,14 @@ class CompositeSearchBasedFetcherTest {
             try {
                 List<BibEntry> fetcherResult = fetcher.performSearch("quantum");
                 fetcherResult.forEach(cleanup::doPostCleanup);
-                assertTrue(compositeResult.containsAll(fetcherResult), "Did not contain " + fetcherResult);
+                // Entries found by several catalogs are contained only once
+                Set<String> compositeKeys = compositeResult.stream()
+                                                           .flatMap(entry -> CompositeSearchBasedFetcher.getDuplicateKeys(entry).stream())
+                                                           .collect(Collectors.toSet());
+                for (BibEntry entry : fetcherResult) {
+                    assertTrue(compositeResult.contains(entry) || CompositeSearchBasedFetcher.getDuplicateKeys(entry).stream().anyMatch(compositeKeys::contains),
+                            "Did not contain " + entry);
+                }
             } catch (FetcherException e) {
                 /* We catch the Fetcher exception here, since the failing fetcher also fails in the CompositeFetcher
                  * and just leads to no additional results in the returned list. Therefore, the test should not fail
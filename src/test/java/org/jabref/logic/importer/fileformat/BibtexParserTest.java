@@ -348,6 +348,22 @@ class BibtexParserTest {
         assertEquals(expected, result.getDatabase().getEntries());
     }
 
+    @Test
+    void parsePassesEntriesToConsumer() throws IOException {
+        List<List<BibEntry>> batches = new ArrayList<>();
+        ParserResult result = parser.parse(
+                new StringReader("@preamble{some text}" + "@article{canh05}" + "@inProceedings{foo}"), batches::add);
+
+        List<BibEntry> expected = List.of(
+                new BibEntry(StandardEntryType.Article)
+                        .withCitationKey("canh05"),
+                new BibEntry(StandardEntryType.InProceedings)
+                        .withCitationKey("foo"));
+        assertEquals(List.of(expected), batches);
+        assertEquals(List.of(), result.getDatabase().getEntries());
+        assertEquals(Optional.of("some text"), result.getDatabase().getPreamble());
+    }
+
     @Test
     void parseCombinesMultipleAuthorFields() throws IOException {
         ParserResult result = parser.parse(
@@ -52,4 +52,10 @@ class EndnoteXmlImporterFilesTest {
     void importEntries(String fileName) throws Exception {
         ImporterTestEngine.testImportEntries(new EndnoteXmlImporter(importFormatPreferences), fileName, FILE_ENDING);
     }
+
+    @ParameterizedTest
+    @MethodSource("fileNames")
+    void importEntriesWhileParsing(String fileName) throws Exception {
+        ImporterTestEngine.testImportEntriesWhileParsing(new EndnoteXmlImporter(importFormatPreferences), fileName, FILE_ENDING);
+    }
 }
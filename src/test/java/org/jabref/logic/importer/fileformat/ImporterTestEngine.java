@@ -56,6 +56,16 @@ public class ImporterTestEngine {
         BibEntryAssert.assertEquals(ImporterTestEngine.class, fileName.replaceAll(fileType, ".bib"), entries);
     }
 
+    public static void testImportEntriesWhileParsing(Importer importer, String fileName, String fileType) throws IOException, ImportException {
+        List<BibEntry> entries = new ArrayList<>();
+        ParserResult parserResult = importer.importDatabase(getPath(fileName), entries::addAll);
+        if (parserResult.isInvalid()) {
+            throw new ImportException(parserResult.getErrorMessage());
+        }
+        assertEquals(List.of(), parserResult.getDatabase().getEntries());
+        BibEntryAssert.assertEquals(ImporterTestEngine.class, fileName.replaceAll(fileType, ".bib"), entries);
+    }
+
     private static Path getPath(String fileName) throws IOException {
         try {
             return Path.of(ImporterTestEngine.class.getResource(fileName).toURI());
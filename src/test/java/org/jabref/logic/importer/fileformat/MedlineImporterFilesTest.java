@@ -42,6 +42,12 @@ class MedlineImporterFilesTest {
         ImporterTestEngine.testImportEntries(new MedlineImporter(), fileName, FILE_ENDING);
     }
 
+    @ParameterizedTest
+    @MethodSource("fileNames")
+    void importEntriesWhileParsing(String fileName) throws Exception {
+        ImporterTestEngine.testImportEntriesWhileParsing(new MedlineImporter(), fileName, FILE_ENDING);
+    }
+
     private static Stream<String> malformedFileNames() throws IOException {
         Predicate<String> fileName = name -> name.startsWith("MedlineImporterTest" + MALFORMED_KEY_WORD)
                 && name.endsWith(FILE_ENDING);
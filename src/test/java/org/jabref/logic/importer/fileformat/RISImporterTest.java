@@ -1,11 +1,19 @@
 package org.jabref.logic.importer.fileformat;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.StringReader;
 import java.net.URISyntaxException;
 import java.nio.file.Path;
+import java.util.List;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
 
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 
 class RISImporterTest {
@@ -17,4 +25,26 @@ class RISImporterTest {
         Path file = Path.of(RISImporterTest.class.getResource("RisImporterCorrupted.ris").toURI());
         assertFalse(importer.isRecognizedFormat(file));
     }
+
+    @Test
+    void importRecordsOneAfterTheOther() throws IOException {
+        String ris = """
+                TY  - JOUR
+                TI  - First title
+                ER  -\s
+
+                TY  - BOOK
+                TI  - Second title
+                  continued
+                ER  -\s
+
+
+                """;
+
+        List<BibEntry> entries = importer.importDatabase(new BufferedReader(new StringReader(ris))).getDatabase().getEntries();
+
+        assertEquals(List.of(
+                new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "First title"),
+                new BibEntry(StandardEntryType.Book).withField(StandardField.TITLE, "Second title continued")), entries);
+    }
 }
@@ -0,0 +1,68 @@
+package org.jabref.logic.integrity;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.identifier.DOI;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DatabaseFactsTest {
+
+    private final BibEntry first = new BibEntry(StandardEntryType.Article)
+            .withCitationKey("Smith2020")
+            .withField(StandardField.AUTHOR, "Smith")
+            .withField(StandardField.DOI, "10.1000/1");
+    private final BibEntry second = new BibEntry(StandardEntryType.Article)
+            .withCitationKey("Smith2020")
+            .withField(StandardField.DOI, "10.1000/2");
+    private final BibEntry third = new BibEntry(StandardEntryType.Book)
+            .withCitationKey("Doe2021")
+            .withField(StandardField.DOI, "10.1000/1");
+    private final DatabaseFacts facts = DatabaseFacts.of(List.of(first, second, third));
+
+    @Test
+    void entriesWithCitationKeyAreInOrderOfLibrary() {
+        assertEquals(List.of(first, second), facts.getEntriesByCitationKey("Smith2020"));
+    }
+
+    @Test
+    void duplicateCitationKeyIsFound() {
+        assertTrue(facts.isDuplicateCitationKey("Smith2020"));
+        assertFalse(facts.isDuplicateCitationKey("Doe2021"));
+        assertEquals(0, facts.getNumberOfCitationKeyOccurrences("Unknown"));
+    }
+
+    @Test
+    void linkedEntryIsFirstEntryWithKey() {
+        assertEquals(Optional.of(first), facts.getLinkedEntry("Smith2020"));
+        assertEquals(Optional.empty(), facts.getLinkedEntry("Unknown"));
+    }
+
+    @Test
+    void entriesAreGroupedByDoi() {
+        assertEquals(Map.of(
+                        new DOI("10.1000/1"), List.of(first, third),
+                        new DOI("10.1000/2"), List.of(second)),
+                facts.getEntriesByDoi());
+    }
+
+    @Test
+    void fieldPresenceIsCollectedPerEntryType() {
+        DatabaseFacts.FieldPresence articles = facts.getFieldPresenceByEntryType().get(StandardEntryType.Article);
+
+        assertEquals(Set.of(InternalField.KEY_FIELD, StandardField.AUTHOR, StandardField.DOI), articles.fieldsInAnyEntry());
+        assertEquals(Set.of(InternalField.KEY_FIELD, StandardField.DOI), articles.fieldsInAllEntries());
+        assertEquals(List.of(first, second), articles.entries());
+    }
+}
@@ -30,7 +30,7 @@ class EntryLinkCheckerTest {
 
     @Test
     void entryLinkChecker() {
-        assertThrows(NullPointerException.class, () -> new EntryLinkChecker(null));
+        assertThrows(NullPointerException.class, () -> new EntryLinkChecker((BibDatabase) null));
     }
 
     @Test
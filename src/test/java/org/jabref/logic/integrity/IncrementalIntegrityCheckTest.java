@@ -0,0 +1,123 @@
+package org.jabref.logic.integrity;
+
+import java.util.List;
+
+import org.jabref.logic.FilePreferences;
+import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
+import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
+import org.jabref.logic.citationkeypattern.GlobalCitationKeyPatterns;
+import org.jabref.logic.journals.JournalAbbreviationLoader;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+class IncrementalIntegrityCheckTest {
+
+    private final BibDatabase database = new BibDatabase();
+    private final BibEntry first = new BibEntry(StandardEntryType.Article)
+            .withCitationKey("Smith2020")
+            .withField(StandardField.AUTHOR, "Smith")
+            .withField(StandardField.YEAR, "2020");
+    private final BibEntry second = new BibEntry(StandardEntryType.Article)
+            .withCitationKey("Smith2020")
+            .withField(StandardField.AUTHOR, "Smith")
+            .withField(StandardField.YEAR, "twenty");
+    private IntegrityCheck integrityCheck;
+    private IncrementalIntegrityCheck incrementalCheck;
+
+    @BeforeEach
+    void setUp() {
+        database.insertEntries(first, second);
+        BibDatabaseContext context = new BibDatabaseContext(database);
+        context.setMode(BibDatabaseMode.BIBTEX);
+        integrityCheck = new IntegrityCheck(context,
+                mock(FilePreferences.class),
+                new CitationKeyPatternPreferences(
+                        false,
+                        false,
+                        false,
+                        CitationKeyPatternPreferences.KeySuffix.SECOND_WITH_B,
+                        "",
+                        "",
+                        CitationKeyGenerator.DEFAULT_UNWANTED_CHARACTERS,
+                        GlobalCitationKeyPatterns.fromPattern("[auth][year]"),
+                        "",
+                        ','),
+                JournalAbbreviationLoader.loadBuiltInRepository(),
+                false);
+        incrementalCheck = new IncrementalIntegrityCheck(integrityCheck, database);
+    }
+
+    @AfterEach
+    void tearDown() {
+        incrementalCheck.close();
+    }
+
+    private static List<BibEntry> getEntriesWithMessage(List<IntegrityMessage> messages, Field field) {
+        return messages.stream()
+                       .filter(message -> message.field() == field)
+                       .map(IntegrityMessage::entry)
+                       .toList();
+    }
+
+    @Test
+    void firstRunFindsSameMessagesAsIntegrityCheck() {
+        assertEquals(integrityCheck.check().size(), incrementalCheck.check().size());
+    }
+
+    @Test
+    void changedEntryIsCheckedAgain() {
+        assertEquals(List.of(second), getEntriesWithMessage(incrementalCheck.check(), StandardField.YEAR));
+
+        second.setField(StandardField.YEAR, "2021");
+
+        assertEquals(List.of(), getEntriesWithMessage(incrementalCheck.check(), StandardField.YEAR));
+    }
+
+    @Test
+    void addedEntryIsChecked() {
+        incrementalCheck.check();
+
+        BibEntry third = new BibEntry(StandardEntryType.Article).withField(StandardField.YEAR, "later");
+        database.insertEntry(third);
+
+        assertEquals(List.of(second, third), getEntriesWithMessage(incrementalCheck.check(), StandardField.YEAR));
+    }
+
+    @Test
+    void messagesOfRemovedEntryAreDropped() {
+        incrementalCheck.check();
+
+        database.removeEntry(second);
+
+        assertEquals(List.of(), getEntriesWithMessage(incrementalCheck.check(), StandardField.YEAR));
+    }
+
+    @Test
+    void entriesSkippedByCancelledRunAreCheckedByNextRun() {
+        incrementalCheck.check(() -> true, entry -> {
+        });
+
+        assertEquals(List.of(second), getEntriesWithMessage(incrementalCheck.check(), StandardField.YEAR));
+    }
+
+    @Test
+    void checksDependingOnOtherEntriesAreRunForUnchangedEntries() {
+        assertEquals(List.of(first, second), getEntriesWithMessage(incrementalCheck.check(), StandardField.KEY));
+
+        second.setCitationKey("Other2020");
+
+        assertEquals(List.of(), getEntriesWithMessage(incrementalCheck.check(), StandardField.KEY));
+    }
+}
@@ -1,5 +1,7 @@
 package org.jabref.logic.journals;
 
+import java.nio.file.Path;
+import java.util.Optional;
 import java.util.Set;
 
 import javax.swing.undo.CompoundEdit;
@@ -14,8 +16,11 @@ import org.jabref.model.entry.field.AMSField;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.types.StandardEntryType;
 
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -314,4 +319,29 @@ class JournalAbbreviationRepositoryTest {
                 .withField(StandardField.JOURNAL, "Physical Review B");
         assertEquals(expectedAbbreviatedJournalEntry, abbreviatedJournalEntry);
     }
+
+    @Test
+    void customAbbreviationIsFoundIgnoringCase() {
+        repository.addCustomAbbreviation(new Abbreviation("Long Name", "L. N.", "LN"));
+
+        assertEquals("L. N.", repository.getDefaultAbbreviation("long name").orElse("WRONG"));
+        assertEquals("Long Name", repository.getNextAbbreviation("LN").orElse("WRONG"));
+        assertTrue(repository.isAbbreviatedName("l n"));
+        assertFalse(repository.isAbbreviatedName("LONG NAME"));
+    }
+
+    @Test
+    void journalListWithoutReverseMapsIsSupported(@TempDir Path tempDir) {
+        Path journalList = tempDir.resolve("journal-list.mv");
+        try (MVStore store = new MVStore.Builder().fileName(journalList.toString()).open()) {
+            MVMap<String, Abbreviation> fullToAbbreviation = store.openMap(JournalAbbreviationRepository.FULL_TO_ABBREVIATION);
+            fullToAbbreviation.put("Physical Review B", new Abbreviation("Physical Review B", "Phys. Rev. B"));
+        }
+
+        try (JournalAbbreviationRepository oldRepository = new JournalAbbreviationRepository(journalList)) {
+            assertEquals(Optional.of(new Abbreviation("Physical Review B", "Phys. Rev. B")), oldRepository.get("Phys Rev B"));
+            assertTrue(oldRepository.isAbbreviatedName("Phys. Rev. B"));
+            assertEquals(Set.of("Physical Review B"), oldRepository.getFullNames());
+        }
+    }
 }
@@ -0,0 +1,212 @@
+package org.jabref.logic.net;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HttpResponseCacheTest {
+
+    private final WireMockServer wireMockServer = new WireMockServer(options().dynamicPort());
+    private final MutableClock clock = new MutableClock();
+
+    @TempDir
+    private Path cacheDirectory;
+
+    private HttpResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        wireMockServer.start();
+        cache = new HttpResponseCache(cacheDirectory, HttpResponseCache.DEFAULT_MAX_SIZE, clock);
+        URLDownload.setCache(cache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        URLDownload.setCache(null);
+        wireMockServer.stop();
+    }
+
+    @Test
+    void freshResponseIsUsedWithoutRequest() throws Exception {
+        wireMockServer.stubFor(get("/fresh").willReturn(aResponse()
+                .withHeader("Cache-Control", "max-age=60")
+                .withBody("fresh")));
+
+        assertEquals("fresh\n", download("/fresh"));
+        clock.advance(Duration.ofSeconds(30));
+        assertEquals("fresh\n", download("/fresh"));
+
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo("/fresh")));
+        assertEquals(new HttpResponseCache.Statistics(1, 0, 1, 5), cache.getStatistics());
+    }
+
+    @Test
+    void expiredResponseIsDownloadedAgain() throws Exception {
+        wireMockServer.stubFor(get("/expiring").willReturn(aResponse()
+                .withHeader("Cache-Control", "max-age=60")
+                .withBody("expiring")));
+
+        download("/expiring");
+        clock.advance(Duration.ofSeconds(61));
+        download("/expiring");
+
+        wireMockServer.verify(2, getRequestedFor(urlEqualTo("/expiring")));
+        assertEquals(2, cache.getStatistics().misses());
+    }
+
+    @Test
+    void staleResponseIsRevalidatedUsingETag() throws Exception {
+        wireMockServer.stubFor(get("/etag").willReturn(aResponse()
+                .withHeader("Cache-Control", "no-cache")
+                .withHeader("ETag", "\"v1\"")
+                .withBody("validated")));
+        wireMockServer.stubFor(get("/etag").withHeader("If-None-Match", equalTo("\"v1\"")).willReturn(aResponse()
+                .withStatus(304)));
+
+        assertEquals("validated\n", download("/etag"));
+        assertEquals("validated\n", download("/etag"));
+
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo("/etag")).withHeader("If-None-Match", equalTo("\"v1\"")));
+        assertEquals(1, cache.getStatistics().revalidations());
+    }
+
+    @Test
+    void staleResponseIsRevalidatedUsingLastModified() throws Exception {
+        String lastModified = "Tue, 15 Nov 1994 12:45:26 GMT";
+        wireMockServer.stubFor(get("/modified").willReturn(aResponse()
+                .withHeader("Cache-Control", "max-age=0")
+                .withHeader("Last-Modified", lastModified)
+                .withBody("unchanged")));
+        wireMockServer.stubFor(get("/modified").withHeader("If-Modified-Since", equalTo(lastModified)).willReturn(aResponse()
+                .withStatus(304)
+                .withHeader("Cache-Control", "max-age=60")));
+
+        download("/modified");
+        download("/modified");
+        // The 304 response made the stored response fresh
+        assertEquals("unchanged\n", download("/modified"));
+
+        wireMockServer.verify(2, getRequestedFor(urlEqualTo("/modified")));
+        assertEquals(new HttpResponseCache.Statistics(1, 1, 1, 9), cache.getStatistics());
+    }
+
+    @Test
+    void noStoreResponseIsNotStored() throws Exception {
+        wireMockServer.stubFor(get("/secret").willReturn(aResponse()
+                .withHeader("Cache-Control", "no-store, max-age=60")
+                .withBody("secret")));
+
+        download("/secret");
+        download("/secret");
+
+        wireMockServer.verify(2, getRequestedFor(urlEqualTo("/secret")));
+        assertEquals(0, cache.getStatistics().size());
+    }
+
+    @Test
+    void leastRecentlyUsedResponseIsEvicted() throws Exception {
+        cache = new HttpResponseCache(cacheDirectory, 80, clock);
+        URLDownload.setCache(cache);
+        for (int i = 0; i < 9; i++) {
+            wireMockServer.stubFor(get("/" + i).willReturn(aResponse()
+                    .withHeader("Cache-Control", "max-age=60")
+                    .withBody("0123456789")));
+        }
+
+        for (int i = 0; i < 8; i++) {
+            download("/" + i);
+        }
+        // Makes "/0" the most recently used response
+        download("/0");
+        download("/8");
+
+        assertTrue(cache.get(url("/0"), Map.of("User-Agent", URLDownload.USER_AGENT)).isPresent());
+        assertTrue(cache.get(url("/1"), Map.of("User-Agent", URLDownload.USER_AGENT)).isEmpty());
+        assertEquals(80, cache.getStatistics().size());
+    }
+
+    @Test
+    void storedResponsesAreKeptOverRestarts() throws Exception {
+        wireMockServer.stubFor(get("/kept").willReturn(aResponse()
+                .withHeader("Cache-Control", "max-age=60")
+                .withBody("kept")));
+        download("/kept");
+
+        cache = new HttpResponseCache(cacheDirectory, HttpResponseCache.DEFAULT_MAX_SIZE, clock);
+        URLDownload.setCache(cache);
+
+        assertEquals("kept\n", download("/kept"));
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo("/kept")));
+        assertEquals(1, cache.getStatistics().hits());
+    }
+
+    @Test
+    void urlIsNotStored() throws Exception {
+        wireMockServer.stubFor(get("/search?apiKey=secret").willReturn(aResponse()
+                .withHeader("Cache-Control", "max-age=60")
+                .withBody("result")));
+        download("/search?apiKey=secret");
+
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            for (Path file : files.toList()) {
+                assertFalse(Files.readString(file).contains("secret"));
+            }
+        }
+    }
+
+    private String download(String path) throws Exception {
+        return new URLDownload(url(path)).asString();
+    }
+
+    private String url(String path) {
+        return URI.create("http://localhost:" + wireMockServer.port() + path).toString();
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant = Instant.parse("2024-10-01T10:00:00Z");
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package org.jabref.logic.util;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PriorityTaskSchedulerTest {
+
+    private final PriorityTaskScheduler scheduler = new PriorityTaskScheduler(4);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void busyBulkLaneDoesNotDelayInteractiveTask() throws Exception {
+        int bulkLimit = PriorityTaskScheduler.getConcurrencyLimit(TaskPriority.BULK, 4);
+        for (int i = 0; i < bulkLimit + 5; i++) {
+            scheduler.execute(this::awaitRelease, TaskPriority.BULK, false);
+        }
+
+        CountDownLatch interactiveRun = new CountDownLatch(1);
+        scheduler.execute(interactiveRun::countDown, TaskPriority.INTERACTIVE, false);
+
+        assertTrue(interactiveRun.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void laneRunsAtMostItsLimitConcurrently() throws Exception {
+        int limit = PriorityTaskScheduler.getConcurrencyLimit(TaskPriority.NORMAL, 4);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maximalRunning = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(20);
+        for (int i = 0; i < 20; i++) {
+            scheduler.execute(() -> {
+                maximalRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep();
+                running.decrementAndGet();
+                done.countDown();
+            }, TaskPriority.NORMAL, false);
+        }
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertTrue(maximalRunning.get() <= limit);
+    }
+
+    @Test
+    void statisticsReportQueueDepth() {
+        int limit = PriorityTaskScheduler.getConcurrencyLimit(TaskPriority.BULK, 4) * PriorityTaskScheduler.IO_BOUND_CONCURRENCY_FACTOR;
+        for (int i = 0; i < limit + 3; i++) {
+            scheduler.execute(this::awaitRelease, TaskPriority.BULK, true);
+        }
+
+        PriorityTaskScheduler.LaneStatistics statistics = scheduler.getStatistics().stream()
+                                                                  .filter(lane -> (lane.priority() == TaskPriority.BULK) && lane.ioBound())
+                                                                  .findFirst()
+                                                                  .orElseThrow();
+
+        assertEquals(3, statistics.queued());
+        assertEquals(limit, statistics.started());
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(20);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package org.jabref.logic.util;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StartupOrchestratorTest {
+
+    private final StartupOrchestrator startup = new StartupOrchestrator();
+
+    @Test
+    void startedStepsRunConcurrently() throws Exception {
+        CountDownLatch bothRunning = new CountDownLatch(2);
+        Runnable step = () -> {
+            bothRunning.countDown();
+            try {
+                // Only returns in time if the other step runs at the same time
+                assertTrue(bothRunning.await(10, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        startup.start("First", step);
+        startup.start("Second", step);
+        startup.await();
+
+        assertEquals(0, bothRunning.getCount());
+    }
+
+    @Test
+    void resultOfStartedStepIsAvailableAfterAwait() throws Exception {
+        Future<String> result = startup.start("Computing", () -> "result");
+        startup.await();
+
+        assertEquals("result", result.get());
+    }
+
+    @Test
+    void awaitRethrowsFailureOfStep() {
+        startup.start("Failing", () -> {
+            throw new IllegalStateException("failed");
+        });
+
+        ExecutionException exception = assertThrows(ExecutionException.class, startup::await);
+        assertEquals(IllegalStateException.class, exception.getCause().getClass());
+    }
+
+    @Test
+    void timelineContainsPhasesInOrderOfTheirStart() throws Exception {
+        int value = startup.run("Sequential", () -> 42);
+        startup.start("Concurrent", () -> {
+        });
+        startup.await();
+        startup.mark("Done");
+
+        List<String> names = startup.getTimeline().stream().map(StartupOrchestrator.Phase::name).toList();
+
+        assertEquals(42, value);
+        assertEquals("JVM start and logging", names.getFirst());
+        assertTrue(names.indexOf("Sequential") < names.indexOf("Concurrent"));
+        assertEquals("Done", names.getLast());
+        assertTrue(startup.formatTimeline().contains("|| Concurrent"));
+    }
+}
@@ -126,4 +126,16 @@ class CitationKeyBasedFileFinderTest {
 
         assertNotEquals(Collections.singletonList(testFile), results);
     }
+
+    @Test
+    void findAssociatedFilesUsingSnapshotOfSeveralDirectories() throws Exception {
+        Path secondPdfFile = Files.createFile(pdfsDir.resolve("HipKro03_Hello second paper.pdf"));
+        Files.createFile(pdfsDir.resolve("HipKro03a - Hello second paper.pdf"));
+        DirectorySnapshot snapshot = DirectorySnapshot.create(Arrays.asList(graphicsDir, pdfsDir));
+        FileFinder fileFinder = new CitationKeyBasedFileFinder(false);
+
+        List<Path> results = fileFinder.findAssociatedFiles(entry, snapshot, Arrays.asList("jpg", "pdf"));
+
+        assertEquals(Arrays.asList(jpgFile, secondPdfFile, pdfFile), results);
+    }
 }
@@ -0,0 +1,157 @@
+package org.jabref.logic.util.io;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.model.entry.LinkedFile;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FileDirectoryIndexTest {
+
+    @TempDir
+    private Path cacheDirectory;
+
+    private Path fileDirectory;
+    private Path pdfFile;
+    private FileDirectoryIndex index;
+
+    @BeforeEach
+    void setUp(@TempDir Path temporaryFolder) throws Exception {
+        fileDirectory = temporaryFolder.toAbsolutePath().normalize();
+        Path subDirectory = Files.createDirectory(fileDirectory.resolve("sub"));
+        pdfFile = Files.writeString(subDirectory.resolve("HipKro03.pdf"), "pdf");
+        index = new FileDirectoryIndex(List.of(fileDirectory), cacheDirectory.resolve("files.index"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.stopWatching();
+    }
+
+    @Test
+    void startWatchingIndexesAllFiles() throws Exception {
+        index.startWatching();
+
+        assertTrue(index.isUpToDate());
+        assertTrue(index.exists(pdfFile));
+        assertTrue(index.exists(pdfFile.getParent()));
+        assertEquals(Optional.of(3L), index.getFile(pdfFile).map(FileDirectoryIndex.IndexedFile::size));
+    }
+
+    @Test
+    void fileCreatedAfterRefreshIsFoundInFileSystem() throws Exception {
+        index.refresh();
+
+        Path notIndexed = Files.createFile(fileDirectory.resolve("notIndexed.pdf"));
+
+        assertTrue(index.exists(notIndexed));
+        assertTrue(index.getFile(notIndexed).isPresent());
+    }
+
+    @Test
+    void missingFileIsNotFound() throws Exception {
+        index.refresh();
+
+        assertFalse(index.exists(fileDirectory.resolve("missing.pdf")));
+    }
+
+    @Test
+    void indexWhichIsNotRefreshedFallsBackToFileSystem() throws Exception {
+        Files.createFile(fileDirectory.resolve("notIndexed.pdf"));
+
+        assertTrue(index.exists(fileDirectory.resolve("notIndexed.pdf")));
+    }
+
+    @Test
+    void refreshRemovesDeletedFiles() throws Exception {
+        index.refresh();
+        Files.delete(pdfFile);
+
+        index.refresh();
+
+        assertFalse(index.exists(pdfFile));
+    }
+
+    @Test
+    void savedIndexIsLoaded() throws Exception {
+        index.refresh();
+        index.save();
+
+        FileDirectoryIndex loadedIndex = new FileDirectoryIndex(List.of(fileDirectory), cacheDirectory.resolve("files.index"));
+        loadedIndex.load();
+        Files.delete(pdfFile);
+
+        // The loaded index is not watched, thus it is not trusted
+        assertTrue(loadedIndex.getFile(pdfFile).isPresent());
+        assertFalse(loadedIndex.exists(pdfFile));
+        assertFalse(loadedIndex.isUpToDate());
+    }
+
+    @Test
+    void stoppedIndexLooksUpFilesInFileSystem() throws Exception {
+        index.startWatching();
+        index.stopWatching();
+        Files.delete(pdfFile);
+
+        assertFalse(index.isUpToDate());
+        assertFalse(index.exists(pdfFile));
+        assertEquals(Optional.empty(), index.getFile(pdfFile));
+    }
+
+    @Test
+    void savedIndexOfOtherDirectoriesIsIgnored() throws Exception {
+        index.refresh();
+        index.save();
+
+        FileDirectoryIndex otherIndex = new FileDirectoryIndex(List.of(pdfFile.getParent()), cacheDirectory.resolve("files.index"));
+        otherIndex.load();
+
+        assertEquals(List.of(), otherIndex.getSnapshot().getFilesStartingWith(""));
+    }
+
+    @Test
+    void reportedMoveUpdatesIndex() throws Exception {
+        index.refresh();
+        Path renamedFile = Files.move(pdfFile, pdfFile.resolveSibling("HipKro03a.pdf"));
+
+        index.fileMoved(pdfFile, renamedFile);
+
+        assertTrue(index.exists(renamedFile));
+        assertFalse(index.exists(pdfFile));
+        assertEquals(List.of(renamedFile), index.getSnapshot().getFilesStartingWith("HipKro03"));
+    }
+
+    @Test
+    void watchEventsUpdateIndex() throws Exception {
+        index.refresh();
+        Path newDirectory = Files.createDirectory(fileDirectory.resolve("new"));
+        Path newFile = Files.createFile(newDirectory.resolve("Newton1999.pdf"));
+        Files.delete(pdfFile);
+
+        index.handleEvent(null, StandardWatchEventKinds.ENTRY_CREATE, newDirectory);
+        index.handleEvent(null, StandardWatchEventKinds.ENTRY_DELETE, pdfFile);
+
+        assertEquals(Optional.of(0L), index.getFile(newFile).map(FileDirectoryIndex.IndexedFile::size));
+        assertEquals(Optional.empty(), index.getFile(pdfFile));
+        assertEquals(List.of(newFile), index.getSnapshot().getFilesStartingWith("Newton"));
+    }
+
+    @Test
+    void linkedFileIsFoundUsingIndex() throws Exception {
+        index.refresh();
+        LinkedFile linkedFile = new LinkedFile("", Path.of("sub/HipKro03.pdf"), "PDF");
+
+        assertEquals(Optional.of(pdfFile), linkedFile.findIn(List.of(fileDirectory), index::exists));
+    }
+}
@@ -173,4 +173,25 @@ class RegExpBasedFileFinderTest {
         // then
         assertTrue(result.isEmpty());
     }
+
+    @Test
+    void findFileInSubdirectoryUsingSnapshot() throws Exception {
+        BibEntry localEntry = new BibEntry(StandardEntryType.Article).withCitationKey("pdfInSubdirectory");
+        RegExpBasedFileFinder fileFinder = new RegExpBasedFileFinder("**/[citationkey].*\\\\.[extension]", ',');
+
+        List<Path> result = fileFinder.findAssociatedFiles(localEntry, DirectorySnapshot.create(List.of(directory)), PDF_EXTENSION);
+
+        assertEquals(List.of(directory.resolve("directory/subdirectory/pdfInSubdirectory.pdf")), result);
+    }
+
+    @Test
+    void snapshotDoesNotSeeFilesCreatedLater() throws Exception {
+        BibEntry localEntry = new BibEntry(StandardEntryType.Article).withCitationKey("createdLater");
+        RegExpBasedFileFinder fileFinder = new RegExpBasedFileFinder("[citationkey]\\\\.[extension]", ',');
+        DirectorySnapshot snapshot = DirectorySnapshot.create(List.of(directory));
+
+        Files.createFile(directory.resolve("createdLater.pdf"));
+
+        assertEquals(List.of(), fileFinder.findAssociatedFiles(localEntry, snapshot, PDF_EXTENSION));
+    }
 }
@@ -10,13 +10,16 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
+import org.jabref.model.FieldChange;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibtexString;
+import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.field.UnknownField;
 import org.jabref.model.entry.types.StandardEntryType;
 import org.jabref.model.event.EventListenerTest;
 
+import com.google.common.eventbus.Subscribe;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -289,6 +292,104 @@ class BibDatabaseTest {
         assertEquals(Arrays.asList(firstEntry, secondEntry), tel.getAddedEntries());
     }
 
+    @Test
+    void committedTransactionPostsOneChangeSet() {
+        BibEntry entry1 = new BibEntry();
+        BibEntry entry2 = new BibEntry();
+        database.insertEntries(entry1, entry2);
+        EventListenerTest tel = new EventListenerTest();
+        database.registerListener(tel);
+
+        try (BibDatabaseTransaction transaction = database.beginTransaction()) {
+            entry1.setField(StandardField.TITLE, "title");
+            entry2.setField(StandardField.YEAR, "2024");
+            entry1.setField(StandardField.YEAR, "2024");
+            assertNull(tel.getChangeSet());
+        }
+
+        assertEquals(List.of(entry1, entry2), tel.getChangeSet().getBibEntries());
+        assertEquals(List.of(
+                        new FieldChange(entry1, StandardField.TITLE, null, "title"),
+                        new FieldChange(entry2, StandardField.YEAR, null, "2024"),
+                        new FieldChange(entry1, StandardField.YEAR, null, "2024")),
+                tel.getChangeSet().getFieldChanges());
+    }
+
+    @Test
+    void changesInTransactionArePostedMarkedAsPartOfChangeSet() {
+        BibEntry entry = new BibEntry();
+        database.insertEntry(entry);
+        List<FieldChangedEvent> events = new ArrayList<>();
+        database.registerListener(new Object() {
+            @Subscribe
+            public void listen(FieldChangedEvent event) {
+                events.add(event);
+            }
+        });
+
+        entry.setField(StandardField.TITLE, "before");
+        try (BibDatabaseTransaction transaction = database.beginTransaction()) {
+            entry.setField(StandardField.TITLE, "during");
+        }
+
+        assertEquals(List.of(false, true), events.stream().map(FieldChangedEvent::isPartOfChangeSet).toList());
+    }
+
+    @Test
+    void changesOfOtherThreadsAreNotPartOfChangeSet() throws InterruptedException {
+        BibEntry entry = new BibEntry();
+        BibEntry editedByOtherThread = new BibEntry();
+        database.insertEntries(entry, editedByOtherThread);
+        EventListenerTest tel = new EventListenerTest();
+        database.registerListener(tel);
+        List<FieldChangedEvent> events = new ArrayList<>();
+        database.registerListener(new Object() {
+            @Subscribe
+            public void listen(FieldChangedEvent event) {
+                events.add(event);
+            }
+        });
+
+        try (BibDatabaseTransaction transaction = database.beginTransaction()) {
+            entry.setField(StandardField.TITLE, "title");
+            Thread otherThread = new Thread(() -> editedByOtherThread.setField(StandardField.TITLE, "other"));
+            otherThread.start();
+            otherThread.join();
+        }
+
+        assertEquals(List.of(true, false), events.stream().map(FieldChangedEvent::isPartOfChangeSet).toList());
+        assertEquals(List.of(entry), tel.getChangeSet().getBibEntries());
+    }
+
+    @Test
+    void nestedTransactionsPostChangeSetWhenOutermostIsCommitted() {
+        BibEntry entry = new BibEntry();
+        database.insertEntry(entry);
+        EventListenerTest tel = new EventListenerTest();
+        database.registerListener(tel);
+
+        try (BibDatabaseTransaction outer = database.beginTransaction()) {
+            try (BibDatabaseTransaction inner = database.beginTransaction()) {
+                entry.setField(StandardField.TITLE, "title");
+            }
+            assertNull(tel.getChangeSet());
+        }
+
+        assertEquals(List.of(entry), tel.getChangeSet().getBibEntries());
+    }
+
+    @Test
+    void transactionWithoutChangesPostsNoChangeSet() {
+        EventListenerTest tel = new EventListenerTest();
+        database.registerListener(tel);
+
+        BibDatabaseTransaction transaction = database.beginTransaction();
+        transaction.commit();
+        transaction.commit();
+
+        assertNull(tel.getChangeSet());
+    }
+
     @Test
     void removeEntriesPostsRemovedEntriesEvent() {
         BibEntry entry1 = new BibEntry();
@@ -0,0 +1,85 @@
+package org.jabref.model.entry;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.field.UnknownField;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CompactFieldMapTest {
+
+    private final CompactFieldMap map = new CompactFieldMap();
+
+    @Test
+    void putReplacesValueOfExistingField() {
+        map.put(StandardField.TITLE, "old");
+
+        assertEquals("old", map.put(StandardField.TITLE, "new"));
+        assertEquals(Map.of(StandardField.TITLE, "new"), map);
+    }
+
+    @Test
+    void fieldsAreKeptInOrderOfAddition() {
+        for (int i = 0; i < 20; i++) {
+            map.put(new UnknownField("field" + i), String.valueOf(i));
+        }
+        map.remove(new UnknownField("field3"));
+
+        assertEquals(19, map.size());
+        assertEquals("field4", List.copyOf(map.keySet()).get(3).getName());
+    }
+
+    @Test
+    void removeOfMissingFieldReturnsNull() {
+        map.put(StandardField.TITLE, "title");
+
+        assertNull(map.remove(StandardField.AUTHOR));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void mapCanBeChangedWhileIterating() {
+        map.put(StandardField.TITLE, "title");
+        map.put(StandardField.YEAR, "2020");
+
+        for (Field field : map.keySet()) {
+            map.remove(field);
+        }
+
+        assertEquals(Map.of(), map);
+    }
+
+    @Test
+    void iteratorRemovesFromMap() {
+        map.put(StandardField.TITLE, "title");
+        map.put(StandardField.YEAR, "2020");
+
+        Iterator<Map.Entry<Field, String>> iterator = map.entrySet().iterator();
+        iterator.next();
+        iterator.remove();
+
+        assertEquals(Map.of(StandardField.YEAR, "2020"), map);
+    }
+
+    @Test
+    void entryWritesValueThrough() {
+        map.put(StandardField.TITLE, "old");
+
+        map.entrySet().iterator().next().setValue("new");
+
+        assertEquals("new", map.get(StandardField.TITLE));
+    }
+
+    @Test
+    void nullValueIsRejected() {
+        assertThrows(NullPointerException.class, () -> map.put(StandardField.TITLE, null));
+    }
+}
@@ -3,10 +3,12 @@ package org.jabref.model.entry;
 import org.jabref.model.entry.types.EntryType;
 import org.jabref.model.entry.types.EntryTypeFactory;
 import org.jabref.model.entry.types.IEEETranEntryType;
+import org.jabref.model.entry.types.UnknownEntryType;
 
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 class EntryTypeFactoryTest {
 
@@ -15,4 +17,11 @@ class EntryTypeFactoryTest {
         EntryType patent = IEEETranEntryType.Patent;
         assertEquals(patent, EntryTypeFactory.parse("patent"));
     }
+
+    @Test
+    void parseUnknownEntryTypeReturnsSameInstance() {
+        EntryType unknown = EntryTypeFactory.parse("mytype");
+        assertEquals(new UnknownEntryType("mytype"), unknown);
+        assertSame(unknown, EntryTypeFactory.parse("MyType"));
+    }
 }
@@ -3,6 +3,7 @@ package org.jabref.model.event;
 import java.util.List;
 
 import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesChangedEvent;
 import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.EntryChangedEvent;
@@ -15,6 +16,7 @@ public class EventListenerTest {
     private BibEntry firstInsertedEntry;
     private List<BibEntry> removedEntries;
     private BibEntry changedEntry;
+    private EntriesChangedEvent changeSet;
 
     @Subscribe
     public void listen(EntriesAddedEvent event) {
@@ -32,6 +34,11 @@ public class EventListenerTest {
         this.changedEntry = event.getBibEntry();
     }
 
+    @Subscribe
+    public void listen(EntriesChangedEvent event) {
+        this.changeSet = event;
+    }
+
     public List<BibEntry> getAddedEntries() {
         return addedEntries;
     }
@@ -47,4 +54,8 @@ public class EventListenerTest {
     public BibEntry getChangedEntry() {
         return changedEntry;
     }
+
+    public EntriesChangedEvent getChangeSet() {
+        return changeSet;
+    }
 }